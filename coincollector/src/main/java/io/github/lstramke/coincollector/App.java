@@ -3,6 +3,8 @@ package io.github.lstramke.coincollector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.sun.net.httpserver.HttpContext;
+import com.sun.net.httpserver.HttpHandler;
 import com.sun.net.httpserver.HttpServer;
 
 import java.awt.Desktop;
@@ -11,10 +13,18 @@ import java.io.InputStream;
 import java.net.InetSocketAddress;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
 
 import io.github.lstramke.coincollector.configuration.ApplicationContext;
 import io.github.lstramke.coincollector.configuration.InitService;
 import io.github.lstramke.coincollector.exceptions.StorageInitializeException;
+import io.github.lstramke.coincollector.services.RequestMetricsFilter;
 import io.github.lstramke.coincollector.services.SessionFilter;
 
 public class App {
@@ -23,6 +33,7 @@ public class App {
     private static int PORT = 8080;
     private static HttpServer server;
     private static String DB_FILE_PATH = "coincollector.db";
+    private static RequestMetricsFilter metricsFilter;
 
     public static void main(String[] args) throws IOException {
         logger.info("✅ Starting CoinCollector...");
@@ -30,6 +41,8 @@ public class App {
         DB_FILE_PATH = args.length > 0 ? args[0] : "coincollector.db";
         PORT = args.length > 1 ? Integer.parseInt(args[1]) : 8080;
 
+        startFlightRecording();
+
         ApplicationContext context;
         try {
             context = InitService.initialize(DB_FILE_PATH);
@@ -40,8 +53,9 @@ public class App {
         }
 
         server = HttpServer.create(new InetSocketAddress(PORT), 0);
+        metricsFilter = new RequestMetricsFilter(context.requestMetrics());
         
-        server.createContext("/", exchange -> {
+        createContext("/", exchange -> {
             String path = exchange.getRequestURI().getPath();
             if (path.equals("/")) path = "/index.html";
 
@@ -62,7 +76,7 @@ public class App {
             }
         });
 
-        server.createContext("/api/login", exchange -> {
+        createContext("/api/login", exchange -> {
             try {
                 context.loginHandler().handle(exchange);
             } catch (IOException | RuntimeException e) {
@@ -74,7 +88,7 @@ public class App {
             }
         });
 
-        server.createContext("/api/registration", exchange -> {
+        createContext("/api/registration", exchange -> {
             try{
                 context.registrationHandler().handle(exchange);
             } catch (IOException | RuntimeException e) {
@@ -86,7 +100,7 @@ public class App {
             }
         });
 
-        server.createContext("/api/shutdown", exchange -> {
+        createContext("/api/shutdown", exchange -> {
             String method = exchange.getRequestMethod();
             String path = exchange.getRequestURI().getPath();
             logger.info("Route called: {} {}", method, path);
@@ -106,10 +120,14 @@ public class App {
             }
         });
 
-        server.createContext("/api/groups", SessionFilter.withSessionValidation(context.groupHandler(), context.sessionManager()));
-        server.createContext("/api/collections", SessionFilter.withSessionValidation(context.collectionHandler(), context.sessionManager()));
-        server.createContext("/api/coins", SessionFilter.withSessionValidation(context.coinHandler(), context.sessionManager()));
-        server.createContext("/api/logout", SessionFilter.withSessionValidation(context.logoutHandler(), context.sessionManager()));
+        createContext("/api/groups", SessionFilter.withSessionValidation(context.groupHandler(), context.sessionManager()));
+        createContext("/api/collections", SessionFilter.withSessionValidation(context.collectionHandler(), context.sessionManager()));
+        createContext("/api/coins", SessionFilter.withSessionValidation(context.coinHandler(), context.sessionManager()));
+        createContext("/api/events", SessionFilter.withSessionValidation(context.eventsHandler(), context.sessionManager()));
+        createContext("/api/sync", SessionFilter.withSessionValidation(context.syncHandler(), context.sessionManager()));
+        createContext("/api/batch", SessionFilter.withSessionValidation(context.batchHandler(), context.sessionManager()));
+        createContext("/api/logout", SessionFilter.withSessionValidation(context.logoutHandler(), context.sessionManager()));
+        createContext("/api/metrics", context.metricsHandler());
 
         server.setExecutor(null);
         server.start();
@@ -134,6 +152,41 @@ public class App {
         }
     }
 
+    /**
+     * Starts a continuous Java Flight Recorder recording with the low-overhead "default"
+     * settings, which include the application's request, service and SQL events. The
+     * recording keeps the last 30 minutes and is dumped to logs/coincollector.jfr on exit;
+     * it can also be dumped at any time with {@code jcmd <pid> JFR.dump name=coincollector}.
+     * Enabled with {@code -Dcoincollector.jfr=true}.
+     */
+    private static void startFlightRecording() {
+        if (!Boolean.parseBoolean(System.getProperty("coincollector.jfr", "false")) || !FlightRecorder.isAvailable()) {
+            return;
+        }
+        try {
+            Recording recording = new Recording(Configuration.getConfiguration("default"));
+            recording.setName("coincollector");
+            recording.setToDisk(true);
+            recording.setMaxAge(Duration.ofMinutes(30));
+            recording.setDumpOnExit(true);
+            recording.setDestination(Path.of("logs", "coincollector.jfr"));
+            recording.start();
+            logger.info("Flight recording started");
+        } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+            logger.warn("Could not start flight recording: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Registers a context on the server and attaches the request metrics filter to it,
+     * so every route is instrumented the same way.
+     */
+    private static HttpContext createContext(String path, HttpHandler handler) {
+        HttpContext httpContext = server.createContext(path, handler);
+        httpContext.getFilters().add(metricsFilter);
+        return httpContext;
+    }
+
     private static String getContentType(String path) {
         if (path.endsWith(".html")) return "text/html";
         if (path.endsWith(".css")) return "text/css";
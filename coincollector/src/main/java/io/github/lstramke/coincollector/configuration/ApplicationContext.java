@@ -1,16 +1,21 @@
 package io.github.lstramke.coincollector.configuration;
 
+import io.github.lstramke.coincollector.handler.BatchHandler;
 import io.github.lstramke.coincollector.handler.CoinHandler;
 import io.github.lstramke.coincollector.handler.CollectionHandler;
+import io.github.lstramke.coincollector.handler.EventsHandler;
 import io.github.lstramke.coincollector.handler.GroupHandler;
 import io.github.lstramke.coincollector.handler.LoginHandler;
 import io.github.lstramke.coincollector.handler.LogoutHandler;
+import io.github.lstramke.coincollector.handler.MetricsHandler;
 import io.github.lstramke.coincollector.handler.RegistrationHandler;
+import io.github.lstramke.coincollector.handler.SyncHandler;
+import io.github.lstramke.coincollector.services.RequestMetrics;
 import io.github.lstramke.coincollector.services.SessionManager;
 
 /**
  * Application context record that holds all core application components.
- * Provides centralized access to session management and all HTTP request handlers.
+ * Provides centralized access to session management, request metrics and all HTTP request handlers.
  * This immutable container ensures consistent dependency injection across the application.
  *
  * @param sessionManager the service for managing user sessions
@@ -20,6 +25,11 @@ import io.github.lstramke.coincollector.services.SessionManager;
  * @param groupHandler the handler for collection group operations
  * @param collectionHandler the handler for collection operations
  * @param coinHandler the handler for coin operations
+ * @param requestMetrics the registry collecting per-route request latencies
+ * @param metricsHandler the handler exposing the request metrics
+ * @param eventsHandler the handler streaming change events
+ * @param syncHandler the handler returning changes for delta sync
+ * @param batchHandler the handler executing batches of writes in one transaction
  */
 public record ApplicationContext(
     SessionManager sessionManager,
@@ -28,5 +38,10 @@ public record ApplicationContext(
     RegistrationHandler registrationHandler,
     GroupHandler groupHandler,
     CollectionHandler collectionHandler,
-    CoinHandler coinHandler
+    CoinHandler coinHandler,
+    RequestMetrics requestMetrics,
+    MetricsHandler metricsHandler,
+    EventsHandler eventsHandler,
+    SyncHandler syncHandler,
+    BatchHandler batchHandler
 ) {}
@@ -0,0 +1,247 @@
+package io.github.lstramke.coincollector.configuration;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * DataSource decorator that keeps the prepared statements of each connection for reuse.
+ * <p>
+ * {@code prepareStatement(sql)} returns the statement prepared earlier on the same connection
+ * for the same SQL text, so SQLite parses and plans it once per connection instead of once per
+ * call. Closing the returned statement closes its open result set, clears its parameters and
+ * puts it back into the cache; the underlying statement is only closed when it is evicted or
+ * the connection is closed. Each connection holds at most {@code cacheSize} statements and
+ * evicts the least recently used one first. A statement that is still open when the same SQL
+ * is prepared again, e.g. inside a loop over its own result, is not shared: the second caller
+ * gets an uncached statement.
+ * <p>
+ * Connections are used by one thread at a time, so the per-connection cache is not synchronized.
+ */
+public class DataSourceCacheStatements implements DataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataSourceCacheStatements.class);
+
+    private final DataSource delegate;
+    private final int cacheSize;
+
+    /**
+     * Constructs a new caching DataSource.
+     *
+     * @param delegate the DataSource providing the actual connections
+     * @param cacheSize maximum number of statements kept per connection
+     */
+    public DataSourceCacheStatements(DataSource delegate, int cacheSize) {
+        this.delegate = delegate;
+        this.cacheSize = cacheSize;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return cache(delegate.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return cache(delegate.getConnection(username, password));
+    }
+
+    private Connection cache(Connection connection) {
+        StatementCache statementCache = new StatementCache(connection);
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.equals("prepareStatement") && args.length == 1) {
+                return statementCache.prepare((String) args[0]);
+            }
+            if (name.equals("close")) {
+                statementCache.closeAll();
+            }
+            return invoke(connection, method, args);
+        });
+    }
+
+    /**
+     * The prepared statements of one connection in least recently used order.
+     */
+    private final class StatementCache {
+
+        private final Connection connection;
+        private final Map<String, CachedStatement> statements = new LinkedHashMap<>(16, 0.75f, true);
+
+        private StatementCache(Connection connection) {
+            this.connection = connection;
+        }
+
+        private PreparedStatement prepare(String sql) throws SQLException {
+            CachedStatement cached = statements.get(sql);
+            if (cached == null) {
+                cached = new CachedStatement(sql, connection.prepareStatement(sql));
+                statements.put(sql, cached);
+                evict();
+            } else if (cached.inUse) {
+                return connection.prepareStatement(sql);
+            }
+            cached.inUse = true;
+            return proxy(PreparedStatement.class, cached.statement, new LeaseHandler(cached));
+        }
+
+        /**
+         * Closes the least recently used statements that are not in use until the cache fits.
+         */
+        private void evict() throws SQLException {
+            Iterator<CachedStatement> iterator = statements.values().iterator();
+            while (statements.size() > cacheSize && iterator.hasNext()) {
+                CachedStatement eldest = iterator.next();
+                if (!eldest.inUse) {
+                    iterator.remove();
+                    eldest.statement.close();
+                    logger.debug("Prepared statement evicted: {}", eldest.sql);
+                }
+            }
+        }
+
+        private void release(CachedStatement cached) throws SQLException {
+            try {
+                if (cached.resultSet != null) {
+                    cached.resultSet.close();
+                    cached.resultSet = null;
+                }
+                cached.statement.clearParameters();
+                cached.statement.clearBatch();
+                cached.inUse = false;
+            } catch (SQLException e) {
+                statements.remove(cached.sql, cached);
+                cached.statement.close();
+                throw e;
+            }
+        }
+
+        private void closeAll() throws SQLException {
+            SQLException failure = null;
+            for (CachedStatement cached : statements.values()) {
+                try {
+                    cached.statement.close();
+                } catch (SQLException e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+            statements.clear();
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        /**
+         * Hands out a cached statement until it is closed; closing returns it to the cache.
+         */
+        private final class LeaseHandler implements InvocationHandler {
+
+            private final CachedStatement cached;
+            private boolean released;
+
+            private LeaseHandler(CachedStatement cached) {
+                this.cached = cached;
+            }
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                String name = method.getName();
+                if (name.equals("close")) {
+                    if (!released) {
+                        released = true;
+                        release(cached);
+                    }
+                    return null;
+                }
+                if (name.equals("isClosed")) {
+                    return released || cached.statement.isClosed();
+                }
+                if (released) {
+                    throw new SQLException("Statement is closed");
+                }
+                Object result = DataSourceCacheStatements.invoke(cached.statement, method, args);
+                if (result instanceof ResultSet resultSet) {
+                    cached.resultSet = resultSet;
+                }
+                return result;
+            }
+        }
+    }
+
+    private static final class CachedStatement {
+        private final String sql;
+        private final PreparedStatement statement;
+        private ResultSet resultSet;
+        private boolean inUse;
+
+        private CachedStatement(String sql, PreparedStatement statement) {
+            this.sql = sql;
+            this.statement = statement;
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(
+            DataSourceCacheStatements.class.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return delegate.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return delegate.isWrapperFor(iface);
+    }
+
+    @Override
+    public java.io.PrintWriter getLogWriter() throws SQLException {
+        return delegate.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(java.io.PrintWriter out) throws SQLException {
+        delegate.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        delegate.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return delegate.getLoginTimeout();
+    }
+
+    @Override
+    public java.util.logging.Logger getParentLogger() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,289 @@
+package io.github.lstramke.coincollector.configuration;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.lstramke.coincollector.repositories.sqlite.SqlStatementEvent;
+import io.github.lstramke.coincollector.services.SqlMetrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * DataSource decorator that times every SQL statement executed over its connections.
+ * <p>
+ * Connections, statements and result sets are wrapped in lightweight proxies. A query
+ * is measured from {@code executeQuery} until its result set is exhausted or closed, so
+ * the time spent fetching rows is included. Each execution is reported to {@link SqlMetrics}
+ * together with the calling repository method and the number of rows fetched or affected.
+ * Statements slower than the configured threshold are additionally written to the
+ * {@code slowQueries} logger together with their SQL text. Every statement is also
+ * emitted as a {@link SqlStatementEvent} to Java Flight Recorder.
+ */
+public class DataSourceInstrumentStatements implements DataSource {
+
+    private static final Logger slowQueryLogger = LoggerFactory.getLogger("slowQueries");
+    private static final String REPOSITORY_PACKAGE = "io.github.lstramke.coincollector.repositories.";
+    private static final String OWN_CLASS_NAME = DataSourceInstrumentStatements.class.getName();
+    private static final StackWalker stackWalker = StackWalker.getInstance();
+    private static final int MAX_CALLER_FRAMES = 16;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("(?i)\\bIN \\(\\?(?: ?, ?\\?)*\\)");
+    private static final String COLLAPSED_PLACEHOLDER_LIST = "IN (?…)";
+    private static final int MAX_NORMALIZED_STATEMENTS = 1024;
+    private static final Map<String, String> normalizedStatements = new ConcurrentHashMap<>();
+
+    private final DataSource delegate;
+    private final SqlMetrics sqlMetrics;
+    private final long slowQueryThresholdNanos;
+
+    /**
+     * Constructs a new instrumenting DataSource.
+     *
+     * @param delegate the DataSource providing the actual connections
+     * @param sqlMetrics the registry receiving the statement timings
+     * @param slowQueryThresholdMillis statements taking at least this long are logged as slow
+     */
+    public DataSourceInstrumentStatements(DataSource delegate, SqlMetrics sqlMetrics, long slowQueryThresholdMillis) {
+        this.delegate = delegate;
+        this.sqlMetrics = sqlMetrics;
+        this.slowQueryThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowQueryThresholdMillis);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return instrument(delegate.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return instrument(delegate.getConnection(username, password));
+    }
+
+    private Connection instrument(Connection connection) {
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof PreparedStatement preparedStatement && method.getName().equals("prepareStatement")) {
+                return proxy(PreparedStatement.class, preparedStatement, new StatementHandler(preparedStatement, normalize((String) args[0]), findCaller()));
+            }
+            if (result instanceof Statement statement && method.getName().equals("createStatement")) {
+                return proxy(Statement.class, statement, new StatementHandler(statement, null, findCaller()));
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Tracks the executions of one statement. A pending query stays open until its result
+     * set is exhausted or closed; it is then reported exactly once.
+     */
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        private final String caller;
+
+        private String pendingSql;
+        private long pendingStart;
+        private long pendingRows;
+        private SqlStatementEvent pendingEvent;
+        private boolean pending;
+
+        private StatementHandler(Statement target, String preparedSql, String caller) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+            this.caller = caller;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                if (name.equals("close")) {
+                    finishQuery();
+                }
+                return DataSourceInstrumentStatements.invoke(target, method, args);
+            }
+
+            finishQuery();
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? normalize(text) : preparedSql;
+            SqlStatementEvent event = new SqlStatementEvent();
+            event.begin();
+            long start = System.nanoTime();
+            Object result = DataSourceInstrumentStatements.invoke(target, method, args);
+
+            if (result instanceof ResultSet resultSet) {
+                pendingSql = sql;
+                pendingStart = start;
+                pendingRows = 0;
+                pendingEvent = event;
+                pending = true;
+                return proxy(ResultSet.class, resultSet, (rsProxy, rsMethod, rsArgs) -> {
+                    Object rsResult = DataSourceInstrumentStatements.invoke(resultSet, rsMethod, rsArgs);
+                    if (rsMethod.getName().equals("next")) {
+                        if (Boolean.TRUE.equals(rsResult)) {
+                            pendingRows++;
+                        } else {
+                            finishQuery();
+                        }
+                    } else if (rsMethod.getName().equals("close")) {
+                        finishQuery();
+                    }
+                    return rsResult;
+                });
+            }
+
+            report(event, sql, System.nanoTime() - start, affectedRows(result));
+            return result;
+        }
+
+        private void finishQuery() {
+            if (pending) {
+                pending = false;
+                report(pendingEvent, pendingSql, System.nanoTime() - pendingStart, pendingRows);
+                pendingEvent = null;
+            }
+        }
+
+        private void report(SqlStatementEvent event, String sql, long durationNanos, long rows) {
+            sqlMetrics.record(caller, sql, durationNanos, rows);
+            event.end();
+            if (event.shouldCommit()) {
+                event.caller = caller;
+                event.sql = sql;
+                event.rows = rows;
+                event.commit();
+            }
+            if (durationNanos >= slowQueryThresholdNanos) {
+                slowQueryLogger.warn("Slow SQL statement ({} ms, {} rows) from {}: {}",
+                    TimeUnit.NANOSECONDS.toMillis(durationNanos), rows, caller, sql);
+            }
+        }
+    }
+
+    private static long affectedRows(Object result) {
+        if (result instanceof Integer count) {
+            return count;
+        }
+        if (result instanceof Long count) {
+            return count;
+        }
+        if (result instanceof int[] counts) {
+            return Arrays.stream(counts).filter(count -> count > 0).sum();
+        }
+        if (result instanceof long[] counts) {
+            return Arrays.stream(counts).filter(count -> count > 0).sum();
+        }
+        return 0;
+    }
+
+    /**
+     * Finds the repository method that prepared the statement. Falls back to the first
+     * frame outside of this class and the JDK for statements issued elsewhere. Only the
+     * innermost frames are walked; the repository method is a few frames above this one.
+     */
+    private static String findCaller() {
+        return stackWalker.walk(frames -> {
+            String fallback = null;
+            for (var iterator = frames.limit(MAX_CALLER_FRAMES).iterator(); iterator.hasNext(); ) {
+                StackWalker.StackFrame frame = iterator.next();
+                String className = frame.getClassName();
+                if (className.startsWith(REPOSITORY_PACKAGE)) {
+                    return simpleName(className) + "." + frame.getMethodName();
+                }
+                if (fallback == null
+                    && !className.equals(OWN_CLASS_NAME)
+                    && !className.startsWith(OWN_CLASS_NAME + "$")
+                    && !className.startsWith("java.")
+                    && !className.startsWith("jdk.")) {
+                    fallback = simpleName(className) + "." + frame.getMethodName();
+                }
+            }
+            return fallback != null ? fallback : "unknown";
+        });
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * Collapses whitespace in the SQL text and every generated {@code IN (?, ?, …)} placeholder
+     * list to {@code IN (?…)}, so a statement yields one metric series whatever the length of its
+     * lists. Results are cached per text; once the cache is full, further texts are normalized on
+     * every call instead.
+     */
+    private static String normalize(String sql) {
+        String normalized = normalizedStatements.get(sql);
+        if (normalized == null) {
+            normalized = WHITESPACE.matcher(sql.strip()).replaceAll(" ");
+            normalized = PLACEHOLDER_LIST.matcher(normalized).replaceAll(COLLAPSED_PLACEHOLDER_LIST);
+            if (normalizedStatements.size() < MAX_NORMALIZED_STATEMENTS) {
+                normalizedStatements.putIfAbsent(sql, normalized);
+            }
+        }
+        return normalized;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(
+            DataSourceInstrumentStatements.class.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return delegate.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return delegate.isWrapperFor(iface);
+    }
+
+    @Override
+    public java.io.PrintWriter getLogWriter() throws SQLException {
+        return delegate.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(java.io.PrintWriter out) throws SQLException {
+        delegate.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        delegate.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return delegate.getLoginTimeout();
+    }
+
+    @Override
+    public java.util.logging.Logger getParentLogger() {
+        throw new UnsupportedOperationException();
+    }
+}
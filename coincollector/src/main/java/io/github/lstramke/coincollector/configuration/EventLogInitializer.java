@@ -0,0 +1,51 @@
+package io.github.lstramke.coincollector.configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.lstramke.coincollector.exceptions.StorageInitializeException;
+import io.github.lstramke.coincollector.repositories.eventlog.EventLog;
+import io.github.lstramke.coincollector.repositories.memory.MemoryStore;
+
+/**
+ * Initializes the event-sourced storage: rebuilds the {@link MemoryStore} from the snapshot and
+ * segments in the event log directory and attaches the {@link EventLog} as its journal. A
+ * shutdown hook closes the log, which writes a final snapshot so the next start replays nothing.
+ */
+public class EventLogInitializer implements StorageInitializer {
+    private static final Logger logger = LoggerFactory.getLogger(EventLogInitializer.class);
+    private final MemoryStore store;
+    private final Path directory;
+    private final long segmentBytes;
+    private final int snapshotInterval;
+    private final long fsyncIntervalMillis;
+
+    public EventLogInitializer(MemoryStore store, Path directory, long segmentBytes, int snapshotInterval, long fsyncIntervalMillis) {
+        this.store = store;
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.snapshotInterval = snapshotInterval;
+        this.fsyncIntervalMillis = fsyncIntervalMillis;
+    }
+
+    @Override
+    public void init() throws StorageInitializeException {
+        EventLog eventLog;
+        try {
+            eventLog = EventLog.open(directory, store, segmentBytes, snapshotInterval, fsyncIntervalMillis);
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to recover event log {}: {}", directory, e.getMessage());
+            throw new StorageInitializeException("Failed to recover event log '" + directory + "': " + e.getMessage(), e);
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                eventLog.close();
+            } catch (IOException e) {
+                logger.error("Failed to close event log {}: {}", directory, e.getMessage());
+            }
+        }, "event-log-shutdown"));
+    }
+}
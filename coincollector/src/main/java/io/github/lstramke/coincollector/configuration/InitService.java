@@ -1,6 +1,16 @@
 package io.github.lstramke.coincollector.configuration;
 
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import javax.sql.DataSource;
 
@@ -9,25 +19,74 @@ import org.slf4j.LoggerFactory;
 import org.sqlite.SQLiteDataSource;
 
 import io.github.lstramke.coincollector.exceptions.StorageInitializeException;
+import io.github.lstramke.coincollector.exceptions.backupExceptions.BackupRestoreException;
+import io.github.lstramke.coincollector.handler.BatchHandler;
 import io.github.lstramke.coincollector.handler.CoinHandler;
 import io.github.lstramke.coincollector.handler.CollectionHandler;
+import io.github.lstramke.coincollector.handler.EventsHandler;
 import io.github.lstramke.coincollector.handler.GroupHandler;
 import io.github.lstramke.coincollector.handler.LoginHandler;
 import io.github.lstramke.coincollector.handler.LogoutHandler;
+import io.github.lstramke.coincollector.handler.MetricsHandler;
 import io.github.lstramke.coincollector.handler.RegistrationHandler;
+import io.github.lstramke.coincollector.handler.SyncHandler;
+import io.github.lstramke.coincollector.model.ChangeEvent;
+import io.github.lstramke.coincollector.model.EuroCoinCatalog;
+import io.github.lstramke.coincollector.model.EuroCoinCollection;
 import io.github.lstramke.coincollector.model.EuroCoinCollectionFactory;
+import io.github.lstramke.coincollector.model.EuroCoinCollectionGroup;
 import io.github.lstramke.coincollector.model.EuroCoinCollectionGroupFactory;
 import io.github.lstramke.coincollector.model.EuroCoinFactory;
+import io.github.lstramke.coincollector.model.IdGenerators;
 import io.github.lstramke.coincollector.model.UserFactory;
+import io.github.lstramke.coincollector.repositories.ChangeLogStorageRepository;
+import io.github.lstramke.coincollector.repositories.EuroCoinCollectionGroupStorageRepository;
+import io.github.lstramke.coincollector.repositories.EuroCoinCollectionStorageRepository;
+import io.github.lstramke.coincollector.repositories.EuroCoinStorageRepository;
+import io.github.lstramke.coincollector.repositories.UserStorageRepository;
+import io.github.lstramke.coincollector.repositories.memory.ChangeLogMemoryRepository;
+import io.github.lstramke.coincollector.repositories.memory.EuroCoinCollectionGroupMemoryRepository;
+import io.github.lstramke.coincollector.repositories.memory.EuroCoinCollectionMemoryRepository;
+import io.github.lstramke.coincollector.repositories.memory.EuroCoinMemoryRepository;
+import io.github.lstramke.coincollector.repositories.memory.MemoryDataSource;
+import io.github.lstramke.coincollector.repositories.memory.MemoryStore;
+import io.github.lstramke.coincollector.repositories.memory.UserMemoryRepository;
+import io.github.lstramke.coincollector.repositories.sqlite.ChangeLogSqliteRepository;
 import io.github.lstramke.coincollector.repositories.sqlite.EuroCoinCollectionGroupSqliteRepository;
 import io.github.lstramke.coincollector.repositories.sqlite.EuroCoinCollectionSqliteRepository;
 import io.github.lstramke.coincollector.repositories.sqlite.EuroCoinSqliteRepository;
 import io.github.lstramke.coincollector.repositories.sqlite.UserSqliteRepository;
+import io.github.lstramke.coincollector.services.BackupService;
+import io.github.lstramke.coincollector.services.BackupServiceImpl;
+import io.github.lstramke.coincollector.services.CatalogService;
+import io.github.lstramke.coincollector.services.CatalogServiceImpl;
+import io.github.lstramke.coincollector.services.ChangeEventBus;
+import io.github.lstramke.coincollector.services.ChangeEventBusImpl;
+import io.github.lstramke.coincollector.services.BatchService;
+import io.github.lstramke.coincollector.services.BatchServiceImpl;
+import io.github.lstramke.coincollector.services.ChangeEvents;
+import io.github.lstramke.coincollector.services.EuroCoinCollectionGroupStorageService;
 import io.github.lstramke.coincollector.services.EuroCoinCollectionGroupStorageServiceImpl;
+import io.github.lstramke.coincollector.services.EuroCoinCollectionStorageService;
 import io.github.lstramke.coincollector.services.EuroCoinCollectionStorageServiceImpl;
+import io.github.lstramke.coincollector.services.EuroCoinStorageService;
 import io.github.lstramke.coincollector.services.EuroCoinStorageServiceImpl;
+import io.github.lstramke.coincollector.services.OwnershipIndex;
+import io.github.lstramke.coincollector.services.OwnershipIndexImpl;
+import io.github.lstramke.coincollector.services.DatabaseMaintenanceService;
+import io.github.lstramke.coincollector.services.DatabaseMaintenanceServiceImpl;
+import io.github.lstramke.coincollector.services.MaintenanceMetrics;
+import io.github.lstramke.coincollector.services.MaintenanceMetricsImpl;
+import io.github.lstramke.coincollector.services.RequestMetrics;
+import io.github.lstramke.coincollector.services.RequestMetricsImpl;
 import io.github.lstramke.coincollector.services.SessionManager;
 import io.github.lstramke.coincollector.services.SessionManagerImpl;
+import io.github.lstramke.coincollector.services.SqlMetrics;
+import io.github.lstramke.coincollector.services.SqlMetricsImpl;
+import io.github.lstramke.coincollector.services.StorageServiceEvents;
+import io.github.lstramke.coincollector.services.SyncService;
+import io.github.lstramke.coincollector.services.SyncServiceImpl;
+import io.github.lstramke.coincollector.services.UserStorageService;
 import io.github.lstramke.coincollector.services.UserStorageServiceImpl;
 import tools.jackson.databind.ObjectMapper;
 
@@ -39,55 +98,334 @@ import tools.jackson.databind.ObjectMapper;
 public class InitService {
     
     private static final Logger logger = LoggerFactory.getLogger(InitService.class);
+    private static final long SLOW_QUERY_THRESHOLD_MS = Long.getLong("coincollector.slowQueryThresholdMs", 100);
+    private static final int SQL_METRICS_MAX_SERIES = Integer.getInteger("coincollector.sqlMetricsMaxSeries", 256);
+    private static final String ID_GENERATOR = System.getProperty("coincollector.idGenerator", "uuidv7");
+    private static final int EVENT_BUFFER_SIZE = Integer.getInteger("coincollector.eventBufferSize", 256);
+    private static final long EVENT_KEEP_ALIVE_SECONDS = 15;
+    private static final int SYNC_PAGE_SIZE = Integer.getInteger("coincollector.syncPageSize", 1000);
+    private static final String STORAGE = System.getProperty("coincollector.storage", "sqlite");
+    private static final long EVENT_LOG_SEGMENT_BYTES = Long.getLong("coincollector.eventLogSegmentBytes", 64L << 20);
+    private static final int EVENT_LOG_SNAPSHOT_INTERVAL = Integer.getInteger("coincollector.eventLogSnapshotInterval", 10_000);
+    private static final long EVENT_LOG_FSYNC_MILLIS = Long.getLong("coincollector.eventLogFsyncMillis", 0);
+    private static final long INDEX_SNAPSHOT_INTERVAL_SECONDS = Long.getLong("coincollector.indexSnapshotIntervalSeconds", 300);
+    private static final long BACKUP_INTERVAL_MINUTES = Long.getLong("coincollector.backupIntervalMinutes", 0);
+    private static final int BACKUP_PAGES_PER_STEP = Integer.getInteger("coincollector.backupPagesPerStep", 64);
+    private static final long BACKUP_PAUSE_MILLIS = Long.getLong("coincollector.backupPauseMillis", 10);
+    private static final int BACKUP_RETAINED = Integer.getInteger("coincollector.backupRetained", 7);
+    private static final String RESTORE_FROM = System.getProperty("coincollector.restoreFrom");
+    private static final boolean CONVERT_INCREMENTAL_VACUUM = Boolean.getBoolean("coincollector.convertIncrementalVacuum");
+    private static final long MAINTENANCE_INTERVAL_MINUTES = Long.getLong("coincollector.maintenanceIntervalMinutes", 60);
+    private static final long MAINTENANCE_IDLE_REQUESTS = Long.getLong("coincollector.maintenanceIdleRequests", 5);
+    private static final long MAINTENANCE_CHECK_SECONDS = 60;
+    private static final String METRICS_ALLOWED_ADDRESSES = System.getProperty("coincollector.metricsAllowedAddresses", "");
+    private static final int STATEMENT_CACHE_SIZE = Integer.getInteger("coincollector.statementCacheSize", 64);
+
+    /**
+     * Data source and repositories of the selected storage backend.
+     */
+    private record Storage(
+        DataSource dataSource,
+        UserStorageRepository users,
+        EuroCoinCollectionGroupStorageRepository groups,
+        EuroCoinCollectionStorageRepository collections,
+        EuroCoinStorageRepository coins,
+        ChangeLogStorageRepository changeLog
+    ) {}
     
     /**
      * Initializes the complete application context with all required dependencies.
-     * Sets up the SQLite database, creates all repositories, services, and handlers.
+     * Sets up the storage backend selected by {@code coincollector.storage} ({@code sqlite} by default,
+     * {@code eventlog} or the non-persistent {@code memory}), creates all repositories, services, and handlers.
      *
-     * @param dbFilePath the file path to the SQLite database file
+     * @param dbFilePath the file path to the SQLite database file; the event log lives in
+     *                   the directory {@code <dbFilePath>-events}, {@code memory} storage ignores it
      * @return a fully initialized ApplicationContext with all components wired together
      * @throws StorageInitializeException if database initialization fails
      */
     public static ApplicationContext initialize(String dbFilePath) throws StorageInitializeException {
         logger.info("Initializing application context...");
         
-        SQLiteDataSource dataSource = new SQLiteDataSource();
-        dataSource.setUrl("jdbc:sqlite:" + dbFilePath);
+        IdGenerators.set(IdGenerators.byName(ID_GENERATOR));
         
-        DataSource configuredDataSource = new DataSourceAutoActivateForeignKeys(dataSource);
-        List<String> tableNames = List.of("users", "euroCoinCollectionGroups", "euroCoinCollections", "euroCoins");
-        StorageInitializer storageInitializer = new SqliteInitializer(configuredDataSource, tableNames);
-        
-        storageInitializer.init();
-        logger.info("Database initialized successfully");
+        SqlMetrics sqlMetrics = new SqlMetricsImpl(SQL_METRICS_MAX_SERIES);
+        Storage storage = switch (STORAGE) {
+            case "sqlite" -> sqliteStorage(dbFilePath, sqlMetrics);
+            case "eventlog" -> eventLogStorage(Path.of(dbFilePath + "-events"));
+            case "memory" -> memoryStorage(new MemoryStore());
+            default -> throw new StorageInitializeException("Unknown storage backend: " + STORAGE, null);
+        };
+        logger.info("Storage '{}' initialized successfully", STORAGE);
         
         SessionManager sessionManager = new SessionManagerImpl();
+        OwnershipIndex ownershipIndex = new OwnershipIndexImpl();
+        RequestMetrics requestMetrics = new RequestMetricsImpl();
+        MaintenanceMetrics maintenanceMetrics = new MaintenanceMetricsImpl();
+        ChangeEventBus changeEventBus = new ChangeEventBusImpl(EVENT_BUFFER_SIZE);
         
-        var userFactory = new UserFactory();
-        var groupFactory = new EuroCoinCollectionGroupFactory();
-        var collectionFactory = new EuroCoinCollectionFactory();
-        var coinFactory = new EuroCoinFactory();
+        DataSource configuredDataSource = storage.dataSource();
+        var userStorageRepository = storage.users();
+        var groupStorageRepository = storage.groups();
+        var collectionStorageRepository = storage.collections();
+        var coinStorageRepository = storage.coins();
+        var changeLogRepository = storage.changeLog();
         
-        var userStorageRepository = new UserSqliteRepository(tableNames.get(0), userFactory);
-        var groupStorageRepository = new EuroCoinCollectionGroupSqliteRepository(tableNames.get(1), groupFactory);
-        var collectionStorageRepository = new EuroCoinCollectionSqliteRepository(tableNames.get(2), collectionFactory);
-        var coinStorageRepository = new EuroCoinSqliteRepository(tableNames.get(3), coinFactory);
-        
-        var userStorageService = new UserStorageServiceImpl(userStorageRepository, configuredDataSource);
-        var coinStorageService = new EuroCoinStorageServiceImpl(coinStorageRepository, configuredDataSource);
-        var collectionStorageService = new EuroCoinCollectionStorageServiceImpl(configuredDataSource, collectionStorageRepository, coinStorageService);
-        var groupStorageService = new EuroCoinCollectionGroupStorageServiceImpl(configuredDataSource, groupStorageRepository, collectionStorageService);
+        var userStorageService = StorageServiceEvents.instrument(UserStorageService.class,
+            new UserStorageServiceImpl(userStorageRepository, configuredDataSource));
+        var coinStorageService = ChangeEvents.publishing(EuroCoinStorageService.class,
+            StorageServiceEvents.instrument(EuroCoinStorageService.class,
+                new EuroCoinStorageServiceImpl(coinStorageRepository, configuredDataSource)),
+            ChangeEvent.Entity.COIN, changeEventBus, ownershipIndex);
+        var collectionStorageService = ChangeEvents.publishing(EuroCoinCollectionStorageService.class,
+            StorageServiceEvents.instrument(EuroCoinCollectionStorageService.class,
+                new EuroCoinCollectionStorageServiceImpl(configuredDataSource, collectionStorageRepository, coinStorageService, ownershipIndex)),
+            ChangeEvent.Entity.COLLECTION, changeEventBus, ownershipIndex);
+        var groupStorageService = ChangeEvents.publishing(EuroCoinCollectionGroupStorageService.class,
+            StorageServiceEvents.instrument(EuroCoinCollectionGroupStorageService.class,
+                new EuroCoinCollectionGroupStorageServiceImpl(configuredDataSource, groupStorageRepository, collectionStorageService, ownershipIndex)),
+            ChangeEvent.Entity.GROUP, changeEventBus, ownershipIndex);
+        var catalog = EuroCoinCatalog.load();
+        logger.info("Coin catalog loaded with {} entries", catalog.size());
+        var catalogService = StorageServiceEvents.instrument(CatalogService.class,
+            new CatalogServiceImpl(configuredDataSource, coinStorageRepository, collectionStorageRepository, catalog));
+        var syncService = StorageServiceEvents.instrument(SyncService.class,
+            new SyncServiceImpl(configuredDataSource, changeLogRepository, groupStorageRepository, collectionStorageRepository, coinStorageRepository, SYNC_PAGE_SIZE));
+        var batchService = StorageServiceEvents.instrument(BatchService.class,
+            new BatchServiceImpl(configuredDataSource, coinStorageService, collectionStorageService, groupStorageService, ownershipIndex, changeEventBus));
+
+        if ("sqlite".equals(STORAGE) && INDEX_SNAPSHOT_INTERVAL_SECONDS > 0) {
+            var indexSnapshot = new OwnershipIndexSnapshot(Path.of(dbFilePath + ".index"), configuredDataSource,
+                groupStorageRepository, collectionStorageRepository, changeLogRepository);
+            if (!loadOwnershipIndex(indexSnapshot, ownershipIndex)) {
+                warmUpOwnershipIndex(configuredDataSource, groupStorageRepository, collectionStorageRepository, ownershipIndex);
+            }
+            indexSnapshot.schedule(INDEX_SNAPSHOT_INTERVAL_SECONDS);
+        } else {
+            warmUpOwnershipIndex(configuredDataSource, groupStorageRepository, collectionStorageRepository, ownershipIndex);
+        }
+        if ("sqlite".equals(STORAGE) && BACKUP_INTERVAL_MINUTES > 0) {
+            scheduleBackups(backupService(configuredDataSource, dbFilePath), BACKUP_INTERVAL_MINUTES);
+        }
+        if ("sqlite".equals(STORAGE) && MAINTENANCE_INTERVAL_MINUTES > 0) {
+            scheduleMaintenance(StorageServiceEvents.instrument(DatabaseMaintenanceService.class,
+                new DatabaseMaintenanceServiceImpl(configuredDataSource, requestMetrics, maintenanceMetrics,
+                    MAINTENANCE_IDLE_REQUESTS, TimeUnit.MINUTES.toMillis(MAINTENANCE_INTERVAL_MINUTES))));
+        }
         
         var mapper = new ObjectMapper();
         var loginHandler = new LoginHandler(userStorageService, sessionManager, mapper);
         var logoutHandler = new LogoutHandler(sessionManager);
         var registrationHandler = new RegistrationHandler(userStorageService, sessionManager, mapper);
-        var groupHandler = new GroupHandler(groupStorageService, mapper);
-        var collectionHandler = new CollectionHandler(collectionStorageService, groupStorageService, mapper);
-        var coinHandler = new CoinHandler(coinStorageService, collectionStorageService, groupStorageService, mapper);
+        var groupHandler = new GroupHandler(groupStorageService, ownershipIndex, catalogService, mapper);
+        var collectionHandler = new CollectionHandler(collectionStorageService, groupStorageService, ownershipIndex, catalogService, mapper);
+        var coinHandler = new CoinHandler(coinStorageService, collectionStorageService, groupStorageService, ownershipIndex, mapper);
+        var metricsHandler = new MetricsHandler(requestMetrics, sqlMetrics, maintenanceMetrics, metricsAllowedAddresses());
+        var eventsHandler = new EventsHandler(changeEventBus, mapper, Executors.newVirtualThreadPerTaskExecutor(), EVENT_KEEP_ALIVE_SECONDS);
+        var syncHandler = new SyncHandler(syncService, mapper);
+        var batchHandler = new BatchHandler(batchService, mapper);
 
         logger.info("Application context initialized successfully");
         
-        return new ApplicationContext(sessionManager, loginHandler, logoutHandler, registrationHandler, groupHandler, collectionHandler, coinHandler);
+        return new ApplicationContext(sessionManager, loginHandler, logoutHandler, registrationHandler, groupHandler, collectionHandler, coinHandler, requestMetrics, metricsHandler, eventsHandler, syncHandler, batchHandler);
+    }
+
+    /**
+     * Sets up the SQLite database with statement instrumentation, a prepared statement cache per
+     * connection and foreign keys enabled.
+     *
+     * @param dbFilePath the file path to the SQLite database file
+     * @param sqlMetrics metrics receiving the statement timings
+     * @return the SQLite data source and repositories
+     * @throws StorageInitializeException if database initialization fails
+     */
+    private static Storage sqliteStorage(String dbFilePath, SqlMetrics sqlMetrics) throws StorageInitializeException {
+        SQLiteDataSource dataSource = new SQLiteDataSource();
+        dataSource.setUrl("jdbc:sqlite:" + dbFilePath);
+        
+        DataSource connections = new DataSourceAutoActivateForeignKeys(dataSource);
+        if (STATEMENT_CACHE_SIZE > 0) {
+            connections = new DataSourceCacheStatements(connections, STATEMENT_CACHE_SIZE);
+        }
+        DataSource configuredDataSource = new DataSourceInstrumentStatements(connections, sqlMetrics, SLOW_QUERY_THRESHOLD_MS);
+        List<String> tableNames = List.of("users", "euroCoinCollectionGroups", "euroCoinCollections", "euroCoins", "changeLog");
+        SqliteInitializer storageInitializer = new SqliteInitializer(configuredDataSource, tableNames);
+        if (RESTORE_FROM != null) {
+            SqliteInitializer.ChangeLogState previousChangeLog = storageInitializer.readChangeLogState();
+            try {
+                backupService(configuredDataSource, dbFilePath).restore(Path.of(RESTORE_FROM));
+            } catch (BackupRestoreException e) {
+                throw new StorageInitializeException("Failed to restore backup '" + RESTORE_FROM + "': " + e.getCause().getMessage(), e);
+            }
+            storageInitializer.init();
+            storageInitializer.restartChangeLog(previousChangeLog);
+        } else {
+            storageInitializer.init();
+        }
+        if (CONVERT_INCREMENTAL_VACUUM) {
+            storageInitializer.convertToIncrementalVacuum();
+        }
+        
+        return new Storage(
+            configuredDataSource,
+            new UserSqliteRepository(tableNames.get(0), new UserFactory()),
+            new EuroCoinCollectionGroupSqliteRepository(tableNames.get(1), new EuroCoinCollectionGroupFactory()),
+            new EuroCoinCollectionSqliteRepository(tableNames.get(2), new EuroCoinCollectionFactory()),
+            new EuroCoinSqliteRepository(tableNames.get(3), new EuroCoinFactory()),
+            new ChangeLogSqliteRepository(tableNames.get(4)));
+    }
+
+    /**
+     * @param dataSource the SQLite data source
+     * @param dbFilePath the file path to the SQLite database file; backups go to {@code <dbFilePath>-backups}
+     * @return the backup service of the database
+     */
+    private static BackupService backupService(DataSource dataSource, String dbFilePath) {
+        return StorageServiceEvents.instrument(BackupService.class, new BackupServiceImpl(dataSource,
+            Path.of(dbFilePath + "-backups"), BACKUP_PAGES_PER_STEP, BACKUP_PAUSE_MILLIS, BACKUP_RETAINED));
+    }
+
+    /**
+     * Takes a backup every {@code intervalMinutes} in a background thread.
+     *
+     * @param backupService the service taking the backups
+     * @param intervalMinutes minutes between two backups
+     */
+    private static void scheduleBackups(BackupService backupService, long intervalMinutes) {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "database-backup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                backupService.createBackup();
+            } catch (RuntimeException e) {
+                logger.error("Scheduled backup failed", e);
+            }
+        }, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+        logger.info("Database backups scheduled every {} minutes", intervalMinutes);
+    }
+
+    /**
+     * Parses the comma-separated addresses that may read the metrics besides loopback.
+     * Entries that are not valid addresses are skipped with a warning.
+     *
+     * @return the allowed addresses
+     */
+    private static Set<InetAddress> metricsAllowedAddresses() {
+        Set<InetAddress> addresses = new HashSet<>();
+        for (String entry : METRICS_ALLOWED_ADDRESSES.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            try {
+                addresses.add(InetAddress.getByName(entry.strip()));
+            } catch (UnknownHostException e) {
+                logger.warn("Ignoring unknown metrics address: {}", entry.strip());
+            }
+        }
+        return addresses;
+    }
+
+    /**
+     * Checks every minute in a background thread whether the server is idle and the database
+     * maintenance is due.
+     *
+     * @param maintenanceService the service running the maintenance
+     */
+    private static void scheduleMaintenance(DatabaseMaintenanceService maintenanceService) {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "database-maintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(() -> {
+            try {
+                maintenanceService.runIfIdle();
+            } catch (RuntimeException e) {
+                logger.error("Scheduled database maintenance failed", e);
+            }
+        }, MAINTENANCE_CHECK_SECONDS, MAINTENANCE_CHECK_SECONDS, TimeUnit.SECONDS);
+        logger.info("Database maintenance scheduled every {} minutes when idle", MAINTENANCE_INTERVAL_MINUTES);
+    }
+
+    /**
+     * Rebuilds the in-memory store from the event log and journals every further commit to it.
+     *
+     * @param directory the event log directory, created if missing
+     * @return the in-memory data source and repositories
+     * @throws StorageInitializeException if the event log cannot be recovered
+     */
+    private static Storage eventLogStorage(Path directory) throws StorageInitializeException {
+        MemoryStore store = new MemoryStore();
+        StorageInitializer storageInitializer = new EventLogInitializer(
+            store, directory, EVENT_LOG_SEGMENT_BYTES, EVENT_LOG_SNAPSHOT_INTERVAL, EVENT_LOG_FSYNC_MILLIS);
+        storageInitializer.init();
+        return memoryStorage(store);
+    }
+
+    /**
+     * Creates the memory data source and repositories on a store. Without a journal attached
+     * the data lives only as long as the process, which keeps disk I/O out of benchmarks and
+     * suits ephemeral deployments.
+     *
+     * @param store the store holding the data
+     * @return the memory data source and repositories
+     */
+    private static Storage memoryStorage(MemoryStore store) {
+        return new Storage(
+            new MemoryDataSource(store),
+            new UserMemoryRepository(store, new UserFactory()),
+            new EuroCoinCollectionGroupMemoryRepository(store, new EuroCoinCollectionGroupFactory()),
+            new EuroCoinCollectionMemoryRepository(store, new EuroCoinCollectionFactory()),
+            new EuroCoinMemoryRepository(store, new EuroCoinFactory()),
+            new ChangeLogMemoryRepository(store));
+    }
+
+    /**
+     * Fills the ownership index from its snapshot file, if that is still current.
+     *
+     * @param indexSnapshot the snapshot file
+     * @param ownershipIndex the index to fill
+     * @return {@code true} if the index was filled, {@code false} if it has to be warmed up from the database
+     * @throws StorageInitializeException if the change log version cannot be read
+     */
+    private static boolean loadOwnershipIndex(OwnershipIndexSnapshot indexSnapshot, OwnershipIndex ownershipIndex) throws StorageInitializeException {
+        try {
+            return indexSnapshot.load(ownershipIndex);
+        } catch (SQLException e) {
+            logger.error("Failed to read change log version: {}", e.getMessage());
+            throw new StorageInitializeException("Failed to read change log version: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Fills the ownership index with all persisted groups and collections so that
+     * authorization checks are served from memory right from the first request.
+     *
+     * @param dataSource the data source to read from
+     * @param groupRepository repository used to read all groups
+     * @param collectionRepository repository used to read all collections
+     * @param ownershipIndex the index to fill
+     * @throws StorageInitializeException if reading groups or collections fails
+     */
+    private static void warmUpOwnershipIndex(
+        DataSource dataSource,
+        EuroCoinCollectionGroupStorageRepository groupRepository,
+        EuroCoinCollectionStorageRepository collectionRepository,
+        OwnershipIndex ownershipIndex
+    ) throws StorageInitializeException {
+        try (Connection connection = dataSource.getConnection()) {
+            for (EuroCoinCollectionGroup group : groupRepository.getAll(connection)) {
+                ownershipIndex.putGroup(group.getId(), group.getOwnerId());
+            }
+            for (EuroCoinCollection collection : collectionRepository.getAll(connection)) {
+                ownershipIndex.putCollection(collection.getId(), collection.getGroupId());
+            }
+            logger.info("Ownership index warmed up");
+        } catch (SQLException e) {
+            logger.error("Failed to warm up ownership index: {}", e.getMessage());
+            throw new StorageInitializeException("Failed to warm up ownership index: " + e.getMessage(), e);
+        }
     }
-}
\ No newline at end of file
+}
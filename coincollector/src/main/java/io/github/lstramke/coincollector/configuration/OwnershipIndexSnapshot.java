@@ -0,0 +1,184 @@
+package io.github.lstramke.coincollector.configuration;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.lstramke.coincollector.model.EuroCoinCollection;
+import io.github.lstramke.coincollector.model.EuroCoinCollectionGroup;
+import io.github.lstramke.coincollector.repositories.ChangeLogStorageRepository;
+import io.github.lstramke.coincollector.repositories.EuroCoinCollectionGroupStorageRepository;
+import io.github.lstramke.coincollector.repositories.EuroCoinCollectionStorageRepository;
+import io.github.lstramke.coincollector.repositories.eventlog.SnapshotFile;
+import io.github.lstramke.coincollector.services.OwnershipIndex;
+
+/**
+ * Snapshot file of the group owners and collection groups the {@link OwnershipIndex} holds, so
+ * a restart fills the index from one mapped file instead of scanning the group and collection
+ * tables.
+ * <p>
+ * The file records the change log version it was read at. It is only loaded while the database
+ * still reports that version; any change of a group or collection since, including one by a
+ * process that never wrote a snapshot, makes it stale and the index is filled from the
+ * database as before. Snapshots are read from the database in one transaction, never from the
+ * index, so they are consistent with the version they carry.
+ */
+public class OwnershipIndexSnapshot {
+
+    private static final Logger logger = LoggerFactory.getLogger(OwnershipIndexSnapshot.class);
+    private static final int MAGIC = 0x43434931;
+    private static final int FORMAT = 1;
+
+    private final Path file;
+    private final DataSource dataSource;
+    private final EuroCoinCollectionGroupStorageRepository groupRepository;
+    private final EuroCoinCollectionStorageRepository collectionRepository;
+    private final ChangeLogStorageRepository changeLogRepository;
+    private volatile long writtenVersion = -1;
+
+    public OwnershipIndexSnapshot(
+        Path file,
+        DataSource dataSource,
+        EuroCoinCollectionGroupStorageRepository groupRepository,
+        EuroCoinCollectionStorageRepository collectionRepository,
+        ChangeLogStorageRepository changeLogRepository
+    ) {
+        this.file = file;
+        this.dataSource = dataSource;
+        this.groupRepository = groupRepository;
+        this.collectionRepository = collectionRepository;
+        this.changeLogRepository = changeLogRepository;
+    }
+
+    /**
+     * Fills the index from the snapshot file if it matches the current change log version.
+     * The index is left untouched otherwise.
+     *
+     * @param ownershipIndex the index to fill
+     * @return {@code true} if the index was filled
+     * @throws SQLException if the change log version cannot be read
+     */
+    public boolean load(OwnershipIndex ownershipIndex) throws SQLException {
+        long version;
+        try (Connection connection = dataSource.getConnection()) {
+            version = changeLogRepository.getLatestVersion(connection);
+        }
+        List<String[]> groups = new ArrayList<>();
+        List<String[]> collections = new ArrayList<>();
+        try {
+            ByteBuffer in = SnapshotFile.read(file, MAGIC, FORMAT);
+            long snapshotVersion = in.getLong();
+            if (snapshotVersion != version) {
+                logger.info("Ownership index snapshot {} is stale: version={}, database version={}", file, snapshotVersion, version);
+                return false;
+            }
+            for (int i = SnapshotFile.readCount(in); i > 0; i--) {
+                groups.add(new String[] {SnapshotFile.readString(in), SnapshotFile.readString(in)});
+            }
+            for (int i = SnapshotFile.readCount(in); i > 0; i--) {
+                collections.add(new String[] {SnapshotFile.readString(in), SnapshotFile.readString(in)});
+            }
+        } catch (NoSuchFileException e) {
+            logger.info("No ownership index snapshot at {}", file);
+            return false;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Ignoring unreadable ownership index snapshot {}: {}", file, e.getMessage());
+            return false;
+        }
+        for (String[] group : groups) {
+            ownershipIndex.putGroup(group[0], group[1]);
+        }
+        for (String[] collection : collections) {
+            ownershipIndex.putCollection(collection[0], collection[1]);
+        }
+        writtenVersion = version;
+        logger.info("Ownership index loaded from snapshot: version={}, groups={}, collections={}", version, groups.size(), collections.size());
+        return true;
+    }
+
+    /**
+     * Writes a snapshot of the current groups and collections unless the change log version
+     * is the one last written or loaded.
+     *
+     * @return {@code true} if a snapshot was written
+     * @throws SQLException if reading from the database fails
+     * @throws IOException if the file cannot be written
+     */
+    public boolean write() throws SQLException, IOException {
+        long version;
+        List<EuroCoinCollectionGroup> groups;
+        List<EuroCoinCollection> collections;
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                version = changeLogRepository.getLatestVersion(connection);
+                if (version == writtenVersion) {
+                    connection.rollback();
+                    return false;
+                }
+                groups = groupRepository.getAll(connection);
+                collections = collectionRepository.getAll(connection);
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+        SnapshotFile.write(file, MAGIC, FORMAT, out -> {
+            out.writeLong(version);
+            out.writeInt(groups.size());
+            for (EuroCoinCollectionGroup group : groups) {
+                SnapshotFile.writeString(out, group.getId());
+                SnapshotFile.writeString(out, group.getOwnerId());
+            }
+            out.writeInt(collections.size());
+            for (EuroCoinCollection collection : collections) {
+                SnapshotFile.writeString(out, collection.getId());
+                SnapshotFile.writeString(out, collection.getGroupId());
+            }
+        });
+        writtenVersion = version;
+        logger.info("Ownership index snapshot written: version={}, groups={}, collections={}", version, groups.size(), collections.size());
+        return true;
+    }
+
+    /**
+     * Writes a snapshot every {@code intervalSeconds} in a background thread and a final one
+     * when the JVM shuts down.
+     *
+     * @param intervalSeconds seconds between two snapshots
+     */
+    public void schedule(long intervalSeconds) {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ownership-index-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::writeQuietly, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            scheduler.shutdown();
+            writeQuietly();
+        }, "ownership-index-snapshot-shutdown"));
+    }
+
+    private synchronized void writeQuietly() {
+        try {
+            write();
+        } catch (SQLException | IOException | RuntimeException e) {
+            logger.error("Ownership index snapshot failed: {}", e.getMessage());
+        }
+    }
+}
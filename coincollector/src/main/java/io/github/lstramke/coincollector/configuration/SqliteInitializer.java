@@ -1,8 +1,11 @@
 package io.github.lstramke.coincollector.configuration;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.sql.DataSource;
@@ -11,6 +14,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.github.lstramke.coincollector.exceptions.StorageInitializeException;
+import io.github.lstramke.coincollector.model.EuroCoin;
+import io.github.lstramke.coincollector.model.EuroCoinFactory;
+import io.github.lstramke.coincollector.repositories.sqlite.EuroCoinSqliteRepository;
 
 public class SqliteInitializer implements StorageInitializer{
     private final DataSource dataSource;
@@ -25,12 +31,14 @@ public class SqliteInitializer implements StorageInitializer{
     @Override
     public void init() throws StorageInitializeException  {
         try (Connection connection = dataSource.getConnection()) {
+            initAutoVacuum(connection);
             connection.setAutoCommit(false);
             try {
                 initUserTable(connection);
                 initEuroCoinCollectionGroupTable(connection);
                 initEuroCoinCollectionTable(connection);
                 initEuroCoinTable(connection);
+                initChangeLog(connection);
                 connection.commit();
             } catch (Exception e) {
                 connection.rollback();
@@ -43,6 +51,52 @@ public class SqliteInitializer implements StorageInitializer{
         }
     }
 
+    /**
+     * New databases are created with {@code auto_vacuum = INCREMENTAL}, so the maintenance can
+     * return the pages of deleted rows with {@code incremental_vacuum}. The mode can only be set
+     * before the first table is created; existing databases keep theirs until
+     * {@link #convertToIncrementalVacuum()} is run.
+     */
+    private void initAutoVacuum(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT 1 FROM sqlite_master LIMIT 1")) {
+            if (resultSet.next()) {
+                return;
+            }
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("PRAGMA auto_vacuum = INCREMENTAL");
+            logger.info("New database created with incremental auto vacuum");
+        }
+    }
+
+    /**
+     * Switches an existing database to {@code auto_vacuum = INCREMENTAL}. This rebuilds the whole
+     * file with a full {@code VACUUM}, which needs free disk space of the size of the database and
+     * locks it until done, so it is only run on explicit request at startup. Does nothing if the
+     * database already uses incremental auto vacuum.
+     *
+     * @return whether the database was converted
+     * @throws StorageInitializeException if the conversion fails
+     */
+    public boolean convertToIncrementalVacuum() throws StorageInitializeException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            try (ResultSet resultSet = statement.executeQuery("PRAGMA auto_vacuum")) {
+                if (resultSet.next() && resultSet.getInt(1) == 2) {
+                    return false;
+                }
+            }
+            statement.execute("PRAGMA auto_vacuum = INCREMENTAL");
+            statement.execute("VACUUM");
+            logger.info("Database converted to incremental auto vacuum");
+            return true;
+        } catch (SQLException e) {
+            logger.error("Failed to convert database to incremental auto vacuum: {}", e.getMessage());
+            throw new StorageInitializeException("Failed to convert database to incremental auto vacuum: " + e.getMessage(), e);
+        }
+    }
+
     private void initUserTable(Connection connection) throws StorageInitializeException  {
         String tableName = tableNames.get(0);
         String sql = String.format("""
@@ -82,19 +136,445 @@ public class SqliteInitializer implements StorageInitializer{
     
     private void initEuroCoinTable(Connection connection) throws StorageInitializeException {
         String tableName = tableNames.get(3);
+        initTable(connection, tableName, euroCoinTableSql(tableName));
+        boolean migrated = migrateEuroCoinDescriptionColumn(connection, tableName);
+        initEuroCoinStatisticsIndex(connection, tableName);
+        initEuroCoinFilterIndexes(connection, tableName);
+        initEuroCoinSearchIndex(connection, tableName, migrated);
+    }
+
+    /**
+     * Full-text index over the custom coin descriptions. The FTS5 table reads its content
+     * from the coin table (external content) and is kept in sync by triggers, so it only
+     * stores the inverted index. Generated default descriptions are stored as {@code NULL}
+     * and therefore not indexed. The index is filled from the existing rows when it is
+     * created and after the coin table was rebuilt.
+     */
+    private void initEuroCoinSearchIndex(Connection connection, String tableName, boolean tableRebuilt) throws StorageInitializeException {
+        String searchTableName = EuroCoinSqliteRepository.searchTableName(tableName);
+        try {
+            boolean created = !tableExists(connection, searchTableName);
+            initTable(connection, searchTableName, String.format("""
+                CREATE VIRTUAL TABLE IF NOT EXISTS %s USING fts5(
+                    description,
+                    content='%s',
+                    content_rowid='rowid',
+                    tokenize='unicode61 remove_diacritics 2'
+                )
+                """, searchTableName, tableName));
+            initTable(connection, searchTableName + "_insert", String.format("""
+                CREATE TRIGGER IF NOT EXISTS %1$s_insert AFTER INSERT ON %2$s
+                WHEN new.description IS NOT NULL
+                BEGIN
+                    INSERT INTO %1$s (rowid, description) VALUES (new.rowid, new.description);
+                END
+                """, searchTableName, tableName));
+            initTable(connection, searchTableName + "_delete", String.format("""
+                CREATE TRIGGER IF NOT EXISTS %1$s_delete AFTER DELETE ON %2$s
+                WHEN old.description IS NOT NULL
+                BEGIN
+                    INSERT INTO %1$s (%1$s, rowid, description) VALUES ('delete', old.rowid, old.description);
+                END
+                """, searchTableName, tableName));
+            initTable(connection, searchTableName + "_update", String.format("""
+                CREATE TRIGGER IF NOT EXISTS %1$s_update AFTER UPDATE OF description ON %2$s
+                BEGIN
+                    INSERT INTO %1$s (%1$s, rowid, description) SELECT 'delete', old.rowid, old.description WHERE old.description IS NOT NULL;
+                    INSERT INTO %1$s (rowid, description) SELECT new.rowid, new.description WHERE new.description IS NOT NULL;
+                END
+                """, searchTableName, tableName));
+
+            if (created || tableRebuilt) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(String.format("INSERT INTO %1$s (%1$s) VALUES ('delete-all')", searchTableName));
+                    int indexed = statement.executeUpdate(String.format(
+                        "INSERT INTO %s (rowid, description) SELECT rowid, description FROM %s WHERE description IS NOT NULL",
+                        searchTableName, tableName));
+                    logger.info("Search index {} filled with {} descriptions", searchTableName, indexed);
+                }
+            }
+        } catch (SQLException e) {
+            logger.error("Failed to fill search index {}", searchTableName, e);
+            throw new StorageInitializeException("Failed to fill search index '" + searchTableName + "': " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Change log for delta sync. Triggers on the group, collection and coin tables record the
+     * latest change of every entity together with its owner, so each write is logged in the
+     * transaction of the write itself. The row of an entity is replaced on every change and
+     * therefore always carries a new version; deletes leave a tombstone. Children removed by a
+     * cascading delete, and the tombstones of children deleted earlier, are dropped from the log,
+     * as the tombstone of the deleted parent covers them; deleting a user drops the user's log. When the log is created,
+     * the existing rows are recorded as changes so that a first sync returns them.
+     * <p>
+     * The triggers on the coin table are created after its migration, which drops them when
+     * rebuilding the table.
+     */
+    private void initChangeLog(Connection connection) throws StorageInitializeException {
+        String changeLogTableName = tableNames.get(4);
+        String userTableName = tableNames.get(0);
+        String groupTableName = tableNames.get(1);
+        String collectionTableName = tableNames.get(2);
+        String coinTableName = tableNames.get(3);
+        try {
+            boolean created = !tableExists(connection, changeLogTableName);
+            initTable(connection, changeLogTableName, String.format("""
+                CREATE TABLE IF NOT EXISTS %s (
+                    version INTEGER PRIMARY KEY AUTOINCREMENT,
+                    owner_id TEXT NOT NULL,
+                    entity TEXT NOT NULL,
+                    entity_id TEXT NOT NULL,
+                    parent_id TEXT,
+                    deleted INTEGER NOT NULL
+                )
+                """, changeLogTableName));
+            String entityIndexName = "idx_" + changeLogTableName + "_entity";
+            initTable(connection, entityIndexName, String.format("""
+                CREATE UNIQUE INDEX IF NOT EXISTS %s
+                ON %s (entity, entity_id)
+                """, entityIndexName, changeLogTableName));
+            String parentIndexName = "idx_" + changeLogTableName + "_parent";
+            initTable(connection, parentIndexName, String.format("""
+                CREATE INDEX IF NOT EXISTS %s
+                ON %s (entity, parent_id)
+                """, parentIndexName, changeLogTableName));
+            String ownerIndexName = "idx_" + changeLogTableName + "_owner_version";
+            initTable(connection, ownerIndexName, String.format("""
+                CREATE INDEX IF NOT EXISTS %s
+                ON %s (owner_id, version)
+                """, ownerIndexName, changeLogTableName));
+
+            String groupOwner = String.format("SELECT owner_id FROM %s WHERE group_id = %%s.group_id", groupTableName);
+            String collectionOwner = String.format(
+                "SELECT g.owner_id AS owner_id FROM %s c JOIN %s g ON g.group_id = c.group_id WHERE c.collection_id = %%s.collection_id",
+                collectionTableName, groupTableName);
+            initChangeLogTriggers(connection, changeLogTableName, groupTableName, "group", "group_id", "NULL",
+                "SELECT %s.owner_id AS owner_id", "collection");
+            initChangeLogTriggers(connection, changeLogTableName, collectionTableName, "collection", "collection_id", "%s.group_id",
+                groupOwner, "coin");
+            initChangeLogTriggers(connection, changeLogTableName, coinTableName, "coin", "coin_id", "%s.collection_id",
+                collectionOwner, null);
+            initTable(connection, changeLogTableName + "_" + userTableName + "_delete", String.format("""
+                CREATE TRIGGER IF NOT EXISTS %1$s_%2$s_delete AFTER DELETE ON %2$s
+                BEGIN
+                    DELETE FROM %1$s WHERE owner_id = old.user_id;
+                END
+                """, changeLogTableName, userTableName));
+
+            if (created) {
+                int logged = fillChangeLog(connection);
+                logger.info("Change log {} filled with {} existing entities", changeLogTableName, logged);
+            }
+        } catch (SQLException e) {
+            logger.error("Failed to fill change log {}", changeLogTableName, e);
+            throw new StorageInitializeException("Failed to fill change log '" + changeLogTableName + "': " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Records every existing group, collection and coin as a change.
+     *
+     * @return number of logged entities
+     */
+    private int fillChangeLog(Connection connection) throws SQLException {
+        String changeLogTableName = tableNames.get(4);
+        String groupTableName = tableNames.get(1);
+        String collectionTableName = tableNames.get(2);
+        String coinTableName = tableNames.get(3);
+        try (Statement statement = connection.createStatement()) {
+            int logged = statement.executeUpdate(String.format("""
+                INSERT INTO %s (owner_id, entity, entity_id, parent_id, deleted)
+                SELECT owner_id, 'group', group_id, NULL, 0 FROM %s
+                """, changeLogTableName, groupTableName));
+            logged += statement.executeUpdate(String.format("""
+                INSERT INTO %s (owner_id, entity, entity_id, parent_id, deleted)
+                SELECT g.owner_id, 'collection', c.collection_id, c.group_id, 0
+                FROM %s c JOIN %s g ON g.group_id = c.group_id
+                """, changeLogTableName, collectionTableName, groupTableName));
+            logged += statement.executeUpdate(String.format("""
+                INSERT INTO %s (owner_id, entity, entity_id, parent_id, deleted)
+                SELECT g.owner_id, 'coin', e.coin_id, e.collection_id, 0
+                FROM %s e JOIN %s c ON c.collection_id = e.collection_id JOIN %s g ON g.group_id = c.group_id
+                """, changeLogTableName, coinTableName, collectionTableName, groupTableName));
+            return logged;
+        }
+    }
+
+    /**
+     * Change log of a database as it was before its content was replaced by a backup: the last
+     * version handed out and the entities that existed, which clients may have synced.
+     *
+     * @param version last version handed out, 0 if there was no change log
+     * @param entities logged entities that were not deleted
+     */
+    public record ChangeLogState(long version, List<LoggedEntity> entities) {}
+
+    /**
+     * An entity as recorded in the change log.
+     */
+    public record LoggedEntity(String ownerId, String entity, String entityId, String parentId) {}
+
+    /**
+     * Reads the change log state before a restore, see {@link #restartChangeLog(ChangeLogState)}.
+     *
+     * @return the state; version 0 and no entities if the database has no change log yet
+     * @throws StorageInitializeException if reading the change log fails
+     */
+    public ChangeLogState readChangeLogState() throws StorageInitializeException {
+        String changeLogTableName = tableNames.get(4);
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                if (!tableExists(connection, changeLogTableName)) {
+                    connection.commit();
+                    return new ChangeLogState(0, List.of());
+                }
+                long version;
+                try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT seq FROM sqlite_sequence WHERE name = ?")) {
+                    preparedStatement.setString(1, changeLogTableName);
+                    try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                        version = resultSet.next() ? resultSet.getLong(1) : 0;
+                    }
+                }
+                List<LoggedEntity> entities = new ArrayList<>();
+                try (Statement statement = connection.createStatement();
+                     ResultSet resultSet = statement.executeQuery(String.format(
+                         "SELECT owner_id, entity, entity_id, parent_id FROM %s WHERE deleted = 0", changeLogTableName))) {
+                    while (resultSet.next()) {
+                        entities.add(new LoggedEntity(resultSet.getString(1), resultSet.getString(2), resultSet.getString(3), resultSet.getString(4)));
+                    }
+                }
+                connection.commit();
+                return new ChangeLogState(version, entities);
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            logger.error("Failed to read change log {}: {}", changeLogTableName, e.getMessage());
+            throw new StorageInitializeException("Failed to read change log '" + changeLogTableName + "': " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Rebuilds the change log after the database content was replaced by a backup, whose log
+     * ends at an older version than the one clients have synced to. Versions continue after the
+     * previous last version; every entity of the backup is logged again, and every entity the
+     * previous log held that the backup lacks gets a tombstone, so an incremental sync from any
+     * version seen before the restore converges to the restored content.
+     *
+     * @param previous the change log state before the restore
+     * @throws StorageInitializeException if rebuilding the log fails
+     */
+    public void restartChangeLog(ChangeLogState previous) throws StorageInitializeException {
+        String changeLogTableName = tableNames.get(4);
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("DELETE FROM " + changeLogTableName);
+                try (PreparedStatement preparedStatement = connection.prepareStatement(
+                    "UPDATE sqlite_sequence SET seq = MAX(seq, ?) WHERE name = ?")) {
+                    preparedStatement.setLong(1, previous.version());
+                    preparedStatement.setString(2, changeLogTableName);
+                    if (preparedStatement.executeUpdate() == 0) {
+                        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO sqlite_sequence (name, seq) VALUES (?, ?)")) {
+                            insert.setString(1, changeLogTableName);
+                            insert.setLong(2, previous.version());
+                            insert.executeUpdate();
+                        }
+                    }
+                }
+                int logged = fillChangeLog(connection);
+                int tombstones = 0;
+                try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("""
+                    INSERT INTO %1$s (owner_id, entity, entity_id, parent_id, deleted)
+                    SELECT ?, ?, ?, ?, 1
+                    WHERE NOT EXISTS (SELECT 1 FROM %1$s WHERE entity = ? AND entity_id = ?)
+                    """, changeLogTableName))) {
+                    for (LoggedEntity entity : previous.entities()) {
+                        preparedStatement.setString(1, entity.ownerId());
+                        preparedStatement.setString(2, entity.entity());
+                        preparedStatement.setString(3, entity.entityId());
+                        preparedStatement.setString(4, entity.parentId());
+                        preparedStatement.setString(5, entity.entity());
+                        preparedStatement.setString(6, entity.entityId());
+                        tombstones += preparedStatement.executeUpdate();
+                    }
+                }
+                connection.commit();
+                logger.info("Change log {} restarted after version {}: {} entities logged, {} tombstones",
+                    changeLogTableName, previous.version(), logged, tombstones);
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            logger.error("Failed to restart change log {}: {}", changeLogTableName, e.getMessage());
+            throw new StorageInitializeException("Failed to restart change log '" + changeLogTableName + "': " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Creates the insert, update and delete triggers logging the changes of one table.
+     *
+     * @param entity the entity name stored in the log
+     * @param idColumn the primary key column of the table
+     * @param parentId expression of the parent id, {@code %s} is replaced by {@code new} or {@code old}
+     * @param ownerQuery query selecting the owner, {@code %s} is replaced by {@code new} or {@code old};
+     *        a row whose owner cannot be resolved is not logged
+     * @param childEntity the entity name of the children whose rows a delete drops, or {@code null}
+     */
+    private void initChangeLogTriggers(Connection connection, String changeLogTableName, String tableName,
+        String entity, String idColumn, String parentId, String ownerQuery, String childEntity) throws StorageInitializeException {
+        String[][] triggers = {{"insert", "INSERT", "new", "0"}, {"update", "UPDATE", "new", "0"}, {"delete", "DELETE", "old", "1"}};
+        for (String[] trigger : triggers) {
+            String row = trigger[2];
+            String triggerName = changeLogTableName + "_" + tableName + "_" + trigger[0];
+            String dropChildren = childEntity != null && "delete".equals(trigger[0])
+                ? String.format("DELETE FROM %s WHERE entity = '%s' AND parent_id = old.%s;", changeLogTableName, childEntity, idColumn)
+                : "";
+            initTable(connection, triggerName, String.format("""
+                CREATE TRIGGER IF NOT EXISTS %1$s AFTER %2$s ON %3$s
+                BEGIN
+                    %11$s
+                    DELETE FROM %4$s WHERE entity = '%5$s' AND entity_id = %6$s.%7$s;
+                    INSERT INTO %4$s (owner_id, entity, entity_id, parent_id, deleted)
+                    SELECT owner_id, '%5$s', %6$s.%7$s, %8$s, %9$s FROM (%10$s) WHERE owner_id IS NOT NULL;
+                END
+                """, triggerName, trigger[1], tableName, changeLogTableName, entity, row, idColumn,
+                parentId.formatted(row), trigger[3], ownerQuery.formatted(row), dropChildren));
+        }
+    }
+
+    private boolean tableExists(Connection connection, String tableName) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT 1 FROM sqlite_master WHERE type = 'table' AND name = ?")) {
+            preparedStatement.setString(1, tableName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+
+    /**
+     * Covering index for the per-collection statistics query: the grouped columns follow the
+     * collection id, so aggregating a collection reads only its index entries.
+     */
+    private void initEuroCoinStatisticsIndex(Connection connection, String tableName) throws StorageInitializeException {
+        String indexName = "idx_" + tableName + "_collection_attributes";
         String sql = String.format("""
+                CREATE INDEX IF NOT EXISTS %s
+                ON %s (collection_id, mint_country, coin_value, year, mint)
+                """, indexName, tableName);
+        initTable(connection, indexName, sql);
+    }
+
+    /**
+     * Composite indexes for filtered coin listings. Country (with value and mint) filters and
+     * the facet counts use the statistics index; these cover filters on the value and on year
+     * ranges without a country, in both cases behind the collection id every query is scoped by.
+     */
+    private void initEuroCoinFilterIndexes(Connection connection, String tableName) throws StorageInitializeException {
+        String valueIndexName = "idx_" + tableName + "_collection_value_year";
+        initTable(connection, valueIndexName, String.format("""
+                CREATE INDEX IF NOT EXISTS %s
+                ON %s (collection_id, coin_value, year)
+                """, valueIndexName, tableName));
+        String yearIndexName = "idx_" + tableName + "_collection_year";
+        initTable(connection, yearIndexName, String.format("""
+                CREATE INDEX IF NOT EXISTS %s
+                ON %s (collection_id, year)
+                """, yearIndexName, tableName));
+    }
+
+    private static String euroCoinTableSql(String tableName) {
+        return String.format("""
                 CREATE TABLE IF NOT EXISTS %s (
                     coin_id TEXT PRIMARY KEY,
                     year INTEGER NOT NULL,
                     coin_value INTEGER NOT NULL,
                     mint_country TEXT NOT NULL,
                     mint TEXT,
-                    description TEXT NOT NULL,
+                    description TEXT,
                     collection_id TEXT NOT NULL,
                     FOREIGN KEY (collection_id) REFERENCES euroCoinCollections(collection_id) ON DELETE CASCADE
                 )
                 """, tableName);
-        initTable(connection, tableName, sql);
+    }
+
+    /**
+     * Databases created before descriptions became optional declare the column as
+     * {@code NOT NULL}. SQLite cannot drop that constraint in place, so the table is
+     * rebuilt once and descriptions equal to the generated default are cleared, as the
+     * repository no longer stores them.
+     *
+     * @return whether the table was rebuilt
+     */
+    private boolean migrateEuroCoinDescriptionColumn(Connection connection, String tableName) throws StorageInitializeException {
+        try {
+            if (!isDescriptionNotNull(connection, tableName)) {
+                return false;
+            }
+            String migrationTableName = tableName + "_migration";
+            String columns = "coin_id, year, coin_value, mint_country, mint, description, collection_id";
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(euroCoinTableSql(migrationTableName));
+                statement.execute(String.format("INSERT INTO %s (%s) SELECT %s FROM %s", migrationTableName, columns, columns, tableName));
+                statement.execute(String.format("DROP TABLE %s", tableName));
+                statement.execute(String.format("ALTER TABLE %s RENAME TO %s", migrationTableName, tableName));
+            }
+            int cleared = clearDefaultDescriptions(connection, tableName);
+            logger.info("Table {} migrated to optional descriptions, {} default descriptions cleared", tableName, cleared);
+            return true;
+        } catch (SQLException e) {
+            logger.error("Failed to migrate table {}", tableName, e);
+            throw new StorageInitializeException("Failed to migrate table '" + tableName + "': " + e.getMessage(), e);
+        }
+    }
+
+    private boolean isDescriptionNotNull(Connection connection, String tableName) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(String.format("PRAGMA table_info(%s)", tableName))) {
+            while (resultSet.next()) {
+                if ("description".equals(resultSet.getString("name"))) {
+                    return resultSet.getInt("notnull") == 1;
+                }
+            }
+            return false;
+        }
+    }
+
+    private int clearDefaultDescriptions(Connection connection, String tableName) throws SQLException {
+        EuroCoinFactory euroCoinFactory = new EuroCoinFactory();
+        List<String> coinIds = new ArrayList<>();
+        String selectSql = String.format("""
+            SELECT coin_id, year, coin_value, mint_country, mint, description, collection_id
+            FROM %s
+            WHERE description IS NOT NULL
+            """, tableName);
+        try (PreparedStatement preparedStatement = connection.prepareStatement(selectSql);
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            while (resultSet.next()) {
+                try {
+                    EuroCoin coin = euroCoinFactory.fromDataBaseEntry(resultSet);
+                    if (!coin.hasCustomDescription()) {
+                        coinIds.add(coin.getId());
+                    }
+                } catch (SQLException e) {
+                    logger.warn("Keeping description of invalid coin row: coinId={}", resultSet.getString("coin_id"));
+                }
+            }
+        }
+
+        String updateSql = String.format("UPDATE %s SET description = NULL WHERE coin_id = ?", tableName);
+        try (PreparedStatement preparedStatement = connection.prepareStatement(updateSql)) {
+            for (String coinId : coinIds) {
+                preparedStatement.setString(1, coinId);
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+        }
+        return coinIds.size();
     }
 
     private void initTable(Connection connection, String name, String sql) throws StorageInitializeException {
@@ -0,0 +1,19 @@
+package io.github.lstramke.coincollector.exceptions.backupExceptions;
+
+public class BackupCreateException extends RuntimeException {
+
+    private static final String ERROR_CODE = "BACKUP_CREATE_FAILED";
+    private static final String DEFAULT_MESSAGE_TEXT = "Failed to create database backup";
+
+    public BackupCreateException(Throwable cause) {
+        super(DEFAULT_MESSAGE_TEXT, cause);
+    }
+
+    public BackupCreateException(){
+        super(DEFAULT_MESSAGE_TEXT);
+    }
+
+    public String getErrorCode() {
+        return ERROR_CODE;
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.lstramke.coincollector.exceptions.backupExceptions;
+
+public class BackupRestoreException extends RuntimeException {
+
+    private static final String ERROR_CODE = "BACKUP_RESTORE_FAILED";
+    private static final String DEFAULT_MESSAGE_TEXT = "Failed to restore database backup";
+
+    public BackupRestoreException(Throwable cause) {
+        super(DEFAULT_MESSAGE_TEXT, cause);
+    }
+
+    public BackupRestoreException(){
+        super(DEFAULT_MESSAGE_TEXT);
+    }
+
+    public String getErrorCode() {
+        return ERROR_CODE;
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.lstramke.coincollector.exceptions.batchExceptions;
+
+public class BatchOperationException extends RuntimeException {
+
+    private static final String ERROR_CODE = "BATCH_OPERATION_FAILED";
+    private static final String DEFAULT_MESSAGE_TEXT = "Batch operation failed, batch rolled back: index=";
+
+    private final int index;
+
+    public BatchOperationException(int index, Throwable cause) {
+        super(DEFAULT_MESSAGE_TEXT + index, cause);
+        this.index = index;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getErrorCode() {
+        return ERROR_CODE;
+    }
+}
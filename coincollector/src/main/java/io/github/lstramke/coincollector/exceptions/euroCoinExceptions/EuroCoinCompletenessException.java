@@ -0,0 +1,19 @@
+package io.github.lstramke.coincollector.exceptions.euroCoinExceptions;
+
+public class EuroCoinCompletenessException extends RuntimeException {
+
+    private static final String ERROR_CODE = "COIN_COMPLETENESS_FAILED";
+    private static final String DEFAULT_MESSAGE_TEXT = "Failed to compute EuroCoin catalog completeness";
+
+    public EuroCoinCompletenessException(Throwable cause) {
+        super(DEFAULT_MESSAGE_TEXT, cause);
+    }
+
+    public EuroCoinCompletenessException(){
+        super(DEFAULT_MESSAGE_TEXT);
+    }
+
+    public String getErrorCode() {
+        return ERROR_CODE;
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.lstramke.coincollector.exceptions.euroCoinExceptions;
+
+public class EuroCoinFilterException extends RuntimeException {
+
+    private static final String ERROR_CODE = "COIN_FILTER_FAILED";
+    private static final String DEFAULT_MESSAGE_TEXT = "Failed to filter EuroCoins";
+
+    public EuroCoinFilterException(Throwable cause) {
+        super(DEFAULT_MESSAGE_TEXT, cause);
+    }
+
+    public EuroCoinFilterException(){
+        super(DEFAULT_MESSAGE_TEXT);
+    }
+
+    public String getErrorCode() {
+        return ERROR_CODE;
+    }
+}
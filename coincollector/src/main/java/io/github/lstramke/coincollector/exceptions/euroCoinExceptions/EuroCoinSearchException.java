@@ -0,0 +1,19 @@
+package io.github.lstramke.coincollector.exceptions.euroCoinExceptions;
+
+public class EuroCoinSearchException extends RuntimeException {
+
+    private static final String ERROR_CODE = "COIN_SEARCH_FAILED";
+    private static final String DEFAULT_MESSAGE_TEXT = "Failed to search EuroCoins";
+
+    public EuroCoinSearchException(Throwable cause) {
+        super(DEFAULT_MESSAGE_TEXT, cause);
+    }
+
+    public EuroCoinSearchException(){
+        super(DEFAULT_MESSAGE_TEXT);
+    }
+
+    public String getErrorCode() {
+        return ERROR_CODE;
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.lstramke.coincollector.exceptions.euroCoinExceptions;
+
+public class EuroCoinStatisticsException extends RuntimeException {
+
+    private static final String ERROR_CODE = "COIN_STATISTICS_FAILED";
+    private static final String DEFAULT_MESSAGE_TEXT = "Failed to compute EuroCoin statistics";
+
+    public EuroCoinStatisticsException(Throwable cause) {
+        super(DEFAULT_MESSAGE_TEXT, cause);
+    }
+
+    public EuroCoinStatisticsException(){
+        super(DEFAULT_MESSAGE_TEXT);
+    }
+
+    public String getErrorCode() {
+        return ERROR_CODE;
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.lstramke.coincollector.exceptions.maintenanceExceptions;
+
+public class DatabaseMaintenanceException extends RuntimeException {
+
+    private static final String ERROR_CODE = "DATABASE_MAINTENANCE_FAILED";
+    private static final String DEFAULT_MESSAGE_TEXT = "Failed to run database maintenance";
+
+    public DatabaseMaintenanceException(Throwable cause) {
+        super(DEFAULT_MESSAGE_TEXT, cause);
+    }
+
+    public DatabaseMaintenanceException(){
+        super(DEFAULT_MESSAGE_TEXT);
+    }
+
+    public String getErrorCode() {
+        return ERROR_CODE;
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.lstramke.coincollector.exceptions.syncExceptions;
+
+public class SyncChangesException extends RuntimeException {
+
+    private static final String ERROR_CODE = "SYNC_CHANGES_FAILED";
+    private static final String DEFAULT_MESSAGE_TEXT = "Failed to read changes for sync";
+
+    public SyncChangesException(Throwable cause) {
+        super(DEFAULT_MESSAGE_TEXT, cause);
+    }
+
+    public SyncChangesException(){
+        super(DEFAULT_MESSAGE_TEXT);
+    }
+
+    public String getErrorCode() {
+        return ERROR_CODE;
+    }
+}
@@ -0,0 +1,190 @@
+package io.github.lstramke.coincollector.handler;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import io.github.lstramke.coincollector.exceptions.batchExceptions.BatchOperationException;
+import io.github.lstramke.coincollector.exceptions.euroCoinCollectionException.EuroCoinCollectionAlreadyExistsException;
+import io.github.lstramke.coincollector.exceptions.euroCoinCollectionException.EuroCoinCollectionNotFoundException;
+import io.github.lstramke.coincollector.exceptions.euroCoinCollectionGroupException.EuroCoinCollectionGroupNotFoundException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinAlreadyExistsException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinNotFoundException;
+import io.github.lstramke.coincollector.model.BatchOperation;
+import io.github.lstramke.coincollector.model.BatchResult;
+import io.github.lstramke.coincollector.model.CoinCountry;
+import io.github.lstramke.coincollector.model.CoinDescription;
+import io.github.lstramke.coincollector.model.CoinValue;
+import io.github.lstramke.coincollector.model.EuroCoin;
+import io.github.lstramke.coincollector.model.EuroCoinBuilder;
+import io.github.lstramke.coincollector.model.EuroCoinCollection;
+import io.github.lstramke.coincollector.model.Mint;
+import io.github.lstramke.coincollector.model.DTOs.Requests.BatchOperationRequest;
+import io.github.lstramke.coincollector.model.DTOs.Requests.BatchRequest;
+import io.github.lstramke.coincollector.model.DTOs.Requests.CoinActionRequest;
+import io.github.lstramke.coincollector.model.DTOs.Responses.BatchResponse;
+import io.github.lstramke.coincollector.services.BatchService;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Handler for batches of writes at {@code POST /api/batch}.
+ * <p>
+ * The body lists up to {@value #MAX_OPERATIONS} operations, each with an {@code action}
+ * ({@code create}, {@code update}, {@code delete}), an {@code entity} ({@code coin},
+ * {@code collection}, {@code group}), the {@code id} for updates and deletes and the payload
+ * of the matching single request in {@code coin}, {@code collection} or {@code group}.
+ * The operations are executed in order within one transaction. On success the response holds
+ * the status and body of every operation; otherwise nothing is stored and the response names
+ * the index of the failing {@code operation}.
+ */
+public class BatchHandler implements HttpHandler {
+
+    private final BatchService batchService;
+    private final ObjectMapper mapper;
+    private final Router router;
+    private final static Logger logger = LoggerFactory.getLogger(BatchHandler.class);
+    private final static String PREFIX = "/api/batch";
+    private final static int MAX_OPERATIONS = 100;
+
+    /**
+     * Constructs a new BatchHandler with required dependencies.
+     *
+     * @param batchService the service executing the batches
+     * @param mapper the ObjectMapper for JSON serialization/deserialization
+     */
+    public BatchHandler(BatchService batchService, ObjectMapper mapper) {
+        this.batchService = batchService;
+        this.mapper = mapper;
+        this.router = new Router()
+            .add("POST", PREFIX, (exchange, parameters) -> handleBatch(exchange));
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        logger.info("Route called: {} {}", exchange.getRequestMethod(), exchange.getRequestURI().getPath());
+        router.handle(exchange);
+    }
+
+    /**
+     * Handles POST requests executing a batch of writes for the requesting user.
+     *
+     * @param exchange the HTTP exchange containing request and response information
+     * @throws IOException if an I/O error occurs during request handling
+     */
+    private void handleBatch(HttpExchange exchange) throws IOException {
+        String userId = (String) exchange.getAttribute("userId");
+        String body = new String(exchange.getRequestBody().readAllBytes());
+
+        BatchRequest request;
+        try {
+            request = mapper.readValue(body, BatchRequest.class);
+        } catch (JacksonException e) {
+            exchange.sendResponseHeaders(400, 0);
+            exchange.getResponseBody().write("{\"error\":\"Invalid request body\"}".getBytes());
+            exchange.close();
+            return;
+        }
+        if (request == null || request.operations() == null || request.operations().isEmpty() || request.operations().size() > MAX_OPERATIONS) {
+            exchange.sendResponseHeaders(400, 0);
+            exchange.getResponseBody().write("{\"error\":\"Request is not valid\"}".getBytes());
+            exchange.close();
+            return;
+        }
+
+        List<BatchOperation> operations = new ArrayList<>(request.operations().size());
+        for (int index = 0; index < request.operations().size(); index++) {
+            try {
+                operations.add(toOperation(request.operations().get(index)));
+            } catch (RuntimeException e) {
+                logger.debug("Invalid batch operation {}: {}", index, e.getMessage());
+                sendError(exchange, 400, "Request is not valid", index);
+                return;
+            }
+        }
+
+        try {
+            List<BatchResult> results = batchService.execute(userId, operations);
+
+            String responseJson = mapper.writeValueAsString(BatchResponse.fromDomain(results));
+
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, responseJson.getBytes().length);
+            exchange.getResponseBody().write(responseJson.getBytes());
+            exchange.close();
+
+        } catch (BatchOperationException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof EuroCoinNotFoundException || cause instanceof EuroCoinCollectionNotFoundException || cause instanceof EuroCoinCollectionGroupNotFoundException) {
+                sendError(exchange, 404, "Resource not found", e.getIndex());
+            } else if (cause instanceof EuroCoinAlreadyExistsException || cause instanceof EuroCoinCollectionAlreadyExistsException) {
+                sendError(exchange, 409, "Resource already exists", e.getIndex());
+            } else {
+                sendError(exchange, 500, "Internal server error", e.getIndex());
+            }
+        } catch (JacksonException e) {
+            exchange.sendResponseHeaders(500, 0);
+            exchange.getResponseBody().write("{\"error\":\"Internal server error\"}".getBytes());
+            exchange.close();
+        }
+    }
+
+    private void sendError(HttpExchange exchange, int status, String error, int index) throws IOException {
+        exchange.sendResponseHeaders(status, 0);
+        exchange.getResponseBody().write(String.format("{\"error\":\"%s\",\"operation\":%d}", error, index).getBytes());
+        exchange.close();
+    }
+
+    /**
+     * Converts a requested operation into its domain form.
+     *
+     * @throws RuntimeException if the operation is incomplete or its coin is not valid
+     */
+    private static BatchOperation toOperation(BatchOperationRequest request) throws RuntimeException {
+        String action = request.action() != null ? request.action() : "";
+        String entity = request.entity() != null ? request.entity() : "";
+        if (!action.equals("create") && (request.id() == null || request.id().isBlank())) {
+            throw new IllegalArgumentException("Operation without id");
+        }
+        return switch (entity + " " + action) {
+            case "coin create" -> BatchOperation.createCoin(toCoin(request.coin()));
+            case "coin update" -> BatchOperation.updateCoin(request.id(), toCoin(request.coin()));
+            case "coin delete" -> BatchOperation.deleteCoin(request.id());
+            case "collection create" -> BatchOperation.createCollection(
+                new EuroCoinCollection(request.collection().name(), request.collection().groupId()));
+            case "collection update" -> {
+                String groupId = request.collection().groupId();
+                if (groupId == null || groupId.isBlank()) {
+                    throw new IllegalArgumentException("Collection update without groupId");
+                }
+                yield BatchOperation.updateCollection(request.id(), request.collection().name(), groupId);
+            }
+            case "collection delete" -> BatchOperation.deleteCollection(request.id());
+            case "group create" -> BatchOperation.createGroup(request.group().name());
+            case "group update" -> BatchOperation.updateGroup(request.id(), request.group().name());
+            case "group delete" -> BatchOperation.deleteGroup(request.id());
+            default -> throw new IllegalArgumentException("Unknown operation: " + entity + " " + action);
+        };
+    }
+
+    private static EuroCoin toCoin(CoinActionRequest request) {
+        var builder = new EuroCoinBuilder()
+            .setYear(request.year())
+            .setValue(CoinValue.fromCentValue(request.value()))
+            .setMintCountry(CoinCountry.fromIsoCode(request.country()))
+            .setDescription(request.description() != null ? new CoinDescription(request.description()) : null)
+            .setCollectionId(request.collectionId());
+
+        if (request.country().equals("DE")) {
+            builder.setMint(Mint.fromMintMark(request.mint()));
+        }
+
+        return builder.build();
+    }
+}
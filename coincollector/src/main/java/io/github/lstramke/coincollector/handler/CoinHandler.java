@@ -1,6 +1,8 @@
 package io.github.lstramke.coincollector.handler;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,32 +19,45 @@ import io.github.lstramke.coincollector.exceptions.euroCoinCollectionGroupExcept
 import io.github.lstramke.coincollector.exceptions.euroCoinCollectionGroupException.EuroCoinCollectionGroupNotFoundException;
 import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinAlreadyExistsException;
 import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinDeleteException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinFilterException;
 import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinNotFoundException;
 import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinSaveException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinSearchException;
 import io.github.lstramke.coincollector.model.CoinCountry;
 import io.github.lstramke.coincollector.model.CoinDescription;
+import io.github.lstramke.coincollector.model.CoinFilter;
 import io.github.lstramke.coincollector.model.CoinValue;
 import io.github.lstramke.coincollector.model.EuroCoinBuilder;
 import io.github.lstramke.coincollector.model.Mint;
 import io.github.lstramke.coincollector.model.DTOs.Requests.CoinActionRequest;
 import io.github.lstramke.coincollector.model.DTOs.Responses.CoinResponse;
+import io.github.lstramke.coincollector.model.DTOs.Responses.FilterResponse;
+import io.github.lstramke.coincollector.model.DTOs.Responses.SearchResponse;
 import io.github.lstramke.coincollector.services.EuroCoinCollectionGroupStorageService;
 import io.github.lstramke.coincollector.services.EuroCoinCollectionStorageService;
 import io.github.lstramke.coincollector.services.EuroCoinStorageService;
+import io.github.lstramke.coincollector.services.OwnershipIndex;
 
 /**
  * Handler for coin-related HTTP requests.
  * Manages CRUD operations for Euro coins within collections.
  * Validates ownership and authorization for all coin operations.
+ * Listing with combinable filters and facet counts is available at {@code GET /api/coins},
+ * full-text search over coin descriptions at {@code GET /api/coins/search?q=}; both only
+ * cover the collections of the requesting user.
  */
 public class CoinHandler implements HttpHandler {
     
     private final EuroCoinStorageService coinStorageService;
     private final EuroCoinCollectionStorageService collectionStorageService;
     private final EuroCoinCollectionGroupStorageService groupStorageService;
+    private final OwnershipIndex ownershipIndex;
     private final ObjectMapper mapper;
+    private final Router router;
     private final static Logger logger = LoggerFactory.getLogger(CoinHandler.class);
     private final static String PREFIX = "/api/coins";
+    private final static int DEFAULT_PAGE_LIMIT = 20;
+    private final static int MAX_PAGE_LIMIT = 100;
 
     /**
      * Constructs a new CoinHandler with required dependencies.
@@ -50,36 +65,34 @@ public class CoinHandler implements HttpHandler {
      * @param coinStorageService the service for coin storage operations
      * @param collectionStorageService the service for collection storage operations
      * @param groupStorageService the service for collection group storage operations
+     * @param ownershipIndex the in-memory index used for ownership checks
      * @param mapper the ObjectMapper for JSON serialization/deserialization
      */
     public CoinHandler(
         EuroCoinStorageService coinStorageService, 
         EuroCoinCollectionStorageService collectionStorageService, 
         EuroCoinCollectionGroupStorageService groupStorageService,
+        OwnershipIndex ownershipIndex,
         ObjectMapper mapper
     ) {
         this.coinStorageService = coinStorageService;
         this.collectionStorageService = collectionStorageService;
         this.groupStorageService = groupStorageService;
+        this.ownershipIndex = ownershipIndex;
         this.mapper = mapper;
+        this.router = new Router()
+            .add("GET", PREFIX, (exchange, parameters) -> handleFilter(exchange))
+            .add("GET", PREFIX + "/search", (exchange, parameters) -> handleSearch(exchange))
+            .add("GET", PREFIX + "/{id}", this::handleGet)
+            .add("POST", PREFIX, (exchange, parameters) -> handleCreate(exchange))
+            .add("PATCH", PREFIX + "/{id}", this::handleUpdate)
+            .add("DELETE", PREFIX + "/{id}", this::handleDelete);
     }
 
     @Override
     public void handle(HttpExchange exchange) throws IOException {
-        String method = exchange.getRequestMethod();
-        String path = exchange.getRequestURI().getPath();
-
-        logger.info("Route called: {} {}", method, path);
-
-        switch (method) {
-            case "GET" -> handleGet(exchange);
-            case "POST" -> handleCreate(exchange);
-            case "PATCH" -> handleUpdate(exchange);
-            case "DELETE" -> handleDelete(exchange);
-            default -> {
-               exchange.sendResponseHeaders(405, -1);
-            }
-        }
+        logger.info("Route called: {} {}", exchange.getRequestMethod(), exchange.getRequestURI().getPath());
+        router.handle(exchange);
     }
 
     /**
@@ -87,12 +100,13 @@ public class CoinHandler implements HttpHandler {
      * Validates that the requesting user owns the coin through the collection hierarchy.
      *
      * @param exchange the HTTP exchange containing request and response information
+     * @param parameters the path parameters holding the {@code id}
      * @throws IOException if an I/O error occurs during request handling
      */
-    private void handleGet(HttpExchange exchange) throws IOException {
+    private void handleGet(HttpExchange exchange, PathParameters parameters) throws IOException {
         logger.info("handleGet called");
         String userId = (String) exchange.getAttribute("userId");
-        String coinId = exchange.getRequestURI().getPath().substring(PREFIX.length() + 1);
+        String coinId = parameters.get("id");
 
         try {
             var coin = this.coinStorageService.getById(coinId);
@@ -119,6 +133,146 @@ public class CoinHandler implements HttpHandler {
 
     }
 
+    /**
+     * Handles GET requests to list the coins of the requesting user's collections.
+     * The optional parameters {@code collection}, {@code country} (ISO code), {@code value}
+     * (cents), {@code yearFrom}, {@code yearTo} and {@code mint} are combined; {@code limit}
+     * (default 20, at most 100) and {@code offset} (default 0) page through the matches.
+     * The response also carries the total number of matches and the facet counts of the filter.
+     *
+     * @param exchange the HTTP exchange containing request and response information
+     * @throws IOException if an I/O error occurs during request handling
+     */
+    private void handleFilter(HttpExchange exchange) throws IOException {
+        logger.info("handleFilter called");
+        String userId = (String) exchange.getAttribute("userId");
+
+        CoinFilter filter;
+        int limit;
+        int offset;
+        try {
+            Map<String, String> parameters = QueryParameters.parse(exchange.getRequestURI().getRawQuery());
+            filter = parseFilter(parameters);
+            limit = parseLimit(parameters);
+            offset = parseOffset(parameters);
+        } catch (IllegalArgumentException e) {
+            exchange.sendResponseHeaders(400, 0);
+            exchange.getResponseBody().write("{\"error\":\"Request is not valid\"}".getBytes());
+            exchange.close();
+            return;
+        }
+
+        try {
+            List<String> collectionIds = this.ownershipIndex.getCollectionIdsOfOwner(userId);
+            var filteredCoins = this.coinStorageService.filter(filter, collectionIds, limit, offset);
+
+            var response = FilterResponse.fromDomain(filteredCoins, limit, offset);
+            String responseJson = mapper.writeValueAsString(response);
+
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, responseJson.getBytes().length);
+            exchange.getResponseBody().write(responseJson.getBytes());
+            exchange.close();
+
+        } catch (EuroCoinFilterException | JacksonException e) {
+            exchange.sendResponseHeaders(500, 0);
+            exchange.getResponseBody().write("{\"error\":\"Internal server error\"}".getBytes());
+            exchange.close();
+        }
+    }
+
+    private static CoinFilter parseFilter(Map<String, String> parameters) throws IllegalArgumentException {
+        String collectionId = parameters.get("collection");
+        if (collectionId != null && collectionId.isBlank()) {
+            throw new IllegalArgumentException("Collection id is blank");
+        }
+        String country = parameters.get("country");
+        String value = parameters.get("value");
+        String yearFrom = parameters.get("yearFrom");
+        String yearTo = parameters.get("yearTo");
+        Mint mint = parameters.containsKey("mint") ? Mint.fromMintMark(parameters.get("mint")) : null;
+        if (mint == Mint.UNKOWN) {
+            throw new IllegalArgumentException("Unknown mint mark");
+        }
+        CoinFilter filter = new CoinFilter(
+            collectionId,
+            country != null ? CoinCountry.fromIsoCode(country) : null,
+            value != null ? CoinValue.fromCentValue(Integer.parseInt(value)) : null,
+            yearFrom != null ? Integer.valueOf(yearFrom) : null,
+            yearTo != null ? Integer.valueOf(yearTo) : null,
+            mint
+        );
+        if (filter.yearFrom() != null && filter.yearTo() != null && filter.yearFrom() > filter.yearTo()) {
+            throw new IllegalArgumentException("yearFrom is after yearTo");
+        }
+        return filter;
+    }
+
+    private static int parseLimit(Map<String, String> parameters) throws IllegalArgumentException {
+        int limit = Integer.parseInt(parameters.getOrDefault("limit", String.valueOf(DEFAULT_PAGE_LIMIT)));
+        if (limit < 1 || limit > MAX_PAGE_LIMIT) {
+            throw new IllegalArgumentException("limit out of range");
+        }
+        return limit;
+    }
+
+    private static int parseOffset(Map<String, String> parameters) throws IllegalArgumentException {
+        int offset = Integer.parseInt(parameters.getOrDefault("offset", "0"));
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset must not be negative");
+        }
+        return offset;
+    }
+
+    /**
+     * Handles GET requests to search coin descriptions of the requesting user's collections.
+     * Expects the search text in {@code q}; {@code limit} (default 20, at most 100) and
+     * {@code offset} (default 0) page through the hits, which are ordered by relevance.
+     *
+     * @param exchange the HTTP exchange containing request and response information
+     * @throws IOException if an I/O error occurs during request handling
+     */
+    private void handleSearch(HttpExchange exchange) throws IOException {
+        logger.info("handleSearch called");
+        String userId = (String) exchange.getAttribute("userId");
+
+        String text;
+        int limit;
+        int offset;
+        try {
+            Map<String, String> parameters = QueryParameters.parse(exchange.getRequestURI().getRawQuery());
+            text = parameters.get("q");
+            if (text == null || text.isBlank()) {
+                throw new IllegalArgumentException("Search text is missing");
+            }
+            limit = parseLimit(parameters);
+            offset = parseOffset(parameters);
+        } catch (IllegalArgumentException e) {
+            exchange.sendResponseHeaders(400, 0);
+            exchange.getResponseBody().write("{\"error\":\"Request is not valid\"}".getBytes());
+            exchange.close();
+            return;
+        }
+
+        try {
+            List<String> collectionIds = this.ownershipIndex.getCollectionIdsOfOwner(userId);
+            var hits = this.coinStorageService.search(text, collectionIds, limit + 1, offset);
+
+            var response = SearchResponse.fromDomain(hits, limit, offset);
+            String responseJson = mapper.writeValueAsString(response);
+
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, responseJson.getBytes().length);
+            exchange.getResponseBody().write(responseJson.getBytes());
+            exchange.close();
+
+        } catch (EuroCoinSearchException | JacksonException e) {
+            exchange.sendResponseHeaders(500, 0);
+            exchange.getResponseBody().write("{\"error\":\"Internal server error\"}".getBytes());
+            exchange.close();
+        }
+    }
+
     /**
      * Handles POST requests to create a new coin.
      * Validates ownership of the target collection before creation.
@@ -187,12 +341,13 @@ public class CoinHandler implements HttpHandler {
      * Validates ownership of both the source and target collections if the coin is moved.
      *
      * @param exchange the HTTP exchange containing request and response information
+     * @param parameters the path parameters holding the {@code id}
      * @throws IOException if an I/O error occurs during request handling
      */
-    private void handleUpdate(HttpExchange exchange) throws IOException {
+    private void handleUpdate(HttpExchange exchange, PathParameters parameters) throws IOException {
         logger.info("handleUpdate called");
         String userId = (String) exchange.getAttribute("userId");
-        String coinId = exchange.getRequestURI().getPath().substring(PREFIX.length() + 1);
+        String coinId = parameters.get("id");
         String body = new String(exchange.getRequestBody().readAllBytes());
 
         CoinActionRequest request;
@@ -256,12 +411,13 @@ public class CoinHandler implements HttpHandler {
      * Validates ownership of the coin through the collection hierarchy.
      *
      * @param exchange the HTTP exchange containing request and response information
+     * @param parameters the path parameters holding the {@code id}
      * @throws IOException if an I/O error occurs during request handling
      */
-    private void handleDelete(HttpExchange exchange) throws IOException {
+    private void handleDelete(HttpExchange exchange, PathParameters parameters) throws IOException {
         logger.info("handleDelete called");
         String userId = (String) exchange.getAttribute("userId");
-        String coinId = exchange.getRequestURI().getPath().substring(PREFIX.length() + 1);
+        String coinId = parameters.get("id");
 
         try {
             var coinToDelete = this.coinStorageService.getById(coinId);
@@ -285,6 +441,8 @@ public class CoinHandler implements HttpHandler {
 
     /**
      * Validates that the specified user owns the collection through the group hierarchy.
+     * The owner is resolved from the {@link OwnershipIndex}; only on an index miss the
+     * collection and group are loaded from storage and the index is filled with the result.
      * Sends a 404 response and closes the exchange if the user is not the owner.
      *
      * @param exchange the HTTP exchange for sending error responses
@@ -310,9 +468,15 @@ public class CoinHandler implements HttpHandler {
         EuroCoinCollectionGroupGetByIdException, 
         EuroCoinCollectionGroupNotFoundException 
     {
-        var collection = this.collectionStorageService.getById(collectionId);
-        var group = this.groupStorageService.getById(collection.getGroupId());
-        if (!group.getOwnerId().equals(userId)) {
+        String ownerId = this.ownershipIndex.getOwnerIdOfCollection(collectionId).orElse(null);
+        if (ownerId == null) {
+            var collection = this.collectionStorageService.getById(collectionId);
+            var group = this.groupStorageService.getById(collection.getGroupId());
+            ownerId = group.getOwnerId();
+            this.ownershipIndex.putGroup(collection.getGroupId(), ownerId);
+            this.ownershipIndex.putCollection(collectionId, collection.getGroupId());
+        }
+        if (!ownerId.equals(userId)) {
             exchange.sendResponseHeaders(404, 0);
             exchange.getResponseBody().write("{\"error\":\"Resource not found\"}".getBytes());
             exchange.close();
@@ -16,10 +16,16 @@ import io.github.lstramke.coincollector.exceptions.euroCoinCollectionException.E
 import io.github.lstramke.coincollector.exceptions.euroCoinCollectionException.EuroCoinCollectionSaveException;
 import io.github.lstramke.coincollector.exceptions.euroCoinCollectionGroupException.EuroCoinCollectionGroupGetByIdException;
 import io.github.lstramke.coincollector.exceptions.euroCoinCollectionGroupException.EuroCoinCollectionGroupNotFoundException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinCompletenessException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinStatisticsException;
 import io.github.lstramke.coincollector.model.EuroCoinCollection;
 import io.github.lstramke.coincollector.model.DTOs.Requests.CreateCollectionRequest;
 import io.github.lstramke.coincollector.model.DTOs.Responses.CollectionResponse;
+import io.github.lstramke.coincollector.model.DTOs.Responses.CompletenessResponse;
+import io.github.lstramke.coincollector.model.DTOs.Responses.StatisticsResponse;
+import io.github.lstramke.coincollector.services.CatalogService;
 import io.github.lstramke.coincollector.services.EuroCoinCollectionGroupStorageService;
+import io.github.lstramke.coincollector.services.OwnershipIndex;
 import tools.jackson.core.JacksonException;
 import tools.jackson.databind.ObjectMapper;
 
@@ -32,7 +38,10 @@ public class CollectionHandler implements HttpHandler {
 
     private final EuroCoinCollectionStorageService collectionStorageService;
     private final EuroCoinCollectionGroupStorageService groupStorageService;
+    private final OwnershipIndex ownershipIndex;
+    private final CatalogService catalogService;
     private final ObjectMapper mapper;
+    private final Router router;
     private final static Logger logger = LoggerFactory.getLogger(CollectionHandler.class);
     private final static String PREFIX = "/api/collections";
 
@@ -41,29 +50,29 @@ public class CollectionHandler implements HttpHandler {
      *
      * @param collectionStorageService the service for collection storage operations
      * @param groupStorageService the service for collection group storage operations
+     * @param ownershipIndex the in-memory index used for ownership checks
+     * @param catalogService the service measuring collections against the coin catalog
      * @param mapper the ObjectMapper for JSON serialization/deserialization
      */
-    public CollectionHandler(EuroCoinCollectionStorageService collectionStorageService, EuroCoinCollectionGroupStorageService groupStorageService, ObjectMapper mapper) {
+    public CollectionHandler(EuroCoinCollectionStorageService collectionStorageService, EuroCoinCollectionGroupStorageService groupStorageService, OwnershipIndex ownershipIndex, CatalogService catalogService, ObjectMapper mapper) {
         this.collectionStorageService = collectionStorageService;
         this.groupStorageService = groupStorageService;
+        this.ownershipIndex = ownershipIndex;
+        this.catalogService = catalogService;
         this.mapper = mapper;
+        this.router = new Router()
+            .add("GET", PREFIX + "/{id}", this::handleGet)
+            .add("GET", PREFIX + "/{id}/stats", this::handleGetStatistics)
+            .add("GET", PREFIX + "/{id}/completeness", this::handleGetCompleteness)
+            .add("POST", PREFIX, (exchange, parameters) -> handleCreate(exchange))
+            .add("PATCH", PREFIX + "/{id}", this::handleUpdate)
+            .add("DELETE", PREFIX + "/{id}", this::handleDelete);
     }
 
     @Override
     public void handle(HttpExchange exchange) throws IOException {
-        String method = exchange.getRequestMethod();
-        String path = exchange.getRequestURI().getPath();
-
-        logger.info("Route called: {} {}", method, path);
-        switch (method) {
-            case "GET" -> handleGet(exchange);
-            case "POST" -> handleCreate(exchange);
-            case "PATCH" -> handleUpdate(exchange);
-            case "DELETE" -> handleDelete(exchange);
-            default -> {
-               exchange.sendResponseHeaders(405, -1);
-            }
-        }
+        logger.info("Route called: {} {}", exchange.getRequestMethod(), exchange.getRequestURI().getPath());
+        router.handle(exchange);
     }
 
     /**
@@ -71,12 +80,13 @@ public class CollectionHandler implements HttpHandler {
      * Validates that the requesting user owns the collection through the group hierarchy.
      *
      * @param exchange the HTTP exchange containing request and response information
+     * @param parameters the path parameters holding the {@code id}
      * @throws IOException if an I/O error occurs during request handling
      */
-    private void handleGet(HttpExchange exchange) throws IOException {
+    private void handleGet(HttpExchange exchange, PathParameters parameters) throws IOException {
         logger.info("handleGet called");
         String userId = (String) exchange.getAttribute("userId");
-        String collectionId = exchange.getRequestURI().getPath().substring(PREFIX.length() + 1);
+        String collectionId = parameters.get("id");
 
         try {
             var collection = this.collectionStorageService.getById(collectionId);
@@ -102,6 +112,103 @@ public class CollectionHandler implements HttpHandler {
         }
     }
 
+    /**
+     * Handles GET requests to /api/collections/{id}/stats.
+     * Responds with coin counts and face values of the collection broken down by country,
+     * value, year and mint. The counts are aggregated in the database, the coins are not loaded.
+     * Ownership is resolved from the {@link OwnershipIndex}; only on an index miss the
+     * collection is loaded to find its group.
+     *
+     * @param exchange the HTTP exchange containing request and response information
+     * @param parameters the path parameters holding the {@code id}
+     * @throws IOException if an I/O error occurs during request handling
+     */
+    private void handleGetStatistics(HttpExchange exchange, PathParameters parameters) throws IOException {
+        logger.info("handleGetStatistics called");
+        String userId = (String) exchange.getAttribute("userId");
+        String collectionId = parameters.get("id");
+
+        try {
+            if(handleIfNotOwnerViaGroup(exchange, resolveGroupId(collectionId), userId)) return;
+
+            var response = StatisticsResponse.fromDomain(this.collectionStorageService.getStatistics(collectionId));
+            String responseJson = mapper.writeValueAsString(response);
+
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, responseJson.getBytes().length);
+            exchange.getResponseBody().write(responseJson.getBytes());
+            exchange.close();
+
+        } catch (EuroCoinCollectionNotFoundException | EuroCoinCollectionGroupNotFoundException e) {
+            exchange.sendResponseHeaders(404, 0);
+            exchange.getResponseBody().write("{\"error\":\"Resource not found\"}".getBytes());
+            exchange.close();
+        } catch (JacksonException | EuroCoinCollectionGetByIdException | EuroCoinCollectionCoinsLoadException | EuroCoinCollectionGroupGetByIdException | EuroCoinStatisticsException e) {
+            exchange.sendResponseHeaders(500, 0);
+            exchange.getResponseBody().write("{\"error\":\"Internal server error\"}".getBytes());
+            exchange.close();
+        }
+    }
+
+    /**
+     * Handles GET requests to /api/collections/{id}/completeness.
+     * Responds with the share of catalog coins owned by the collection, the per-country
+     * counts and the list of missing catalog coins.
+     *
+     * @param exchange the HTTP exchange containing request and response information
+     * @param parameters the path parameters holding the {@code id}
+     * @throws IOException if an I/O error occurs during request handling
+     */
+    private void handleGetCompleteness(HttpExchange exchange, PathParameters parameters) throws IOException {
+        logger.info("handleGetCompleteness called");
+        String userId = (String) exchange.getAttribute("userId");
+        String collectionId = parameters.get("id");
+
+        try {
+            if(handleIfNotOwnerViaGroup(exchange, resolveGroupId(collectionId), userId)) return;
+
+            var response = CompletenessResponse.fromDomain(this.catalogService.getCompletenessOfCollection(collectionId));
+            String responseJson = mapper.writeValueAsString(response);
+
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, responseJson.getBytes().length);
+            exchange.getResponseBody().write(responseJson.getBytes());
+            exchange.close();
+
+        } catch (EuroCoinCollectionNotFoundException | EuroCoinCollectionGroupNotFoundException e) {
+            exchange.sendResponseHeaders(404, 0);
+            exchange.getResponseBody().write("{\"error\":\"Resource not found\"}".getBytes());
+            exchange.close();
+        } catch (JacksonException | EuroCoinCollectionGetByIdException | EuroCoinCollectionCoinsLoadException | EuroCoinCollectionGroupGetByIdException | EuroCoinCompletenessException e) {
+            exchange.sendResponseHeaders(500, 0);
+            exchange.getResponseBody().write("{\"error\":\"Internal server error\"}".getBytes());
+            exchange.close();
+        }
+    }
+
+    /**
+     * Resolves the group of a collection from the {@link OwnershipIndex}; only on an index
+     * miss the collection is loaded and the index is filled with the result.
+     *
+     * @param collectionId the ID of the collection
+     * @return the ID of the collection's group
+     * @throws EuroCoinCollectionNotFoundException if the collection is not found
+     * @throws EuroCoinCollectionGetByIdException if retrieving the collection fails
+     * @throws EuroCoinCollectionCoinsLoadException if loading the collection's coins fails
+     */
+    private String resolveGroupId(String collectionId) throws
+        EuroCoinCollectionNotFoundException,
+        EuroCoinCollectionGetByIdException,
+        EuroCoinCollectionCoinsLoadException
+    {
+        String groupId = this.ownershipIndex.getGroupIdOfCollection(collectionId).orElse(null);
+        if (groupId == null) {
+            groupId = this.collectionStorageService.getById(collectionId).getGroupId();
+            this.ownershipIndex.putCollection(collectionId, groupId);
+        }
+        return groupId;
+    }
+
     /**
      * Handles POST requests to create a new collection.
      * Validates ownership of the target group before creation.
@@ -154,12 +261,13 @@ public class CollectionHandler implements HttpHandler {
      * Validates ownership of both the source and target groups if the collection is moved.
      *
      * @param exchange the HTTP exchange containing request and response information
+     * @param parameters the path parameters holding the {@code id}
      * @throws IOException if an I/O error occurs during request handling
      */
-    private void handleUpdate(HttpExchange exchange) throws IOException {
+    private void handleUpdate(HttpExchange exchange, PathParameters parameters) throws IOException {
         logger.info("handleUpdate called");
         String userId = (String) exchange.getAttribute("userId");
-        String collectionId = exchange.getRequestURI().getPath().substring(PREFIX.length() + 1);
+        String collectionId = parameters.get("id");
         String body = new String(exchange.getRequestBody().readAllBytes());
 
         CreateCollectionRequest request;
@@ -210,12 +318,13 @@ public class CollectionHandler implements HttpHandler {
      * Validates ownership of the collection through the group hierarchy.
      *
      * @param exchange the HTTP exchange containing request and response information
+     * @param parameters the path parameters holding the {@code id}
      * @throws IOException if an I/O error occurs during request handling
      */
-    private void handleDelete(HttpExchange exchange) throws IOException {
+    private void handleDelete(HttpExchange exchange, PathParameters parameters) throws IOException {
         logger.info("handleDelete called");
         String userId = (String) exchange.getAttribute("userId");
-        String collectionId = exchange.getRequestURI().getPath().substring(PREFIX.length() + 1);
+        String collectionId = parameters.get("id");
 
         try {
             var collectionToDelete = this.collectionStorageService.getById(collectionId);
@@ -239,6 +348,8 @@ public class CollectionHandler implements HttpHandler {
 
     /**
      * Validates that the specified user owns the group.
+     * The owner is resolved from the {@link OwnershipIndex}; only on an index miss the
+     * group is loaded from storage and the index is filled with the result.
      * Sends a 404 response and closes the exchange if the user is not the owner.
      *
      * @param exchange the HTTP exchange for sending error responses
@@ -258,8 +369,12 @@ public class CollectionHandler implements HttpHandler {
         EuroCoinCollectionGroupGetByIdException, 
         EuroCoinCollectionGroupNotFoundException 
     {
-        var group = this.groupStorageService.getById(groupId);
-        if (!group.getOwnerId().equals(userId)) {
+        String ownerId = this.ownershipIndex.getOwnerIdOfGroup(groupId).orElse(null);
+        if (ownerId == null) {
+            ownerId = this.groupStorageService.getById(groupId).getOwnerId();
+            this.ownershipIndex.putGroup(groupId, ownerId);
+        }
+        if (!ownerId.equals(userId)) {
             exchange.sendResponseHeaders(404, 0);
             exchange.getResponseBody().write("{\"error\":\"Resource not found\"}".getBytes());
             exchange.close();
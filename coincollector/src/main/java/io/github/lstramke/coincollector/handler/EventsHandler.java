@@ -0,0 +1,123 @@
+package io.github.lstramke.coincollector.handler;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import io.github.lstramke.coincollector.model.ChangeEvent;
+import io.github.lstramke.coincollector.model.DTOs.Responses.ChangeEventResponse;
+import io.github.lstramke.coincollector.services.ChangeEventBus;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Handler for the change feed at {@code GET /api/events}.
+ * <p>
+ * Streams the changes to the groups, collections and coins of the requesting user as
+ * Server-Sent Events: one {@code change} event per {@link ChangeEvent}, a comment line as
+ * keep-alive while nothing changes and a final {@code overflow} event if the client could not
+ * keep up and was dropped by the {@link ChangeEventBus}; clients should reload after it.
+ * Streams are written on the given executor, so they do not occupy the server's dispatcher.
+ */
+public class EventsHandler implements HttpHandler {
+
+    private final ChangeEventBus changeEventBus;
+    private final ObjectMapper mapper;
+    private final Executor streamExecutor;
+    private final long keepAliveSeconds;
+    private final Router router;
+    private final static Logger logger = LoggerFactory.getLogger(EventsHandler.class);
+    private final static String PREFIX = "/api/events";
+    private final static int RETRY_MILLIS = 3000;
+
+    /**
+     * Constructs a new EventsHandler with required dependencies.
+     *
+     * @param changeEventBus the bus to subscribe to
+     * @param mapper the ObjectMapper for JSON serialization
+     * @param streamExecutor the executor writing the streams, one long-running task per client
+     * @param keepAliveSeconds seconds without events after which a keep-alive is sent
+     */
+    public EventsHandler(ChangeEventBus changeEventBus, ObjectMapper mapper, Executor streamExecutor, long keepAliveSeconds) {
+        this.changeEventBus = changeEventBus;
+        this.mapper = mapper;
+        this.streamExecutor = streamExecutor;
+        this.keepAliveSeconds = keepAliveSeconds;
+        this.router = new Router()
+            .add("GET", PREFIX, (exchange, parameters) -> handleSubscribe(exchange));
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        logger.info("Route called: {} {}", exchange.getRequestMethod(), exchange.getRequestURI().getPath());
+        router.handle(exchange);
+    }
+
+    /**
+     * Handles GET requests by opening a subscription for the authenticated user and
+     * handing the response stream over to the stream executor.
+     *
+     * @param exchange the HTTP exchange containing request and response information
+     * @throws IOException if an I/O error occurs during request handling
+     */
+    private void handleSubscribe(HttpExchange exchange) throws IOException {
+        String userId = (String) exchange.getAttribute("userId");
+        ChangeEventBus.Subscription subscription = changeEventBus.subscribe(userId);
+        try {
+            exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream body = exchange.getResponseBody();
+            body.write(("retry: " + RETRY_MILLIS + "\n\n").getBytes(StandardCharsets.UTF_8));
+            body.flush();
+            streamExecutor.execute(() -> stream(exchange, subscription));
+        } catch (IOException | RuntimeException e) {
+            subscription.close();
+            exchange.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the events of the subscription until it is closed or the client goes away.
+     *
+     * @param exchange the HTTP exchange with the already started response
+     * @param subscription the subscription to read from
+     */
+    private void stream(HttpExchange exchange, ChangeEventBus.Subscription subscription) {
+        try (subscription) {
+            OutputStream body = exchange.getResponseBody();
+            while (true) {
+                ChangeEvent event = subscription.poll(keepAliveSeconds, TimeUnit.SECONDS);
+                if (event != null) {
+                    String json = mapper.writeValueAsString(ChangeEventResponse.fromDomain(event));
+                    body.write(("event: change\ndata: " + json + "\n\n").getBytes(StandardCharsets.UTF_8));
+                } else if (subscription.isOverflowed()) {
+                    body.write("event: overflow\ndata: {}\n\n".getBytes(StandardCharsets.UTF_8));
+                    break;
+                } else if (subscription.isClosed()) {
+                    break;
+                } else {
+                    body.write(": keep-alive\n\n".getBytes(StandardCharsets.UTF_8));
+                }
+                body.flush();
+            }
+        } catch (IOException e) {
+            logger.debug("Event stream closed by client: {}", e.getMessage());
+        } catch (JacksonException e) {
+            logger.error("Failed to serialize change event: {}", e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+}
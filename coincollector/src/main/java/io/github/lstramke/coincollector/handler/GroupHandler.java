@@ -1,7 +1,6 @@
 package io.github.lstramke.coincollector.handler;
 
 import java.io.IOException;
-import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,12 +14,18 @@ import io.github.lstramke.coincollector.exceptions.euroCoinCollectionGroupExcept
 import io.github.lstramke.coincollector.exceptions.euroCoinCollectionGroupException.EuroCoinCollectionGroupNotFoundException;
 import io.github.lstramke.coincollector.exceptions.euroCoinCollectionGroupException.EuroCoinCollectionGroupSaveException;
 import io.github.lstramke.coincollector.exceptions.euroCoinCollectionGroupException.EuroCoinCollectionGroupUpdateException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinCompletenessException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinStatisticsException;
 import io.github.lstramke.coincollector.model.EuroCoinCollectionGroup;
 import io.github.lstramke.coincollector.model.DTOs.Requests.CreateGroupRequest;
 import io.github.lstramke.coincollector.model.DTOs.Requests.UpdateGroupRequest;
+import io.github.lstramke.coincollector.model.DTOs.Responses.CompletenessResponse;
 import io.github.lstramke.coincollector.model.DTOs.Responses.GroupMetadataResponse;
 import io.github.lstramke.coincollector.model.DTOs.Responses.GroupsResponse;
+import io.github.lstramke.coincollector.model.DTOs.Responses.StatisticsResponse;
+import io.github.lstramke.coincollector.services.CatalogService;
 import io.github.lstramke.coincollector.services.EuroCoinCollectionGroupStorageService;
+import io.github.lstramke.coincollector.services.OwnershipIndex;
 import tools.jackson.core.JacksonException;
 import tools.jackson.databind.ObjectMapper;
 
@@ -32,7 +37,10 @@ import tools.jackson.databind.ObjectMapper;
 public class GroupHandler implements HttpHandler {
 
     private final EuroCoinCollectionGroupStorageService groupStorageService;
+    private final OwnershipIndex ownershipIndex;
+    private final CatalogService catalogService;
     private final ObjectMapper mapper;
+    private final Router router;
     private final static Logger logger = LoggerFactory.getLogger(GroupHandler.class);
     private final static String PREFIX = "/api/groups";
 
@@ -40,37 +48,29 @@ public class GroupHandler implements HttpHandler {
      * Constructs a new GroupHandler with required dependencies.
      *
      * @param groupStorageService the service for collection group storage operations
+     * @param ownershipIndex the in-memory index used for ownership checks of statistics and completeness requests
+     * @param catalogService the service measuring groups against the coin catalog
      * @param mapper the ObjectMapper for JSON serialization/deserialization
      */
-    public GroupHandler(EuroCoinCollectionGroupStorageService groupStorageService, ObjectMapper mapper) {
+    public GroupHandler(EuroCoinCollectionGroupStorageService groupStorageService, OwnershipIndex ownershipIndex, CatalogService catalogService, ObjectMapper mapper) {
         this.groupStorageService = groupStorageService;
+        this.ownershipIndex = ownershipIndex;
+        this.catalogService = catalogService;
         this.mapper = mapper;
+        this.router = new Router()
+            .add("GET", PREFIX, (exchange, parameters) -> handleGetAll(exchange))
+            .add("GET", PREFIX + "/{id:uuid}", this::handleGetWithId)
+            .add("GET", PREFIX + "/{id:uuid}/stats", this::handleGetStatistics)
+            .add("GET", PREFIX + "/{id:uuid}/completeness", this::handleGetCompleteness)
+            .add("POST", PREFIX, (exchange, parameters) -> handleCreate(exchange))
+            .add("PATCH", PREFIX + "/{id:uuid}", this::handleUpdate)
+            .add("DELETE", PREFIX + "/{id:uuid}", this::handleDelete);
     }
 
     @Override
     public void handle(HttpExchange exchange) throws IOException {
-        String method = exchange.getRequestMethod();
-        String path = exchange.getRequestURI().getPath();
-
-        logger.info("Route called: {} {}", method, path);
-        switch (method) {
-            case "GET" -> {
-                if (path.equals(PREFIX)) {
-                    handleGetAll(exchange);
-                } else if(isGroupIdPath(path)) {
-                    handleGetWithId(exchange);
-                } else {
-                    exchange.sendResponseHeaders(405, -1);
-                }
-            }
-            case "POST" -> handleCreate(exchange);
-            case "PATCH" -> handleUpdate(exchange);
-            case "DELETE" -> handleDelete(exchange);
-            default -> {
-               exchange.sendResponseHeaders(405, -1);
-               exchange.close();
-            }
-        }
+        logger.info("Route called: {} {}", exchange.getRequestMethod(), exchange.getRequestURI().getPath());
+        router.handle(exchange);
     }
 
     /**
@@ -157,12 +157,13 @@ public class GroupHandler implements HttpHandler {
      * Validates that the requesting user owns the group.
      *
      * @param exchange the HTTP exchange containing request and response information
+     * @param parameters the path parameters holding the {@code id}
      * @throws IOException if an I/O error occurs during request handling
      */
-    private void handleGetWithId(HttpExchange exchange) throws IOException {
+    private void handleGetWithId(HttpExchange exchange, PathParameters parameters) throws IOException {
         logger.info("handleGetWithId called");
         String userId = (String) exchange.getAttribute("userId");
-        String groupId = exchange.getRequestURI().getPath().substring(PREFIX.length() + 1);
+        String groupId = parameters.get("id");
 
         try {
             var group = this.groupStorageService.getById(groupId);
@@ -188,17 +189,91 @@ public class GroupHandler implements HttpHandler {
         }
     }
 
+    /**
+     * Handles GET requests to /api/groups/{id}/stats.
+     * Responds with coin counts and face values of all collections in the group broken down
+     * by country, value, year and mint. The counts are aggregated in the database, neither
+     * collections nor coins are loaded. Ownership is resolved from the {@link OwnershipIndex};
+     * only on an index miss the group is loaded from storage.
+     *
+     * @param exchange the HTTP exchange containing request and response information
+     * @param parameters the path parameters holding the {@code id}
+     * @throws IOException if an I/O error occurs during request handling
+     */
+    private void handleGetStatistics(HttpExchange exchange, PathParameters parameters) throws IOException {
+        logger.info("handleGetStatistics called");
+        String userId = (String) exchange.getAttribute("userId");
+        String groupId = parameters.get("id");
+
+        try {
+            if (handleIfNotOwnerViaIndex(exchange, groupId, userId)) return;
+
+            var response = StatisticsResponse.fromDomain(this.groupStorageService.getStatistics(groupId));
+            String responseJson = mapper.writeValueAsString(response);
+
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, responseJson.getBytes().length);
+            exchange.getResponseBody().write(responseJson.getBytes());
+            exchange.close();
+        } catch (EuroCoinCollectionGroupNotFoundException e) {
+            exchange.sendResponseHeaders(404, 0);
+            exchange.getResponseBody().write("{\"error\":\"Resource not found\"}".getBytes());
+            exchange.close();
+        } catch (JacksonException | EuroCoinCollectionGroupGetByIdException | EuroCoinStatisticsException e) {
+            exchange.sendResponseHeaders(500, 0);
+            exchange.getResponseBody().write("{\"error\":\"Internal server error\"}".getBytes());
+            exchange.close();
+        }
+    }
+
+    /**
+     * Handles GET requests to /api/groups/{id}/completeness.
+     * Responds with the share of catalog coins owned by any collection of the group, the
+     * per-country counts and the list of missing catalog coins. Ownership is resolved from
+     * the {@link OwnershipIndex}; only on an index miss the group is loaded from storage.
+     *
+     * @param exchange the HTTP exchange containing request and response information
+     * @param parameters the path parameters holding the {@code id}
+     * @throws IOException if an I/O error occurs during request handling
+     */
+    private void handleGetCompleteness(HttpExchange exchange, PathParameters parameters) throws IOException {
+        logger.info("handleGetCompleteness called");
+        String userId = (String) exchange.getAttribute("userId");
+        String groupId = parameters.get("id");
+
+        try {
+            if (handleIfNotOwnerViaIndex(exchange, groupId, userId)) return;
+
+            var response = CompletenessResponse.fromDomain(this.catalogService.getCompletenessOfGroup(groupId));
+            String responseJson = mapper.writeValueAsString(response);
+
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, responseJson.getBytes().length);
+            exchange.getResponseBody().write(responseJson.getBytes());
+            exchange.close();
+        } catch (EuroCoinCollectionGroupNotFoundException e) {
+            exchange.sendResponseHeaders(404, 0);
+            exchange.getResponseBody().write("{\"error\":\"Resource not found\"}".getBytes());
+            exchange.close();
+        } catch (JacksonException | EuroCoinCollectionGroupGetByIdException | EuroCoinCompletenessException e) {
+            exchange.sendResponseHeaders(500, 0);
+            exchange.getResponseBody().write("{\"error\":\"Internal server error\"}".getBytes());
+            exchange.close();
+        }
+    }
+
     /**
      * Handles PATCH requests to update an existing group's metadata.
      * Validates that the requesting user owns the group before updating.
      *
      * @param exchange the HTTP exchange containing request and response information
+     * @param parameters the path parameters holding the {@code id}
      * @throws IOException if an I/O error occurs during request handling
      */
-    private void handleUpdate(HttpExchange exchange) throws IOException {
+    private void handleUpdate(HttpExchange exchange, PathParameters parameters) throws IOException {
         logger.info("handleUpdate called");
         String userId = (String) exchange.getAttribute("userId");
-        String groupId = exchange.getRequestURI().getPath().substring(PREFIX.length() + 1);
+        String groupId = parameters.get("id");
         String body = new String(exchange.getRequestBody().readAllBytes());
 
         UpdateGroupRequest request;
@@ -243,12 +318,13 @@ public class GroupHandler implements HttpHandler {
      * Validates that the requesting user owns the group before deletion.
      *
      * @param exchange the HTTP exchange containing request and response information
+     * @param parameters the path parameters holding the {@code id}
      * @throws IOException if an I/O error occurs during request handling
      */
-    private void handleDelete(HttpExchange exchange) throws IOException {
+    private void handleDelete(HttpExchange exchange, PathParameters parameters) throws IOException {
         logger.info("handleDelete called");
         String userId = (String) exchange.getAttribute("userId");
-        String groupId = exchange.getRequestURI().getPath().substring(PREFIX.length() + 1);
+        String groupId = parameters.get("id");
 
         try {
             var groupToDelete = this.groupStorageService.getById(groupId);
@@ -269,21 +345,38 @@ public class GroupHandler implements HttpHandler {
     }
 
     /**
-     * Checks if the given path represents a valid group ID path.
-     * Validates that the path follows the pattern /api/groups/{uuid}.
+     * Validates that the specified user owns the group without loading it if possible.
+     * The owner is resolved from the {@link OwnershipIndex}; only on an index miss the
+     * group is loaded from storage and the index is filled with the result.
+     * Sends a 404 response and closes the exchange if the user is not the owner.
      *
-     * @param path the request path to validate
-     * @return true if the path contains a valid UUID after the prefix, false otherwise
+     * @param exchange the HTTP exchange for sending error responses
+     * @param groupId the ID of the group to check ownership for
+     * @param userId the ID of the user to validate
+     * @return true if the user is not the owner (response sent and exchange closed), false if the user is the owner
+     * @throws IOException if an I/O error occurs
+     * @throws EuroCoinCollectionGroupGetByIdException if retrieving the group fails
+     * @throws EuroCoinCollectionGroupNotFoundException if the group is not found
      */
-    private boolean isGroupIdPath(String path) {
-        if (path.startsWith(PREFIX + "/")) {
-            String id = path.substring(PREFIX.length() + 1);
-            try {
-                UUID.fromString(id);
-                return true;
-            } catch (IllegalArgumentException e) {
-                return false;
-            }
+    private boolean handleIfNotOwnerViaIndex(
+        HttpExchange exchange,
+        String groupId,
+        String userId
+    ) throws
+        IOException,
+        EuroCoinCollectionGroupGetByIdException,
+        EuroCoinCollectionGroupNotFoundException
+    {
+        String ownerId = this.ownershipIndex.getOwnerIdOfGroup(groupId).orElse(null);
+        if (ownerId == null) {
+            ownerId = this.groupStorageService.getById(groupId).getOwnerId();
+            this.ownershipIndex.putGroup(groupId, ownerId);
+        }
+        if (!ownerId.equals(userId)) {
+            exchange.sendResponseHeaders(404, 0);
+            exchange.getResponseBody().write("{\"error\":\"Resource not found\"}".getBytes());
+            exchange.close();
+            return true;
         }
         return false;
     }
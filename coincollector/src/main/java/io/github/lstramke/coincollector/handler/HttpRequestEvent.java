@@ -0,0 +1,34 @@
+package io.github.lstramke.coincollector.handler;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event covering the handling of one HTTP request.
+ * The event duration spans the whole filter chain including the handler.
+ */
+@Name("io.github.lstramke.coincollector.HttpRequest")
+@Label("HTTP Request")
+@Category({"CoinCollector", "HTTP"})
+@Description("Handling of one HTTP request by a route handler")
+@StackTrace(false)
+public class HttpRequestEvent extends Event {
+
+    @Label("Route")
+    @Description("Context path the request was dispatched to")
+    public String route;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Path")
+    @Description("Full request path including entity ids")
+    public String path;
+
+    @Label("Status")
+    public int status;
+}
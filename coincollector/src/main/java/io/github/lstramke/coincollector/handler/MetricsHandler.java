@@ -0,0 +1,95 @@
+package io.github.lstramke.coincollector.handler;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import io.github.lstramke.coincollector.services.MaintenanceMetrics;
+import io.github.lstramke.coincollector.services.RequestMetrics;
+import io.github.lstramke.coincollector.services.SqlMetrics;
+
+/**
+ * Handler for the metrics HTTP endpoint.
+ * Exposes the recorded request, SQL statement and database maintenance metrics in the Prometheus text exposition format
+ * so they can be scraped by monitoring tools.
+ * <p>
+ * The metrics contain SQL text and class names and are served without a session, so only
+ * requests from the loopback interface and the configured addresses are answered; all other
+ * clients get 403.
+ */
+public class MetricsHandler implements HttpHandler {
+
+    private final RequestMetrics requestMetrics;
+    private final SqlMetrics sqlMetrics;
+    private final MaintenanceMetrics maintenanceMetrics;
+    private final Set<InetAddress> allowedAddresses;
+    private final static Logger logger = LoggerFactory.getLogger(MetricsHandler.class);
+
+    /**
+     * Constructs a new MetricsHandler with required dependencies.
+     *
+     * @param requestMetrics the registry holding the recorded request metrics
+     * @param sqlMetrics the registry holding the recorded SQL statement metrics
+     * @param maintenanceMetrics the registry holding the recorded database maintenance runs
+     * @param allowedAddresses remote addresses allowed to read the metrics besides loopback
+     */
+    public MetricsHandler(RequestMetrics requestMetrics, SqlMetrics sqlMetrics, MaintenanceMetrics maintenanceMetrics, Set<InetAddress> allowedAddresses) {
+        this.requestMetrics = requestMetrics;
+        this.sqlMetrics = sqlMetrics;
+        this.maintenanceMetrics = maintenanceMetrics;
+        this.allowedAddresses = allowedAddresses;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+
+        logger.debug("Route called: {} {}", method, path);
+
+        if (!isAllowed(exchange.getRemoteAddress())) {
+            logger.warn("Metrics access denied: RemoteAddress={}", exchange.getRemoteAddress());
+            exchange.sendResponseHeaders(403, -1);
+            exchange.close();
+            return;
+        }
+
+        switch (method) {
+            case "GET" -> handleGet(exchange);
+            default -> {
+                exchange.sendResponseHeaders(405, -1);
+                exchange.close();
+            }
+        }
+    }
+
+    private boolean isAllowed(InetSocketAddress remoteAddress) {
+        if (remoteAddress == null || remoteAddress.getAddress() == null) {
+            return false;
+        }
+        InetAddress address = remoteAddress.getAddress();
+        return address.isLoopbackAddress() || allowedAddresses.contains(address);
+    }
+
+    /**
+     * Handles GET requests by writing the current metrics snapshot.
+     *
+     * @param exchange the HTTP exchange containing request and response information
+     * @throws IOException if an I/O error occurs during request handling
+     */
+    private void handleGet(HttpExchange exchange) throws IOException {
+        byte[] response = (requestMetrics.toPrometheusText() + sqlMetrics.toPrometheusText() + maintenanceMetrics.toPrometheusText()).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+        exchange.sendResponseHeaders(200, response.length);
+        exchange.getResponseBody().write(response);
+        exchange.close();
+    }
+}
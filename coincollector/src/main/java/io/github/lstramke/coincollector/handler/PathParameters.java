@@ -0,0 +1,37 @@
+package io.github.lstramke.coincollector.handler;
+
+/**
+ * Values of the path parameters of a route matched by the {@link Router}.
+ */
+public final class PathParameters {
+
+    private final String[] names;
+    private final String[] values;
+
+    /**
+     * @param names the parameter names in template order
+     * @param path the request path
+     * @param bounds start and end index of each parameter value in the path
+     */
+    PathParameters(String[] names, String path, int[] bounds) {
+        this.names = names;
+        this.values = new String[names.length];
+        for (int i = 0; i < names.length; i++) {
+            values[i] = path.substring(bounds[2 * i], bounds[2 * i + 1]);
+        }
+    }
+
+    /**
+     * @param name the parameter name as declared in the route template
+     * @return the value of the parameter
+     * @throws IllegalArgumentException if the route has no such parameter
+     */
+    public String get(String name) throws IllegalArgumentException {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return values[i];
+            }
+        }
+        throw new IllegalArgumentException("Unknown path parameter: " + name);
+    }
+}
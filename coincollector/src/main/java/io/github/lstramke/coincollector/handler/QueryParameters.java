@@ -0,0 +1,41 @@
+package io.github.lstramke.coincollector.handler;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parses the query string of a request URI into single-valued parameters.
+ * Names and values are URL-decoded; for repeated parameters the first value wins
+ * and parameters without {@code =} get an empty value.
+ */
+final class QueryParameters {
+
+    private QueryParameters() {}
+
+    /**
+     * @param rawQuery the raw (still encoded) query string, may be {@code null}
+     * @return the decoded parameters, empty if there is no query
+     * @throws IllegalArgumentException if the query contains invalid escape sequences
+     */
+    static Map<String, String> parse(String rawQuery) throws IllegalArgumentException {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int separator = pair.indexOf('=');
+            String name = separator >= 0 ? pair.substring(0, separator) : pair;
+            String value = separator >= 0 ? pair.substring(separator + 1) : "";
+            parameters.putIfAbsent(
+                URLDecoder.decode(name, StandardCharsets.UTF_8),
+                URLDecoder.decode(value, StandardCharsets.UTF_8)
+            );
+        }
+        return parameters;
+    }
+}
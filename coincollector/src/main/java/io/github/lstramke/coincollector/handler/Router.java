@@ -0,0 +1,259 @@
+package io.github.lstramke.coincollector.handler;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+/**
+ * Dispatches requests to routes declared as method and path template, e.g.
+ * {@code GET /api/groups/{id:uuid}/stats}.
+ * <p>
+ * The templates are compiled into a trie with one node per path segment and a method table
+ * per node. A lookup walks the request path segment by segment without splitting it, literal
+ * segments take precedence over parameters. Parameters are written as {@code {name}} and match
+ * any non-empty segment, or as {@code {name:uuid}} and only match canonical UUIDs. Their values
+ * are extracted once into {@link PathParameters} when a route matches.
+ * <p>
+ * Requests whose path matches no route get a 404 response, requests whose path matches only
+ * routes of other methods get a 405 response with an {@code Allow} header. The template of a
+ * matched route is stored in the exchange attribute {@link #ROUTE_ATTRIBUTE}, e.g. for request
+ * metrics.
+ */
+public final class Router implements HttpHandler {
+
+    /**
+     * Exchange attribute holding the path template of the matched route.
+     */
+    public static final String ROUTE_ATTRIBUTE = "route";
+
+    /**
+     * Handler method of a route.
+     */
+    @FunctionalInterface
+    public interface Route {
+        /**
+         * @param exchange the HTTP exchange of the request
+         * @param parameters the path parameters of the matched template
+         * @throws IOException if an I/O error occurs during request handling
+         */
+        void handle(HttpExchange exchange, PathParameters parameters) throws IOException;
+    }
+
+    /**
+     * A route together with its path template and the path parameters of the request it matched.
+     */
+    public record Match(Route route, PathParameters parameters, String template) {}
+
+    private enum ParameterType {
+        STRING, UUID
+    }
+
+    private static final class Node {
+        private final String segment;
+        private Node[] literals = new Node[0];
+        private Node parameter;
+        private String parameterName;
+        private ParameterType parameterType;
+        private final Map<String, Route> routes = new HashMap<>();
+        private String[] parameterNames;
+        private String template;
+
+        private Node(String segment) {
+            this.segment = segment;
+        }
+    }
+
+    private final Node root = new Node("");
+    private int maxParameters;
+
+    /**
+     * Adds a route.
+     *
+     * @param method the HTTP method, e.g. {@code GET}
+     * @param template the path template starting with {@code /}
+     * @param route the handler method
+     * @return this router
+     * @throws IllegalArgumentException if the template is malformed, uses a different parameter
+     *         than an existing route at the same position or the route is already declared
+     */
+    public Router add(String method, String template, Route route) throws IllegalArgumentException {
+        if (method == null || route == null || template == null || !template.startsWith("/")) {
+            throw new IllegalArgumentException("Invalid route: " + method + " " + template);
+        }
+        Node node = root;
+        List<String> parameterNames = new ArrayList<>();
+        for (String segment : template.substring(1).split("/", -1)) {
+            if (segment.startsWith("{") && segment.endsWith("}")) {
+                node = parameterChild(node, segment.substring(1, segment.length() - 1), template);
+                parameterNames.add(node.parameterName);
+            } else if (segment.indexOf('{') >= 0 || segment.indexOf('}') >= 0) {
+                throw new IllegalArgumentException("Parameters must span a whole segment: " + template);
+            } else {
+                node = literalChild(node, segment);
+            }
+        }
+        if (node.routes.putIfAbsent(method, route) != null) {
+            throw new IllegalArgumentException("Route already declared: " + method + " " + template);
+        }
+        node.parameterNames = parameterNames.toArray(String[]::new);
+        node.template = template;
+        maxParameters = Math.max(maxParameters, parameterNames.size());
+        return this;
+    }
+
+    private static Node literalChild(Node node, String segment) {
+        for (Node child : node.literals) {
+            if (child.segment.equals(segment)) {
+                return child;
+            }
+        }
+        Node child = new Node(segment);
+        node.literals = Arrays.copyOf(node.literals, node.literals.length + 1);
+        node.literals[node.literals.length - 1] = child;
+        return child;
+    }
+
+    private static Node parameterChild(Node node, String declaration, String template) throws IllegalArgumentException {
+        int separator = declaration.indexOf(':');
+        String name = separator >= 0 ? declaration.substring(0, separator) : declaration;
+        ParameterType type = switch (separator >= 0 ? declaration.substring(separator + 1) : "") {
+            case "" -> ParameterType.STRING;
+            case "uuid" -> ParameterType.UUID;
+            default -> throw new IllegalArgumentException("Unknown parameter type: " + template);
+        };
+        if (name.isEmpty()) {
+            throw new IllegalArgumentException("Parameter without name: " + template);
+        }
+        if (node.parameter == null) {
+            Node child = new Node(name);
+            child.parameterName = name;
+            child.parameterType = type;
+            node.parameter = child;
+        } else if (!node.parameter.parameterName.equals(name) || node.parameter.parameterType != type) {
+            throw new IllegalArgumentException("Conflicting parameter at the same position: " + template);
+        }
+        return node.parameter;
+    }
+
+    /**
+     * Looks up the route for a request.
+     *
+     * @param method the HTTP method
+     * @param path the decoded request path
+     * @return the matched route with its path parameters, or null if no route matches
+     */
+    public Match match(String method, String path) {
+        if (method == null || path == null || !path.startsWith("/")) {
+            return null;
+        }
+        int[] bounds = new int[2 * maxParameters];
+        Node node = find(root, path, 0, method, bounds, 0);
+        if (node == null) {
+            return null;
+        }
+        return new Match(node.routes.get(method), new PathParameters(node.parameterNames, path, bounds), node.template);
+    }
+
+    /**
+     * @param path the decoded request path
+     * @return the methods of all routes matching the path, empty if there is none
+     */
+    public Set<String> allowedMethods(String path) {
+        Set<String> methods = new TreeSet<>();
+        if (path != null && path.startsWith("/")) {
+            Node node = find(root, path, 0, null, new int[2 * maxParameters], 0);
+            if (node != null) {
+                methods.addAll(node.routes.keySet());
+            }
+        }
+        return methods;
+    }
+
+    /**
+     * Depth-first search for the node of a path.
+     *
+     * @param separator index of the {@code /} in front of the next segment
+     * @param method the method the node needs a route for, or null for any method
+     * @param bounds receives start and end index of each parameter value
+     * @param depth number of parameters matched so far
+     */
+    private static Node find(Node node, String path, int separator, String method, int[] bounds, int depth) {
+        if (separator == path.length()) {
+            boolean accepted = method == null ? !node.routes.isEmpty() : node.routes.containsKey(method);
+            return accepted ? node : null;
+        }
+        int start = separator + 1;
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+        int length = end - start;
+        Node[] literals = node.literals;
+        for (int i = 0; i < literals.length; i++) {
+            Node child = literals[i];
+            if (child.segment.length() == length && path.regionMatches(start, child.segment, 0, length)) {
+                Node found = find(child, path, end, method, bounds, depth);
+                if (found != null) {
+                    return found;
+                }
+            }
+        }
+        Node parameter = node.parameter;
+        if (parameter != null && length > 0 && accepts(parameter.parameterType, path, start, end)) {
+            bounds[2 * depth] = start;
+            bounds[2 * depth + 1] = end;
+            return find(parameter, path, end, method, bounds, depth + 1);
+        }
+        return null;
+    }
+
+    private static boolean accepts(ParameterType type, String path, int start, int end) {
+        if (type == ParameterType.STRING) {
+            return true;
+        }
+        if (end - start != 36) {
+            return false;
+        }
+        for (int i = 0; i < 36; i++) {
+            char c = path.charAt(start + i);
+            boolean valid = i == 8 || i == 13 || i == 18 || i == 23
+                ? c == '-'
+                : (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+
+        Match match = match(method, path);
+        if (match != null) {
+            exchange.setAttribute(ROUTE_ATTRIBUTE, match.template());
+            match.route().handle(exchange, match.parameters());
+            return;
+        }
+
+        Set<String> allowedMethods = allowedMethods(path);
+        if (allowedMethods.isEmpty()) {
+            exchange.sendResponseHeaders(404, 0);
+            exchange.getResponseBody().write("{\"error\":\"Resource not found\"}".getBytes());
+        } else {
+            exchange.getResponseHeaders().set("Allow", String.join(", ", allowedMethods));
+            exchange.sendResponseHeaders(405, -1);
+        }
+        exchange.close();
+    }
+}
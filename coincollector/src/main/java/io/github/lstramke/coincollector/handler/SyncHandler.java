@@ -0,0 +1,102 @@
+package io.github.lstramke.coincollector.handler;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import io.github.lstramke.coincollector.exceptions.syncExceptions.SyncChangesException;
+import io.github.lstramke.coincollector.model.SyncChanges;
+import io.github.lstramke.coincollector.model.DTOs.Responses.SyncResponse;
+import io.github.lstramke.coincollector.services.SyncService;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Handler for the delta sync at {@code GET /api/sync?since=<version>}.
+ * <p>
+ * Returns the groups, collections and coins of the requesting user that were created or
+ * updated after the given version, and tombstones for the deleted ones. Clients store the
+ * returned {@code version} and pass it as {@code since} on their next sync; while
+ * {@code hasMore} is set they continue right away.
+ */
+public class SyncHandler implements HttpHandler {
+
+    private final SyncService syncService;
+    private final ObjectMapper mapper;
+    private final Router router;
+    private final static Logger logger = LoggerFactory.getLogger(SyncHandler.class);
+    private final static String PREFIX = "/api/sync";
+
+    /**
+     * Constructs a new SyncHandler with required dependencies.
+     *
+     * @param syncService the service reading the changes
+     * @param mapper the ObjectMapper for JSON serialization
+     */
+    public SyncHandler(SyncService syncService, ObjectMapper mapper) {
+        this.syncService = syncService;
+        this.mapper = mapper;
+        this.router = new Router()
+            .add("GET", PREFIX, (exchange, parameters) -> handleSync(exchange));
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        logger.info("Route called: {} {}", exchange.getRequestMethod(), exchange.getRequestURI().getPath());
+        router.handle(exchange);
+    }
+
+    /**
+     * Handles GET requests for the changes after the version given as {@code since}
+     * (default 0, i.e. everything).
+     *
+     * @param exchange the HTTP exchange containing request and response information
+     * @throws IOException if an I/O error occurs during request handling
+     */
+    private void handleSync(HttpExchange exchange) throws IOException {
+        String userId = (String) exchange.getAttribute("userId");
+
+        long since;
+        try {
+            Map<String, String> parameters = QueryParameters.parse(exchange.getRequestURI().getRawQuery());
+            since = parseSince(parameters.get("since"));
+        } catch (IllegalArgumentException e) {
+            exchange.sendResponseHeaders(400, 0);
+            exchange.getResponseBody().write("{\"error\":\"Request is not valid\"}".getBytes());
+            exchange.close();
+            return;
+        }
+
+        try {
+            SyncChanges changes = syncService.getChangesSince(userId, since);
+
+            String responseJson = mapper.writeValueAsString(SyncResponse.fromDomain(changes));
+
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, responseJson.getBytes().length);
+            exchange.getResponseBody().write(responseJson.getBytes());
+            exchange.close();
+
+        } catch (SyncChangesException | JacksonException e) {
+            exchange.sendResponseHeaders(500, 0);
+            exchange.getResponseBody().write("{\"error\":\"Internal server error\"}".getBytes());
+            exchange.close();
+        }
+    }
+
+    private static long parseSince(String since) throws IllegalArgumentException {
+        if (since == null) {
+            return 0;
+        }
+        long version = Long.parseLong(since);
+        if (version < 0) {
+            throw new IllegalArgumentException("Version is negative: " + since);
+        }
+        return version;
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.lstramke.coincollector.model;
+
+import io.github.lstramke.coincollector.model.ChangeEvent.Action;
+import io.github.lstramke.coincollector.model.ChangeEvent.Entity;
+
+/**
+ * One write of a batch: creates, updates or deletes a coin, collection or group.
+ * Use the factory methods; only the fields of the respective kind are set.
+ *
+ * @param action kind of the write
+ * @param entity kind of the written entity
+ * @param id id of the entity to update or delete; {@code null} for creates
+ * @param coin the coin to create, or the new state of the updated coin
+ * @param collection the collection to create
+ * @param name the name of the group to create, or the new name of the updated collection or group
+ * @param groupId the new group of the updated collection
+ */
+public record BatchOperation(
+    Action action,
+    Entity entity,
+    String id,
+    EuroCoin coin,
+    EuroCoinCollection collection,
+    String name,
+    String groupId
+) {
+
+    public static BatchOperation createCoin(EuroCoin coin) {
+        return new BatchOperation(Action.CREATED, Entity.COIN, null, coin, null, null, null);
+    }
+
+    public static BatchOperation updateCoin(String coinId, EuroCoin coin) {
+        return new BatchOperation(Action.UPDATED, Entity.COIN, coinId, coin, null, null, null);
+    }
+
+    public static BatchOperation deleteCoin(String coinId) {
+        return new BatchOperation(Action.DELETED, Entity.COIN, coinId, null, null, null, null);
+    }
+
+    public static BatchOperation createCollection(EuroCoinCollection collection) {
+        return new BatchOperation(Action.CREATED, Entity.COLLECTION, null, null, collection, null, null);
+    }
+
+    public static BatchOperation updateCollection(String collectionId, String name, String groupId) {
+        return new BatchOperation(Action.UPDATED, Entity.COLLECTION, collectionId, null, null, name, groupId);
+    }
+
+    public static BatchOperation deleteCollection(String collectionId) {
+        return new BatchOperation(Action.DELETED, Entity.COLLECTION, collectionId, null, null, null, null);
+    }
+
+    public static BatchOperation createGroup(String name) {
+        return new BatchOperation(Action.CREATED, Entity.GROUP, null, null, null, name, null);
+    }
+
+    public static BatchOperation updateGroup(String groupId, String name) {
+        return new BatchOperation(Action.UPDATED, Entity.GROUP, groupId, null, null, name, null);
+    }
+
+    public static BatchOperation deleteGroup(String groupId) {
+        return new BatchOperation(Action.DELETED, Entity.GROUP, groupId, null, null, null, null);
+    }
+}
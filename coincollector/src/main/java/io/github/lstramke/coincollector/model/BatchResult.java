@@ -0,0 +1,21 @@
+package io.github.lstramke.coincollector.model;
+
+import io.github.lstramke.coincollector.model.ChangeEvent.Action;
+import io.github.lstramke.coincollector.model.ChangeEvent.Entity;
+
+/**
+ * Outcome of one committed {@link BatchOperation}.
+ *
+ * @param action kind of the write
+ * @param entity kind of the written entity
+ * @param coin the stored coin of a coin create or update
+ * @param collection the stored collection of a collection create or update
+ * @param group the stored group of a group create or update
+ */
+public record BatchResult(
+    Action action,
+    Entity entity,
+    EuroCoin coin,
+    EuroCoinCollection collection,
+    EuroCoinCollectionGroup group
+) {}
@@ -0,0 +1,86 @@
+package io.github.lstramke.coincollector.model;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Completeness of a set of owned coins measured against the {@link EuroCoinCatalog}.
+ * <p>
+ * All figures are derived from two bitsets over catalog ordinals: the owned coins and the
+ * missing coins (catalog minus owned). Owned coins that are not part of the catalog do not
+ * count towards completeness.
+ */
+public class CatalogCompleteness {
+
+    /**
+     * Catalog and owned entry counts of one country.
+     *
+     * @param catalogCount number of catalog entries
+     * @param ownedCount number of owned catalog entries
+     */
+    public record CountryCompleteness(int catalogCount, int ownedCount) {}
+
+    private final EuroCoinCatalog catalog;
+    private final BitSet owned;
+    private final BitSet missing;
+
+    /**
+     * @param catalog the catalog the ordinals refer to
+     * @param owned ordinals of the owned coins; copied
+     * @throws IllegalArgumentException if an argument is null
+     */
+    public CatalogCompleteness(EuroCoinCatalog catalog, BitSet owned) throws IllegalArgumentException {
+        if (catalog == null || owned == null) {
+            throw new IllegalArgumentException("catalog and owned must not be null");
+        }
+        this.catalog = catalog;
+        this.owned = (BitSet) owned.clone();
+        this.owned.clear(catalog.size(), Math.max(catalog.size(), this.owned.length()));
+        this.missing = catalog.all();
+        this.missing.andNot(this.owned);
+    }
+
+    public EuroCoinCatalog getCatalog() {
+        return catalog;
+    }
+
+    public int getCatalogCount() {
+        return catalog.size();
+    }
+
+    public int getOwnedCount() {
+        return owned.cardinality();
+    }
+
+    /**
+     * @return share of owned catalog entries in percent, 0 for an empty catalog
+     */
+    public double getCompletionPercent() {
+        return catalog.size() == 0 ? 0 : getOwnedCount() * 100.0 / catalog.size();
+    }
+
+    /**
+     * @return a copy of the bitset with the ordinals of the missing catalog entries
+     */
+    public BitSet getMissing() {
+        return (BitSet) missing.clone();
+    }
+
+    /**
+     * @return catalog and owned counts per country that has catalog entries
+     */
+    public Map<CoinCountry, CountryCompleteness> getByCountry() {
+        Map<CoinCountry, CountryCompleteness> byCountry = new EnumMap<>(CoinCountry.class);
+        for (CoinCountry country : CoinCountry.values()) {
+            BitSet mask = catalog.ofCountry(country);
+            int catalogCount = mask.cardinality();
+            if (catalogCount > 0) {
+                mask.and(owned);
+                byCountry.put(country, new CountryCompleteness(catalogCount, mask.cardinality()));
+            }
+        }
+        return Collections.unmodifiableMap(byCountry);
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.lstramke.coincollector.model;
+
+/**
+ * Notification that a group, collection or coin was created, updated or deleted.
+ * Carries only ids, so receivers can patch their state or reload just the changed entity.
+ *
+ * @param entity kind of the changed entity
+ * @param action kind of the change
+ * @param id id of the changed entity
+ * @param parentId id of the collection of a coin or of the group of a collection;
+ *                 {@code null} for groups
+ */
+public record ChangeEvent(Entity entity, Action action, String id, String parentId) {
+
+    /**
+     * Kind of the changed entity.
+     */
+    public enum Entity {
+        GROUP, COLLECTION, COIN
+    }
+
+    /**
+     * Kind of the change. Deleting a group or collection also deletes everything it
+     * contains; no separate events are published for those.
+     */
+    public enum Action {
+        CREATED, UPDATED, DELETED
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.lstramke.coincollector.model;
+
+import io.github.lstramke.coincollector.model.ChangeEvent.Entity;
+
+/**
+ * Latest recorded change of a group, collection or coin in the change log.
+ *
+ * @param version position of the change in the log; versions only grow, a later change of the
+ *                same entity gets a new version
+ * @param entity kind of the changed entity
+ * @param entityId id of the changed entity
+ * @param parentId id of the collection of a coin or of the group of a collection;
+ *                 {@code null} for groups
+ * @param deleted whether the entity was deleted (tombstone)
+ */
+public record ChangeLogEntry(long version, Entity entity, String entityId, String parentId, boolean deleted) {}
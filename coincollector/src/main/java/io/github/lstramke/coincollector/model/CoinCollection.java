@@ -13,6 +13,9 @@ public interface CoinCollection<T extends Coin> {
     void setName(String newName);
     void setGroupId(String newGroupId);
 	String getGroupId();
+    /**
+     * @return the coins as an unmodifiable view; callers must not rely on it being a snapshot
+     */
     List<T> getCoins();
     void addCoin(T coin);
     void removeCoin(T coin);
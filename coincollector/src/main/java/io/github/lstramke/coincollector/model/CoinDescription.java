@@ -1,11 +1,20 @@
 package io.github.lstramke.coincollector.model;
 
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Simple wrapper encapsulating a textual description for a coin. Provides a
  * convenience constructor to auto-generate a German sentence based on coin
  * metadata.
+ * <p>
+ * Generated sentences are cached per (value, year, country, mint) tuple, so each
+ * one is formatted only once per process.
  */
 public class CoinDescription {
+    private static final Map<Long, String> DEFAULT_TEXTS = new ConcurrentHashMap<>();
+
     private String text;
 
     public CoinDescription(String text){
@@ -25,10 +34,33 @@ public class CoinDescription {
         if (country == null) throw new IllegalArgumentException("CoinCountry cannot be null");
         if (year <= 0) throw new IllegalArgumentException("Year must be greater than 0");
         
-        this.text = getGermanCoinDescriptionText(value, year, country, mint);
+        this.text = defaultText(value, year, country, mint);
     }
 
-    private String getGermanCoinDescriptionText(CoinValue value, int year, CoinCountry country, Mint mint) {
+    /**
+     * Returns the generated German description for the given coin attributes from the
+     * cache, formatting it on first use. An unknown mint is treated like no mint.
+     * @param value coin value
+     * @param year mint year (>0)
+     * @param country issuing country
+     * @param mint optional mint
+     * @return the generated description text
+     * @throws IllegalArgumentException if required argument invalid
+     */
+    public static String defaultText(CoinValue value, int year, CoinCountry country, Mint mint) throws IllegalArgumentException {
+        if (value == null) throw new IllegalArgumentException("CoinValue cannot be null");
+        if (country == null) throw new IllegalArgumentException("CoinCountry cannot be null");
+        if (year <= 0) throw new IllegalArgumentException("Year must be greater than 0");
+
+        Mint knownMint = mint != Mint.UNKOWN ? mint : null;
+        if (year > PackedEuroCoin.MAX_YEAR) {
+            return getGermanCoinDescriptionText(value, year, country, knownMint);
+        }
+        long key = PackedEuroCoin.pack(year, value, country, knownMint != null ? knownMint : Mint.UNKOWN);
+        return DEFAULT_TEXTS.computeIfAbsent(key, k -> getGermanCoinDescriptionText(value, year, country, knownMint));
+    }
+
+    private static String getGermanCoinDescriptionText(CoinValue value, int year, CoinCountry country, Mint mint) {
         String valueText = value.getDisplayName();
         String countryText = country.getDisplayName();
         String mintText = mint != null ? " aus der Prägestätte " + mint.getMintMark() : "";
@@ -41,6 +73,20 @@ public class CoinDescription {
         return text;
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null || getClass() != obj.getClass())
+            return false;
+        return Objects.equals(text, ((CoinDescription) obj).text);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(text);
+    }
+
     public void setText(String text) {
         this.text = text;
     }
@@ -0,0 +1,113 @@
+package io.github.lstramke.coincollector.model;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Facet counts of a {@link CoinFilter} over a set of coins.
+ * <p>
+ * The count of a facet value is the number of coins that would match if that value were
+ * selected for its facet while all other criteria stay as they are. Selecting a country
+ * therefore narrows the value, year, mint and collection counts but keeps the counts of
+ * the other countries. {@link #getTotal()} is the number of coins matching the whole filter.
+ * <p>
+ * Filled from pre-aggregated rows via {@link #add(String, CoinCountry, CoinValue, int, Mint, int)},
+ * so its size depends on the number of distinct buckets rather than on the number of coins.
+ */
+public class CoinFacets {
+
+    private final CoinFilter filter;
+    private final SortedMap<String, Integer> byCollection = new TreeMap<>();
+    private final Map<CoinCountry, Integer> byCountry = new EnumMap<>(CoinCountry.class);
+    private final Map<CoinValue, Integer> byValue = new EnumMap<>(CoinValue.class);
+    private final SortedMap<Integer, Integer> byYear = new TreeMap<>();
+    private final Map<Mint, Integer> byMint = new EnumMap<>(Mint.class);
+    private int total;
+
+    /**
+     * @param filter the filter the counts are computed for
+     * @throws IllegalArgumentException if the filter is null
+     */
+    public CoinFacets(CoinFilter filter) throws IllegalArgumentException {
+        if (filter == null) {
+            throw new IllegalArgumentException("filter must not be null");
+        }
+        this.filter = filter;
+    }
+
+    /**
+     * Adds {@code count} coins sharing the given attributes.
+     *
+     * @param collectionId id of the collection holding the coins
+     * @param country issuing country
+     * @param value face value
+     * @param year mint year
+     * @param mint mint mark; only counted for German coins
+     * @param count number of coins (&gt; 0)
+     * @throws IllegalArgumentException if collection, country or value is null or count is not positive
+     */
+    public void add(String collectionId, CoinCountry country, CoinValue value, int year, Mint mint, int count) throws IllegalArgumentException {
+        if (collectionId == null || country == null || value == null) {
+            throw new IllegalArgumentException("collectionId, country and value must not be null");
+        }
+        if (count <= 0) {
+            throw new IllegalArgumentException("count must be greater than 0");
+        }
+        Mint normalizedMint = country == CoinCountry.GERMANY && mint != null ? mint : Mint.UNKOWN;
+        boolean collectionMatches = filter.matchesCollection(collectionId);
+        boolean countryMatches = filter.matchesCountry(country);
+        boolean valueMatches = filter.matchesValue(value);
+        boolean yearMatches = filter.matchesYear(year);
+        boolean mintMatches = filter.matchesMint(normalizedMint);
+
+        if (countryMatches && valueMatches && yearMatches && mintMatches) {
+            byCollection.merge(collectionId, count, Integer::sum);
+        }
+        if (collectionMatches && valueMatches && yearMatches && mintMatches) {
+            byCountry.merge(country, count, Integer::sum);
+        }
+        if (collectionMatches && countryMatches && yearMatches && mintMatches) {
+            byValue.merge(value, count, Integer::sum);
+        }
+        if (collectionMatches && countryMatches && valueMatches && mintMatches) {
+            byYear.merge(year, count, Integer::sum);
+        }
+        if (collectionMatches && countryMatches && valueMatches && yearMatches && normalizedMint != Mint.UNKOWN) {
+            byMint.merge(normalizedMint, count, Integer::sum);
+        }
+        if (collectionMatches && countryMatches && valueMatches && yearMatches && mintMatches) {
+            total += count;
+        }
+    }
+
+    public CoinFilter getFilter() {
+        return filter;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public Map<String, Integer> getByCollection() {
+        return Collections.unmodifiableSortedMap(byCollection);
+    }
+
+    public Map<CoinCountry, Integer> getByCountry() {
+        return Collections.unmodifiableMap(byCountry);
+    }
+
+    public Map<CoinValue, Integer> getByValue() {
+        return Collections.unmodifiableMap(byValue);
+    }
+
+    public Map<Integer, Integer> getByYear() {
+        return Collections.unmodifiableSortedMap(byYear);
+    }
+
+    public Map<Mint, Integer> getByMint() {
+        return Collections.unmodifiableMap(byMint);
+    }
+}
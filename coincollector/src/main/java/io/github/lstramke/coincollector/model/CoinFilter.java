@@ -0,0 +1,58 @@
+package io.github.lstramke.coincollector.model;
+
+/**
+ * Combinable filter over coin attributes. Every criterion is optional ({@code null} means
+ * "any"); a coin matches if it satisfies all given criteria.
+ *
+ * @param collectionId id of the collection the coin belongs to
+ * @param country issuing country
+ * @param value face value
+ * @param yearFrom first mint year (inclusive)
+ * @param yearTo last mint year (inclusive)
+ * @param mint mint mark; only German coins carry one
+ */
+public record CoinFilter(
+    String collectionId,
+    CoinCountry country,
+    CoinValue value,
+    Integer yearFrom,
+    Integer yearTo,
+    Mint mint
+) {
+
+    /**
+     * A filter without any criteria.
+     */
+    public static final CoinFilter NONE = new CoinFilter(null, null, null, null, null, null);
+
+    boolean matchesCollection(String collectionId) {
+        return this.collectionId == null || this.collectionId.equals(collectionId);
+    }
+
+    boolean matchesCountry(CoinCountry country) {
+        return this.country == null || this.country == country;
+    }
+
+    boolean matchesValue(CoinValue value) {
+        return this.value == null || this.value == value;
+    }
+
+    boolean matchesYear(int year) {
+        return (yearFrom == null || year >= yearFrom) && (yearTo == null || year <= yearTo);
+    }
+
+    boolean matchesMint(Mint mint) {
+        return this.mint == null || this.mint == mint;
+    }
+
+    /**
+     * @return whether a coin with the given attributes satisfies all criteria
+     */
+    public boolean matches(String collectionId, CoinCountry country, CoinValue value, int year, Mint mint) {
+        return matchesCollection(collectionId)
+            && matchesCountry(country)
+            && matchesValue(value)
+            && matchesYear(year)
+            && matchesMint(mint);
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.lstramke.coincollector.model;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Aggregated coin counts and face values of a set of coins, broken down by
+ * {@link CoinCountry}, {@link CoinValue}, year and (for German coins) {@link Mint}.
+ * <p>
+ * Filled from pre-aggregated rows via {@link #add(CoinCountry, CoinValue, int, Mint, int)},
+ * so its size depends on the number of distinct buckets rather than on the number of coins.
+ */
+public class CoinStatistics {
+
+    /**
+     * Number of coins and their summed face value in one bucket.
+     *
+     * @param count number of coins
+     * @param centValue summed face value in cents
+     */
+    public record Bucket(int count, long centValue) {
+        private Bucket plus(int count, long centValue) {
+            return new Bucket(this.count + count, this.centValue + centValue);
+        }
+    }
+
+    private final Map<CoinCountry, Bucket> byCountry = new EnumMap<>(CoinCountry.class);
+    private final Map<CoinValue, Bucket> byValue = new EnumMap<>(CoinValue.class);
+    private final SortedMap<Integer, Bucket> byYear = new TreeMap<>();
+    private final Map<Mint, Bucket> byMint = new EnumMap<>(Mint.class);
+    private int coinCount;
+    private long totalCentValue;
+
+    /**
+     * Adds {@code count} coins sharing the given attributes.
+     *
+     * @param country issuing country
+     * @param value face value
+     * @param year mint year
+     * @param mint mint mark; only counted for German coins
+     * @param count number of coins (&gt; 0)
+     * @throws IllegalArgumentException if country or value is null or count is not positive
+     */
+    public void add(CoinCountry country, CoinValue value, int year, Mint mint, int count) throws IllegalArgumentException {
+        if (country == null || value == null) {
+            throw new IllegalArgumentException("country and value must not be null");
+        }
+        if (count <= 0) {
+            throw new IllegalArgumentException("count must be greater than 0");
+        }
+        long centValue = (long) value.getCentValue() * count;
+        coinCount += count;
+        totalCentValue += centValue;
+        merge(byCountry, country, count, centValue);
+        merge(byValue, value, count, centValue);
+        merge(byYear, year, count, centValue);
+        if (country == CoinCountry.GERMANY && mint != null && mint != Mint.UNKOWN) {
+            merge(byMint, mint, count, centValue);
+        }
+    }
+
+    private static <K> void merge(Map<K, Bucket> buckets, K key, int count, long centValue) {
+        buckets.merge(key, new Bucket(count, centValue), (existing, added) -> existing.plus(added.count(), added.centValue()));
+    }
+
+    public int getCoinCount() {
+        return coinCount;
+    }
+
+    public long getTotalCentValue() {
+        return totalCentValue;
+    }
+
+    public Map<CoinCountry, Bucket> getByCountry() {
+        return Collections.unmodifiableMap(byCountry);
+    }
+
+    public Map<CoinValue, Bucket> getByValue() {
+        return Collections.unmodifiableMap(byValue);
+    }
+
+    public SortedMap<Integer, Bucket> getByYear() {
+        return Collections.unmodifiableSortedMap(byYear);
+    }
+
+    /**
+     * Buckets of German coins by mint; coins of other countries carry no mint.
+     */
+    public Map<Mint, Bucket> getByMint() {
+        return Collections.unmodifiableMap(byMint);
+    }
+}
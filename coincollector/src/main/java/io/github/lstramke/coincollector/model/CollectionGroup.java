@@ -12,6 +12,9 @@ public interface CollectionGroup<T extends Coin, C extends CoinCollection<T>> {
     String getName();
     void setName(String newName);
     String getOwnerId();
+    /**
+     * @return the collections as an unmodifiable view; callers must not rely on it being a snapshot
+     */
     List<C> getCollections();
     void addCollection(C collection);
     void removeCollection(C collection);
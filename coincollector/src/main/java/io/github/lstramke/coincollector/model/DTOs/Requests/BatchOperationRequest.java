@@ -0,0 +1,20 @@
+package io.github.lstramke.coincollector.model.DTOs.Requests;
+
+/**
+ * One operation of a {@link BatchRequest}.
+ *
+ * @param action {@code create}, {@code update} or {@code delete}
+ * @param entity {@code coin}, {@code collection} or {@code group}
+ * @param id id of the entity to update or delete
+ * @param coin the coin to create or the new state of the updated coin
+ * @param collection name and group of the collection to create or update
+ * @param group name of the group to create or update
+ */
+public record BatchOperationRequest(
+    String action,
+    String entity,
+    String id,
+    CoinActionRequest coin,
+    UpdateCollectionRequest collection,
+    UpdateGroupRequest group
+) {}
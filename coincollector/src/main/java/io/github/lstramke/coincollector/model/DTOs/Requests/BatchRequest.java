@@ -0,0 +1,5 @@
+package io.github.lstramke.coincollector.model.DTOs.Requests;
+
+import java.util.List;
+
+public record BatchRequest(List<BatchOperationRequest> operations) {}
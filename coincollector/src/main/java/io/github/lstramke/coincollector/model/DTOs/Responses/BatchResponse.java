@@ -0,0 +1,39 @@
+package io.github.lstramke.coincollector.model.DTOs.Responses;
+
+import java.util.List;
+
+import io.github.lstramke.coincollector.model.BatchResult;
+import io.github.lstramke.coincollector.model.ChangeEvent.Action;
+
+/**
+ * Results of a committed batch in operation order. Each result carries the status and body the
+ * corresponding single request would have returned; deletes have no body.
+ */
+public record BatchResponse(List<Result> results) {
+
+    public record Result(int status, Object body) {}
+
+    public static BatchResponse fromDomain(List<BatchResult> results) {
+        return new BatchResponse(results.stream()
+            .map(BatchResponse::toResult)
+            .toList());
+    }
+
+    private static Result toResult(BatchResult result) {
+        return switch (result.action()) {
+            case CREATED -> new Result(201, bodyOf(result));
+            case UPDATED -> new Result(200, bodyOf(result));
+            case DELETED -> new Result(204, null);
+        };
+    }
+
+    private static Object bodyOf(BatchResult result) {
+        return switch (result.entity()) {
+            case COIN -> CoinResponse.fromDomain(result.coin());
+            case COLLECTION -> CollectionResponse.fromDomain(result.collection());
+            case GROUP -> result.action() == Action.CREATED
+                ? GroupsResponse.fromDomain(result.group())
+                : new GroupMetadataResponse(result.group().getName());
+        };
+    }
+}
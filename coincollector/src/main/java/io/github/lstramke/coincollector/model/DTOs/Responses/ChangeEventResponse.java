@@ -0,0 +1,22 @@
+package io.github.lstramke.coincollector.model.DTOs.Responses;
+
+import java.util.Locale;
+
+import io.github.lstramke.coincollector.model.ChangeEvent;
+
+public record ChangeEventResponse(
+    String entity,
+    String action,
+    String id,
+    String parentId
+) {
+
+    public static ChangeEventResponse fromDomain(ChangeEvent event) {
+        return new ChangeEventResponse(
+            event.entity().name().toLowerCase(Locale.ROOT),
+            event.action().name().toLowerCase(Locale.ROOT),
+            event.id(),
+            event.parentId()
+        );
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.lstramke.coincollector.model.DTOs.Responses;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import io.github.lstramke.coincollector.model.CatalogCompleteness;
+import io.github.lstramke.coincollector.model.CoinCountry;
+import io.github.lstramke.coincollector.model.EuroCoinCatalog;
+import io.github.lstramke.coincollector.model.PackedEuroCoin;
+
+public record CompletenessResponse(
+    int catalogCount,
+    int ownedCount,
+    double completionPercent,
+    List<CountryCompleteness> byCountry,
+    List<MissingCoin> missing
+) {
+
+    public record CountryCompleteness(
+        String country,
+        int catalogCount,
+        int ownedCount
+    ) {}
+
+    public record MissingCoin(
+        String id,
+        String country,
+        int value,
+        int year,
+        String mint
+    ) {}
+
+    public static CompletenessResponse fromDomain(CatalogCompleteness completeness) {
+        List<CountryCompleteness> byCountry = completeness.getByCountry().entrySet().stream()
+            .map(entry -> new CountryCompleteness(entry.getKey().getIsoCode(), entry.getValue().catalogCount(), entry.getValue().ownedCount()))
+            .toList();
+
+        EuroCoinCatalog catalog = completeness.getCatalog();
+        BitSet missingOrdinals = completeness.getMissing();
+        List<MissingCoin> missing = new ArrayList<>(missingOrdinals.cardinality());
+        for (int ordinal = missingOrdinals.nextSetBit(0); ordinal >= 0; ordinal = missingOrdinals.nextSetBit(ordinal + 1)) {
+            long entry = catalog.getEntry(ordinal);
+            CoinCountry country = PackedEuroCoin.country(entry);
+            missing.add(new MissingCoin(
+                PackedEuroCoin.id(entry),
+                country.getIsoCode(),
+                PackedEuroCoin.value(entry).getCentValue(),
+                PackedEuroCoin.year(entry),
+                country == CoinCountry.GERMANY ? PackedEuroCoin.mint(entry).getMintMark() : null
+            ));
+        }
+
+        return new CompletenessResponse(
+            completeness.getCatalogCount(),
+            completeness.getOwnedCount(),
+            completeness.getCompletionPercent(),
+            byCountry,
+            missing
+        );
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.lstramke.coincollector.model.DTOs.Responses;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import io.github.lstramke.coincollector.model.CoinCountry;
+import io.github.lstramke.coincollector.model.CoinFacets;
+import io.github.lstramke.coincollector.model.FilteredCoins;
+import io.github.lstramke.coincollector.model.Mint;
+
+public record FilterResponse(
+    List<CoinResponse> coins,
+    int total,
+    int limit,
+    int offset,
+    Facets facets
+) {
+
+    public record Facets(
+        List<FacetCount> collection,
+        List<FacetCount> country,
+        List<FacetCount> value,
+        List<FacetCount> year,
+        List<FacetCount> mint
+    ) {}
+
+    public record FacetCount(
+        String key,
+        int count
+    ) {}
+
+    public static FilterResponse fromDomain(FilteredCoins filteredCoins, int limit, int offset) {
+        CoinFacets facets = filteredCoins.facets();
+        return new FilterResponse(
+            filteredCoins.coins().stream()
+                .map(CoinResponse::fromDomain)
+                .toList(),
+            facets.getTotal(),
+            limit,
+            offset,
+            new Facets(
+                toCounts(facets.getByCollection(), Function.identity()),
+                toCounts(facets.getByCountry(), CoinCountry::getIsoCode),
+                toCounts(facets.getByValue(), value -> String.valueOf(value.getCentValue())),
+                toCounts(facets.getByYear(), String::valueOf),
+                toCounts(facets.getByMint(), Mint::getMintMark)
+            )
+        );
+    }
+
+    private static <K> List<FacetCount> toCounts(Map<K, Integer> counts, Function<K, String> keyMapper) {
+        return counts.entrySet().stream()
+            .map(entry -> new FacetCount(keyMapper.apply(entry.getKey()), entry.getValue()))
+            .toList();
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.lstramke.coincollector.model.DTOs.Responses;
+
+import java.util.List;
+
+import io.github.lstramke.coincollector.model.EuroCoin;
+
+public record SearchResponse(
+    List<CoinResponse> coins,
+    int limit,
+    int offset,
+    boolean hasMore
+) {
+
+    /**
+     * @param hits search hits; at most {@code limit + 1}, a hit beyond the limit only signals further results
+     * @param limit requested page size
+     * @param offset requested offset
+     */
+    public static SearchResponse fromDomain(List<EuroCoin> hits, int limit, int offset) {
+        return new SearchResponse(
+            hits.stream()
+                .limit(limit)
+                .map(CoinResponse::fromDomain)
+                .toList(),
+            limit,
+            offset,
+            hits.size() > limit
+        );
+    }
+}
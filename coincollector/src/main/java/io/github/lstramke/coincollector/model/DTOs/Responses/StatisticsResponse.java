@@ -0,0 +1,42 @@
+package io.github.lstramke.coincollector.model.DTOs.Responses;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import io.github.lstramke.coincollector.model.CoinCountry;
+import io.github.lstramke.coincollector.model.CoinStatistics;
+import io.github.lstramke.coincollector.model.Mint;
+
+public record StatisticsResponse(
+    int coinCount,
+    long totalValue,
+    List<Bucket> byCountry,
+    List<Bucket> byValue,
+    List<Bucket> byYear,
+    List<Bucket> byMint
+) {
+
+    public record Bucket(
+        String key,
+        int count,
+        long value
+    ) {}
+
+    public static StatisticsResponse fromDomain(CoinStatistics statistics) {
+        return new StatisticsResponse(
+            statistics.getCoinCount(),
+            statistics.getTotalCentValue(),
+            toBuckets(statistics.getByCountry(), CoinCountry::getIsoCode),
+            toBuckets(statistics.getByValue(), value -> String.valueOf(value.getCentValue())),
+            toBuckets(statistics.getByYear(), String::valueOf),
+            toBuckets(statistics.getByMint(), Mint::getMintMark)
+        );
+    }
+
+    private static <K> List<Bucket> toBuckets(Map<K, CoinStatistics.Bucket> buckets, Function<K, String> keyMapper) {
+        return buckets.entrySet().stream()
+            .map(entry -> new Bucket(keyMapper.apply(entry.getKey()), entry.getValue().count(), entry.getValue().centValue()))
+            .toList();
+    }
+}
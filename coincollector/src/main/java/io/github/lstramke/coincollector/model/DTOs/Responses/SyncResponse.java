@@ -0,0 +1,52 @@
+package io.github.lstramke.coincollector.model.DTOs.Responses;
+
+import java.util.List;
+import java.util.Locale;
+
+import io.github.lstramke.coincollector.model.SyncChanges;
+
+public record SyncResponse(
+    long version,
+    boolean hasMore,
+    List<Group> groups,
+    List<Collection> collections,
+    List<CoinResponse> coins,
+    List<Deleted> deleted
+) {
+
+    public record Group(
+        String id,
+        String name
+    ) {}
+
+    public record Collection(
+        String id,
+        String name,
+        String groupId
+    ) {}
+
+    public record Deleted(
+        String entity,
+        String id,
+        String parentId
+    ) {}
+
+    public static SyncResponse fromDomain(SyncChanges changes) {
+        return new SyncResponse(
+            changes.version(),
+            changes.hasMore(),
+            changes.groups().stream()
+                .map(group -> new Group(group.getId(), group.getName()))
+                .toList(),
+            changes.collections().stream()
+                .map(collection -> new Collection(collection.getId(), collection.getName(), collection.getGroupId()))
+                .toList(),
+            changes.coins().stream()
+                .map(CoinResponse::fromDomain)
+                .toList(),
+            changes.deleted().stream()
+                .map(entry -> new Deleted(entry.entity().name().toLowerCase(Locale.ROOT), entry.entityId(), entry.parentId()))
+                .toList()
+        );
+    }
+}
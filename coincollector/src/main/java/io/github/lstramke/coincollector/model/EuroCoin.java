@@ -3,6 +3,10 @@ package io.github.lstramke.coincollector.model;
 /**
  * Concrete implementation of a Euro coin including mint country, mint mark and
  * optional generated description.
+ * <p>
+ * Only descriptions that differ from the generated default are held; the default is
+ * produced lazily by {@link #getDescription()} from the shared cache in
+ * {@link CoinDescription}.
  */
 public class EuroCoin implements Coin {
     private final String id;
@@ -33,7 +37,7 @@ public class EuroCoin implements Coin {
     @Override
     public String toString() {
         return "EuroCoin [id=" + id + ", year=" + year + ", value=" + value + ", mintCountry=" + mintCountry + ", mint="
-                + mint + ", description=" + description + ", collectionId=" + collectionId + "]";
+                + mint + ", description=" + getDescription() + ", collectionId=" + collectionId + "]";
     }
 
     @Override
@@ -58,10 +62,7 @@ public class EuroCoin implements Coin {
             return false;
         if (mint != other.mint)
             return false;
-        if (description == null) {
-            if (other.description != null)
-                return false;
-        } else if (!description.equals(other.description))
+        if (!getDescription().equals(other.getDescription()))
             return false;
         if (collectionId == null) {
             if (other.collectionId != null)
@@ -86,11 +87,29 @@ public class EuroCoin implements Coin {
         return value;
     }
 
+    /**
+     * Returns the custom description, or the generated default description if none was set.
+     */
     @Override
     public CoinDescription getDescription() {
+        if (description == null || description.toString() == null) {
+            return new CoinDescription(CoinDescription.defaultText(value, year, mintCountry, mint));
+        }
         return description;
     }
 
+    /**
+     * Tells whether the coin carries a description that differs from the generated
+     * default and therefore has to be stored.
+     *
+     * @return true if the description is custom
+     */
+    public boolean hasCustomDescription() {
+        return description != null
+            && description.toString() != null
+            && !description.toString().equals(CoinDescription.defaultText(value, year, mintCountry, mint));
+    }
+
     @Override
     public void setDescription(CoinDescription description) {
         this.description = description;
@@ -0,0 +1,298 @@
+package io.github.lstramke.coincollector.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Columnar, compact representation of many {@link EuroCoin}s for bulk reads and analytics.
+ * <p>
+ * Each coin occupies one slot in a few primitive arrays instead of an object graph:
+ * <ul>
+ *   <li>year, value, country and mint packed into one {@code long} (see {@link PackedEuroCoin})</li>
+ *   <li>the collection id as two {@code long}s holding the UUID bits</li>
+ * </ul>
+ * The coin id is not stored because it is derived from the packed attributes. Values that do
+ * not fit this scheme (ids differing from the derived one, collection ids that are not
+ * canonical UUIDs, descriptions differing from the generated default) are kept in side arrays
+ * that are only allocated once the first such value is added.
+ * <p>
+ * Use {@link #toEuroCoin(int)} or {@link #toEuroCoinsOfCollection(String)} to materialize only
+ * the coins that are actually needed. Instances are not thread-safe.
+ */
+public class EuroCoinBatch {
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private long[] attributes;
+    private long[] collectionIdHigh;
+    private long[] collectionIdLow;
+    private String[] customIds;
+    private String[] customCollectionIds;
+    private String[] customDescriptions;
+    private int size;
+
+    public EuroCoinBatch() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public EuroCoinBatch(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 1);
+        this.attributes = new long[capacity];
+        this.collectionIdHigh = new long[capacity];
+        this.collectionIdLow = new long[capacity];
+    }
+
+    /**
+     * Creates a batch holding the given coins.
+     *
+     * @param coins coins to add
+     * @return the filled batch
+     */
+    public static EuroCoinBatch of(List<EuroCoin> coins) {
+        EuroCoinBatch batch = new EuroCoinBatch(coins.size());
+        coins.forEach(batch::add);
+        return batch;
+    }
+
+    /**
+     * Adds an already validated coin.
+     *
+     * @param coin the coin to add
+     */
+    public void add(EuroCoin coin) {
+        String description = coin.hasCustomDescription() ? coin.getDescription().toString() : null;
+        append(PackedEuroCoin.pack(coin), coin.getId(), coin.getCollectionId(), description);
+    }
+
+    /**
+     * Validates and adds a coin given by its raw attributes, applying the same rules
+     * as {@link EuroCoinBuilder#build()}.
+     *
+     * @param id coin id; derived from the attributes when null or blank
+     * @param year mint year
+     * @param value coin value
+     * @param country issuing country
+     * @param mint mint mark; ignored for countries other than Germany
+     * @param description description text; the generated default when null
+     * @param collectionId id of the owning collection
+     * @throws IllegalStateException if mandatory attributes are missing or invalid
+     */
+    public void add(String id, int year, CoinValue value, CoinCountry country, Mint mint, String description, String collectionId)
+        throws IllegalStateException {
+        if (year < EuroCoinBuilder.EURO_COIN_START_YEAR) {
+            throw new IllegalStateException("Year must be >= " + EuroCoinBuilder.EURO_COIN_START_YEAR);
+        }
+        if (value == null) {
+            throw new IllegalStateException("CoinValue cannot be null");
+        }
+        if (country == null) {
+            throw new IllegalStateException("MintCountry cannot be null");
+        }
+        if (collectionId == null) {
+            throw new IllegalStateException("CollectionId cannot be null");
+        }
+        if (country == CoinCountry.GERMANY && (mint == null || mint == Mint.UNKOWN)) {
+            throw new IllegalStateException("Mint cannot be null or unknown if country is Germany");
+        }
+        Mint normalizedMint = country == CoinCountry.GERMANY ? mint : Mint.UNKOWN;
+        long packed = PackedEuroCoin.pack(year, value, country, normalizedMint);
+        append(packed, id == null || id.isBlank() ? null : id, collectionId, description);
+    }
+
+    private void append(long packed, String id, String collectionId, String description) {
+        ensureCapacity(size + 1);
+        int index = size++;
+        attributes[index] = packed;
+
+        if (id != null && !id.equals(PackedEuroCoin.id(packed))) {
+            customIds = allocate(customIds);
+            customIds[index] = id;
+        }
+
+        UUID uuid = parseCanonicalUuid(collectionId);
+        if (uuid != null) {
+            collectionIdHigh[index] = uuid.getMostSignificantBits();
+            collectionIdLow[index] = uuid.getLeastSignificantBits();
+        } else {
+            customCollectionIds = allocate(customCollectionIds);
+            customCollectionIds[index] = collectionId;
+        }
+
+        if (description != null && !description.equals(defaultDescription(packed))) {
+            customDescriptions = allocate(customDescriptions);
+            customDescriptions[index] = description;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Packed attributes of the coin at the given index, see {@link PackedEuroCoin}.
+     */
+    public long getAttributes(int index) {
+        return attributes[checkIndex(index)];
+    }
+
+    public int getYear(int index) {
+        return PackedEuroCoin.year(getAttributes(index));
+    }
+
+    public CoinValue getValue(int index) {
+        return PackedEuroCoin.value(getAttributes(index));
+    }
+
+    public CoinCountry getMintCountry(int index) {
+        return PackedEuroCoin.country(getAttributes(index));
+    }
+
+    public Mint getMint(int index) {
+        return PackedEuroCoin.mint(getAttributes(index));
+    }
+
+    public String getId(int index) {
+        checkIndex(index);
+        if (customIds != null && customIds[index] != null) {
+            return customIds[index];
+        }
+        return PackedEuroCoin.id(attributes[index]);
+    }
+
+    public String getCollectionId(int index) {
+        checkIndex(index);
+        if (customCollectionIds != null && customCollectionIds[index] != null) {
+            return customCollectionIds[index];
+        }
+        return new UUID(collectionIdHigh[index], collectionIdLow[index]).toString();
+    }
+
+    public CoinDescription getDescription(int index) {
+        checkIndex(index);
+        if (customDescriptions != null && customDescriptions[index] != null) {
+            return new CoinDescription(customDescriptions[index]);
+        }
+        return new CoinDescription(defaultDescription(attributes[index]));
+    }
+
+    /**
+     * Sum of the face values of all coins in cents, computed without materializing coins.
+     *
+     * @return total value in cents
+     */
+    public long getTotalCentValue() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += PackedEuroCoin.value(attributes[i]).getCentValue();
+        }
+        return total;
+    }
+
+    /**
+     * Materializes the coin at the given index.
+     *
+     * @param index slot of the coin
+     * @return a new {@link EuroCoin} equal to the one that was added
+     */
+    public EuroCoin toEuroCoin(int index) {
+        long packed = getAttributes(index);
+        return new EuroCoinBuilder()
+            .setId(getId(index))
+            .setYear(PackedEuroCoin.year(packed))
+            .setValue(PackedEuroCoin.value(packed))
+            .setMintCountry(PackedEuroCoin.country(packed))
+            .setMint(PackedEuroCoin.mint(packed))
+            .setDescription(getDescription(index))
+            .setCollectionId(getCollectionId(index))
+            .build();
+    }
+
+    public List<EuroCoin> toEuroCoins() {
+        List<EuroCoin> coins = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            coins.add(toEuroCoin(i));
+        }
+        return coins;
+    }
+
+    /**
+     * Materializes only the coins belonging to the given collection. Canonical UUIDs are
+     * compared on their packed bits, so non-matching coins cause no allocation.
+     *
+     * @param collectionId id of the collection
+     * @return the coins of the collection in insertion order
+     */
+    public List<EuroCoin> toEuroCoinsOfCollection(String collectionId) {
+        List<EuroCoin> coins = new ArrayList<>();
+        UUID uuid = parseCanonicalUuid(collectionId);
+        for (int i = 0; i < size; i++) {
+            boolean matches;
+            if (customCollectionIds != null && customCollectionIds[i] != null) {
+                matches = customCollectionIds[i].equals(collectionId);
+            } else {
+                matches = uuid != null
+                    && collectionIdHigh[i] == uuid.getMostSignificantBits()
+                    && collectionIdLow[i] == uuid.getLeastSignificantBits();
+            }
+            if (matches) {
+                coins.add(toEuroCoin(i));
+            }
+        }
+        return coins;
+    }
+
+    private static String defaultDescription(long packed) {
+        return CoinDescription.defaultText(
+            PackedEuroCoin.value(packed),
+            PackedEuroCoin.year(packed),
+            PackedEuroCoin.country(packed),
+            PackedEuroCoin.mint(packed)
+        );
+    }
+
+    /**
+     * Parses a UUID only if it is in canonical lower-case form, so that converting
+     * it back yields the identical string.
+     */
+    private static UUID parseCanonicalUuid(String id) {
+        if (id == null || id.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(id);
+            return uuid.toString().equals(id) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private int checkIndex(int index) {
+        return Objects.checkIndex(index, size);
+    }
+
+    private String[] allocate(String[] array) {
+        return array != null ? array : new String[attributes.length];
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= attributes.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, attributes.length * 2);
+        attributes = Arrays.copyOf(attributes, newCapacity);
+        collectionIdHigh = Arrays.copyOf(collectionIdHigh, newCapacity);
+        collectionIdLow = Arrays.copyOf(collectionIdLow, newCapacity);
+        if (customIds != null) {
+            customIds = Arrays.copyOf(customIds, newCapacity);
+        }
+        if (customCollectionIds != null) {
+            customCollectionIds = Arrays.copyOf(customCollectionIds, newCapacity);
+        }
+        if (customDescriptions != null) {
+            customDescriptions = Arrays.copyOf(customDescriptions, newCapacity);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package io.github.lstramke.coincollector.model;
 
 /**
- * Fluent builder for {@link EuroCoin}. Performs validation and generates a
- * default description and id when not provided.
+ * Fluent builder for {@link EuroCoin}. Performs validation and generates an id
+ * when not provided. A missing description is not generated here; the coin
+ * derives its default description lazily, and a given description equal to
+ * that default is dropped so the coin does not hold a copy of it.
  * A pre-existing id can be injected by {@link EuroCoinFactory} via the
  * package-private {@code setId(String)} to preserve identifiers during
  * hydration/import; otherwise an id is generated deterministically from core
@@ -73,9 +75,6 @@ public class EuroCoinBuilder {
         if (mintCountry == null) {
             throw new IllegalStateException("MintCountry cannot be null");
         }
-        if (description == null) {
-            this.description = new CoinDescription(this.value, this.year, this.mintCountry, this.mint);
-        }
         if (collectionId == null){
             throw new IllegalStateException("CollectionId cannot be null");
         }
@@ -85,6 +84,10 @@ public class EuroCoinBuilder {
         if(mintCountry != CoinCountry.GERMANY) {
             mint = Mint.UNKOWN;
         }
+        if (description != null && (description.toString() == null
+                || description.toString().equals(CoinDescription.defaultText(value, year, mintCountry, mint)))) {
+            this.description = null;
+        }
         if (id == null || id.isBlank()){
             this.id = generateId();
         }
@@ -94,6 +97,14 @@ public class EuroCoinBuilder {
 
     /** Generate a deterministic id based on core attributes. */
     private String generateId() {
+        return generateId(mintCountry, value, year, mint);
+    }
+
+    /**
+     * Deterministic id of a coin with the given attributes, as assigned by {@link #build()}.
+     * Also used by {@link EuroCoinBatch} to restore ids it does not store.
+     */
+    static String generateId(CoinCountry mintCountry, CoinValue value, int year, Mint mint) {
         return String.format("%s_%s_%d_%s", 
             mintCountry != null ? mintCountry.name() : "UNKNOWN",
             value != null ? value.name() : "UNKNOWN", 
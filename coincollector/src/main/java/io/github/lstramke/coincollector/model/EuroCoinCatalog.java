@@ -0,0 +1,213 @@
+package io.github.lstramke.coincollector.model;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Year;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable catalog of all euro coins issued for circulation.
+ * <p>
+ * Every catalog entry is one (country, value, year, mint) combination packed into a
+ * {@code long} (see {@link PackedEuroCoin}). The entries are kept sorted in a single
+ * array, so the index of an entry is its stable <em>ordinal</em> and lookups are a binary
+ * search. Sets of coins, e.g. the coins owned by a collection, are represented as
+ * {@link BitSet}s over these ordinals, which turns "missing coins" and completion queries
+ * into bitset operations.
+ * <p>
+ * The default catalog is read from the {@code euro-coin-catalog.csv} class path resource,
+ * see {@link #parse(List, int)} for its format.
+ */
+public class EuroCoinCatalog {
+
+    private static final String RESOURCE_NAME = "/euro-coin-catalog.csv";
+
+    private final long[] entries;
+    private final Map<CoinCountry, BitSet> countryMasks;
+
+    private EuroCoinCatalog(long[] entries) {
+        this.entries = entries;
+        this.countryMasks = new EnumMap<>(CoinCountry.class);
+        for (int ordinal = 0; ordinal < entries.length; ordinal++) {
+            countryMasks.computeIfAbsent(PackedEuroCoin.country(entries[ordinal]), country -> new BitSet()).set(ordinal);
+        }
+    }
+
+    /**
+     * Loads the catalog bundled with the application. Issues that are still running are
+     * listed up to the current year.
+     *
+     * @return the bundled catalog
+     * @throws UncheckedIOException if the resource cannot be read
+     * @throws IllegalArgumentException if the resource is malformed
+     */
+    public static EuroCoinCatalog load() throws UncheckedIOException, IllegalArgumentException {
+        try (InputStream inputStream = EuroCoinCatalog.class.getResourceAsStream(RESOURCE_NAME)) {
+            if (inputStream == null) {
+                throw new UncheckedIOException(new IOException("Catalog resource not found: " + RESOURCE_NAME));
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+            return parse(reader.lines().toList(), Year.now().getValue());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Parses catalog lines of the form {@code country;first year;last year;values;mint marks}.
+     * <ul>
+     *   <li>country: ISO code, see {@link CoinCountry#fromIsoCode(String)}</li>
+     *   <li>last year: may be empty for issues that are still running</li>
+     *   <li>values: comma separated cent values</li>
+     *   <li>mint marks: comma separated; only allowed and required for Germany</li>
+     * </ul>
+     * Blank lines and lines starting with {@code #} are ignored, duplicate entries are merged.
+     *
+     * @param lines the catalog lines
+     * @param currentYear last year of issues without an explicit last year
+     * @return the catalog
+     * @throws IllegalArgumentException if a line is malformed
+     */
+    public static EuroCoinCatalog parse(List<String> lines, int currentYear) throws IllegalArgumentException {
+        long[] entries = new long[64];
+        int size = 0;
+        for (String line : lines) {
+            String trimmed = line.strip();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            String[] fields = trimmed.split(";", -1);
+            if (fields.length != 5) {
+                throw new IllegalArgumentException("Catalog line must have 5 fields: " + line);
+            }
+            try {
+                CoinCountry country = CoinCountry.fromIsoCode(fields[0].strip());
+                int firstYear = Integer.parseInt(fields[1].strip());
+                int lastYear = fields[2].isBlank() ? currentYear : Integer.parseInt(fields[2].strip());
+                if (firstYear < EuroCoinBuilder.EURO_COIN_START_YEAR || lastYear > PackedEuroCoin.MAX_YEAR) {
+                    throw new IllegalArgumentException("Years out of range: " + line);
+                }
+                Mint[] mints = parseMints(country, fields[4]);
+                for (String centValue : fields[3].split(",")) {
+                    CoinValue value = CoinValue.fromCentValue(Integer.parseInt(centValue.strip()));
+                    for (int year = firstYear; year <= lastYear; year++) {
+                        for (Mint mint : mints) {
+                            if (size == entries.length) {
+                                entries = Arrays.copyOf(entries, size * 2);
+                            }
+                            entries[size++] = PackedEuroCoin.pack(year, value, country, mint);
+                        }
+                    }
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid number in catalog line: " + line, e);
+            }
+        }
+        return new EuroCoinCatalog(Arrays.stream(entries, 0, size).sorted().distinct().toArray());
+    }
+
+    private static Mint[] parseMints(CoinCountry country, String field) throws IllegalArgumentException {
+        if (country != CoinCountry.GERMANY) {
+            if (!field.isBlank()) {
+                throw new IllegalArgumentException("Mint marks are only allowed for Germany: " + field);
+            }
+            return new Mint[] {Mint.UNKOWN};
+        }
+        Mint[] mints = Arrays.stream(field.split(","))
+            .map(String::strip)
+            .map(Mint::fromMintMark)
+            .toArray(Mint[]::new);
+        if (Arrays.asList(mints).contains(Mint.UNKOWN)) {
+            throw new IllegalArgumentException("German issues need known mint marks: " + field);
+        }
+        return mints;
+    }
+
+    /**
+     * @return number of entries, ordinals range from 0 (inclusive) to this size (exclusive)
+     */
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * Packed attributes of the entry with the given ordinal, see {@link PackedEuroCoin}.
+     *
+     * @param ordinal ordinal of the entry
+     * @return the packed attributes
+     * @throws IndexOutOfBoundsException if the ordinal is out of range
+     */
+    public long getEntry(int ordinal) throws IndexOutOfBoundsException {
+        return entries[Objects.checkIndex(ordinal, entries.length)];
+    }
+
+    /**
+     * Looks up the ordinal of a coin. The mint is ignored for countries other than Germany.
+     *
+     * @param country issuing country
+     * @param value coin value
+     * @param year mint year
+     * @param mint mint mark
+     * @return the ordinal, or -1 if the coin is not part of the catalog
+     */
+    public int ordinalOf(CoinCountry country, CoinValue value, int year, Mint mint) {
+        if (country == null || value == null || year < 0 || year > PackedEuroCoin.MAX_YEAR) {
+            return -1;
+        }
+        Mint normalizedMint = country == CoinCountry.GERMANY && mint != null ? mint : Mint.UNKOWN;
+        int index = Arrays.binarySearch(entries, PackedEuroCoin.pack(year, value, country, normalizedMint));
+        return index >= 0 ? index : -1;
+    }
+
+    /**
+     * @param coin the coin to look up
+     * @return the ordinal of the coin, or -1 if it is not part of the catalog
+     */
+    public int ordinalOf(EuroCoin coin) {
+        return ordinalOf(coin.getMintCountry(), coin.getValue(), coin.getYear(), coin.getMint());
+    }
+
+    /**
+     * @return a new bitset with the ordinals of all entries set
+     */
+    public BitSet all() {
+        BitSet all = new BitSet(entries.length);
+        all.set(0, entries.length);
+        return all;
+    }
+
+    /**
+     * @param country the issuing country
+     * @return a new bitset with the ordinals of all entries of the country set
+     */
+    public BitSet ofCountry(CoinCountry country) {
+        BitSet mask = countryMasks.get(country);
+        return mask != null ? (BitSet) mask.clone() : new BitSet();
+    }
+
+    /**
+     * Collects the catalog ordinals of the given coins; coins outside the catalog are ignored.
+     *
+     * @param coins the coins
+     * @return a new bitset with the ordinals of the coins set
+     */
+    public BitSet toBitSet(Iterable<EuroCoin> coins) {
+        BitSet bitSet = new BitSet(entries.length);
+        for (EuroCoin coin : coins) {
+            int ordinal = ordinalOf(coin);
+            if (ordinal >= 0) {
+                bitSet.set(ordinal);
+            }
+        }
+        return bitSet;
+    }
+}
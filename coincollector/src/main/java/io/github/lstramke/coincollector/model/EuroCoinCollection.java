@@ -1,20 +1,26 @@
 package io.github.lstramke.coincollector.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.UUID;
 
 /**
  * Concrete collection of {@link EuroCoin} with aggregation helpers.
+ * <p>
+ * {@link #getCoins()} returns an unmodifiable live view instead of a copy, and the
+ * total value is maintained on every add/remove, so reading a collection (e.g. while
+ * serializing it) does not allocate or iterate per call.
  */
 public class EuroCoinCollection implements CoinCollection<EuroCoin> {
     private final String id;
     private String name;
     private final List<EuroCoin> coins;
+    private final List<EuroCoin> coinsView;
+    private int totalValue;
     private String groupId;
 
     /**
-     * Create an empty collection with a newly generated random id.
+     * Create an empty collection with a newly generated id.
      */
     public EuroCoinCollection(String name, String groupId) {
         this(createCollectionId(), name, List.of(), groupId);
@@ -55,6 +61,8 @@ public class EuroCoinCollection implements CoinCollection<EuroCoin> {
             throw new IllegalArgumentException("coins list contains null element(s)");
         }
         this.coins = new ArrayList<>(src);
+        this.coinsView = Collections.unmodifiableList(this.coins);
+        this.totalValue = src.stream().mapToInt(coin -> coin.getValue().getCentValue()).sum();
     }
 
     /**
@@ -67,7 +75,7 @@ public class EuroCoinCollection implements CoinCollection<EuroCoin> {
     }
 
     private static String createCollectionId() {
-        return UUID.randomUUID().toString();
+        return IdGenerators.newId();
     }
 
     @Override
@@ -98,9 +106,12 @@ public class EuroCoinCollection implements CoinCollection<EuroCoin> {
         this.groupId = newGroupId;
     }
 
+    /**
+     * @return unmodifiable live view of the coins; reflects later adds and removes
+     */
     @Override
     public List<EuroCoin> getCoins() {
-        return List.copyOf(coins);
+        return coinsView;
     }
 
     @Override
@@ -108,18 +119,23 @@ public class EuroCoinCollection implements CoinCollection<EuroCoin> {
         if (coin == null || !coin.getCollectionId().equals(this.id))
             throw new IllegalArgumentException("coin is null or has false collectionId");
         this.coins.add(coin);
+        this.totalValue += coin.getValue().getCentValue();
     }
 
     @Override
     public void removeCoin(EuroCoin coin) {
         if (coin == null)
             return;
-        this.coins.remove(coin);
+        int index = this.coins.indexOf(coin);
+        if (index >= 0) {
+            EuroCoin removed = this.coins.remove(index);
+            this.totalValue -= removed.getValue().getCentValue();
+        }
     }
 
     @Override
     public int getTotalValue() {
-        return coins.stream().mapToInt(coin -> coin.getValue().getCentValue()).sum();
+        return totalValue;
     }
 
     @Override
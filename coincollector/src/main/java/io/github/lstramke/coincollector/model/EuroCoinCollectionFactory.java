@@ -41,4 +41,17 @@ public class EuroCoinCollectionFactory {
             throw e;
         }
     }
+
+    /**
+     * Build a collection from stored values, e.g. when restoring it from a non-SQL
+     * storage. Preserves the existing id.
+     * @param collectionId the existing id
+     * @param name the collection name
+     * @param groupId id of the group the collection belongs to
+     * @return collection instance with preserved id
+     * @throws IllegalArgumentException if invalid
+     */
+    public EuroCoinCollection fromValues(String collectionId, String name, String groupId) throws IllegalArgumentException {
+        return new EuroCoinCollection(collectionId, name, groupId);
+    }
 }
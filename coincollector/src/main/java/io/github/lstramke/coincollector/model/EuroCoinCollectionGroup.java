@@ -1,28 +1,33 @@
 package io.github.lstramke.coincollector.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.UUID;
 
 /**
  * Concrete implementation of a {@link CollectionGroup} for Euro coin
  * collections owned by a single user.
+ * <p>
+ * {@link #getCollections()} returns an unmodifiable live view instead of a copy.
+ * The totals add up the totals each collection maintains, so they cost one step
+ * per collection rather than per coin.
  */
 public class EuroCoinCollectionGroup implements CollectionGroup<EuroCoin, EuroCoinCollection> {
     private String id;
     private String name;
     private String ownerId;
     private List<EuroCoinCollection> collections;
+    private List<EuroCoinCollection> collectionsView;
 
     /**
-     * Create an empty group with a newly generated random id.
+     * Create an empty group with a newly generated id.
      */
     public EuroCoinCollectionGroup(String name, String ownerId){
         this(createGroupId(), name, ownerId, List.of());
     }
 
     /**
-     * Create a group with initial collections and a newly generated random id.
+     * Create a group with initial collections and a newly generated id.
      */
     public EuroCoinCollectionGroup(String name, String ownerId, List<EuroCoinCollection> collections){
         this(createGroupId(), name, ownerId, collections);
@@ -52,6 +57,7 @@ public class EuroCoinCollectionGroup implements CollectionGroup<EuroCoin, EuroCo
             throw new IllegalArgumentException("collections list is null");
         }
         this.collections = new ArrayList<>(collections);
+        this.collectionsView = Collections.unmodifiableList(this.collections);
         this.name = name;
     }
     
@@ -65,7 +71,7 @@ public class EuroCoinCollectionGroup implements CollectionGroup<EuroCoin, EuroCo
     }
 
     private static String createGroupId() {
-        return UUID.randomUUID().toString();
+        return IdGenerators.newId();
     }
 
     @Override
@@ -88,9 +94,12 @@ public class EuroCoinCollectionGroup implements CollectionGroup<EuroCoin, EuroCo
         return ownerId;
     }
 
+    /**
+     * @return unmodifiable live view of the collections; reflects later adds and removes
+     */
     @Override
     public List<EuroCoinCollection> getCollections() {
-        return List.copyOf(collections);
+        return collectionsView;
     }
 
     @Override
@@ -112,11 +121,19 @@ public class EuroCoinCollectionGroup implements CollectionGroup<EuroCoin, EuroCo
 
     @Override
     public int getTotalCoins() {
-        return collections.stream().mapToInt(collection -> collection.getCoinCount()).sum();
+        int totalCoins = 0;
+        for (EuroCoinCollection collection : collections) {
+            totalCoins += collection.getCoinCount();
+        }
+        return totalCoins;
     }
 
     @Override
     public int getTotalValue() {
-        return collections.stream().mapToInt(collection -> collection.getTotalValue()).sum();
+        int totalValue = 0;
+        for (EuroCoinCollection collection : collections) {
+            totalValue += collection.getTotalValue();
+        }
+        return totalValue;
     }
 }
@@ -40,4 +40,17 @@ public class EuroCoinCollectionGroupFactory {
             throw e;
         }
     }
+
+    /**
+     * Build a group from stored values, e.g. when restoring it from a non-SQL storage.
+     * Preserves the existing id.
+     * @param groupId the existing id
+     * @param name the group name
+     * @param ownerId id of the owning user
+     * @return group instance with preserved id
+     * @throws IllegalArgumentException if invalid
+     */
+    public EuroCoinCollectionGroup fromValues(String groupId, String name, String ownerId) throws IllegalArgumentException {
+        return new EuroCoinCollectionGroup(groupId, name, ownerId);
+    }
 }
@@ -35,7 +35,7 @@ public class EuroCoinFactory {
                 .setValue(CoinValue.fromCentValue(resultSet.getInt("coin_value")))
                 .setMintCountry(CoinCountry.fromIsoCode(resultSet.getString("mint_country")))
                 .setMint(Mint.fromMintMark(resultSet.getString("mint")))
-                .setDescription(new CoinDescription(resultSet.getString("description")))
+                .setDescription(toDescription(resultSet.getString("description")))
                 .setCollectionId(resultSet.getString("collection_id"))
                 .build();
             
@@ -47,4 +47,63 @@ public class EuroCoinFactory {
             throw new SQLException("Invalid coin state from database", e);
         }
     }
+
+    /** A NULL description column means the coin uses its generated default. */
+    private static CoinDescription toDescription(String text) {
+        return text != null ? new CoinDescription(text) : null;
+    }
+
+    /**
+     * Append the current JDBC {@link ResultSet} row to a columnar {@link EuroCoinBatch}
+     * without creating an intermediate {@link EuroCoin}.
+     * @param resultSet positioned result set
+     * @param batch batch receiving the row
+     * @throws SQLException if input invalid
+     */
+    public void addDataBaseEntry(ResultSet resultSet, EuroCoinBatch batch) throws SQLException {
+        try {
+            batch.add(
+                resultSet.getString("coin_id"),
+                resultSet.getInt("year"),
+                CoinValue.fromCentValue(resultSet.getInt("coin_value")),
+                CoinCountry.fromIsoCode(resultSet.getString("mint_country")),
+                Mint.fromMintMark(resultSet.getString("mint")),
+                resultSet.getString("description"),
+                resultSet.getString("collection_id")
+            );
+        } catch (IllegalArgumentException e){
+            logger.error("Invalid data in database entry: {}", e.getMessage());
+            throw new SQLException("Invalid database entry data", e);
+        } catch (IllegalStateException e){
+            logger.error("Invalid state when adding database entry to coin batch: {}", e.getMessage());
+            throw new SQLException("Invalid coin state from database", e);
+        }
+    }
+
+    /**
+     * Build a coin from stored values, e.g. when restoring it from a non-SQL storage.
+     * A {@code null} description means the coin uses its generated default.
+     * @param coinId the existing id
+     * @param year mint year
+     * @param value coin value
+     * @param country issuing country
+     * @param mint mint mark, ignored for countries other than Germany
+     * @param description custom description or {@code null}
+     * @param collectionId id of the collection holding the coin
+     * @return coin instance with preserved id
+     * @throws IllegalArgumentException if input invalid
+     * @throws IllegalStateException if the values do not form a valid coin
+     */
+    public EuroCoin fromValues(String coinId, int year, CoinValue value, CoinCountry country, Mint mint, String description, String collectionId)
+        throws IllegalArgumentException, IllegalStateException {
+        return new EuroCoinBuilder()
+            .setId(coinId)
+            .setYear(year)
+            .setValue(value)
+            .setMintCountry(country)
+            .setMint(mint)
+            .setDescription(toDescription(description))
+            .setCollectionId(collectionId)
+            .build();
+    }
 }
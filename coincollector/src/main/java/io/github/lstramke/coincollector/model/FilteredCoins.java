@@ -0,0 +1,11 @@
+package io.github.lstramke.coincollector.model;
+
+import java.util.List;
+
+/**
+ * One page of coins matching a {@link CoinFilter} together with the facet counts of the filter.
+ *
+ * @param coins the coins of the requested page
+ * @param facets facet counts and total number of matches
+ */
+public record FilteredCoins(List<EuroCoin> coins, CoinFacets facets) {}
@@ -0,0 +1,18 @@
+package io.github.lstramke.coincollector.model;
+
+/**
+ * Strategy for creating the ids of newly created users, groups and collections.
+ * <p>
+ * Implementations must return canonical UUID strings, as ids are validated and
+ * parsed as UUIDs elsewhere (request paths, {@link EuroCoinBatch}). The active
+ * generator is held by {@link IdGenerators}.
+ */
+public interface IdGenerator {
+
+    /**
+     * Creates a new unique id.
+     *
+     * @return the id in canonical UUID form
+     */
+    String newId();
+}
@@ -0,0 +1,55 @@
+package io.github.lstramke.coincollector.model;
+
+import java.util.Locale;
+
+/**
+ * Holds the {@link IdGenerator} used when users, groups and collections are created
+ * without an existing id. Defaults to time-ordered {@link UuidV7IdGenerator}.
+ * <p>
+ * Both supported generators produce canonical UUID strings, so ids created by either
+ * can be stored side by side and existing rows need no migration when switching.
+ */
+public final class IdGenerators {
+
+    private static volatile IdGenerator current = new UuidV7IdGenerator();
+
+    private IdGenerators() {
+    }
+
+    /**
+     * Creates a new id with the configured generator.
+     *
+     * @return the new id
+     */
+    public static String newId() {
+        return current.newId();
+    }
+
+    /**
+     * Replaces the generator used for new ids.
+     *
+     * @param generator the generator to use
+     * @throws IllegalArgumentException if generator is null
+     */
+    public static void set(IdGenerator generator) throws IllegalArgumentException {
+        if (generator == null) {
+            throw new IllegalArgumentException("generator must not be null");
+        }
+        current = generator;
+    }
+
+    /**
+     * Resolves a generator by its configuration name.
+     *
+     * @param name {@code uuidv7} or {@code random} (case-insensitive)
+     * @return the matching generator
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    public static IdGenerator byName(String name) throws IllegalArgumentException {
+        return switch (name == null ? "" : name.toLowerCase(Locale.ROOT)) {
+            case "uuidv7" -> new UuidV7IdGenerator();
+            case "random" -> new RandomUuidIdGenerator();
+            default -> throw new IllegalArgumentException("Unknown id generator: " + name);
+        };
+    }
+}
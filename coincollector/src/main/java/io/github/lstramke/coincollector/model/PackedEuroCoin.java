@@ -0,0 +1,88 @@
+package io.github.lstramke.coincollector.model;
+
+/**
+ * Codec for the core attributes of a euro coin packed into a single {@code long}.
+ * <p>
+ * Layout (least significant bit first):
+ * <ul>
+ *   <li>bits 0-15: year</li>
+ *   <li>bits 16-19: {@link CoinValue} ordinal</li>
+ *   <li>bits 20-25: {@link CoinCountry} ordinal</li>
+ *   <li>bits 26-29: {@link Mint} ordinal</li>
+ * </ul>
+ * The remaining bits are zero. Packed values are only meaningful within one build of the
+ * application because they depend on enum declaration order; they are never persisted.
+ */
+public final class PackedEuroCoin {
+
+    private static final int YEAR_BITS = 16;
+    private static final int VALUE_SHIFT = 16;
+    private static final int COUNTRY_SHIFT = 20;
+    private static final int MINT_SHIFT = 26;
+    private static final long YEAR_MASK = (1L << YEAR_BITS) - 1;
+    /** Largest year that fits into the packed representation. */
+    public static final int MAX_YEAR = (int) YEAR_MASK;
+    private static final long VALUE_MASK = 0xF;
+    private static final long COUNTRY_MASK = 0x3F;
+    private static final long MINT_MASK = 0xF;
+
+    private static final CoinValue[] VALUES = CoinValue.values();
+    private static final CoinCountry[] COUNTRIES = CoinCountry.values();
+    private static final Mint[] MINTS = Mint.values();
+
+    private PackedEuroCoin() {}
+
+    /**
+     * Packs the given attributes.
+     *
+     * @param year mint year, 0 to 65535
+     * @param value coin value
+     * @param country issuing country
+     * @param mint mint mark
+     * @return the packed attributes
+     * @throws IllegalArgumentException if an argument is null or the year is out of range
+     */
+    public static long pack(int year, CoinValue value, CoinCountry country, Mint mint) throws IllegalArgumentException {
+        if (value == null || country == null || mint == null) {
+            throw new IllegalArgumentException("value, country and mint must not be null");
+        }
+        if (year < 0 || year > YEAR_MASK) {
+            throw new IllegalArgumentException("Year out of range: " + year);
+        }
+        return year
+            | (long) value.ordinal() << VALUE_SHIFT
+            | (long) country.ordinal() << COUNTRY_SHIFT
+            | (long) mint.ordinal() << MINT_SHIFT;
+    }
+
+    public static long pack(EuroCoin coin) {
+        return pack(coin.getYear(), coin.getValue(), coin.getMintCountry(), coin.getMint());
+    }
+
+    public static int year(long packed) {
+        return (int) (packed & YEAR_MASK);
+    }
+
+    public static CoinValue value(long packed) {
+        return VALUES[(int) (packed >>> VALUE_SHIFT & VALUE_MASK)];
+    }
+
+    public static CoinCountry country(long packed) {
+        return COUNTRIES[(int) (packed >>> COUNTRY_SHIFT & COUNTRY_MASK)];
+    }
+
+    public static Mint mint(long packed) {
+        return MINTS[(int) (packed >>> MINT_SHIFT & MINT_MASK)];
+    }
+
+    /**
+     * Deterministic coin id of the packed attributes, identical to the id
+     * {@link EuroCoinBuilder#build()} generates.
+     *
+     * @param packed packed attributes
+     * @return the coin id
+     */
+    public static String id(long packed) {
+        return EuroCoinBuilder.generateId(country(packed), value(packed), year(packed), mint(packed));
+    }
+}
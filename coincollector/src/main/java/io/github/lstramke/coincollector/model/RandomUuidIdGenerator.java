@@ -0,0 +1,14 @@
+package io.github.lstramke.coincollector.model;
+
+import java.util.UUID;
+
+/**
+ * Generates random version 4 UUIDs.
+ */
+public class RandomUuidIdGenerator implements IdGenerator {
+
+    @Override
+    public String newId() {
+        return UUID.randomUUID().toString();
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.lstramke.coincollector.model;
+
+import java.util.List;
+
+/**
+ * Changes of a user's groups, collections and coins after a given version of the change log.
+ * Created and updated entities are contained with their current state, deleted ones only as
+ * tombstone. Deleting a group or collection also deletes everything it contains; those are not
+ * listed separately.
+ *
+ * @param version the version to continue from with the next sync
+ * @param hasMore whether further changes are left after {@code version}
+ * @param groups created or updated groups, without their collections
+ * @param collections created or updated collections, without their coins
+ * @param coins created or updated coins
+ * @param deleted tombstones of deleted entities
+ */
+public record SyncChanges(
+    long version,
+    boolean hasMore,
+    List<EuroCoinCollectionGroup> groups,
+    List<EuroCoinCollection> collections,
+    List<EuroCoin> coins,
+    List<ChangeLogEntry> deleted
+) {}
@@ -1,6 +1,5 @@
 package io.github.lstramke.coincollector.model;
 
-import java.util.UUID;
 
 /**
  * Domain user owning collection groups.
@@ -10,7 +9,7 @@ public class User {
     private String name;
 
     /**
-     * Create a new user with a freshly generated random id.
+     * Create a new user with a freshly generated id.
      * Prefer this for normal application code when no id exists yet.
      */
     public User(String name){
@@ -35,7 +34,7 @@ public class User {
     }
 
     private static String createUserId() {
-        return UUID.randomUUID().toString();
+        return IdGenerators.newId();
     }
 
     public String getId() {
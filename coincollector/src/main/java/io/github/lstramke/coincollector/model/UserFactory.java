@@ -41,4 +41,15 @@ public class UserFactory {
             throw e;
         }
     }
+
+    /**
+     * Create a user from stored values, e.g. when restoring it from a non-SQL storage.
+     * @param userId the existing id
+     * @param username the username
+     * @return user instance with preserved id
+     * @throws IllegalArgumentException if invalid
+     */
+    public User fromValues(String userId, String username) throws IllegalArgumentException {
+        return new User(userId, username);
+    }
 }
@@ -0,0 +1,82 @@
+package io.github.lstramke.coincollector.model;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.UUID;
+
+/**
+ * Generates time-ordered version 7 UUIDs (RFC 9562).
+ * <p>
+ * The first 48 bits hold the Unix timestamp in milliseconds, so ids created later sort
+ * after earlier ones and new rows are appended at the end of the primary key index
+ * instead of being scattered across it. The 12 bits following the version are used as a
+ * counter for ids created within the same millisecond, which keeps ids of one generator
+ * strictly increasing; the remaining 62 bits are random.
+ */
+public class UuidV7IdGenerator implements IdGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final int MAX_COUNTER = (1 << COUNTER_BITS) - 1;
+
+    private final Clock clock;
+    private final SecureRandom random = new SecureRandom();
+
+    private long lastMillis = -1;
+    private int counter;
+
+    public UuidV7IdGenerator() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * @param clock source of the embedded timestamps
+     */
+    public UuidV7IdGenerator(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public String newId() {
+        return next().toString();
+    }
+
+    /**
+     * Creates the next UUID of this generator.
+     *
+     * @return a version 7 UUID greater than all UUIDs created before by this generator
+     */
+    public synchronized UUID next() {
+        long millis = clock.millis();
+        if (millis > lastMillis) {
+            lastMillis = millis;
+            counter = random.nextInt(MAX_COUNTER / 2 + 1);
+        } else if (counter < MAX_COUNTER) {
+            counter++;
+        } else {
+            // counter exhausted within one millisecond or the clock went backwards:
+            // continue on the next millisecond to stay monotonic
+            lastMillis++;
+            counter = 0;
+        }
+
+        long mostSignificantBits = (lastMillis & 0xFFFF_FFFF_FFFFL) << 16
+            | 0x7000L
+            | counter;
+        long leastSignificantBits = random.nextLong() & 0x3FFF_FFFF_FFFF_FFFFL | 0x8000_0000_0000_0000L;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    /**
+     * Extracts the creation time embedded in a version 7 UUID.
+     *
+     * @param uuid a version 7 UUID
+     * @return Unix timestamp in milliseconds
+     * @throws IllegalArgumentException if the UUID is not version 7
+     */
+    public static long timestampOf(UUID uuid) throws IllegalArgumentException {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.lstramke.coincollector.repositories;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import io.github.lstramke.coincollector.model.ChangeLogEntry;
+
+/**
+ * Repository abstraction for reading the change log that records the latest change of every
+ * group, collection and coin. The log is written by the storage backend itself as part of each
+ * write, so this repository is read-only.
+ * <p>
+ * <strong>Lifecycle &amp; Transaction Management:</strong> Implementations MUST NOT open, commit, rollback
+ * or close the provided {@link Connection}.
+ */
+public interface ChangeLogStorageRepository {
+
+    /**
+     * Reads the changes of a user's entities after a given version in version order.
+     *
+     * @param connection open JDBC connection; must not be {@code null}
+     * @param ownerId id of the user owning the changed entities; must not be {@code null} or blank
+     * @param since version after which changes are returned; 0 for all
+     * @param limit maximum number of changes to return
+     * @return list of changes (possibly empty, never {@code null})
+     * @throws SQLException if a database access error occurs
+     * @throws IllegalArgumentException if {@code connection} is {@code null}, {@code ownerId} is
+     *         {@code null} or blank, {@code since} is negative or {@code limit} is not positive
+     */
+    List<ChangeLogEntry> getChangesSince(Connection connection, String ownerId, long since, int limit) throws SQLException;
+
+    /**
+     * Reads the last version handed out by the change log. It grows with every change of a
+     * group, collection or coin and never decreases, also not when log rows are dropped, so an
+     * unchanged value means the logged entities are unchanged.
+     *
+     * @param connection open JDBC connection; must not be {@code null}
+     * @return the last version, 0 if nothing was logged yet
+     * @throws SQLException if a database access error occurs
+     * @throws IllegalArgumentException if {@code connection} is {@code null}
+     */
+    long getLatestVersion(Connection connection) throws SQLException;
+}
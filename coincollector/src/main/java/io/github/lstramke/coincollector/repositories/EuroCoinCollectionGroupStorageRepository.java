@@ -77,6 +77,16 @@ public interface EuroCoinCollectionGroupStorageRepository {
      */
     List<EuroCoinCollectionGroup> getAllByUser(Connection connection, String userId) throws SQLException;
 
+    /**
+     * Retrieves all persisted {@link EuroCoinCollectionGroup} rows regardless of owner.
+     *
+     * @param connection open JDBC connection; must not be {@code null}
+     * @return list of groups (never {@code null}); may be empty
+     * @throws SQLException if a database access error occurs
+     * @throws IllegalArgumentException if {@code connection} is {@code null}
+     */
+    List<EuroCoinCollectionGroup> getAll(Connection connection) throws SQLException;
+
     /**
      * Checks if a {@link EuroCoinCollectionGroup} with the given id exists.
      *
@@ -78,6 +78,18 @@ public interface EuroCoinCollectionStorageRepository {
      */
     List<EuroCoinCollection> getAll(Connection connection) throws SQLException;
 
+    /**
+     * Retrieves the ids of all collections belonging to a group without loading the
+     * collections themselves.
+     *
+     * @param connection open JDBC connection; must not be {@code null}
+     * @param groupId id of the group; must not be {@code null} or blank
+     * @return list of collection ids (never {@code null}); may be empty
+     * @throws SQLException if a database access error occurs
+     * @throws IllegalArgumentException if {@code connection} is {@code null} or if {@code groupId} is {@code null} or blank
+     */
+    List<String> getIdsByGroup(Connection connection, String groupId) throws SQLException;
+
     /**
      * Checks if a {@link EuroCoinCollection} with the given id exists.
      *
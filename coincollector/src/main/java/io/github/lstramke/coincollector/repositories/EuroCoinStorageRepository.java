@@ -2,10 +2,17 @@ package io.github.lstramke.coincollector.repositories;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import io.github.lstramke.coincollector.model.CoinFacets;
+import io.github.lstramke.coincollector.model.CoinFilter;
+import io.github.lstramke.coincollector.model.CoinStatistics;
 import io.github.lstramke.coincollector.model.EuroCoin;
+import io.github.lstramke.coincollector.model.EuroCoinBatch;
+import io.github.lstramke.coincollector.model.EuroCoinCatalog;
 
 /**
  * Repository abstraction for persisting and retrieving {@link EuroCoin} entities using a
@@ -75,6 +82,95 @@ public interface EuroCoinStorageRepository {
      */
     List<EuroCoin> getAll(Connection connection) throws SQLException;
 
+    /**
+     * Retrieves all {@link EuroCoin} rows into a compact columnar {@link EuroCoinBatch}
+     * without materializing a {@link EuroCoin} per row.
+     *
+     * @param connection open JDBC connection; must not be {@code null}
+     * @return batch of coins (possibly empty, never {@code null})
+     * @throws SQLException if a database access error occurs
+     */
+    EuroCoinBatch getAllAsBatch(Connection connection) throws SQLException;
+
+    /**
+     * Retrieves the {@link EuroCoin} rows of one collection.
+     *
+     * @param connection open JDBC connection; must not be {@code null}
+     * @param collectionId identifier of the collection; must not be {@code null} or blank
+     * @return list of coins (possibly empty, never {@code null})
+     * @throws SQLException if a database access error occurs
+     * @throws IllegalArgumentException if {@code collectionId} is {@code null} or blank
+     */
+    List<EuroCoin> getAllOfCollection(Connection connection, String collectionId) throws SQLException;
+
+    /**
+     * Aggregates the coins of the given collections into {@link CoinStatistics} using a
+     * grouped query, so only one row per distinct (country, value, year, mint) is read.
+     *
+     * @param connection open JDBC connection; must not be {@code null}
+     * @param collectionIds ids of the collections to aggregate; must not be {@code null} or contain null/blank ids
+     * @return statistics of the coins (empty if no coins or no ids)
+     * @throws SQLException if a database access error occurs
+     * @throws IllegalArgumentException if {@code collectionIds} is invalid
+     */
+    CoinStatistics getStatistics(Connection connection, List<String> collectionIds) throws SQLException;
+
+    /**
+     * Full-text search over the coin descriptions of the given collections, best matches first.
+     * Every word of {@code text} has to occur in the description, words match as prefixes.
+     *
+     * @param connection open JDBC connection; must not be {@code null}
+     * @param text free search text; no results if it contains no letters or digits
+     * @param collectionIds ids of the collections to search in; must not be {@code null} or contain null/blank ids
+     * @param limit maximum number of results; must not be negative
+     * @param offset number of results to skip; must not be negative
+     * @return the matching coins ordered by relevance
+     * @throws SQLException if a database access error occurs
+     * @throws IllegalArgumentException if an argument is invalid
+     */
+    List<EuroCoin> search(Connection connection, String text, List<String> collectionIds, int limit, int offset) throws SQLException;
+
+    /**
+     * Reads one page of the coins of the given collections that match the filter, ordered
+     * by year, value, country, mint and id.
+     *
+     * @param connection open JDBC connection; must not be {@code null}
+     * @param filter criteria the coins have to match; must not be {@code null}
+     * @param collectionIds ids of the collections to read from; must not be {@code null} or contain null/blank ids
+     * @param limit maximum number of results; must not be negative
+     * @param offset number of results to skip; must not be negative
+     * @return the matching coins
+     * @throws SQLException if a database access error occurs
+     * @throws IllegalArgumentException if an argument is invalid
+     */
+    List<EuroCoin> filter(Connection connection, CoinFilter filter, List<String> collectionIds, int limit, int offset) throws SQLException;
+
+    /**
+     * Computes the facet counts of a filter over the coins of the given collections.
+     *
+     * @param connection open JDBC connection; must not be {@code null}
+     * @param filter criteria the counts are computed for; must not be {@code null}
+     * @param collectionIds ids of the collections to count; must not be {@code null} or contain null/blank ids
+     * @return the facet counts (empty if the collections hold no coins)
+     * @throws SQLException if a database access error occurs
+     * @throws IllegalArgumentException if an argument is invalid
+     */
+    CoinFacets getFacets(Connection connection, CoinFilter filter, List<String> collectionIds) throws SQLException;
+
+    /**
+     * Reads which catalog entries each of the given collections owns. Only the distinct
+     * (country, value, year, mint) combinations per collection are read; coins that are not
+     * part of the catalog are ignored.
+     *
+     * @param connection open JDBC connection; must not be {@code null}
+     * @param collectionIds ids of the collections; must not be {@code null} or contain null/blank ids
+     * @param catalog catalog the returned ordinals refer to; must not be {@code null}
+     * @return one bitset of owned catalog ordinals per requested collection id
+     * @throws SQLException if a database access error occurs
+     * @throws IllegalArgumentException if an argument is invalid
+     */
+    Map<String, BitSet> getOwnedCatalogOrdinals(Connection connection, List<String> collectionIds, EuroCoinCatalog catalog) throws SQLException;
+
     /**
      * Checks existence of a {@link EuroCoin} by coinId.
      *
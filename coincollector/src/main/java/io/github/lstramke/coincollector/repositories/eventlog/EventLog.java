@@ -0,0 +1,441 @@
+package io.github.lstramke.coincollector.repositories.eventlog;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.lstramke.coincollector.repositories.memory.MemoryStore;
+import io.github.lstramke.coincollector.repositories.memory.MemoryStore.Snapshot;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation;
+
+/**
+ * Append-only journal of a {@link MemoryStore}: every committed transaction becomes one record
+ * in a segmented log, and the state is rebuilt on startup from the latest snapshot plus the
+ * records after it.
+ * <p>
+ * <strong>Segments:</strong> records are appended through a {@link FileChannel} to
+ * {@code events-<first sequence>.log}; a new segment is started once the current one exceeds
+ * the configured size. A record is {@code [length][crc32][sequence][operation count][operations]}
+ * with length and checksum covering everything after the header.
+ * <p>
+ * <strong>Durability:</strong> appending only writes to the channel. A committing thread then
+ * waits in {@link #awaitDurable(long)}, where one {@code force} covers every record appended so
+ * far, so transactions committing at the same time share one fsync. With a positive fsync
+ * interval commits do not wait; a background thread forces the log periodically instead and a
+ * crash loses at most the records of the last interval.
+ * <p>
+ * <strong>Snapshots:</strong> after the configured number of commits a background thread
+ * writes the state to {@code snapshot-<sequence>.snap} as a {@link SnapshotFile};
+ * {@link #close()} writes a final one. Older snapshots and the segments the snapshot covers are
+ * deleted afterwards.
+ * <p>
+ * <strong>Recovery:</strong> the newest snapshot that passes its checksum is mapped and loaded, and the
+ * records after it are replayed in sequence. A torn or corrupt record at the end of the last
+ * segment is the remainder of an interrupted append and is cut off with a warning; corruption
+ * anywhere else, or a gap in the sequence, fails the recovery.
+ */
+public class EventLog implements MemoryStore.Journal, Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventLog.class);
+    private static final String SEGMENT_PREFIX = "events-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".snap";
+    private static final int SNAPSHOT_MAGIC = 0x43435331;
+    private static final int SNAPSHOT_FORMAT = 1;
+    private static final int HEADER_BYTES = 8;
+    private static final int MAX_RECORD_BYTES = 64 * 1024 * 1024;
+
+    private final Path directory;
+    private final MemoryStore store;
+    private final long segmentBytes;
+    private final int snapshotInterval;
+    private final long fsyncIntervalMillis;
+    private final ScheduledExecutorService background;
+    private final Object syncLock = new Object();
+    private final Object snapshotLock = new Object();
+
+    private volatile FileChannel channel;
+    private volatile long appendedSequence;
+    private volatile long durableSequence;
+    private long commitsSinceSnapshot;
+    private boolean failed;
+    private volatile boolean closed;
+
+    private EventLog(Path directory, MemoryStore store, long segmentBytes, int snapshotInterval, long fsyncIntervalMillis) {
+        this.directory = directory;
+        this.store = store;
+        this.segmentBytes = segmentBytes;
+        this.snapshotInterval = snapshotInterval;
+        this.fsyncIntervalMillis = fsyncIntervalMillis;
+        this.background = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "event-log");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Recovers the state of an empty store from a directory and attaches the log as its journal.
+     *
+     * @param directory directory of segments and snapshots; created if missing
+     * @param store the empty store to fill
+     * @param segmentBytes size after which a new segment is started
+     * @param snapshotInterval number of commits after which a snapshot is written
+     * @param fsyncIntervalMillis 0 to make every commit durable before it returns, otherwise the
+     *        interval of the background fsync
+     * @return the open log
+     * @throws IOException if the files cannot be read or are corrupt beyond a torn tail
+     */
+    public static EventLog open(Path directory, MemoryStore store, long segmentBytes, int snapshotInterval, long fsyncIntervalMillis)
+        throws IOException {
+        if (segmentBytes <= 0 || snapshotInterval <= 0 || fsyncIntervalMillis < 0) {
+            throw new IllegalArgumentException("segmentBytes and snapshotInterval must be positive, fsyncIntervalMillis not negative");
+        }
+        Files.createDirectories(directory);
+        EventLog eventLog = new EventLog(directory, store, segmentBytes, snapshotInterval, fsyncIntervalMillis);
+        eventLog.recover();
+        store.setJournal(eventLog);
+        if (fsyncIntervalMillis > 0) {
+            eventLog.background.scheduleWithFixedDelay(eventLog::syncQuietly, fsyncIntervalMillis, fsyncIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+        return eventLog;
+    }
+
+    // ---- recovery --------------------------------------------------------------------------
+
+    private void recover() throws IOException {
+        long snapshotPosition = loadSnapshot();
+        List<Path> segments = files(SEGMENT_PREFIX, SEGMENT_SUFFIX);
+        long sequence = snapshotPosition;
+        int replayed = 0;
+        for (int i = 0; i < segments.size(); i++) {
+            Path segment = segments.get(i);
+            boolean last = i == segments.size() - 1;
+            long validBytes = 0;
+            try (FileChannel segmentChannel = FileChannel.open(segment, StandardOpenOption.READ);
+                 DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(segmentChannel)))) {
+                long size = segmentChannel.size();
+                while (validBytes < size) {
+                    byte[] body = readRecord(in, size - validBytes);
+                    if (body == null) {
+                        if (!last) {
+                            throw new IOException("Corrupt record in " + segment.getFileName() + " at offset " + validBytes);
+                        }
+                        break;
+                    }
+                    ByteBuffer record = ByteBuffer.wrap(body);
+                    long recordSequence = record.getLong();
+                    if (recordSequence > snapshotPosition) {
+                        if (recordSequence != sequence + 1) {
+                            throw new IOException("Missing records before sequence " + recordSequence + " in " + segment.getFileName());
+                        }
+                        try {
+                            store.replay(EventLogCodec.decodeOperations(record));
+                        } catch (SQLException e) {
+                            throw new IOException("Record " + recordSequence + " does not apply: " + e.getMessage(), e);
+                        }
+                        sequence = recordSequence;
+                        replayed++;
+                    }
+                    validBytes += HEADER_BYTES + body.length;
+                }
+                if (validBytes < size) {
+                    logger.warn("Event log segment {} ends with an incomplete record, cutting off {} bytes",
+                        segment.getFileName(), size - validBytes);
+                }
+            }
+            if (last) {
+                channel = FileChannel.open(segment, StandardOpenOption.WRITE);
+                channel.truncate(validBytes);
+                channel.position(validBytes);
+            }
+        }
+        if (channel == null) {
+            channel = openSegment(sequence + 1);
+        }
+        appendedSequence = sequence;
+        durableSequence = sequence;
+        logger.info("Event log recovered: snapshot={}, replayedCommits={}, sequence={}", snapshotPosition, replayed, sequence);
+    }
+
+    /**
+     * Reads the body of the next record.
+     *
+     * @return the body, or null if the record is incomplete or fails its checksum
+     */
+    private static byte[] readRecord(DataInputStream in, long remaining) throws IOException {
+        if (remaining < HEADER_BYTES) {
+            return null;
+        }
+        int length = in.readInt();
+        int checksum = in.readInt();
+        if (length < Long.BYTES + Integer.BYTES || length > MAX_RECORD_BYTES || length > remaining - HEADER_BYTES) {
+            return null;
+        }
+        byte[] body = new byte[length];
+        in.readFully(body);
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        return (int) crc.getValue() == checksum ? body : null;
+    }
+
+    /**
+     * Restores the newest valid snapshot into the store.
+     *
+     * @return the sequence the snapshot covers, 0 if there is none
+     */
+    private long loadSnapshot() throws IOException {
+        List<Path> snapshots = files(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            Path file = snapshots.get(i);
+            try {
+                Snapshot snapshot = readSnapshot(file);
+                store.restore(snapshot);
+                logger.info("Event log snapshot {} loaded: users={}, coins={}", file.getFileName(), snapshot.users().size(), snapshot.coins().size());
+                return snapshot.position();
+            } catch (IOException e) {
+                logger.warn("Skipping unreadable event log snapshot {}: {}", file.getFileName(), e.getMessage());
+            }
+        }
+        List<Path> segments = files(SEGMENT_PREFIX, SEGMENT_SUFFIX);
+        if (!segments.isEmpty() && firstSequence(segments.get(0), SEGMENT_PREFIX, SEGMENT_SUFFIX) > 1) {
+            throw new IOException("No readable snapshot for the segments starting at " + segments.get(0).getFileName());
+        }
+        return 0;
+    }
+
+    private static Snapshot readSnapshot(Path file) throws IOException {
+        return EventLogCodec.readSnapshot(SnapshotFile.read(file, SNAPSHOT_MAGIC, SNAPSHOT_FORMAT));
+    }
+
+    // ---- journal ---------------------------------------------------------------------------
+
+    /** {@inheritDoc} */
+    @Override
+    public long append(List<StoreOperation> operations) throws IOException {
+        if (closed) {
+            throw new IOException("Event log is closed");
+        }
+        if (failed) {
+            throw new IOException("Event log is not writable after an earlier write error");
+        }
+        long sequence = appendedSequence + 1;
+        byte[] body = EventLogCodec.encodeCommit(sequence, operations);
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + body.length);
+        record.putInt(body.length).putInt((int) crc.getValue()).put(body).flip();
+
+        FileChannel current = channel;
+        if (current.position() > 0 && current.position() + record.remaining() > segmentBytes) {
+            current = rollSegment(sequence);
+        }
+        long start = current.position();
+        try {
+            while (record.hasRemaining()) {
+                current.write(record);
+            }
+        } catch (IOException e) {
+            try {
+                current.truncate(start);
+                current.position(start);
+            } catch (IOException truncateFailure) {
+                failed = true;
+                e.addSuppressed(truncateFailure);
+            }
+            throw e;
+        }
+        appendedSequence = sequence;
+        if (++commitsSinceSnapshot >= snapshotInterval) {
+            commitsSinceSnapshot = 0;
+            try {
+                background.execute(this::snapshotQuietly);
+            } catch (RejectedExecutionException e) {
+                logger.debug("Event log snapshot skipped, log is closing");
+            }
+        }
+        return sequence;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void awaitDurable(long position) throws IOException {
+        if (fsyncIntervalMillis == 0 && durableSequence < position) {
+            sync();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long position() {
+        return appendedSequence;
+    }
+
+    /**
+     * Forces everything appended so far to disk. Threads arriving while a force runs wait for
+     * it and return without forcing again if it covered their records.
+     */
+    private void sync() throws IOException {
+        long target = appendedSequence;
+        synchronized (syncLock) {
+            if (durableSequence >= target) {
+                return;
+            }
+            target = appendedSequence;
+            channel.force(false);
+            durableSequence = target;
+        }
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (IOException e) {
+            logger.error("Event log fsync failed", e);
+        }
+    }
+
+    /**
+     * Forces and closes the current segment and starts a new one. Called by the appending
+     * thread; the sync lock keeps a concurrent force away from the closed channel.
+     */
+    private FileChannel rollSegment(long firstSequence) throws IOException {
+        synchronized (syncLock) {
+            FileChannel previous = channel;
+            previous.force(false);
+            durableSequence = appendedSequence;
+            channel = openSegment(firstSequence);
+            previous.close();
+            logger.debug("Event log segment started at sequence {}", firstSequence);
+            return channel;
+        }
+    }
+
+    private FileChannel openSegment(long firstSequence) throws IOException {
+        Path segment = directory.resolve(fileName(SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+        return FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    // ---- snapshots -------------------------------------------------------------------------
+
+    /**
+     * Writes a snapshot of the current state and deletes the files it makes obsolete.
+     *
+     * @return the sequence the snapshot covers
+     * @throws IOException if the snapshot cannot be written
+     */
+    public long snapshot() throws IOException {
+        synchronized (snapshotLock) {
+            Snapshot snapshot = store.snapshot();
+            Path target = directory.resolve(fileName(SNAPSHOT_PREFIX, snapshot.position(), SNAPSHOT_SUFFIX));
+            if (Files.exists(target)) {
+                return snapshot.position();
+            }
+            SnapshotFile.write(target, SNAPSHOT_MAGIC, SNAPSHOT_FORMAT, out -> EventLogCodec.writeSnapshot(out, snapshot));
+            deleteObsoleteFiles(snapshot.position());
+            logger.info("Event log snapshot written: sequence={}, coins={}", snapshot.position(), snapshot.coins().size());
+            return snapshot.position();
+        }
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (IOException | RuntimeException e) {
+            logger.error("Event log snapshot failed", e);
+        }
+    }
+
+    /**
+     * Deletes older snapshots and the segments whose records all lie at or before the snapshot.
+     * The segment being appended to is never deleted, as no segment follows it.
+     */
+    private void deleteObsoleteFiles(long snapshotPosition) throws IOException {
+        for (Path file : files(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+            if (firstSequence(file, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX) < snapshotPosition) {
+                Files.deleteIfExists(file);
+            }
+        }
+        List<Path> segments = files(SEGMENT_PREFIX, SEGMENT_SUFFIX);
+        for (int i = 0; i + 1 < segments.size(); i++) {
+            if (firstSequence(segments.get(i + 1), SEGMENT_PREFIX, SEGMENT_SUFFIX) <= snapshotPosition + 1) {
+                Files.deleteIfExists(segments.get(i));
+            }
+        }
+    }
+
+    // ---- files -----------------------------------------------------------------------------
+
+    private static String fileName(String prefix, long sequence, String suffix) {
+        return String.format("%s%020d%s", prefix, sequence, suffix);
+    }
+
+    private static long firstSequence(Path file, String prefix, String suffix) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length()));
+    }
+
+    /**
+     * @return the files with the given prefix and suffix, ordered by their sequence
+     */
+    private List<Path> files(String prefix, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> matching = new ArrayList<>(files
+                .filter(file -> {
+                    String name = file.getFileName().toString();
+                    return name.startsWith(prefix) && name.endsWith(suffix)
+                        && name.length() == prefix.length() + 20 + suffix.length();
+                })
+                .toList());
+            matching.sort((a, b) -> Long.compare(firstSequence(a, prefix, suffix), firstSequence(b, prefix, suffix)));
+            return matching;
+        }
+    }
+
+    /**
+     * Stops the background work, writes a final snapshot and closes the current segment.
+     * Commits after closing fail.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        background.shutdown();
+        try {
+            background.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            snapshot();
+        } finally {
+            closed = true;
+            synchronized (syncLock) {
+                channel.force(false);
+                channel.close();
+            }
+            logger.info("Event log closed at sequence {}", appendedSequence);
+        }
+    }
+}
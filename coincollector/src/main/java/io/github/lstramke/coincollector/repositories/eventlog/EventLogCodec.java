@@ -0,0 +1,251 @@
+package io.github.lstramke.coincollector.repositories.eventlog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.github.lstramke.coincollector.model.ChangeEvent.Entity;
+import io.github.lstramke.coincollector.model.CoinCountry;
+import io.github.lstramke.coincollector.model.CoinValue;
+import io.github.lstramke.coincollector.model.Mint;
+import io.github.lstramke.coincollector.repositories.memory.MemoryStore.ChangeRow;
+import io.github.lstramke.coincollector.repositories.memory.MemoryStore.Snapshot;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation.CoinRow;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation.CollectionRow;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation.Delete;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation.GroupRow;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation.Table;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation.UserRow;
+
+/**
+ * Binary encoding of committed transactions and snapshots. Values are written field by field
+ * with their external representation (ISO codes, cent values, mint marks, enum names), so the
+ * files do not depend on ordinals or in-memory encodings like
+ * {@link io.github.lstramke.coincollector.model.PackedEuroCoin}. Strings are encoded as in
+ * {@link SnapshotFile}. Decoding reads from {@link ByteBuffer}s, i.e. record bodies and mapped
+ * snapshot files.
+ */
+final class EventLogCodec {
+
+    private static final byte USER = 1;
+    private static final byte GROUP = 2;
+    private static final byte COLLECTION = 3;
+    private static final byte COIN = 4;
+    private static final byte DELETE = 5;
+
+    private EventLogCodec() {}
+
+    /**
+     * Encodes the record body of one committed transaction.
+     *
+     * @param sequence sequence number of the commit
+     * @param operations the operations of the transaction
+     * @return sequence number, operation count and the operations
+     */
+    static byte[] encodeCommit(long sequence, List<StoreOperation> operations) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * operations.size() + 12);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeLong(sequence);
+        out.writeInt(operations.size());
+        for (StoreOperation operation : operations) {
+            writeOperation(out, operation);
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes the operations of a record body after its sequence number.
+     */
+    static List<StoreOperation> decodeOperations(ByteBuffer in) throws IOException {
+        try {
+            int count = SnapshotFile.readCount(in);
+            List<StoreOperation> operations = new ArrayList<>(Math.min(count, 1024));
+            for (int i = 0; i < count; i++) {
+                operations.add(readOperation(in));
+            }
+            return operations;
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Unexpected end of record", e);
+        }
+    }
+
+    private static void writeOperation(DataOutput out, StoreOperation operation) throws IOException {
+        switch (operation) {
+            case UserRow row -> {
+                out.writeByte(USER);
+                writeUser(out, row);
+            }
+            case GroupRow row -> {
+                out.writeByte(GROUP);
+                writeGroup(out, row);
+            }
+            case CollectionRow row -> {
+                out.writeByte(COLLECTION);
+                writeCollection(out, row);
+            }
+            case CoinRow row -> {
+                out.writeByte(COIN);
+                writeCoin(out, row);
+            }
+            case Delete delete -> {
+                out.writeByte(DELETE);
+                writeString(out, delete.table().name());
+                writeString(out, delete.id());
+            }
+        }
+    }
+
+    private static StoreOperation readOperation(ByteBuffer in) throws IOException {
+        byte type = in.get();
+        return switch (type) {
+            case USER -> readUser(in);
+            case GROUP -> readGroup(in);
+            case COLLECTION -> readCollection(in);
+            case COIN -> readCoin(in);
+            case DELETE -> new Delete(valueOf(Table.class, readString(in)), readString(in));
+            default -> throw new IOException("Unknown operation type: " + type);
+        };
+    }
+
+    /**
+     * Writes the state of a snapshot; header and checksum are written by the caller.
+     */
+    static void writeSnapshot(DataOutput out, Snapshot snapshot) throws IOException {
+        out.writeLong(snapshot.position());
+        out.writeLong(snapshot.changeVersion());
+        out.writeInt(snapshot.users().size());
+        for (UserRow row : snapshot.users()) {
+            writeUser(out, row);
+        }
+        out.writeInt(snapshot.groups().size());
+        for (GroupRow row : snapshot.groups()) {
+            writeGroup(out, row);
+        }
+        out.writeInt(snapshot.collections().size());
+        for (CollectionRow row : snapshot.collections()) {
+            writeCollection(out, row);
+        }
+        out.writeInt(snapshot.coins().size());
+        for (CoinRow row : snapshot.coins()) {
+            writeCoin(out, row);
+        }
+        out.writeInt(snapshot.changes().size());
+        for (ChangeRow row : snapshot.changes()) {
+            out.writeLong(row.version());
+            writeString(out, row.ownerId());
+            writeString(out, row.entity().name());
+            writeString(out, row.entityId());
+            writeString(out, row.parentId());
+            out.writeBoolean(row.deleted());
+        }
+    }
+
+    static Snapshot readSnapshot(ByteBuffer in) throws IOException {
+        try {
+            long position = in.getLong();
+            long changeVersion = in.getLong();
+            List<UserRow> users = new ArrayList<>();
+            for (int i = SnapshotFile.readCount(in); i > 0; i--) {
+                users.add(readUser(in));
+            }
+            List<GroupRow> groups = new ArrayList<>();
+            for (int i = SnapshotFile.readCount(in); i > 0; i--) {
+                groups.add(readGroup(in));
+            }
+            List<CollectionRow> collections = new ArrayList<>();
+            for (int i = SnapshotFile.readCount(in); i > 0; i--) {
+                collections.add(readCollection(in));
+            }
+            List<CoinRow> coins = new ArrayList<>();
+            for (int i = SnapshotFile.readCount(in); i > 0; i--) {
+                coins.add(readCoin(in));
+            }
+            List<ChangeRow> changes = new ArrayList<>();
+            for (int i = SnapshotFile.readCount(in); i > 0; i--) {
+                changes.add(new ChangeRow(in.getLong(), readString(in), valueOf(Entity.class, readString(in)),
+                    readString(in), readString(in), in.get() != 0));
+            }
+            return new Snapshot(position, changeVersion, users, groups, collections, coins, changes);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Unexpected end of snapshot", e);
+        }
+    }
+
+    private static void writeUser(DataOutput out, UserRow row) throws IOException {
+        writeString(out, row.id());
+        writeString(out, row.username());
+    }
+
+    private static UserRow readUser(ByteBuffer in) throws IOException {
+        return new UserRow(readString(in), readString(in));
+    }
+
+    private static void writeGroup(DataOutput out, GroupRow row) throws IOException {
+        writeString(out, row.id());
+        writeString(out, row.name());
+        writeString(out, row.ownerId());
+    }
+
+    private static GroupRow readGroup(ByteBuffer in) throws IOException {
+        return new GroupRow(readString(in), readString(in), readString(in));
+    }
+
+    private static void writeCollection(DataOutput out, CollectionRow row) throws IOException {
+        writeString(out, row.id());
+        writeString(out, row.name());
+        writeString(out, row.groupId());
+    }
+
+    private static CollectionRow readCollection(ByteBuffer in) throws IOException {
+        return new CollectionRow(readString(in), readString(in), readString(in));
+    }
+
+    private static void writeCoin(DataOutput out, CoinRow row) throws IOException {
+        writeString(out, row.id());
+        out.writeInt(row.year());
+        out.writeInt(row.value().getCentValue());
+        writeString(out, row.country().getIsoCode());
+        writeString(out, row.mint() != null ? row.mint().getMintMark() : null);
+        writeString(out, row.description());
+        writeString(out, row.collectionId());
+    }
+
+    private static CoinRow readCoin(ByteBuffer in) throws IOException {
+        String id = readString(in);
+        int year = in.getInt();
+        int centValue = in.getInt();
+        String isoCode = readString(in);
+        String mintMark = readString(in);
+        String description = readString(in);
+        String collectionId = readString(in);
+        try {
+            return new CoinRow(id, year, CoinValue.fromCentValue(centValue), CoinCountry.fromIsoCode(isoCode),
+                mintMark != null ? Mint.fromMintMark(mintMark) : null, description, collectionId);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid coin values: " + e.getMessage(), e);
+        }
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        SnapshotFile.writeString(out, value);
+    }
+
+    private static String readString(ByteBuffer in) throws IOException {
+        return SnapshotFile.readString(in);
+    }
+
+    private static <E extends Enum<E>> E valueOf(Class<E> type, String name) throws IOException {
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IOException("Unknown " + type.getSimpleName() + ": " + name, e);
+        }
+    }
+}
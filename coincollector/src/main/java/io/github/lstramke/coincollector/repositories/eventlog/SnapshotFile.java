@@ -0,0 +1,158 @@
+package io.github.lstramke.coincollector.repositories.eventlog;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Framing of binary snapshot files: {@code [magic][format][body][crc32 of everything before]}.
+ * Files are written to a temporary file, forced and moved into place, so a reader sees either
+ * the previous or the complete new file. They are read through a {@link MappedByteBuffer}, so
+ * loading a snapshot is bounded by the page cache rather than by stream copies; the checksum
+ * is verified over the mapping before the body is handed out.
+ * <p>
+ * Strings in snapshots and log records are length-prefixed UTF-8, -1 stands for {@code null}.
+ */
+public final class SnapshotFile {
+
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+    private static final int MAX_STRING_BYTES = 1 << 24;
+
+    /**
+     * Writes the body of a snapshot.
+     */
+    @FunctionalInterface
+    public interface Body {
+        void write(DataOutput out) throws IOException;
+    }
+
+    private SnapshotFile() {}
+
+    /**
+     * Atomically replaces {@code target} with a snapshot file.
+     *
+     * @param target the file to write
+     * @param magic identifies the kind of snapshot
+     * @param format version of the body layout
+     * @param body writes the body
+     * @throws IOException if the file cannot be written; {@code target} is unchanged then
+     */
+    public static void write(Path target, int magic, int format, Body body) throws IOException {
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel file = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream fileOut = Channels.newOutputStream(file);
+            CheckedOutputStream checked = new CheckedOutputStream(new BufferedOutputStream(fileOut), new CRC32());
+            DataOutputStream out = new DataOutputStream(checked);
+            out.writeInt(magic);
+            out.writeInt(format);
+            body.write(out);
+            out.flush();
+            DataOutputStream trailer = new DataOutputStream(fileOut);
+            trailer.writeLong(checked.getChecksum().getValue());
+            trailer.flush();
+            file.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Maps a snapshot file and verifies checksum, magic and format.
+     *
+     * @param file the file to read
+     * @param magic the expected kind of snapshot
+     * @param format the expected version of the body layout
+     * @return the body, read-only and positioned at its start
+     * @throws IOException if the file cannot be read, is truncated or fails a check
+     */
+    public static ByteBuffer read(Path file, int magic, int format) throws IOException {
+        ByteBuffer content;
+        long checksum;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES + Long.BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Invalid snapshot size: " + size);
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int contentBytes = (int) size - Long.BYTES;
+            content = mapped.slice(0, contentBytes);
+            checksum = mapped.getLong(contentBytes);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(content.duplicate());
+        if (crc.getValue() != checksum) {
+            throw new IOException("Checksum mismatch");
+        }
+        if (content.getInt() != magic) {
+            throw new IOException("Not a snapshot of the expected kind");
+        }
+        int actualFormat = content.getInt();
+        if (actualFormat != format) {
+            throw new IOException("Unsupported snapshot format " + actualFormat);
+        }
+        return content.slice().asReadOnlyBuffer();
+    }
+
+    public static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * @throws IOException if the length is invalid or exceeds the buffer
+     */
+    public static String readString(ByteBuffer in) throws IOException {
+        int length = readInt(in);
+        if (length == -1) {
+            return null;
+        }
+        if (length < 0 || length > MAX_STRING_BYTES || length > in.remaining()) {
+            throw new IOException("Invalid string length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a non-negative count.
+     *
+     * @throws IOException if the count is negative or the buffer is exhausted
+     */
+    public static int readCount(ByteBuffer in) throws IOException {
+        int count = readInt(in);
+        if (count < 0) {
+            throw new IOException("Negative count: " + count);
+        }
+        return count;
+    }
+
+    private static int readInt(ByteBuffer in) throws IOException {
+        try {
+            return in.getInt();
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Unexpected end of data", e);
+        }
+    }
+}
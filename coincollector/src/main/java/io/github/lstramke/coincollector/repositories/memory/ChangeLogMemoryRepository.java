@@ -0,0 +1,54 @@
+package io.github.lstramke.coincollector.repositories.memory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.lstramke.coincollector.model.ChangeLogEntry;
+import io.github.lstramke.coincollector.repositories.ChangeLogStorageRepository;
+
+/**
+ * {@link ChangeLogStorageRepository} reading the change log a {@link MemoryStore} keeps
+ * alongside its writes, with the semantics of the SQLite change log triggers.
+ */
+public class ChangeLogMemoryRepository implements ChangeLogStorageRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeLogMemoryRepository.class);
+    private final MemoryStore store;
+
+    public ChangeLogMemoryRepository(MemoryStore store) {
+        this.store = store;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ChangeLogEntry> getChangesSince(Connection connection, String ownerId, long since, int limit) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (getChangesSince)");
+        }
+        if (ownerId == null || ownerId.isBlank()) {
+            logger.warn("Change log read aborted: ownerId null/blank");
+            throw new IllegalArgumentException("ownerId must not be null or blank (getChangesSince)");
+        }
+        if (since < 0 || limit <= 0) {
+            throw new IllegalArgumentException("since must not be negative and limit must be positive (getChangesSince)");
+        }
+        List<ChangeLogEntry> changes = store.read(connection, () -> store.changesSince(ownerId, since, limit)).stream()
+            .map(row -> new ChangeLogEntry(row.version(), row.entity(), row.entityId(), row.parentId(), row.deleted()))
+            .toList();
+        logger.debug("Change log read: ownerId={}, since={}, count={}", ownerId, since, changes.size());
+        return changes;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getLatestVersion(Connection connection) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (getLatestVersion)");
+        }
+        return store.read(connection, store::changeVersion);
+    }
+}
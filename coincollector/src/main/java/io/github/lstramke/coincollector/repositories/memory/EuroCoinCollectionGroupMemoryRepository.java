@@ -0,0 +1,163 @@
+package io.github.lstramke.coincollector.repositories.memory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.lstramke.coincollector.model.EuroCoinCollectionGroup;
+import io.github.lstramke.coincollector.model.EuroCoinCollectionGroupFactory;
+import io.github.lstramke.coincollector.repositories.EuroCoinCollectionGroupStorageRepository;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation.GroupRow;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation.Table;
+
+/**
+ * {@link EuroCoinCollectionGroupStorageRepository} on a {@link MemoryStore}. Validates its
+ * input like {@link io.github.lstramke.coincollector.repositories.sqlite.EuroCoinCollectionGroupSqliteRepository},
+ * reports constraint violations and missing rows on writes as {@link SQLException} and maps
+ * rows to new domain objects via {@link EuroCoinCollectionGroupFactory}. Lists keep insertion
+ * order. Deleting a group deletes its collections and their coins.
+ */
+public class EuroCoinCollectionGroupMemoryRepository implements EuroCoinCollectionGroupStorageRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(EuroCoinCollectionGroupMemoryRepository.class);
+    private final MemoryStore store;
+    private final EuroCoinCollectionGroupFactory groupFactory;
+
+    public EuroCoinCollectionGroupMemoryRepository(MemoryStore store, EuroCoinCollectionGroupFactory groupFactory) {
+        this.store = store;
+        this.groupFactory = groupFactory;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void create(Connection connection, EuroCoinCollectionGroup group) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (create)");
+        }
+        if (!validateEuroCoinCollectionGroup(group)) {
+            logger.warn("EuroCoinCollectionGroup create aborted: validation failed");
+            throw new IllegalArgumentException("EuroCoinCollectionGroup validation failed (create)");
+        }
+        try {
+            store.insert(connection, new GroupRow(group.getId(), group.getName(), group.getOwnerId()));
+            logger.info("EuroCoinCollectionGroup created: groupId={}, ownerId={}", group.getId(), group.getOwnerId());
+        } catch (SQLException e) {
+            logger.error("EuroCoinCollectionGroup create failed: groupId={}, ownerId={}", group.getId(), group.getOwnerId(), e);
+            throw e;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<EuroCoinCollectionGroup> read(Connection connection, String groupId) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (read)");
+        }
+        if (groupId == null || groupId.isBlank()) {
+            logger.warn("EuroCoinCollectionGroup read aborted: groupId null/blank");
+            throw new IllegalArgumentException("groupId must not be null or blank (read)");
+        }
+        GroupRow row = store.read(connection, () -> store.group(groupId));
+        return row != null ? Optional.of(toGroup(row)) : Optional.empty();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void update(Connection connection, EuroCoinCollectionGroup group) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (update)");
+        }
+        if (!validateEuroCoinCollectionGroup(group)) {
+            logger.warn("EuroCoinCollectionGroup update aborted: validation failed");
+            throw new IllegalArgumentException("EuroCoinCollectionGroup validation failed (update)");
+        }
+        try {
+            store.update(connection, new GroupRow(group.getId(), group.getName(), group.getOwnerId()));
+            logger.info("EuroCoinCollectionGroup updated: groupId={}, ownerId={}", group.getId(), group.getOwnerId());
+        } catch (SQLException e) {
+            logger.error("EuroCoinCollectionGroup update failed: groupId={}, ownerId={}", group.getId(), group.getOwnerId(), e);
+            throw e;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void delete(Connection connection, String groupId) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (delete)");
+        }
+        if (groupId == null || groupId.isBlank()) {
+            logger.warn("EuroCoinCollectionGroup delete aborted: groupId null/blank");
+            throw new IllegalArgumentException("groupId must not be null or blank (delete)");
+        }
+        try {
+            store.delete(connection, Table.GROUPS, groupId);
+            logger.info("EuroCoinCollectionGroup deleted: groupId={}", groupId);
+        } catch (SQLException e) {
+            logger.error("EuroCoinCollectionGroup delete failed: groupId={}", groupId, e);
+            throw e;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<EuroCoinCollectionGroup> getAllByUser(Connection connection, String userId) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (getAllByUser)");
+        }
+        if (userId == null || userId.isBlank()) {
+            logger.warn("EuroCoinCollectionGroup list read aborted: ownerId null/blank");
+            throw new IllegalArgumentException("ownerId must not be null or blank (list)");
+        }
+        List<EuroCoinCollectionGroup> groups = store.read(connection, () -> store.groupsOfOwner(userId)).stream()
+            .map(this::toGroup)
+            .toList();
+        logger.debug("EuroCoinCollectionGroup list read: count={}, ownerId={}", groups.size(), userId);
+        return groups;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<EuroCoinCollectionGroup> getAll(Connection connection) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (getAll)");
+        }
+        List<EuroCoinCollectionGroup> groups = store.read(connection, store::groups).stream()
+            .map(this::toGroup)
+            .toList();
+        logger.debug("EuroCoinCollectionGroup list read: count={}", groups.size());
+        return groups;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean exists(Connection connection, String groupId) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (exists)");
+        }
+        if (groupId == null || groupId.isBlank()) {
+            logger.warn("EuroCoinCollectionGroup exists check aborted: groupId null/blank");
+            throw new IllegalArgumentException("groupId must not be null or blank (exists)");
+        }
+        return store.read(connection, () -> store.group(groupId) != null);
+    }
+
+    private EuroCoinCollectionGroup toGroup(GroupRow row) {
+        return groupFactory.fromValues(row.id(), row.name(), row.ownerId());
+    }
+
+    /**
+     * Same rules as the SQLite repository: non-null group with non-blank id and owner id and
+     * a non-null collection list.
+     */
+    private static boolean validateEuroCoinCollectionGroup(EuroCoinCollectionGroup group) {
+        return group != null
+            && group.getId() != null && !group.getId().isBlank()
+            && group.getOwnerId() != null && !group.getOwnerId().isBlank()
+            && group.getCollections() != null;
+    }
+}
@@ -0,0 +1,161 @@
+package io.github.lstramke.coincollector.repositories.memory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.lstramke.coincollector.model.EuroCoinCollection;
+import io.github.lstramke.coincollector.model.EuroCoinCollectionFactory;
+import io.github.lstramke.coincollector.repositories.EuroCoinCollectionStorageRepository;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation.CollectionRow;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation.Table;
+
+/**
+ * {@link EuroCoinCollectionStorageRepository} on a {@link MemoryStore}. Validates its input
+ * like {@link io.github.lstramke.coincollector.repositories.sqlite.EuroCoinCollectionSqliteRepository},
+ * reports constraint violations and missing rows on writes as {@link SQLException} and maps
+ * rows to new domain objects via {@link EuroCoinCollectionFactory}. Lists keep insertion order.
+ * Deleting a collection deletes its coins.
+ */
+public class EuroCoinCollectionMemoryRepository implements EuroCoinCollectionStorageRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(EuroCoinCollectionMemoryRepository.class);
+    private final MemoryStore store;
+    private final EuroCoinCollectionFactory collectionFactory;
+
+    public EuroCoinCollectionMemoryRepository(MemoryStore store, EuroCoinCollectionFactory collectionFactory) {
+        this.store = store;
+        this.collectionFactory = collectionFactory;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void create(Connection connection, EuroCoinCollection collection) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (create)");
+        }
+        if (!validateEuroCoinCollection(collection)) {
+            logger.warn("EuroCoinCollection create aborted: validation failed");
+            throw new IllegalArgumentException("EuroCoinCollection validation failed (create)");
+        }
+        try {
+            store.insert(connection, new CollectionRow(collection.getId(), collection.getName(), collection.getGroupId()));
+            logger.info("EuroCoinCollection created: collectionId={}, groupId={}", collection.getId(), collection.getGroupId());
+        } catch (SQLException e) {
+            logger.error("EuroCoinCollection create failed: collectionId={}, groupId={}", collection.getId(), collection.getGroupId(), e);
+            throw e;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<EuroCoinCollection> read(Connection connection, String collectionId) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (read)");
+        }
+        if (collectionId == null || collectionId.isBlank()) {
+            logger.warn("EuroCoinCollection read aborted: collectionId null/blank");
+            throw new IllegalArgumentException("collectionId must not be null or blank (read)");
+        }
+        CollectionRow row = store.read(connection, () -> store.collection(collectionId));
+        return row != null ? Optional.of(toCollection(row)) : Optional.empty();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void update(Connection connection, EuroCoinCollection collection) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (update)");
+        }
+        if (!validateEuroCoinCollection(collection)) {
+            logger.warn("EuroCoinCollection update aborted: validation failed");
+            throw new IllegalArgumentException("EuroCoinCollection validation failed (update)");
+        }
+        try {
+            store.update(connection, new CollectionRow(collection.getId(), collection.getName(), collection.getGroupId()));
+            logger.info("EuroCoinCollection updated: collectionId={}, groupId={}", collection.getId(), collection.getGroupId());
+        } catch (SQLException e) {
+            logger.error("EuroCoinCollection update failed: collectionId={}, groupId={}", collection.getId(), collection.getGroupId(), e);
+            throw e;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void delete(Connection connection, String collectionId) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (delete)");
+        }
+        if (collectionId == null || collectionId.isBlank()) {
+            logger.warn("EuroCoinCollection delete aborted: collectionId null/blank");
+            throw new IllegalArgumentException("collectionId must not be null or blank (delete)");
+        }
+        try {
+            store.delete(connection, Table.COLLECTIONS, collectionId);
+            logger.info("EuroCoinCollection deleted: collectionId={}", collectionId);
+        } catch (SQLException e) {
+            logger.error("EuroCoinCollection delete failed: collectionId={}", collectionId, e);
+            throw e;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<EuroCoinCollection> getAll(Connection connection) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (getAll)");
+        }
+        List<EuroCoinCollection> collections = store.read(connection, store::collections).stream()
+            .map(this::toCollection)
+            .toList();
+        logger.debug("EuroCoinCollection list read: count={}", collections.size());
+        return collections;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<String> getIdsByGroup(Connection connection, String groupId) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (getIdsByGroup)");
+        }
+        if (groupId == null || groupId.isBlank()) {
+            logger.warn("EuroCoinCollection id list read aborted: groupId null/blank");
+            throw new IllegalArgumentException("groupId must not be null or blank (getIdsByGroup)");
+        }
+        List<String> collectionIds = store.read(connection, () -> store.collectionIdsOfGroup(groupId));
+        logger.debug("EuroCoinCollection id list read: groupId={}, count={}", groupId, collectionIds.size());
+        return collectionIds;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean exists(Connection connection, String collectionId) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (exists)");
+        }
+        if (collectionId == null || collectionId.isBlank()) {
+            logger.warn("EuroCoinCollection exists check aborted: collectionId null/blank");
+            throw new IllegalArgumentException("collectionId must not be null or blank (exists)");
+        }
+        return store.read(connection, () -> store.collection(collectionId) != null);
+    }
+
+    private EuroCoinCollection toCollection(CollectionRow row) {
+        return collectionFactory.fromValues(row.id(), row.name(), row.groupId());
+    }
+
+    /**
+     * Same rules as the SQLite repository: non-null collection with non-blank id and group id
+     * and a non-null coin list.
+     */
+    private static boolean validateEuroCoinCollection(EuroCoinCollection collection) {
+        return collection != null
+            && collection.getId() != null && !collection.getId().isBlank()
+            && collection.getGroupId() != null && !collection.getGroupId().isBlank()
+            && collection.getCoins() != null;
+    }
+}
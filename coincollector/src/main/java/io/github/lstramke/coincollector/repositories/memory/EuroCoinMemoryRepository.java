@@ -0,0 +1,384 @@
+package io.github.lstramke.coincollector.repositories.memory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.lstramke.coincollector.model.CoinCountry;
+import io.github.lstramke.coincollector.model.CoinFacets;
+import io.github.lstramke.coincollector.model.CoinFilter;
+import io.github.lstramke.coincollector.model.CoinStatistics;
+import io.github.lstramke.coincollector.model.EuroCoin;
+import io.github.lstramke.coincollector.model.EuroCoinBatch;
+import io.github.lstramke.coincollector.model.EuroCoinBuilder;
+import io.github.lstramke.coincollector.model.EuroCoinCatalog;
+import io.github.lstramke.coincollector.model.EuroCoinFactory;
+import io.github.lstramke.coincollector.model.Mint;
+import io.github.lstramke.coincollector.repositories.EuroCoinStorageRepository;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation.CoinRow;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation.Table;
+
+/**
+ * {@link EuroCoinStorageRepository} on a {@link MemoryStore}. Validates its input like
+ * {@link io.github.lstramke.coincollector.repositories.sqlite.EuroCoinSqliteRepository} and
+ * stores the same values: no mint for coins of countries other than Germany and no description
+ * if it equals the generated default.
+ * <p>
+ * Queries scan the coins of the requested collections, which the store indexes by collection:
+ * <ul>
+ *   <li>statistics, facets and catalog ordinals aggregate the scanned coins</li>
+ *   <li>filtered listings use the order of the SQLite query (year, value, country, mint, id)</li>
+ *   <li>the search matches every word as a prefix of a word of the custom descriptions,
+ *       ignoring case and diacritics like the FTS5 tokenizer; best matches are those where the
+ *       matched words make up the largest share of the description</li>
+ * </ul>
+ */
+public class EuroCoinMemoryRepository implements EuroCoinStorageRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(EuroCoinMemoryRepository.class);
+    private static final String WORD_SEPARATOR = "[^\\p{L}\\p{N}]+";
+    private static final Comparator<CoinRow> FILTER_ORDER = Comparator
+        .comparingInt(CoinRow::year)
+        .thenComparingInt(row -> row.value().getCentValue())
+        .thenComparing(row -> row.country().getIsoCode())
+        .thenComparing(row -> row.mint() != null ? row.mint().getMintMark() : null, Comparator.nullsFirst(Comparator.naturalOrder()))
+        .thenComparing(CoinRow::id);
+
+    private final MemoryStore store;
+    private final EuroCoinFactory euroCoinFactory;
+
+    public EuroCoinMemoryRepository(MemoryStore store, EuroCoinFactory euroCoinFactory) {
+        this.store = store;
+        this.euroCoinFactory = euroCoinFactory;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void create(Connection connection, EuroCoin coin) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (create)");
+        }
+        if (!validateEuroCoin(coin)) {
+            logger.warn("EuroCoin create aborted: validation failed");
+            throw new IllegalArgumentException("EuroCoin validation failed (create)");
+        }
+        try {
+            store.insert(connection, toRow(coin));
+            logger.info("EuroCoin created: coinId={}, collectionId={}", coin.getId(), coin.getCollectionId());
+        } catch (SQLException e) {
+            logger.error("EuroCoin create failed: coinId={}, collectionId={}", coin.getId(), coin.getCollectionId(), e);
+            throw e;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<EuroCoin> read(Connection connection, String coinId) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (read)");
+        }
+        if (coinId == null || coinId.isBlank()) {
+            logger.warn("EuroCoin read aborted: coinId null/blank");
+            throw new IllegalArgumentException("coinId must not be null or blank (read)");
+        }
+        CoinRow row = store.read(connection, () -> store.coin(coinId));
+        return row != null ? Optional.of(toCoin(row)) : Optional.empty();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void update(Connection connection, EuroCoin coin) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (update)");
+        }
+        if (!validateEuroCoin(coin)) {
+            logger.warn("EuroCoin update aborted: validation failed");
+            throw new IllegalArgumentException("EuroCoin validation failed (update)");
+        }
+        try {
+            store.update(connection, toRow(coin));
+            logger.info("EuroCoin updated: coinId={}, collectionId={}", coin.getId(), coin.getCollectionId());
+        } catch (SQLException e) {
+            logger.error("EuroCoin update failed: coinId={}, collectionId={}", coin.getId(), coin.getCollectionId(), e);
+            throw e;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void delete(Connection connection, String coinId) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (delete)");
+        }
+        if (coinId == null || coinId.isBlank()) {
+            logger.warn("EuroCoin delete aborted: coinId null/blank");
+            throw new IllegalArgumentException("coinId must not be null or blank (delete)");
+        }
+        try {
+            store.delete(connection, Table.COINS, coinId);
+            logger.info("EuroCoin deleted: coinId={}", coinId);
+        } catch (SQLException e) {
+            logger.error("EuroCoin delete failed: coinId={}", coinId, e);
+            throw e;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<EuroCoin> getAll(Connection connection) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (getAll)");
+        }
+        List<EuroCoin> coins = store.read(connection, store::coins).stream().map(this::toCoin).toList();
+        logger.debug("EuroCoin list read: count={}", coins.size());
+        return coins;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public EuroCoinBatch getAllAsBatch(Connection connection) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (getAllAsBatch)");
+        }
+        List<CoinRow> rows = store.read(connection, store::coins);
+        EuroCoinBatch batch = new EuroCoinBatch(rows.size());
+        for (CoinRow row : rows) {
+            batch.add(row.id(), row.year(), row.value(), row.country(), mintOf(row), row.description(), row.collectionId());
+        }
+        logger.debug("EuroCoin batch read: count={}", batch.size());
+        return batch;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<EuroCoin> getAllOfCollection(Connection connection, String collectionId) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (getAllOfCollection)");
+        }
+        if (collectionId == null || collectionId.isBlank()) {
+            throw new IllegalArgumentException("collectionId must not be null or blank (getAllOfCollection)");
+        }
+        List<EuroCoin> coins = store.read(connection, () -> store.coinsOfCollections(List.of(collectionId))).stream()
+            .map(this::toCoin)
+            .toList();
+        logger.debug("EuroCoin list of collection read: collectionId={}, count={}", collectionId, coins.size());
+        return coins;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CoinStatistics getStatistics(Connection connection, List<String> collectionIds) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (getStatistics)");
+        }
+        checkCollectionIds(collectionIds, "getStatistics");
+
+        CoinStatistics statistics = new CoinStatistics();
+        for (CoinRow row : store.read(connection, () -> store.coinsOfCollections(collectionIds))) {
+            statistics.add(row.country(), row.value(), row.year(), mintOf(row), 1);
+        }
+        logger.debug("EuroCoin statistics computed: collections={}, coins={}", collectionIds.size(), statistics.getCoinCount());
+        return statistics;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<EuroCoin> search(Connection connection, String text, List<String> collectionIds, int limit, int offset) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (search)");
+        }
+        checkCollectionIds(collectionIds, "search");
+        if (limit < 0 || offset < 0) {
+            throw new IllegalArgumentException("limit and offset must not be negative (search)");
+        }
+
+        List<String> words = words(text);
+        if (words.isEmpty() || collectionIds.isEmpty() || limit == 0) {
+            return List.of();
+        }
+
+        record Hit(CoinRow row, double share) {}
+        List<Hit> hits = new ArrayList<>();
+        for (CoinRow row : store.read(connection, () -> store.coinsOfCollections(collectionIds))) {
+            if (row.description() != null) {
+                double share = matchShare(words, words(row.description()));
+                if (share > 0) {
+                    hits.add(new Hit(row, share));
+                }
+            }
+        }
+        hits.sort(Comparator.comparingDouble(Hit::share).reversed());
+        List<EuroCoin> coins = hits.stream().skip(offset).limit(limit).map(hit -> toCoin(hit.row())).toList();
+        logger.debug("EuroCoin search finished: collections={}, hits={}", collectionIds.size(), coins.size());
+        return coins;
+    }
+
+    /**
+     * Splits text into lower case words without diacritics.
+     */
+    static List<String> words(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD).replaceAll("\\p{M}", "").toLowerCase(Locale.ROOT);
+        List<String> words = new ArrayList<>();
+        for (String word : normalized.split(WORD_SEPARATOR)) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * @return the share of description words matched by a search word, or 0 if a search word
+     *         is no prefix of any description word
+     */
+    static double matchShare(List<String> searchWords, List<String> descriptionWords) {
+        for (String searchWord : searchWords) {
+            if (descriptionWords.stream().noneMatch(word -> word.startsWith(searchWord))) {
+                return 0;
+            }
+        }
+        long matched = descriptionWords.stream()
+            .filter(word -> searchWords.stream().anyMatch(word::startsWith))
+            .count();
+        return (double) matched / descriptionWords.size();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<EuroCoin> filter(Connection connection, CoinFilter filter, List<String> collectionIds, int limit, int offset) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (filter)");
+        }
+        if (filter == null) {
+            throw new IllegalArgumentException("filter must not be null (filter)");
+        }
+        checkCollectionIds(collectionIds, "filter");
+        if (limit < 0 || offset < 0) {
+            throw new IllegalArgumentException("limit and offset must not be negative (filter)");
+        }
+        if (collectionIds.isEmpty() || limit == 0) {
+            return List.of();
+        }
+
+        List<EuroCoin> coins = store.read(connection, () -> store.coinsOfCollections(collectionIds)).stream()
+            .filter(row -> filter.matches(row.collectionId(), row.country(), row.value(), row.year(), mintOf(row)))
+            .sorted(FILTER_ORDER)
+            .skip(offset)
+            .limit(limit)
+            .map(this::toCoin)
+            .toList();
+        logger.debug("EuroCoin filter finished: collections={}, coins={}", collectionIds.size(), coins.size());
+        return coins;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CoinFacets getFacets(Connection connection, CoinFilter filter, List<String> collectionIds) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (getFacets)");
+        }
+        if (filter == null) {
+            throw new IllegalArgumentException("filter must not be null (getFacets)");
+        }
+        checkCollectionIds(collectionIds, "getFacets");
+
+        CoinFacets facets = new CoinFacets(filter);
+        for (CoinRow row : store.read(connection, () -> store.coinsOfCollections(collectionIds))) {
+            facets.add(row.collectionId(), row.country(), row.value(), row.year(), mintOf(row), 1);
+        }
+        logger.debug("EuroCoin facets computed: collections={}, matches={}", collectionIds.size(), facets.getTotal());
+        return facets;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, BitSet> getOwnedCatalogOrdinals(Connection connection, List<String> collectionIds, EuroCoinCatalog catalog) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (getOwnedCatalogOrdinals)");
+        }
+        if (catalog == null) {
+            throw new IllegalArgumentException("catalog must not be null (getOwnedCatalogOrdinals)");
+        }
+        checkCollectionIds(collectionIds, "getOwnedCatalogOrdinals");
+
+        Map<String, BitSet> ownedOrdinals = new LinkedHashMap<>();
+        collectionIds.forEach(collectionId -> ownedOrdinals.put(collectionId, new BitSet(catalog.size())));
+        int ignored = 0;
+        for (CoinRow row : store.read(connection, () -> store.coinsOfCollections(collectionIds))) {
+            int ordinal = catalog.ordinalOf(row.country(), row.value(), row.year(), mintOf(row));
+            if (ordinal >= 0) {
+                ownedOrdinals.get(row.collectionId()).set(ordinal);
+            } else {
+                ignored++;
+            }
+        }
+        logger.debug("EuroCoin catalog ordinals read: collections={}, ignoredCoins={}", collectionIds.size(), ignored);
+        return ownedOrdinals;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean exists(Connection connection, String coinId) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (exists)");
+        }
+        if (coinId == null || coinId.isBlank()) {
+            logger.warn("EuroCoin exists check aborted: coinId null/blank");
+            throw new IllegalArgumentException("coinId must not be null or blank (exists)");
+        }
+        return store.read(connection, () -> store.coin(coinId) != null);
+    }
+
+    private static void checkCollectionIds(List<String> collectionIds, String method) {
+        if (collectionIds == null || collectionIds.stream().anyMatch(id -> id == null || id.isBlank())) {
+            throw new IllegalArgumentException("collectionIds must not be null or contain null/blank ids (" + method + ")");
+        }
+    }
+
+    private static CoinRow toRow(EuroCoin coin) {
+        return new CoinRow(
+            coin.getId(),
+            coin.getYear(),
+            coin.getValue(),
+            coin.getMintCountry(),
+            coin.getMintCountry() == CoinCountry.GERMANY ? coin.getMint() : null,
+            coin.hasCustomDescription() ? coin.getDescription().toString() : null,
+            coin.getCollectionId());
+    }
+
+    private static Mint mintOf(CoinRow row) {
+        return row.mint() != null ? row.mint() : Mint.UNKOWN;
+    }
+
+    private EuroCoin toCoin(CoinRow row) {
+        return euroCoinFactory.fromValues(row.id(), row.year(), row.value(), row.country(), mintOf(row), row.description(), row.collectionId());
+    }
+
+    /**
+     * Same rules as the SQLite repository: non-blank id, year not before the first euro coins,
+     * value, country and collection id present and a mint for German coins.
+     */
+    private static boolean validateEuroCoin(EuroCoin coin) {
+        return coin != null
+            && coin.getId() != null && !coin.getId().isBlank()
+            && coin.getYear() >= EuroCoinBuilder.EURO_COIN_START_YEAR
+            && coin.getValue() != null
+            && coin.getMintCountry() != null
+            && (coin.getMintCountry() != CoinCountry.GERMANY || coin.getMint() != null)
+            && coin.getCollectionId() != null && !coin.getCollectionId().isBlank();
+    }
+}
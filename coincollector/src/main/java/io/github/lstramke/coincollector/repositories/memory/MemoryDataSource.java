@@ -0,0 +1,111 @@
+package io.github.lstramke.coincollector.repositories.memory;
+
+import java.io.PrintWriter;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+/**
+ * {@link DataSource} handing out connections to a {@link MemoryStore}, so the services manage
+ * transactions the same way for every storage backend.
+ * <p>
+ * The connections are dynamic proxies that only implement what the services and the memory
+ * repositories use: auto-commit, commit, rollback, close and unwrapping to the transaction
+ * state. Everything else, statements in particular, throws {@link SQLFeatureNotSupportedException}.
+ */
+public class MemoryDataSource implements DataSource {
+
+    private final MemoryStore store;
+
+    public MemoryDataSource(MemoryStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Connection getConnection() {
+        MemoryTransaction transaction = new MemoryTransaction(store);
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "setAutoCommit" -> {
+                    transaction.setAutoCommit((Boolean) args[0]);
+                    yield null;
+                }
+                case "getAutoCommit" -> transaction.getAutoCommit();
+                case "commit" -> {
+                    transaction.commit();
+                    yield null;
+                }
+                case "rollback" -> {
+                    if (args != null) {
+                        throw new SQLFeatureNotSupportedException("Savepoints are not supported by the in-memory storage");
+                    }
+                    transaction.rollback();
+                    yield null;
+                }
+                case "close" -> {
+                    transaction.close();
+                    yield null;
+                }
+                case "isClosed" -> transaction.isClosed();
+                case "isValid" -> !transaction.isClosed();
+                case "unwrap" -> {
+                    if (!((Class<?>) args[0]).isInstance(transaction)) {
+                        throw new SQLException("Not a wrapper for " + args[0]);
+                    }
+                    yield transaction;
+                }
+                case "isWrapperFor" -> ((Class<?>) args[0]).isInstance(transaction);
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                case "toString" -> "MemoryConnection@" + Integer.toHexString(System.identityHashCode(proxy));
+                default -> throw new SQLFeatureNotSupportedException(method.getName() + " is not supported by the in-memory storage");
+            });
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) {
+        return getConnection();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("Not a wrapper for " + iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this);
+    }
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return null;
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) {
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) {
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return 0;
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+}
@@ -0,0 +1,732 @@
+package io.github.lstramke.coincollector.repositories.memory;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import io.github.lstramke.coincollector.model.ChangeEvent.Entity;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation.CoinRow;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation.CollectionRow;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation.Delete;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation.GroupRow;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation.Table;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation.UserRow;
+
+/**
+ * In-memory state of users, groups, collections, coins and the change log, with the
+ * constraints and cascades of the SQLite schema:
+ * <ul>
+ *   <li>primary keys, unique usernames and unique group and collection names</li>
+ *   <li>foreign keys from groups to users, collections to groups and coins to collections;
+ *       deleting a row deletes the rows referencing it</li>
+ *   <li>a change log with one row per group, collection and coin that gets a new version on
+ *       every change and a tombstone on delete, maintained like the schema triggers do</li>
+ * </ul>
+ * Violations are reported as {@link SQLException}, so the repositories on top of the store
+ * behave like their SQLite counterparts.
+ * <p>
+ * Access goes through the {@link Connection}s of a {@link MemoryDataSource}. Reads take a
+ * shared lock. The first write of a transaction takes the exclusive lock and keeps it until
+ * commit or rollback, so transactions are serializable and see their own writes; every change
+ * records an undo action for rollback. On commit the operations of the transaction are handed
+ * to the {@link Journal}, if one is set, before the lock is released, and the commit returns
+ * once the journal reports them durable. Without a journal the store is purely in memory.
+ */
+public class MemoryStore {
+
+    /**
+     * Persists the operations of committed transactions.
+     */
+    public interface Journal {
+
+        /**
+         * Appends the operations of one transaction. Called with the exclusive lock held, so
+         * transactions are appended in commit order.
+         *
+         * @param operations the operations in the order they were applied
+         * @return the position to pass to {@link #awaitDurable(long)}
+         * @throws IOException if the operations could not be written; the transaction is rolled back
+         */
+        long append(List<StoreOperation> operations) throws IOException;
+
+        /**
+         * Waits until everything up to a position is durable. Called after the lock was released.
+         *
+         * @param position a position returned by {@link #append(List)}
+         * @throws IOException if the operations could not be made durable
+         */
+        void awaitDurable(long position) throws IOException;
+
+        /**
+         * @return the position of the last appended transaction; called with a lock held
+         */
+        long position();
+    }
+
+    /**
+     * Row of the change log.
+     *
+     * @param version position of the change in the log
+     * @param ownerId owner of the changed entity
+     * @param entity kind of the changed entity
+     * @param entityId id of the changed entity
+     * @param parentId id of the collection of a coin or of the group of a collection; {@code null} for groups
+     * @param deleted whether the entity was deleted (tombstone)
+     */
+    public record ChangeRow(long version, String ownerId, Entity entity, String entityId, String parentId, boolean deleted) {}
+
+    /**
+     * Consistent copy of the complete state.
+     *
+     * @param position journal position the state corresponds to; 0 without journal
+     * @param changeVersion last version handed out by the change log
+     * @param users the users in insertion order
+     * @param groups the groups in insertion order
+     * @param collections the collections in insertion order
+     * @param coins the coins in insertion order
+     * @param changes the change log rows ordered by version
+     */
+    public record Snapshot(long position, long changeVersion, List<UserRow> users, List<GroupRow> groups,
+        List<CollectionRow> collections, List<CoinRow> coins, List<ChangeRow> changes) {}
+
+    /**
+     * How a row is written.
+     */
+    enum Mode {
+        /** The row must not exist yet. */
+        INSERT,
+        /** The row must exist. */
+        UPDATE,
+        /** Inserted or replaced, used when replaying committed operations. */
+        REPLAY
+    }
+
+    private record ChangeKey(Entity entity, String id) {}
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile Journal journal;
+    private MemoryTransaction writer;
+    private Deque<Runnable> undo;
+
+    private final Map<String, UserRow> users = new LinkedHashMap<>();
+    private final Map<String, String> userIdsByName = new HashMap<>();
+    private final Map<String, GroupRow> groups = new LinkedHashMap<>();
+    private final Map<String, String> groupIdsByName = new HashMap<>();
+    private final Map<String, Set<String>> groupIdsByOwner = new HashMap<>();
+    private final Map<String, CollectionRow> collections = new LinkedHashMap<>();
+    private final Map<String, String> collectionIdsByName = new HashMap<>();
+    private final Map<String, Set<String>> collectionIdsByGroup = new HashMap<>();
+    private final Map<String, CoinRow> coins = new LinkedHashMap<>();
+    private final Map<String, Set<String>> coinIdsByCollection = new HashMap<>();
+
+    private final Map<ChangeKey, ChangeRow> changes = new HashMap<>();
+    private final Map<String, NavigableMap<Long, ChangeRow>> changesByOwner = new HashMap<>();
+    private final Map<ChangeKey, Set<String>> changedIdsByParent = new HashMap<>();
+    private long changeVersion;
+
+    /**
+     * Sets the journal committed transactions are appended to.
+     *
+     * @param journal the journal, or {@code null} to keep the state in memory only
+     */
+    public void setJournal(Journal journal) {
+        lock.writeLock().lock();
+        try {
+            this.journal = journal;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Copies the complete state. Waits for running write transactions to finish.
+     *
+     * @return the state together with the journal position it corresponds to
+     */
+    public Snapshot snapshot() {
+        return read(() -> {
+            Journal currentJournal = journal;
+            List<ChangeRow> changeRows = new ArrayList<>(changes.values());
+            changeRows.sort((a, b) -> Long.compare(a.version(), b.version()));
+            return new Snapshot(
+                currentJournal != null ? currentJournal.position() : 0,
+                changeVersion,
+                List.copyOf(users.values()),
+                List.copyOf(groups.values()),
+                List.copyOf(collections.values()),
+                List.copyOf(coins.values()),
+                changeRows);
+        });
+    }
+
+    /**
+     * Replaces the state of an empty store by a snapshot.
+     *
+     * @param snapshot the snapshot to load
+     * @throws IllegalStateException if the store already holds data
+     */
+    public void restore(Snapshot snapshot) throws IllegalStateException {
+        lock.writeLock().lock();
+        try {
+            if (!users.isEmpty() || !changes.isEmpty()) {
+                throw new IllegalStateException("Snapshots can only be restored into an empty store");
+            }
+            snapshot.users().forEach(row -> storeUser(row, null));
+            snapshot.groups().forEach(row -> storeGroup(row, null));
+            snapshot.collections().forEach(row -> storeCollection(row, null));
+            snapshot.coins().forEach(row -> storeCoin(row, null));
+            snapshot.changes().forEach(this::storeChange);
+            changeVersion = snapshot.changeVersion();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Applies the operations of one committed transaction, e.g. read back from a journal.
+     * Nothing is appended to the journal.
+     *
+     * @param operations the operations in the order they were applied
+     * @throws SQLException if an operation violates a constraint; none of the operations is applied then
+     */
+    public void replay(List<StoreOperation> operations) throws SQLException {
+        lock.writeLock().lock();
+        undo = new ArrayDeque<>();
+        try {
+            for (StoreOperation operation : operations) {
+                apply(operation, Mode.REPLAY);
+            }
+        } catch (SQLException | RuntimeException e) {
+            undo();
+            throw e;
+        } finally {
+            undo = null;
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return number of stored coins
+     */
+    public int coinCount() {
+        return read(coins::size);
+    }
+
+    // ---- transactions ----------------------------------------------------------------------
+
+    static MemoryTransaction transaction(Connection connection) throws SQLException {
+        MemoryTransaction transaction = connection.unwrap(MemoryTransaction.class);
+        transaction.ensureOpen();
+        return transaction;
+    }
+
+    /**
+     * Runs a query on the state, under the shared lock unless the current thread is writing.
+     */
+    <T> T read(Connection connection, Supplier<T> query) throws SQLException {
+        transaction(connection);
+        return read(query);
+    }
+
+    private <T> T read(Supplier<T> query) {
+        if (lock.isWriteLockedByCurrentThread()) {
+            return query.get();
+        }
+        lock.readLock().lock();
+        try {
+            return query.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void insert(Connection connection, StoreOperation row) throws SQLException {
+        transaction(connection).write(row, Mode.INSERT);
+    }
+
+    void update(Connection connection, StoreOperation row) throws SQLException {
+        transaction(connection).write(row, Mode.UPDATE);
+    }
+
+    void delete(Connection connection, Table table, String id) throws SQLException {
+        transaction(connection).write(new Delete(table, id), Mode.UPDATE);
+    }
+
+    /**
+     * Takes the exclusive lock for a transaction.
+     *
+     * @throws SQLException if the current thread already writes through another transaction,
+     *         which would otherwise wait for itself
+     */
+    void beginWrite(MemoryTransaction transaction, Deque<Runnable> transactionUndo) throws SQLException {
+        if (lock.isWriteLockedByCurrentThread()) {
+            throw new SQLException("database is locked by another transaction of this thread");
+        }
+        lock.writeLock().lock();
+        writer = transaction;
+        undo = transactionUndo;
+    }
+
+    /**
+     * Appends the operations of the writing transaction to the journal and releases the lock.
+     * If appending fails the transaction is rolled back.
+     *
+     * @return the journal position to wait for, or -1 if there is nothing to wait for
+     */
+    long commitWrite(MemoryTransaction transaction, List<StoreOperation> operations) throws SQLException {
+        checkWriter(transaction);
+        try {
+            Journal currentJournal = journal;
+            if (currentJournal == null || operations.isEmpty()) {
+                return -1;
+            }
+            try {
+                return currentJournal.append(List.copyOf(operations));
+            } catch (IOException | RuntimeException e) {
+                undo();
+                throw new SQLException("Commit failed, journal not writable: " + e.getMessage(), e);
+            }
+        } finally {
+            endWrite();
+        }
+    }
+
+    void awaitDurable(long position) throws SQLException {
+        Journal currentJournal = journal;
+        if (position < 0 || currentJournal == null) {
+            return;
+        }
+        try {
+            currentJournal.awaitDurable(position);
+        } catch (IOException e) {
+            throw new SQLException("Commit is not durable: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Undoes the changes of the writing transaction and releases the lock.
+     */
+    void rollbackWrite(MemoryTransaction transaction) {
+        checkWriter(transaction);
+        try {
+            undo();
+        } finally {
+            endWrite();
+        }
+    }
+
+    private void checkWriter(MemoryTransaction transaction) {
+        if (writer != transaction || !lock.isWriteLockedByCurrentThread()) {
+            throw new IllegalStateException("Transaction does not hold the write lock");
+        }
+    }
+
+    private void endWrite() {
+        writer = null;
+        undo = null;
+        lock.writeLock().unlock();
+    }
+
+    private void undo() {
+        Deque<Runnable> actions = undo;
+        undo = null;
+        while (!actions.isEmpty()) {
+            actions.pop().run();
+        }
+        undo = actions;
+    }
+
+    // ---- writes ----------------------------------------------------------------------------
+
+    /**
+     * Validates and applies one operation. Nothing is changed if validation fails.
+     */
+    void apply(StoreOperation operation, Mode mode) throws SQLException {
+        switch (operation) {
+            case UserRow row -> putUser(row, mode);
+            case GroupRow row -> putGroup(row, mode);
+            case CollectionRow row -> putCollection(row, mode);
+            case CoinRow row -> putCoin(row, mode);
+            case Delete delete -> {
+                switch (delete.table()) {
+                    case USERS -> deleteUser(delete.id());
+                    case GROUPS -> deleteGroup(delete.id());
+                    case COLLECTIONS -> deleteCollection(delete.id());
+                    case COINS -> deleteCoin(delete.id());
+                }
+            }
+        }
+    }
+
+    private static void checkMode(Object previous, Mode mode, String table) throws SQLException {
+        if (mode == Mode.INSERT && previous != null) {
+            throw new SQLException("UNIQUE constraint failed: " + table + " primary key");
+        }
+        if (mode == Mode.UPDATE && previous == null) {
+            throw new SQLException("No row to update in " + table);
+        }
+    }
+
+    private static void checkUnique(Map<String, String> idsByName, String name, String id, String column) throws SQLException {
+        String holder = name != null ? idsByName.get(name) : null;
+        if (holder != null && !holder.equals(id)) {
+            throw new SQLException("UNIQUE constraint failed: " + column);
+        }
+    }
+
+    private static void checkReference(Map<String, ?> table, String id, String column) throws SQLException {
+        if (id == null || !table.containsKey(id)) {
+            throw new SQLException("FOREIGN KEY constraint failed: " + column);
+        }
+    }
+
+    private void putUser(UserRow row, Mode mode) throws SQLException {
+        UserRow previous = users.get(row.id());
+        checkMode(previous, mode, "users");
+        checkUnique(userIdsByName, row.username(), row.id(), "users.username");
+        storeUser(row, previous);
+    }
+
+    private void putGroup(GroupRow row, Mode mode) throws SQLException {
+        GroupRow previous = groups.get(row.id());
+        checkMode(previous, mode, "groups");
+        checkUnique(groupIdsByName, row.name(), row.id(), "groups.name");
+        checkReference(users, row.ownerId(), "groups.owner_id");
+        storeGroup(row, previous);
+        logChange(Entity.GROUP, row.id(), null, row.ownerId(), false);
+    }
+
+    private void putCollection(CollectionRow row, Mode mode) throws SQLException {
+        CollectionRow previous = collections.get(row.id());
+        checkMode(previous, mode, "collections");
+        checkUnique(collectionIdsByName, row.name(), row.id(), "collections.name");
+        checkReference(groups, row.groupId(), "collections.group_id");
+        storeCollection(row, previous);
+        logChange(Entity.COLLECTION, row.id(), row.groupId(), ownerOfGroup(row.groupId()), false);
+    }
+
+    private void putCoin(CoinRow row, Mode mode) throws SQLException {
+        CoinRow previous = coins.get(row.id());
+        checkMode(previous, mode, "coins");
+        checkReference(collections, row.collectionId(), "coins.collection_id");
+        storeCoin(row, previous);
+        logChange(Entity.COIN, row.id(), row.collectionId(), ownerOfCollection(row.collectionId()), false);
+    }
+
+    private void deleteUser(String userId) throws SQLException {
+        UserRow row = users.get(userId);
+        checkMode(row, Mode.UPDATE, "users");
+        for (String groupId : List.copyOf(groupIdsByOwner.getOrDefault(userId, Set.of()))) {
+            removeGroup(groups.get(groupId));
+        }
+        remove(userIdsByName, row.username());
+        remove(users, userId);
+        NavigableMap<Long, ChangeRow> ownerChanges = changesByOwner.get(userId);
+        if (ownerChanges != null) {
+            for (ChangeRow change : List.copyOf(ownerChanges.values())) {
+                removeChange(change.entity(), change.entityId());
+            }
+        }
+    }
+
+    private void deleteGroup(String groupId) throws SQLException {
+        GroupRow row = groups.get(groupId);
+        checkMode(row, Mode.UPDATE, "groups");
+        removeGroup(row);
+        logChange(Entity.GROUP, groupId, null, row.ownerId(), true);
+    }
+
+    private void deleteCollection(String collectionId) throws SQLException {
+        CollectionRow row = collections.get(collectionId);
+        checkMode(row, Mode.UPDATE, "collections");
+        String ownerId = ownerOfGroup(row.groupId());
+        removeCollection(row);
+        logChange(Entity.COLLECTION, collectionId, row.groupId(), ownerId, true);
+    }
+
+    private void deleteCoin(String coinId) throws SQLException {
+        CoinRow row = coins.get(coinId);
+        checkMode(row, Mode.UPDATE, "coins");
+        removeCoin(row);
+        logChange(Entity.COIN, coinId, row.collectionId(), ownerOfCollection(row.collectionId()), true);
+    }
+
+    /**
+     * Removes a group with its collections and coins. The log rows of the children are dropped
+     * without tombstones, as the tombstone of the group covers them.
+     */
+    private void removeGroup(GroupRow row) {
+        for (String collectionId : List.copyOf(collectionIdsByGroup.getOrDefault(row.id(), Set.of()))) {
+            removeCollection(collections.get(collectionId));
+            removeChange(Entity.COLLECTION, collectionId);
+        }
+        removeChildChanges(Entity.COLLECTION, row.id());
+        if (row.name() != null) {
+            remove(groupIdsByName, row.name());
+        }
+        removeFromIndex(groupIdsByOwner, row.ownerId(), row.id());
+        remove(groups, row.id());
+    }
+
+    private void removeCollection(CollectionRow row) {
+        for (String coinId : List.copyOf(coinIdsByCollection.getOrDefault(row.id(), Set.of()))) {
+            removeCoin(coins.get(coinId));
+            removeChange(Entity.COIN, coinId);
+        }
+        removeChildChanges(Entity.COIN, row.id());
+        if (row.name() != null) {
+            remove(collectionIdsByName, row.name());
+        }
+        removeFromIndex(collectionIdsByGroup, row.groupId(), row.id());
+        remove(collections, row.id());
+    }
+
+    private void removeCoin(CoinRow row) {
+        removeFromIndex(coinIdsByCollection, row.collectionId(), row.id());
+        remove(coins, row.id());
+    }
+
+    private void storeUser(UserRow row, UserRow previous) {
+        if (previous != null) {
+            remove(userIdsByName, previous.username());
+        }
+        put(userIdsByName, row.username(), row.id());
+        put(users, row.id(), row);
+    }
+
+    private void storeGroup(GroupRow row, GroupRow previous) {
+        if (previous != null) {
+            if (previous.name() != null) {
+                remove(groupIdsByName, previous.name());
+            }
+            removeFromIndex(groupIdsByOwner, previous.ownerId(), row.id());
+        }
+        if (row.name() != null) {
+            put(groupIdsByName, row.name(), row.id());
+        }
+        addToIndex(groupIdsByOwner, row.ownerId(), row.id());
+        put(groups, row.id(), row);
+    }
+
+    private void storeCollection(CollectionRow row, CollectionRow previous) {
+        if (previous != null) {
+            if (previous.name() != null) {
+                remove(collectionIdsByName, previous.name());
+            }
+            removeFromIndex(collectionIdsByGroup, previous.groupId(), row.id());
+        }
+        if (row.name() != null) {
+            put(collectionIdsByName, row.name(), row.id());
+        }
+        addToIndex(collectionIdsByGroup, row.groupId(), row.id());
+        put(collections, row.id(), row);
+    }
+
+    private void storeCoin(CoinRow row, CoinRow previous) {
+        if (previous != null) {
+            removeFromIndex(coinIdsByCollection, previous.collectionId(), row.id());
+        }
+        addToIndex(coinIdsByCollection, row.collectionId(), row.id());
+        put(coins, row.id(), row);
+    }
+
+    private String ownerOfGroup(String groupId) {
+        GroupRow group = groups.get(groupId);
+        return group != null ? group.ownerId() : null;
+    }
+
+    private String ownerOfCollection(String collectionId) {
+        CollectionRow collection = collections.get(collectionId);
+        return collection != null ? ownerOfGroup(collection.groupId()) : null;
+    }
+
+    // ---- change log ------------------------------------------------------------------------
+
+    /**
+     * Replaces the log row of an entity by a row with a new version; like the triggers, nothing
+     * is logged if the owner cannot be resolved.
+     */
+    private void logChange(Entity entity, String entityId, String parentId, String ownerId, boolean deleted) {
+        removeChange(entity, entityId);
+        if (ownerId == null) {
+            return;
+        }
+        long previousVersion = changeVersion;
+        changeVersion++;
+        if (undo != null) {
+            undo.push(() -> changeVersion = previousVersion);
+        }
+        ChangeRow row = new ChangeRow(changeVersion, ownerId, entity, entityId, parentId, deleted);
+        storeChange(row);
+        if (undo != null) {
+            undo.push(() -> unstoreChange(row));
+        }
+    }
+
+    private void removeChange(Entity entity, String entityId) {
+        ChangeRow row = changes.get(new ChangeKey(entity, entityId));
+        if (row == null) {
+            return;
+        }
+        unstoreChange(row);
+        if (undo != null) {
+            undo.push(() -> storeChange(row));
+        }
+    }
+
+    private void removeChildChanges(Entity childEntity, String parentId) {
+        Set<String> childIds = changedIdsByParent.get(new ChangeKey(childEntity, parentId));
+        if (childIds != null) {
+            for (String childId : List.copyOf(childIds)) {
+                removeChange(childEntity, childId);
+            }
+        }
+    }
+
+    private void storeChange(ChangeRow row) {
+        changes.put(new ChangeKey(row.entity(), row.entityId()), row);
+        changesByOwner.computeIfAbsent(row.ownerId(), key -> new TreeMap<>()).put(row.version(), row);
+        if (row.parentId() != null) {
+            changedIdsByParent.computeIfAbsent(new ChangeKey(row.entity(), row.parentId()), key -> new LinkedHashSet<>()).add(row.entityId());
+        }
+    }
+
+    private void unstoreChange(ChangeRow row) {
+        changes.remove(new ChangeKey(row.entity(), row.entityId()));
+        NavigableMap<Long, ChangeRow> ownerChanges = changesByOwner.get(row.ownerId());
+        ownerChanges.remove(row.version());
+        if (ownerChanges.isEmpty()) {
+            changesByOwner.remove(row.ownerId());
+        }
+        if (row.parentId() != null) {
+            ChangeKey parentKey = new ChangeKey(row.entity(), row.parentId());
+            Set<String> childIds = changedIdsByParent.get(parentKey);
+            childIds.remove(row.entityId());
+            if (childIds.isEmpty()) {
+                changedIdsByParent.remove(parentKey);
+            }
+        }
+    }
+
+    // ---- undoable primitives ---------------------------------------------------------------
+
+    private <K, V> void put(Map<K, V> map, K key, V value) {
+        V previous = map.put(key, value);
+        if (undo != null) {
+            undo.push(previous == null ? () -> map.remove(key) : () -> map.put(key, previous));
+        }
+    }
+
+    private <K, V> void remove(Map<K, V> map, K key) {
+        V previous = map.remove(key);
+        if (undo != null && previous != null) {
+            undo.push(() -> map.put(key, previous));
+        }
+    }
+
+    private void addToIndex(Map<String, Set<String>> index, String key, String id) {
+        if (index.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(id) && undo != null) {
+            undo.push(() -> {
+                Set<String> ids = index.get(key);
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    index.remove(key);
+                }
+            });
+        }
+    }
+
+    private void removeFromIndex(Map<String, Set<String>> index, String key, String id) {
+        Set<String> ids = index.get(key);
+        if (ids == null || !ids.remove(id)) {
+            return;
+        }
+        if (ids.isEmpty()) {
+            index.remove(key);
+        }
+        if (undo != null) {
+            undo.push(() -> index.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(id));
+        }
+    }
+
+    // ---- queries, called through read(Connection, Supplier) --------------------------------
+
+    UserRow user(String userId) {
+        return users.get(userId);
+    }
+
+    UserRow userByName(String username) {
+        String userId = userIdsByName.get(username);
+        return userId != null ? users.get(userId) : null;
+    }
+
+    GroupRow group(String groupId) {
+        return groups.get(groupId);
+    }
+
+    List<GroupRow> groupsOfOwner(String ownerId) {
+        return groupIdsByOwner.getOrDefault(ownerId, Set.of()).stream().map(groups::get).toList();
+    }
+
+    List<GroupRow> groups() {
+        return List.copyOf(groups.values());
+    }
+
+    CollectionRow collection(String collectionId) {
+        return collections.get(collectionId);
+    }
+
+    List<CollectionRow> collections() {
+        return List.copyOf(collections.values());
+    }
+
+    List<String> collectionIdsOfGroup(String groupId) {
+        return List.copyOf(collectionIdsByGroup.getOrDefault(groupId, Set.of()));
+    }
+
+    CoinRow coin(String coinId) {
+        return coins.get(coinId);
+    }
+
+    List<CoinRow> coins() {
+        return List.copyOf(coins.values());
+    }
+
+    /**
+     * @return the coins of the given collections, each collection once, in the order of the ids
+     */
+    List<CoinRow> coinsOfCollections(List<String> collectionIds) {
+        List<CoinRow> rows = new ArrayList<>();
+        for (String collectionId : new LinkedHashSet<>(collectionIds)) {
+            for (String coinId : coinIdsByCollection.getOrDefault(collectionId, Set.of())) {
+                rows.add(coins.get(coinId));
+            }
+        }
+        return rows;
+    }
+
+    long changeVersion() {
+        return changeVersion;
+    }
+
+    List<ChangeRow> changesSince(String ownerId, long since, int limit) {
+        NavigableMap<Long, ChangeRow> ownerChanges = changesByOwner.get(ownerId);
+        if (ownerChanges == null) {
+            return List.of();
+        }
+        return ownerChanges.tailMap(since, false).values().stream().limit(limit).toList();
+    }
+}
@@ -0,0 +1,121 @@
+package io.github.lstramke.coincollector.repositories.memory;
+
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * State of one {@link MemoryDataSource} connection: auto-commit mode, the operations and undo
+ * actions of the running transaction and whether it holds the write lock of the store.
+ * Like a JDBC connection it is meant to be used by one thread at a time.
+ */
+final class MemoryTransaction {
+
+    private final MemoryStore store;
+    private final Deque<Runnable> undo = new ArrayDeque<>();
+    private final List<StoreOperation> operations = new ArrayList<>();
+    private boolean autoCommit = true;
+    private boolean writing;
+    private boolean closed;
+
+    MemoryTransaction(MemoryStore store) {
+        this.store = store;
+    }
+
+    void ensureOpen() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection is closed");
+        }
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    boolean getAutoCommit() throws SQLException {
+        ensureOpen();
+        return autoCommit;
+    }
+
+    /**
+     * Switching auto-commit on commits the running transaction, as JDBC specifies.
+     */
+    void setAutoCommit(boolean autoCommit) throws SQLException {
+        ensureOpen();
+        if (autoCommit && !this.autoCommit) {
+            commit();
+        }
+        this.autoCommit = autoCommit;
+    }
+
+    /**
+     * Applies one operation. In auto-commit mode it is committed right away, otherwise the
+     * transaction keeps the write lock until {@link #commit()} or {@link #rollback()}. A failed
+     * operation changes nothing and leaves the transaction running.
+     */
+    void write(StoreOperation operation, MemoryStore.Mode mode) throws SQLException {
+        ensureOpen();
+        if (!writing) {
+            store.beginWrite(this, undo);
+            writing = true;
+        }
+        try {
+            store.apply(operation, mode);
+            operations.add(operation);
+        } catch (SQLException | RuntimeException e) {
+            if (autoCommit) {
+                rollback();
+            }
+            throw e;
+        }
+        if (autoCommit) {
+            commit();
+        }
+    }
+
+    void commit() throws SQLException {
+        ensureOpen();
+        if (!writing) {
+            return;
+        }
+        writing = false;
+        long position;
+        try {
+            position = store.commitWrite(this, operations);
+        } finally {
+            operations.clear();
+            undo.clear();
+        }
+        store.awaitDurable(position);
+    }
+
+    void rollback() throws SQLException {
+        ensureOpen();
+        if (!writing) {
+            return;
+        }
+        writing = false;
+        try {
+            store.rollbackWrite(this);
+        } finally {
+            operations.clear();
+            undo.clear();
+        }
+    }
+
+    /**
+     * Closing rolls back a transaction that was neither committed nor rolled back.
+     */
+    void close() throws SQLException {
+        if (closed) {
+            return;
+        }
+        try {
+            rollback();
+        } finally {
+            closed = true;
+        }
+    }
+}
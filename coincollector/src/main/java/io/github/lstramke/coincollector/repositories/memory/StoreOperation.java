@@ -0,0 +1,63 @@
+package io.github.lstramke.coincollector.repositories.memory;
+
+import io.github.lstramke.coincollector.model.CoinCountry;
+import io.github.lstramke.coincollector.model.CoinValue;
+import io.github.lstramke.coincollector.model.Mint;
+
+/**
+ * A committed write of a {@link MemoryStore}: a row that was inserted or replaced, or the
+ * deletion of a row together with everything referencing it. Applying the operations of all
+ * commits in order to an empty store rebuilds its state, including the change log.
+ * <p>
+ * The rows are immutable copies of the stored values; the store never hands out domain
+ * objects, so callers cannot change its state behind its back.
+ */
+public sealed interface StoreOperation {
+
+    /**
+     * The tables of the store.
+     */
+    enum Table {
+        USERS, GROUPS, COLLECTIONS, COINS
+    }
+
+    /**
+     * @param id user id
+     * @param username unique username
+     */
+    record UserRow(String id, String username) implements StoreOperation {}
+
+    /**
+     * @param id group id
+     * @param name unique group name, may be {@code null}
+     * @param ownerId id of the owning user
+     */
+    record GroupRow(String id, String name, String ownerId) implements StoreOperation {}
+
+    /**
+     * @param id collection id
+     * @param name unique collection name, may be {@code null}
+     * @param groupId id of the group holding the collection
+     */
+    record CollectionRow(String id, String name, String groupId) implements StoreOperation {}
+
+    /**
+     * @param id coin id
+     * @param year mint year
+     * @param value face value
+     * @param country issuing country
+     * @param mint mint mark; {@code null} for countries other than Germany
+     * @param description custom description; {@code null} if the coin uses the generated default
+     * @param collectionId id of the collection holding the coin
+     */
+    record CoinRow(String id, int year, CoinValue value, CoinCountry country, Mint mint, String description, String collectionId)
+        implements StoreOperation {}
+
+    /**
+     * Deletion of a row; deleting a user, group or collection also deletes what it contains.
+     *
+     * @param table table of the row
+     * @param id id of the row
+     */
+    record Delete(Table table, String id) implements StoreOperation {}
+}
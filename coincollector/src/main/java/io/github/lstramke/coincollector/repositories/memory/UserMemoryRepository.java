@@ -0,0 +1,142 @@
+package io.github.lstramke.coincollector.repositories.memory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.lstramke.coincollector.model.User;
+import io.github.lstramke.coincollector.model.UserFactory;
+import io.github.lstramke.coincollector.repositories.UserStorageRepository;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation.Table;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation.UserRow;
+
+/**
+ * {@link UserStorageRepository} on a {@link MemoryStore}. Validates its input like
+ * {@link io.github.lstramke.coincollector.repositories.sqlite.UserSqliteRepository}, reports
+ * constraint violations and missing rows on writes as {@link SQLException} and maps rows to new
+ * domain objects via {@link UserFactory}. The connection must come from a {@link MemoryDataSource}
+ * of the same store; its lifecycle is left to the caller.
+ */
+public class UserMemoryRepository implements UserStorageRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserMemoryRepository.class);
+    private final MemoryStore store;
+    private final UserFactory userFactory;
+
+    public UserMemoryRepository(MemoryStore store, UserFactory userFactory) {
+        this.store = store;
+        this.userFactory = userFactory;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void create(Connection connection, User user) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (create)");
+        }
+        if (!validateUser(user)) {
+            logger.warn("User create aborted: validation failed");
+            throw new IllegalArgumentException("User validation failed (create)");
+        }
+        try {
+            store.insert(connection, new UserRow(user.getId(), user.getName()));
+            logger.info("User created: id={}", user.getId());
+        } catch (SQLException e) {
+            logger.error("User create failed: id={}", user.getId(), e);
+            throw e;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<User> read(Connection connection, String userId) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (read)");
+        }
+        if (userId == null || userId.isBlank()) {
+            logger.warn("User read aborted: userId null/blank");
+            throw new IllegalArgumentException("userId must not be null or blank (read)");
+        }
+        return toUser(store.read(connection, () -> store.user(userId)));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void update(Connection connection, User user) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (update)");
+        }
+        if (!validateUser(user)) {
+            logger.warn("User update aborted: validation failed");
+            throw new IllegalArgumentException("User validation failed (update)");
+        }
+        try {
+            store.update(connection, new UserRow(user.getId(), user.getName()));
+            logger.info("User updated: id={}", user.getId());
+        } catch (SQLException e) {
+            logger.error("User update failed: id={}", user.getId(), e);
+            throw e;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void delete(Connection connection, String userId) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (delete)");
+        }
+        if (userId == null || userId.isBlank()) {
+            logger.warn("User delete aborted: userId null/blank");
+            throw new IllegalArgumentException("userId must not be null or blank (delete)");
+        }
+        try {
+            store.delete(connection, Table.USERS, userId);
+            logger.info("User deleted: id={}", userId);
+        } catch (SQLException e) {
+            logger.error("User delete failed: id={}", userId, e);
+            throw e;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean exists(Connection connection, String userId) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (exists)");
+        }
+        if (userId == null || userId.isBlank()) {
+            logger.warn("User exists check aborted: userId null/blank");
+            throw new IllegalArgumentException("userId must not be null or blank (exists)");
+        }
+        return store.read(connection, () -> store.user(userId) != null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<User> getByUsername(Connection connection, String username) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (getByUsername)");
+        }
+        if (username == null || username.isBlank()) {
+            logger.warn("Get by username aborted: username null/blank");
+            throw new IllegalArgumentException("username must not be null or blank (getByUsername)");
+        }
+        return toUser(store.read(connection, () -> store.userByName(username)));
+    }
+
+    private Optional<User> toUser(UserRow row) {
+        return row != null ? Optional.of(userFactory.fromValues(row.id(), row.username())) : Optional.empty();
+    }
+
+    /**
+     * Same rules as the SQLite repository: non-null user with non-blank id and name.
+     */
+    private static boolean validateUser(User user) {
+        return user != null
+            && user.getId() != null && !user.getId().isBlank()
+            && user.getName() != null && !user.getName().isBlank();
+    }
+}
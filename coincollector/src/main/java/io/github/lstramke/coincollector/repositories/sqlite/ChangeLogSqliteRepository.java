@@ -0,0 +1,112 @@
+package io.github.lstramke.coincollector.repositories.sqlite;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.lstramke.coincollector.model.ChangeEvent.Entity;
+import io.github.lstramke.coincollector.model.ChangeLogEntry;
+import io.github.lstramke.coincollector.repositories.ChangeLogStorageRepository;
+
+/**
+ * SQLite-backed implementation of {@link ChangeLogStorageRepository} reading the change log
+ * table that the triggers created by {@link io.github.lstramke.coincollector.configuration.SqliteInitializer}
+ * keep up to date. Rows with an unknown entity are skipped with a warning.
+ * This class does NOT manage transaction boundaries or connection lifecycle.
+ */
+public class ChangeLogSqliteRepository implements ChangeLogStorageRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeLogSqliteRepository.class);
+    private final String tableName;
+    private final String getChangesSinceSql;
+
+    public ChangeLogSqliteRepository(String tableName) {
+        this.tableName = tableName;
+        this.getChangesSinceSql = String.format(
+            """
+            SELECT version, entity, entity_id, parent_id, deleted
+            FROM %s
+            WHERE owner_id = ? AND version > ?
+            ORDER BY version
+            LIMIT ?
+            """, tableName
+        );
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ChangeLogEntry> getChangesSince(Connection connection, String ownerId, long since, int limit) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (getChangesSince)");
+        }
+        if (ownerId == null || ownerId.isBlank()) {
+            logger.warn("Change log read aborted: ownerId null/blank");
+            throw new IllegalArgumentException("ownerId must not be null or blank (getChangesSince)");
+        }
+        if (since < 0 || limit <= 0) {
+            throw new IllegalArgumentException("since must not be negative and limit must be positive (getChangesSince)");
+        }
+
+        List<ChangeLogEntry> changes = new ArrayList<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(getChangesSinceSql)) {
+            preparedStatement.setString(1, ownerId);
+            preparedStatement.setLong(2, since);
+            preparedStatement.setInt(3, limit);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    String entity = resultSet.getString("entity");
+                    try {
+                        changes.add(new ChangeLogEntry(
+                            resultSet.getLong("version"),
+                            Entity.valueOf(entity.toUpperCase(Locale.ROOT)),
+                            resultSet.getString("entity_id"),
+                            resultSet.getString("parent_id"),
+                            resultSet.getInt("deleted") != 0
+                        ));
+                    } catch (IllegalArgumentException e) {
+                        logger.warn("Skipping change log row (version={}) with unknown entity: {}", resultSet.getLong("version"), entity);
+                    }
+                }
+            }
+            logger.debug("Change log read: ownerId={}, since={}, count={}", ownerId, since, changes.size());
+        } catch (SQLException e) {
+            logger.error("Change log read failed: ownerId={}, since={}", ownerId, since, e);
+            throw e;
+        }
+        return changes;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Reads the AUTOINCREMENT counter of the change log from {@code sqlite_sequence} instead of
+     * {@code MAX(version)}, as deleting a user drops its newest rows.
+     */
+    @Override
+    public long getLatestVersion(Connection connection) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (getLatestVersion)");
+        }
+
+        String sql = "SELECT seq FROM sqlite_sequence WHERE name = ?";
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            preparedStatement.setString(1, tableName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                long version = resultSet.next() ? resultSet.getLong("seq") : 0;
+                logger.debug("Change log version read: {}", version);
+                return version;
+            }
+        } catch (SQLException e) {
+            logger.error("Change log version read failed", e);
+            throw e;
+        }
+    }
+}
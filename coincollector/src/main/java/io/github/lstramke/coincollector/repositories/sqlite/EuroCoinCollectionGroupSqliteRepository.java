@@ -19,7 +19,7 @@ import io.github.lstramke.coincollector.repositories.EuroCoinCollectionGroupStor
  * SQLite-backed implementation of {@link EuroCoinCollectionGroupStorageRepository} providing CRUD
  * access to {@link EuroCoinCollectionGroup} rows in a configurable table. Responsibilities:
  * <ul>
- *   <li>Create / read / update / delete / getAllByUser group records</li>
+ *   <li>Create / read / update / delete / getAllByUser / getAll group records</li>
  *   <li>Map result sets to domain objects via {@link EuroCoinCollectionFactory}</li>
  *   <li>Basic invariant validation (id, group id, non-null collections list)</li>
  * </ul>
@@ -33,12 +33,61 @@ import io.github.lstramke.coincollector.repositories.EuroCoinCollectionGroupStor
 public class EuroCoinCollectionGroupSqliteRepository implements EuroCoinCollectionGroupStorageRepository {
 
     private static final Logger logger = LoggerFactory.getLogger(EuroCoinCollectionGroupSqliteRepository.class);
-    private final String tableName;
     private final EuroCoinCollectionGroupFactory euroCoinCollectionGroupFactory;
+    private final String createSql;
+    private final String readSql;
+    private final String updateSql;
+    private final String deleteSql;
+    private final String getAllByUserSql;
+    private final String getAllSql;
+    private final String existsSql;
 
     public EuroCoinCollectionGroupSqliteRepository(String tableName, EuroCoinCollectionGroupFactory euroCoinCollectionGroupFactory) {
-        this.tableName = tableName;
         this.euroCoinCollectionGroupFactory = euroCoinCollectionGroupFactory;
+        this.createSql = String.format(
+            "INSERT INTO %s (group_id, name, owner_id) VALUES (?, ?, ?)", 
+            tableName
+        );
+        this.readSql = String.format(
+            """
+            SELECT group_id, name, owner_id
+            FROM %s
+            WHERE group_id = ?
+            """, tableName
+        );
+        this.updateSql = String.format(
+            """
+            UPDATE %s
+            SET name = ?, owner_id = ?
+            WHERE group_id = ?
+            """, tableName
+        );
+        this.deleteSql = String.format(
+            """
+            DELETE FROM %s
+            WHERE group_id = ?
+            """, tableName
+        );
+        this.getAllByUserSql = String.format(
+            """
+            SELECT group_id, name, owner_id
+            FROM %s
+            WHERE owner_id = ?
+            """, tableName
+        );
+        this.getAllSql = String.format(
+            """
+            SELECT group_id, name, owner_id
+            FROM %s
+            """, tableName
+        );
+        this.existsSql = String.format(
+            """
+            SELECT 1
+            FROM %s
+            WHERE group_id = ?
+            """, tableName
+        );
     }
 
     /** {@inheritDoc} */
@@ -52,12 +101,7 @@ public class EuroCoinCollectionGroupSqliteRepository implements EuroCoinCollecti
             throw new IllegalArgumentException("EuroCoinCollectionGroup validation failed (create)");
         }
 
-        String sql = String.format(
-            "INSERT INTO %s (group_id, name, owner_id) VALUES (?, ?, ?)", 
-            tableName
-        );
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(createSql)) {
             preparedStatement.setString(1, group.getId());
             preparedStatement.setString(2, group.getName());
             preparedStatement.setString(3, group.getOwnerId());
@@ -86,15 +130,7 @@ public class EuroCoinCollectionGroupSqliteRepository implements EuroCoinCollecti
             throw new IllegalArgumentException("groupId must not be null or blank (read)");
         }
 
-        String sql = String.format(
-            """
-            SELECT group_id, name, owner_id
-            FROM %s
-            WHERE group_id = ?
-            """, tableName
-        );
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(readSql)) {
             preparedStatement.setString(1, groupId);
             try (ResultSet queryResult = preparedStatement.executeQuery()) {
                 if (queryResult.next()) {
@@ -144,15 +180,7 @@ public class EuroCoinCollectionGroupSqliteRepository implements EuroCoinCollecti
             throw new IllegalArgumentException("EuroCoinCollectionGroup validation failed (update)");
         }
 
-        String sql = String.format(
-            """
-            UPDATE %s
-            SET name = ?, owner_id = ?
-            WHERE group_id = ?
-            """, tableName
-        );
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(updateSql)) {
             preparedStatement.setString(1, group.getName());
             preparedStatement.setString(2, group.getOwnerId());
             preparedStatement.setString(3, group.getId());
@@ -181,14 +209,7 @@ public class EuroCoinCollectionGroupSqliteRepository implements EuroCoinCollecti
             throw new IllegalArgumentException("groupId must not be null or blank (delete)");
         }
 
-        String sql = String.format(
-            """
-            DELETE FROM %s
-            WHERE group_id = ?
-            """, tableName
-        );
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(deleteSql)) {
             preparedStatement.setString(1, groupId);
             int rowsAffected = preparedStatement.executeUpdate();
             if (rowsAffected == 1) {
@@ -214,17 +235,9 @@ public class EuroCoinCollectionGroupSqliteRepository implements EuroCoinCollecti
             throw new IllegalArgumentException("ownerId must not be null or blank (list)");
         }
 
-        String sql = String.format(
-            """
-            SELECT group_id, name, owner_id
-            FROM %s
-            WHERE owner_id = ?
-            """, tableName
-        );
-
         List<EuroCoinCollectionGroup> readCollections = new ArrayList<>();
 
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(getAllByUserSql)) {
             preparedStatement.setString(1, userId);
             try (ResultSet resultSet = preparedStatement.executeQuery()){
                 while (resultSet.next()) {
@@ -246,6 +259,36 @@ public class EuroCoinCollectionGroupSqliteRepository implements EuroCoinCollecti
         return readCollections;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public List<EuroCoinCollectionGroup> getAll(Connection connection) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (getAll)");
+        }
+
+        List<EuroCoinCollectionGroup> readGroups = new ArrayList<>();
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(getAllSql)) {
+            try (ResultSet resultSet = preparedStatement.executeQuery()){
+                while (resultSet.next()) {
+                    String groupId = resultSet.getString("group_id");
+                    Optional<EuroCoinCollectionGroup> readGroup = createEuroCoinCollectionGroupFromResultSet(groupId, resultSet);
+                    if (readGroup.isPresent()) {
+                        readGroups.add(readGroup.get());
+                    } else {
+                        logger.warn("EuroCoinCollectionGroup row skipped: groupId={} (invalid data)", groupId);
+                    }
+                }
+            }
+            logger.debug("EuroCoinCollectionGroup list read: count={}", readGroups.size());
+        } catch (SQLException e) {
+            logger.error("EuroCoinCollectionGroup list read failed", e);
+            throw e;
+        }
+
+        return readGroups;
+    }
+
     /** {@inheritDoc} */
     @Override
     public boolean exists(Connection connection, String groupId) throws SQLException {
@@ -257,15 +300,7 @@ public class EuroCoinCollectionGroupSqliteRepository implements EuroCoinCollecti
             throw new IllegalArgumentException("groupId must not be null or blank (exists)");
         }
 
-        String sql = String.format(
-            """
-            SELECT 1
-            FROM %s
-            WHERE group_id = ?
-            """, tableName
-        );
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(existsSql)) {
             preparedStatement.setString(1, groupId);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 return resultSet.next();
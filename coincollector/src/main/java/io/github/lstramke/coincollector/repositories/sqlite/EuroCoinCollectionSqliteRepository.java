@@ -31,12 +31,60 @@ import org.slf4j.LoggerFactory;
 public class EuroCoinCollectionSqliteRepository implements EuroCoinCollectionStorageRepository {
 
     private static final Logger logger = LoggerFactory.getLogger(EuroCoinCollectionSqliteRepository.class);
-    private final String tableName;
     private final EuroCoinCollectionFactory euroCoinCollectionFactory;
+    private final String createSql;
+    private final String readSql;
+    private final String updateSql;
+    private final String deleteSql;
+    private final String getAllSql;
+    private final String getIdsByGroupSql;
+    private final String existsSql;
 
     public EuroCoinCollectionSqliteRepository(String tableName, EuroCoinCollectionFactory euroCoinCollectionFactory) {
-        this.tableName = tableName;
         this.euroCoinCollectionFactory = euroCoinCollectionFactory;
+        this.createSql = String.format(
+                "INSERT INTO %s (collection_id, name, group_id) VALUES (?, ?, ?)", 
+                tableName);
+        this.readSql = String.format(
+            """
+            SELECT collection_id, name, group_id
+            FROM %s
+            WHERE collection_id = ?
+            """, tableName
+        );
+        this.updateSql = String.format(
+            """
+            UPDATE %s
+            SET name = ?, group_id = ?
+            WHERE collection_id = ?
+            """, tableName
+        );
+        this.deleteSql = String.format(
+            """
+            DELETE FROM %s
+            WHERE collection_id = ?
+            """, tableName
+        );
+        this.getAllSql = String.format(
+            """
+            SELECT collection_id, name, group_id
+            FROM %s
+            """, tableName
+        );
+        this.getIdsByGroupSql = String.format(
+            """
+            SELECT collection_id
+            FROM %s
+            WHERE group_id = ?
+            """, tableName
+        );
+        this.existsSql = String.format(
+            """
+            SELECT 1
+            FROM %s
+            WHERE collection_id = ?
+            """, tableName
+        );
     }
 
     /** {@inheritDoc} */
@@ -50,11 +98,7 @@ public class EuroCoinCollectionSqliteRepository implements EuroCoinCollectionSto
             throw new IllegalArgumentException("EuroCoinCollection validation failed (create)");
         }
 
-        String sql = String.format(
-                "INSERT INTO %s (collection_id, name, group_id) VALUES (?, ?, ?)", 
-                tableName);
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(createSql)) {
             preparedStatement.setString(1, collection.getId());
             preparedStatement.setString(2, collection.getName());
             preparedStatement.setString(3, collection.getGroupId());
@@ -83,15 +127,7 @@ public class EuroCoinCollectionSqliteRepository implements EuroCoinCollectionSto
             throw new IllegalArgumentException("collectionId must not be null or blank (read)");
         }
 
-        String sql = String.format(
-            """
-            SELECT collection_id, name, group_id
-            FROM %s
-            WHERE collection_id = ?
-            """, tableName
-        );
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(readSql)) {
             preparedStatement.setString(1, collectionId);
             try (ResultSet queryResult = preparedStatement.executeQuery()) {
                 if (queryResult.next()) {
@@ -141,15 +177,7 @@ public class EuroCoinCollectionSqliteRepository implements EuroCoinCollectionSto
             throw new IllegalArgumentException("EuroCoinCollection validation failed (update)");
         }
 
-        String sql = String.format(
-            """
-            UPDATE %s
-            SET name = ?, group_id = ?
-            WHERE collection_id = ?
-            """, tableName
-        );
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(updateSql)) {
             preparedStatement.setString(1, collection.getName());
             preparedStatement.setString(2, collection.getGroupId());
             preparedStatement.setString(3, collection.getId());
@@ -178,14 +206,7 @@ public class EuroCoinCollectionSqliteRepository implements EuroCoinCollectionSto
             throw new IllegalArgumentException("collectionId must not be null or blank (delete)");
         }
 
-        String sql = String.format(
-            """
-            DELETE FROM %s
-            WHERE collection_id = ?
-            """, tableName
-        );
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(deleteSql)) {
             preparedStatement.setString(1, collectionId);
 
             int rowsAffected = preparedStatement.executeUpdate();
@@ -207,16 +228,9 @@ public class EuroCoinCollectionSqliteRepository implements EuroCoinCollectionSto
         if (connection == null) {
             throw new IllegalArgumentException("connection must not be null (getAll)");
         }
-        String sql = String.format(
-            """
-            SELECT collection_id, name, group_id
-            FROM %s
-            """, tableName
-        );
-
         List<EuroCoinCollection> readCollections = new ArrayList<>();
 
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(getAllSql)) {
             try(ResultSet resultSet = preparedStatement.executeQuery()){
                 while (resultSet.next()) {
                 String collectionId = resultSet.getString("collection_id");
@@ -238,6 +252,35 @@ public class EuroCoinCollectionSqliteRepository implements EuroCoinCollectionSto
         return readCollections;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public List<String> getIdsByGroup(Connection connection, String groupId) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (getIdsByGroup)");
+        }
+        if (groupId == null || groupId.isBlank()) {
+            logger.warn("EuroCoinCollection id list read aborted: groupId null/blank");
+            throw new IllegalArgumentException("groupId must not be null or blank (getIdsByGroup)");
+        }
+
+        List<String> collectionIds = new ArrayList<>();
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(getIdsByGroupSql)) {
+            preparedStatement.setString(1, groupId);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    collectionIds.add(resultSet.getString("collection_id"));
+                }
+                logger.debug("EuroCoinCollection id list read: groupId={}, count={}", groupId, collectionIds.size());
+            }
+        } catch (SQLException e) {
+            logger.error("EuroCoinCollection id list read failed: groupId={}", groupId, e);
+            throw e;
+        }
+
+        return collectionIds;
+    }
+
     /** {@inheritDoc} */
     @Override
     public boolean exists(Connection connection, String collectionId) throws SQLException {
@@ -249,15 +292,7 @@ public class EuroCoinCollectionSqliteRepository implements EuroCoinCollectionSto
             throw new IllegalArgumentException("collectionId must not be null or blank (exists)");
         }
 
-        String sql = String.format(
-            """
-            SELECT 1
-            FROM %s
-            WHERE collection_id = ?
-            """, tableName
-        );
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(existsSql)) {
             preparedStatement.setString(1, collectionId);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 return resultSet.next();
@@ -1,16 +1,28 @@
 package io.github.lstramke.coincollector.repositories.sqlite;
 
 import io.github.lstramke.coincollector.model.CoinCountry;
+import io.github.lstramke.coincollector.model.CoinFacets;
+import io.github.lstramke.coincollector.model.CoinFilter;
+import io.github.lstramke.coincollector.model.CoinStatistics;
+import io.github.lstramke.coincollector.model.CoinValue;
 import io.github.lstramke.coincollector.model.EuroCoin;
+import io.github.lstramke.coincollector.model.EuroCoinBatch;
 import io.github.lstramke.coincollector.model.EuroCoinBuilder;
+import io.github.lstramke.coincollector.model.EuroCoinCatalog;
 import io.github.lstramke.coincollector.model.EuroCoinFactory;
+import io.github.lstramke.coincollector.model.Mint;
 import io.github.lstramke.coincollector.repositories.EuroCoinStorageRepository;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,6 +33,9 @@ import org.slf4j.LoggerFactory;
  * <ul>
  *   <li>Create / read / update / delete / getAll coin records</li>
  *   <li>Map result sets to domain objects via {@link EuroCoinFactory}</li>
+ *   <li>Bulk-read all coins into a compact {@link EuroCoinBatch}</li>
+ *   <li>Full-text search over the descriptions via the FTS5 index maintained by the schema triggers</li>
+ *   <li>Filtering with facet counts, built from the given criteria with bound parameters</li>
  *   <li>Basic invariant validation (id, year boundary, non-null enum/value fields)</li>
  * </ul>
  * This class does NOT manage transaction boundaries or connection lifecycle: callers
@@ -33,10 +48,60 @@ public class EuroCoinSqliteRepository implements EuroCoinStorageRepository {
     private static final Logger logger = LoggerFactory.getLogger(EuroCoinSqliteRepository.class);
     private final String tableName;
     private final EuroCoinFactory euroCoinFactory;
+    private final String createSql;
+    private final String readSql;
+    private final String updateSql;
+    private final String deleteSql;
+    private final String getAllSql;
+    private final String getAllOfCollectionSql;
+    private final String existsSql;
 
     public EuroCoinSqliteRepository(String tableName, EuroCoinFactory euroCoinFactory) {
         this.tableName = tableName;
         this.euroCoinFactory = euroCoinFactory;
+        this.createSql = String.format(
+                "INSERT INTO %s (coin_id, year, coin_value, mint_country, mint, description, collection_id) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                tableName);
+        this.readSql = String.format(
+            """ 
+            SELECT coin_id, year, coin_value, mint_country, mint, description, collection_id
+            FROM %s
+            WHERE coin_id = ?
+            """, tableName
+        );
+        this.updateSql = String.format(
+            """
+            UPDATE %s
+            SET year = ?, coin_value = ?, mint_country = ?, mint = ?, description = ?, collection_id = ?
+            WHERE coin_id = ?
+            """, tableName
+        );
+        this.deleteSql = String.format(
+            """
+            DELETE FROM %s
+            WHERE coin_id = ?
+            """, tableName
+        );
+        this.getAllSql = String.format(
+            """
+            SELECT coin_id, year, coin_value, mint_country, mint, description, collection_id
+            FROM %s
+            """, tableName
+        );
+        this.getAllOfCollectionSql = String.format(
+            """
+            SELECT coin_id, year, coin_value, mint_country, mint, description, collection_id
+            FROM %s
+            WHERE collection_id = ?
+            """, tableName
+        );
+        this.existsSql = String.format(
+            """
+            SELECT 1
+            FROM %s
+            WHERE coin_id = ?
+            """, tableName
+        );
     }
 
     /** {@inheritDoc} */
@@ -50,17 +115,13 @@ public class EuroCoinSqliteRepository implements EuroCoinStorageRepository {
             throw new IllegalArgumentException("EuroCoin validation failed (create)");
         }
 
-        String sql = String.format(
-                "INSERT INTO %s (coin_id, year, coin_value, mint_country, mint, description, collection_id) VALUES (?, ?, ?, ?, ?, ?, ?)",
-                tableName);
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(createSql)) {
             preparedStatement.setString(1, coin.getId());
             preparedStatement.setInt(2, coin.getYear());
             preparedStatement.setInt(3, coin.getValue().getCentValue());
             preparedStatement.setString(4, coin.getMintCountry().getIsoCode());
             preparedStatement.setString(5, coin.getMintCountry().equals(CoinCountry.GERMANY) ? coin.getMint().getMintMark() : null);
-            preparedStatement.setString(6, coin.getDescription().toString());
+            setDescription(preparedStatement, 6, coin);
             preparedStatement.setString(7, coin.getCollectionId());
 
             int rowsAffected = preparedStatement.executeUpdate();
@@ -90,15 +151,7 @@ public class EuroCoinSqliteRepository implements EuroCoinStorageRepository {
             throw new IllegalArgumentException("coinId must not be null or blank (read)");
         }
 
-        String sql = String.format(
-            """ 
-            SELECT coin_id, year, coin_value, mint_country, mint, description, collection_id
-            FROM %s
-            WHERE coin_id = ?
-            """, tableName
-        );
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(readSql)) {
             preparedStatement.setString(1, coinId);
             try (ResultSet queryResult = preparedStatement.executeQuery()) {
                 if (queryResult.next()) {
@@ -149,20 +202,12 @@ public class EuroCoinSqliteRepository implements EuroCoinStorageRepository {
             throw new IllegalArgumentException("EuroCoin validation failed (update)");
         }
 
-        String sql = String.format(
-            """
-            UPDATE %s
-            SET year = ?, coin_value = ?, mint_country = ?, mint = ?, description = ?, collection_id = ?
-            WHERE coin_id = ?
-            """, tableName
-        );
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(updateSql)) {
             preparedStatement.setInt(1, coin.getYear());
             preparedStatement.setInt(2, coin.getValue().getCentValue());
             preparedStatement.setString(3, coin.getMintCountry().getIsoCode());
             preparedStatement.setString(4, coin.getMintCountry().equals(CoinCountry.GERMANY) ? coin.getMint().getMintMark() : null);
-            preparedStatement.setString(5, coin.getDescription().toString());
+            setDescription(preparedStatement, 5, coin);
             preparedStatement.setString(6, coin.getCollectionId());
             preparedStatement.setString(7, coin.getId());
 
@@ -190,14 +235,7 @@ public class EuroCoinSqliteRepository implements EuroCoinStorageRepository {
             throw new IllegalArgumentException("coinId must not be null or blank (delete)");
         }
 
-        String sql = String.format(
-            """
-            DELETE FROM %s
-            WHERE coin_id = ?
-            """, tableName
-        );
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(deleteSql)) {
             preparedStatement.setString(1, coinId);
 
             int rowsAffected = preparedStatement.executeUpdate();
@@ -219,16 +257,9 @@ public class EuroCoinSqliteRepository implements EuroCoinStorageRepository {
         if (connection == null) {
             throw new IllegalArgumentException("connection must not be null (getAll)");
         }
-        String sql = String.format(
-            """
-            SELECT coin_id, year, coin_value, mint_country, mint, description, collection_id
-            FROM %s
-            """, tableName
-        );
-
         List<EuroCoin> readCoins = new ArrayList<>();
 
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(getAllSql)) {
             try(ResultSet rs = preparedStatement.executeQuery()){
                 while (rs.next()) {
                     String coinId = rs.getString("coin_id");
@@ -250,24 +281,425 @@ public class EuroCoinSqliteRepository implements EuroCoinStorageRepository {
 
     /** {@inheritDoc} */
     @Override
-    public boolean exists(Connection connection, String coinId) throws SQLException{
+    public EuroCoinBatch getAllAsBatch(Connection connection) throws SQLException {
         if (connection == null) {
-            throw new IllegalArgumentException("connection must not be null (exists)");
+            throw new IllegalArgumentException("connection must not be null (getAllAsBatch)");
         }
-        if (coinId == null || coinId.isBlank()) {
-            logger.warn("EuroCoin exists check aborted: coinId null/blank");
-            throw new IllegalArgumentException("coinId must not be null or blank (exists)");
+        EuroCoinBatch batch = new EuroCoinBatch();
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(getAllSql)) {
+            try (ResultSet rs = preparedStatement.executeQuery()) {
+                while (rs.next()) {
+                    try {
+                        euroCoinFactory.addDataBaseEntry(rs, batch);
+                    } catch (SQLException e) {
+                        logger.warn("EuroCoin row skipped: coinId={} (invalid data)", rs.getString("coin_id"));
+                    }
+                }
+                logger.debug("EuroCoin batch read: count={}", batch.size());
+            }
+        } catch (SQLException e) {
+            logger.error("EuroCoin batch read failed", e);
+            throw e;
+        }
+        return batch;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Served by the statistics index, which leads with {@code collection_id}.
+     */
+    @Override
+    public List<EuroCoin> getAllOfCollection(Connection connection, String collectionId) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (getAllOfCollection)");
+        }
+        if (collectionId == null || collectionId.isBlank()) {
+            throw new IllegalArgumentException("collectionId must not be null or blank (getAllOfCollection)");
+        }
+        List<EuroCoin> readCoins = new ArrayList<>();
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(getAllOfCollectionSql)) {
+            preparedStatement.setString(1, collectionId);
+            try (ResultSet rs = preparedStatement.executeQuery()) {
+                while (rs.next()) {
+                    String coinId = rs.getString("coin_id");
+                    Optional<EuroCoin> readCoin = createEuroCoinFromResultSet(coinId, rs);
+                    if (readCoin.isPresent()) {
+                        readCoins.add(readCoin.get());
+                    } else {
+                        logger.warn("EuroCoin row skipped: coinId={} (invalid data)", coinId);
+                    }
+                }
+                logger.debug("EuroCoin list of collection read: collectionId={}, count={}", collectionId, readCoins.size());
+            }
+        } catch (SQLException e) {
+            logger.error("EuroCoin list of collection read failed: collectionId={}", collectionId, e);
+            throw e;
+        }
+        return readCoins;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CoinStatistics getStatistics(Connection connection, List<String> collectionIds) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (getStatistics)");
+        }
+        if (collectionIds == null || collectionIds.stream().anyMatch(id -> id == null || id.isBlank())) {
+            throw new IllegalArgumentException("collectionIds must not be null or contain null/blank ids (getStatistics)");
+        }
+
+        CoinStatistics statistics = new CoinStatistics();
+        if (collectionIds.isEmpty()) {
+            return statistics;
         }
 
         String sql = String.format(
             """
-            SELECT 1
+            SELECT mint_country, coin_value, year, mint, COUNT(*) AS coin_count
             FROM %s
-            WHERE coin_id = ?
-            """, tableName
+            WHERE collection_id IN (%s)
+            GROUP BY mint_country, coin_value, year, mint
+            """, tableName, String.join(", ", Collections.nCopies(collectionIds.size(), "?"))
         );
 
         try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < collectionIds.size(); i++) {
+                preparedStatement.setString(i + 1, collectionIds.get(i));
+            }
+            try (ResultSet rs = preparedStatement.executeQuery()) {
+                while (rs.next()) {
+                    try {
+                        statistics.add(
+                            CoinCountry.fromIsoCode(rs.getString("mint_country")),
+                            CoinValue.fromCentValue(rs.getInt("coin_value")),
+                            rs.getInt("year"),
+                            Mint.fromMintMark(rs.getString("mint")),
+                            rs.getInt("coin_count")
+                        );
+                    } catch (IllegalArgumentException e) {
+                        logger.warn("EuroCoin statistics bucket skipped (invalid data): {}", e.getMessage());
+                    }
+                }
+                logger.debug("EuroCoin statistics computed: collections={}, coins={}", collectionIds.size(), statistics.getCoinCount());
+            }
+        } catch (SQLException e) {
+            logger.error("EuroCoin statistics failed: collections={}", collectionIds.size(), e);
+            throw e;
+        }
+        return statistics;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<EuroCoin> search(Connection connection, String text, List<String> collectionIds, int limit, int offset) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (search)");
+        }
+        if (collectionIds == null || collectionIds.stream().anyMatch(id -> id == null || id.isBlank())) {
+            throw new IllegalArgumentException("collectionIds must not be null or contain null/blank ids (search)");
+        }
+        if (limit < 0 || offset < 0) {
+            throw new IllegalArgumentException("limit and offset must not be negative (search)");
+        }
+
+        String matchQuery = toMatchQuery(text);
+        if (matchQuery.isEmpty() || collectionIds.isEmpty() || limit == 0) {
+            return List.of();
+        }
+
+        String sql = String.format(
+            """
+            SELECT c.coin_id, c.year, c.coin_value, c.mint_country, c.mint, c.description, c.collection_id
+            FROM %1$s
+            JOIN %2$s c ON c.rowid = %1$s.rowid
+            WHERE %1$s MATCH ? AND c.collection_id IN (%3$s)
+            ORDER BY %1$s.rank
+            LIMIT ? OFFSET ?
+            """, searchTableName(tableName), tableName, String.join(", ", Collections.nCopies(collectionIds.size(), "?"))
+        );
+
+        List<EuroCoin> coins = new ArrayList<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            int index = 1;
+            preparedStatement.setString(index++, matchQuery);
+            for (String collectionId : collectionIds) {
+                preparedStatement.setString(index++, collectionId);
+            }
+            preparedStatement.setInt(index++, limit);
+            preparedStatement.setInt(index, offset);
+            try (ResultSet rs = preparedStatement.executeQuery()) {
+                while (rs.next()) {
+                    createEuroCoinFromResultSet(rs.getString("coin_id"), rs).ifPresent(coins::add);
+                }
+                logger.debug("EuroCoin search finished: collections={}, hits={}", collectionIds.size(), coins.size());
+            }
+        } catch (SQLException e) {
+            logger.error("EuroCoin search failed: collections={}", collectionIds.size(), e);
+            throw e;
+        }
+        return coins;
+    }
+
+    /**
+     * Turns free text into an FTS5 query that matches documents containing every word,
+     * each as a prefix. Words are quoted so FTS5 operators and special characters in the
+     * input are taken literally.
+     *
+     * @param text the free text
+     * @return the FTS5 query, empty if the text contains no letters or digits
+     */
+    static String toMatchQuery(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder query = new StringBuilder();
+        for (String word : text.split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                if (!query.isEmpty()) {
+                    query.append(' ');
+                }
+                query.append('"').append(word).append("\"*");
+            }
+        }
+        return query.toString();
+    }
+
+    /**
+     * Name of the FTS5 table indexing the descriptions of a coin table.
+     *
+     * @param tableName the coin table
+     * @return the name of its full-text index
+     */
+    public static String searchTableName(String tableName) {
+        return tableName + "_fts";
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<EuroCoin> filter(Connection connection, CoinFilter filter, List<String> collectionIds, int limit, int offset) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (filter)");
+        }
+        if (filter == null) {
+            throw new IllegalArgumentException("filter must not be null (filter)");
+        }
+        if (collectionIds == null || collectionIds.stream().anyMatch(id -> id == null || id.isBlank())) {
+            throw new IllegalArgumentException("collectionIds must not be null or contain null/blank ids (filter)");
+        }
+        if (limit < 0 || offset < 0) {
+            throw new IllegalArgumentException("limit and offset must not be negative (filter)");
+        }
+        if (collectionIds.isEmpty() || limit == 0) {
+            return List.of();
+        }
+
+        List<Object> parameters = new ArrayList<>(collectionIds);
+        String sql = String.format(
+            """
+            SELECT coin_id, year, coin_value, mint_country, mint, description, collection_id
+            FROM %s
+            WHERE collection_id IN (%s)%s
+            ORDER BY year, coin_value, mint_country, mint, coin_id
+            LIMIT ? OFFSET ?
+            """, tableName, String.join(", ", Collections.nCopies(collectionIds.size(), "?")), filterConditions(filter, parameters)
+        );
+        parameters.add(limit);
+        parameters.add(offset);
+
+        List<EuroCoin> coins = new ArrayList<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.size(); i++) {
+                preparedStatement.setObject(i + 1, parameters.get(i));
+            }
+            try (ResultSet rs = preparedStatement.executeQuery()) {
+                while (rs.next()) {
+                    createEuroCoinFromResultSet(rs.getString("coin_id"), rs).ifPresent(coins::add);
+                }
+                logger.debug("EuroCoin filter finished: collections={}, coins={}", collectionIds.size(), coins.size());
+            }
+        } catch (SQLException e) {
+            logger.error("EuroCoin filter failed: collections={}", collectionIds.size(), e);
+            throw e;
+        }
+        return coins;
+    }
+
+    /**
+     * Builds the SQL conditions of a filter, one bound parameter per given criterion,
+     * and appends the parameter values in order.
+     *
+     * @param filter the filter
+     * @param parameters receives the values of the placeholders
+     * @return the conditions, each prefixed with {@code AND}; empty if the filter has no criteria
+     */
+    static String filterConditions(CoinFilter filter, List<Object> parameters) {
+        StringBuilder conditions = new StringBuilder();
+        if (filter.collectionId() != null) {
+            conditions.append(" AND collection_id = ?");
+            parameters.add(filter.collectionId());
+        }
+        if (filter.country() != null) {
+            conditions.append(" AND mint_country = ?");
+            parameters.add(filter.country().getIsoCode());
+        }
+        if (filter.value() != null) {
+            conditions.append(" AND coin_value = ?");
+            parameters.add(filter.value().getCentValue());
+        }
+        if (filter.yearFrom() != null) {
+            conditions.append(" AND year >= ?");
+            parameters.add(filter.yearFrom());
+        }
+        if (filter.yearTo() != null) {
+            conditions.append(" AND year <= ?");
+            parameters.add(filter.yearTo());
+        }
+        if (filter.mint() == Mint.UNKOWN) {
+            conditions.append(" AND mint IS NULL");
+        } else if (filter.mint() != null) {
+            conditions.append(" AND mint = ?");
+            parameters.add(filter.mint().getMintMark());
+        }
+        return conditions.toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The coins of the collections are grouped by all faceted attributes in one query that is
+     * answered from the {@code (collection_id, mint_country, coin_value, year, mint)} index;
+     * the per-facet counts are then derived from the buckets.
+     */
+    @Override
+    public CoinFacets getFacets(Connection connection, CoinFilter filter, List<String> collectionIds) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (getFacets)");
+        }
+        if (filter == null) {
+            throw new IllegalArgumentException("filter must not be null (getFacets)");
+        }
+        if (collectionIds == null || collectionIds.stream().anyMatch(id -> id == null || id.isBlank())) {
+            throw new IllegalArgumentException("collectionIds must not be null or contain null/blank ids (getFacets)");
+        }
+
+        CoinFacets facets = new CoinFacets(filter);
+        if (collectionIds.isEmpty()) {
+            return facets;
+        }
+
+        String sql = String.format(
+            """
+            SELECT collection_id, mint_country, coin_value, year, mint, COUNT(*) AS coin_count
+            FROM %s
+            WHERE collection_id IN (%s)
+            GROUP BY collection_id, mint_country, coin_value, year, mint
+            """, tableName, String.join(", ", Collections.nCopies(collectionIds.size(), "?"))
+        );
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < collectionIds.size(); i++) {
+                preparedStatement.setString(i + 1, collectionIds.get(i));
+            }
+            try (ResultSet rs = preparedStatement.executeQuery()) {
+                while (rs.next()) {
+                    try {
+                        facets.add(
+                            rs.getString("collection_id"),
+                            CoinCountry.fromIsoCode(rs.getString("mint_country")),
+                            CoinValue.fromCentValue(rs.getInt("coin_value")),
+                            rs.getInt("year"),
+                            Mint.fromMintMark(rs.getString("mint")),
+                            rs.getInt("coin_count")
+                        );
+                    } catch (IllegalArgumentException e) {
+                        logger.warn("EuroCoin facet bucket skipped (invalid data): {}", e.getMessage());
+                    }
+                }
+                logger.debug("EuroCoin facets computed: collections={}, matches={}", collectionIds.size(), facets.getTotal());
+            }
+        } catch (SQLException e) {
+            logger.error("EuroCoin facets failed: collections={}", collectionIds.size(), e);
+            throw e;
+        }
+        return facets;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, BitSet> getOwnedCatalogOrdinals(Connection connection, List<String> collectionIds, EuroCoinCatalog catalog) throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (getOwnedCatalogOrdinals)");
+        }
+        if (catalog == null) {
+            throw new IllegalArgumentException("catalog must not be null (getOwnedCatalogOrdinals)");
+        }
+        if (collectionIds == null || collectionIds.stream().anyMatch(id -> id == null || id.isBlank())) {
+            throw new IllegalArgumentException("collectionIds must not be null or contain null/blank ids (getOwnedCatalogOrdinals)");
+        }
+
+        Map<String, BitSet> ownedOrdinals = new LinkedHashMap<>();
+        collectionIds.forEach(collectionId -> ownedOrdinals.put(collectionId, new BitSet(catalog.size())));
+        if (collectionIds.isEmpty()) {
+            return ownedOrdinals;
+        }
+
+        String sql = String.format(
+            """
+            SELECT DISTINCT collection_id, mint_country, coin_value, year, mint
+            FROM %s
+            WHERE collection_id IN (%s)
+            """, tableName, String.join(", ", Collections.nCopies(collectionIds.size(), "?"))
+        );
+
+        int ignored = 0;
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < collectionIds.size(); i++) {
+                preparedStatement.setString(i + 1, collectionIds.get(i));
+            }
+            try (ResultSet rs = preparedStatement.executeQuery()) {
+                while (rs.next()) {
+                    int ordinal;
+                    try {
+                        ordinal = catalog.ordinalOf(
+                            CoinCountry.fromIsoCode(rs.getString("mint_country")),
+                            CoinValue.fromCentValue(rs.getInt("coin_value")),
+                            rs.getInt("year"),
+                            Mint.fromMintMark(rs.getString("mint"))
+                        );
+                    } catch (IllegalArgumentException e) {
+                        ordinal = -1;
+                    }
+                    BitSet owned = ownedOrdinals.get(rs.getString("collection_id"));
+                    if (ordinal >= 0 && owned != null) {
+                        owned.set(ordinal);
+                    } else {
+                        ignored++;
+                    }
+                }
+                logger.debug("EuroCoin catalog ordinals read: collections={}, ignoredCoins={}", collectionIds.size(), ignored);
+            }
+        } catch (SQLException e) {
+            logger.error("EuroCoin catalog ordinals read failed: collections={}", collectionIds.size(), e);
+            throw e;
+        }
+        return ownedOrdinals;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean exists(Connection connection, String coinId) throws SQLException{
+        if (connection == null) {
+            throw new IllegalArgumentException("connection must not be null (exists)");
+        }
+        if (coinId == null || coinId.isBlank()) {
+            logger.warn("EuroCoin exists check aborted: coinId null/blank");
+            throw new IllegalArgumentException("coinId must not be null or blank (exists)");
+        }
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(existsSql)) {
             preparedStatement.setString(1, coinId);
             try (ResultSet rs = preparedStatement.executeQuery()) {
                 return rs.next();
@@ -278,6 +710,18 @@ public class EuroCoinSqliteRepository implements EuroCoinStorageRepository {
         }
     }
 
+    /**
+     * Binds the description column. Generated default descriptions are stored as NULL and
+     * derived again when the coin is read, so only custom texts occupy space in the table.
+     */
+    private static void setDescription(PreparedStatement preparedStatement, int index, EuroCoin coin) throws SQLException {
+        if (coin.hasCustomDescription()) {
+            preparedStatement.setString(index, coin.getDescription().toString());
+        } else {
+            preparedStatement.setNull(index, Types.VARCHAR);
+        }
+    }
+
     /**
      * Internal (package-private) validation of minimal {@link EuroCoin} invariants.
      * Current rules: non-null object, non-blank id, year >= EURO_COIN_START_YEAR and
@@ -0,0 +1,31 @@
+package io.github.lstramke.coincollector.repositories.sqlite;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event covering one SQL statement issued by a SQLite repository.
+ * For queries the duration includes fetching all rows of the result set.
+ */
+@Name("io.github.lstramke.coincollector.SqlStatement")
+@Label("SQL Statement")
+@Category({"CoinCollector", "SQLite"})
+@Description("Execution of one SQL statement")
+@StackTrace(false)
+public class SqlStatementEvent extends Event {
+
+    @Label("Caller")
+    @Description("Repository method that issued the statement")
+    public String caller;
+
+    @Label("SQL")
+    public String sql;
+
+    @Label("Rows")
+    @Description("Rows fetched by a query or affected by an update")
+    public long rows;
+}
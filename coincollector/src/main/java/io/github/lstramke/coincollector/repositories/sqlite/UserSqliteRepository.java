@@ -29,12 +29,51 @@ import io.github.lstramke.coincollector.repositories.UserStorageRepository;
 
 public class UserSqliteRepository implements UserStorageRepository{
     private static final Logger logger = LoggerFactory.getLogger(UserSqliteRepository.class);
-    private final String tableName;
     private final UserFactory userFactory;
+    private final String createSql;
+    private final String readSql;
+    private final String updateSql;
+    private final String deleteSql;
+    private final String existsSql;
+    private final String getByUsernameSql;
 
     public UserSqliteRepository(String tableName, UserFactory userFactory) {
-        this.tableName = tableName;
         this.userFactory = userFactory;
+        this.createSql = String.format("INSERT INTO %s (user_id, username) VALUES (?, ?)", tableName);
+        this.readSql = String.format(
+            """
+            SELECT user_id, username
+            FROM %s
+            WHERE user_id = ?
+            """, tableName
+        );
+        this.updateSql = String.format(
+            """
+            UPDATE %s
+            SET username = ?
+            WHERE user_id = ?
+            """, tableName
+        );
+        this.deleteSql = String.format(
+            """
+            DELETE FROM %s
+            WHERE user_id = ?
+            """,tableName
+        );
+        this.existsSql = String.format(
+            """
+            SELECT 1
+            FROM %s
+            WHERE user_id = ?
+            """, tableName
+        );
+        this.getByUsernameSql = String.format(
+            """
+            SELECT user_id, username
+            FROM %s
+            WHERE username = ?
+            """, tableName
+        );
     }
 
     /** {@inheritDoc} */
@@ -48,9 +87,7 @@ public class UserSqliteRepository implements UserStorageRepository{
             throw new IllegalArgumentException("User validation failed (create)");
         }
 
-        String sql = String.format("INSERT INTO %s (user_id, username) VALUES (?, ?)", tableName);
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(createSql)) {
             preparedStatement.setString(1, user.getId());
             preparedStatement.setString(2, user.getName());
 
@@ -79,15 +116,7 @@ public class UserSqliteRepository implements UserStorageRepository{
             throw new IllegalArgumentException("userId must not be null or blank (read)");
         }
 
-        String sql = String.format(
-            """
-            SELECT user_id, username
-            FROM %s
-            WHERE user_id = ?
-            """, tableName
-        );
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(readSql)) {
             preparedStatement.setString(1, userId);
             try(ResultSet resultSet = preparedStatement.executeQuery()){
                 if(resultSet.next()){
@@ -139,15 +168,7 @@ public class UserSqliteRepository implements UserStorageRepository{
             throw new IllegalArgumentException("User validation failed (update)");
         }
 
-        String sql = String.format(
-            """
-            UPDATE %s
-            SET username = ?
-            WHERE user_id = ?
-            """, tableName
-        );
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(updateSql)) {
             preparedStatement.setString(1, user.getName());
             preparedStatement.setString(2, user.getId());
 
@@ -176,14 +197,7 @@ public class UserSqliteRepository implements UserStorageRepository{
             throw new IllegalArgumentException("userId must not be null or blank (delete)");
         }
 
-        String sql = String.format(
-            """
-            DELETE FROM %s
-            WHERE user_id = ?
-            """,tableName
-        );
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(deleteSql)) {
             preparedStatement.setString(1, userId);
 
             int rowsAffected = preparedStatement.executeUpdate();
@@ -212,15 +226,7 @@ public class UserSqliteRepository implements UserStorageRepository{
             throw new IllegalArgumentException("userId must not be null or blank (exists)");
         }
 
-        String sql = String.format(
-            """
-            SELECT 1
-            FROM %s
-            WHERE user_id = ?
-            """, tableName
-        );
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(existsSql)) {
             preparedStatement.setString(1, userId);
 
             try (ResultSet rs = preparedStatement.executeQuery()) {
@@ -243,15 +249,7 @@ public class UserSqliteRepository implements UserStorageRepository{
             throw new IllegalArgumentException("username must not be null or blank (getByUsername)");
         }
 
-         String sql = String.format(
-            """
-            SELECT user_id, username
-            FROM %s
-            WHERE username = ?
-            """, tableName
-        );
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(getByUsernameSql)) {
             preparedStatement.setString(1, username);
             try(ResultSet resultSet = preparedStatement.executeQuery()){
                 if(resultSet.next()){
@@ -0,0 +1,35 @@
+package io.github.lstramke.coincollector.services;
+
+import java.nio.file.Path;
+
+import io.github.lstramke.coincollector.exceptions.backupExceptions.BackupCreateException;
+import io.github.lstramke.coincollector.exceptions.backupExceptions.BackupRestoreException;
+
+/**
+ * Service abstraction for backups of the database that are taken while the server keeps
+ * serving requests.
+ * <p>
+ * <strong>Lifecycle & transaction management:</strong>
+ * Implementations open/manage/close connections internally.
+ */
+public interface BackupService {
+
+    /**
+     * Copies the current database into a new backup file. A backup file only appears once it
+     * is complete; older backups beyond the retention limit are deleted afterwards.
+     *
+     * @return the backup file
+     * @throws BackupCreateException if the backup cannot be taken or written
+     */
+    Path createBackup() throws BackupCreateException;
+
+    /**
+     * Replaces the content of the database with a backup after checking the backup's integrity.
+     * Must only be called while no requests are served, i.e. at startup.
+     *
+     * @param backup the backup file to restore
+     * @throws BackupRestoreException if the backup is missing, fails its integrity check or cannot be restored;
+     *         the database is unchanged in the first two cases
+     */
+    void restore(Path backup) throws BackupRestoreException;
+}
@@ -0,0 +1,187 @@
+package io.github.lstramke.coincollector.services;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sqlite.SQLiteConnection;
+import org.sqlite.SQLiteDataSource;
+import org.sqlite.SQLiteErrorCode;
+import org.sqlite.core.DB;
+
+import io.github.lstramke.coincollector.exceptions.backupExceptions.BackupCreateException;
+import io.github.lstramke.coincollector.exceptions.backupExceptions.BackupRestoreException;
+
+/**
+ * Implementation of {@link BackupService} using the SQLite online backup API.
+ * <p>
+ * The pages of the database are copied a few at a time, and the copy pauses between steps.
+ * The source is only read-locked while a step runs, so writers are held up by one short step
+ * at most instead of a whole copy as with {@code VACUUM INTO}. A write through another
+ * connection makes SQLite restart the copy so that the backup stays consistent. After a few
+ * restarts the pauses are dropped so that a backup under steady write load still finishes.
+ * <p>
+ * Backups are written to a temporary file and renamed to {@code backup-<UTC timestamp>.db}
+ * when complete.
+ */
+public class BackupServiceImpl implements BackupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BackupServiceImpl.class);
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    private static final String FILE_PREFIX = "backup-";
+    private static final String FILE_SUFFIX = ".db";
+    private static final int BUSY_SLEEP_MILLIS = 100;
+    private static final int BUSY_RETRIES = 50;
+    private static final int THROTTLED_RESTARTS = 3;
+
+    private final DataSource dataSource;
+    private final Path backupDirectory;
+    private final int pagesPerStep;
+    private final long pauseMillis;
+    private final int retainedBackups;
+
+    /**
+     * @param dataSource the SQLite data source to back up and restore
+     * @param backupDirectory directory of the backup files; created if missing
+     * @param pagesPerStep number of pages copied per step
+     * @param pauseMillis pause between two steps
+     * @param retainedBackups number of backups kept; older ones are deleted
+     */
+    public BackupServiceImpl(DataSource dataSource, Path backupDirectory, int pagesPerStep, long pauseMillis, int retainedBackups) {
+        this.dataSource = dataSource;
+        this.backupDirectory = backupDirectory;
+        this.pagesPerStep = pagesPerStep;
+        this.pauseMillis = pauseMillis;
+        this.retainedBackups = retainedBackups;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized Path createBackup() throws BackupCreateException {
+        long start = System.nanoTime();
+        Path target = backupDirectory.resolve(FILE_PREFIX + FILE_TIMESTAMP.format(ZonedDateTime.now(ZoneOffset.UTC)) + FILE_SUFFIX);
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        ThrottlingObserver observer = new ThrottlingObserver();
+        try {
+            Files.createDirectories(backupDirectory);
+            try (Connection connection = dataSource.getConnection()) {
+                DB database = connection.unwrap(SQLiteConnection.class).getDatabase();
+                int result = database.backup("main", temporary.toString(), observer, BUSY_SLEEP_MILLIS, BUSY_RETRIES, pagesPerStep);
+                if (result != SQLiteErrorCode.SQLITE_OK.code) {
+                    throw new SQLException("Backup ended with " + SQLiteErrorCode.getErrorCode(result), null, result);
+                }
+            }
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+            deleteOldBackups();
+        } catch (SQLException | IOException e) {
+            logger.error("Backup to {} failed: {}", target, e.getMessage());
+            try {
+                Files.deleteIfExists(temporary);
+            } catch (IOException deleteFailure) {
+                e.addSuppressed(deleteFailure);
+            }
+            throw new BackupCreateException(e);
+        }
+        logger.info("Backup {} written: pages={}, restarts={}, durationMs={}",
+            target.getFileName(), observer.pageCount, observer.restarts, (System.nanoTime() - start) / 1_000_000);
+        return target;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void restore(Path backup) throws BackupRestoreException {
+        logger.info("Restoring database from backup {}", backup);
+        try {
+            if (!Files.isRegularFile(backup)) {
+                throw new NoSuchFileException(backup.toString());
+            }
+            checkIntegrity(backup);
+            try (Connection connection = dataSource.getConnection()) {
+                DB database = connection.unwrap(SQLiteConnection.class).getDatabase();
+                int result = database.restore("main", backup.toString(), null, BUSY_SLEEP_MILLIS, BUSY_RETRIES, -1);
+                if (result != SQLiteErrorCode.SQLITE_OK.code) {
+                    throw new SQLException("Restore ended with " + SQLiteErrorCode.getErrorCode(result), null, result);
+                }
+            }
+        } catch (SQLException | IOException e) {
+            logger.error("Restore from {} failed: {}", backup, e.getMessage());
+            throw new BackupRestoreException(e);
+        }
+        logger.info("Database restored from backup {}", backup);
+    }
+
+    /**
+     * Runs {@code PRAGMA quick_check} on a read-only connection to the backup.
+     */
+    private static void checkIntegrity(Path backup) throws SQLException {
+        SQLiteDataSource backupDataSource = new SQLiteDataSource();
+        backupDataSource.setUrl("jdbc:sqlite:" + backup);
+        backupDataSource.setReadOnly(true);
+        try (Connection connection = backupDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("PRAGMA quick_check")) {
+            String result = resultSet.next() ? resultSet.getString(1) : null;
+            if (!"ok".equals(result)) {
+                throw new SQLException("Backup failed its integrity check: " + result);
+            }
+        }
+    }
+
+    private void deleteOldBackups() throws IOException {
+        List<Path> backups;
+        try (Stream<Path> files = Files.list(backupDirectory)) {
+            backups = files
+                .filter(file -> {
+                    String name = file.getFileName().toString();
+                    return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+                })
+                .sorted()
+                .toList();
+        }
+        for (int i = 0; i < backups.size() - retainedBackups; i++) {
+            Files.deleteIfExists(backups.get(i));
+            logger.info("Old backup {} deleted", backups.get(i).getFileName());
+        }
+    }
+
+    /**
+     * Pauses between backup steps and counts the restarts caused by concurrent writes, which
+     * show up as a growing number of remaining pages.
+     */
+    private final class ThrottlingObserver implements DB.ProgressObserver {
+        private int lastRemaining = Integer.MAX_VALUE;
+        private int restarts;
+        private int pageCount;
+
+        @Override
+        public void progress(int remaining, int pageCount) {
+            if (remaining > lastRemaining) {
+                restarts++;
+            }
+            lastRemaining = remaining;
+            this.pageCount = pageCount;
+            if (remaining > 0 && pauseMillis > 0 && restarts < THROTTLED_RESTARTS) {
+                try {
+                    Thread.sleep(pauseMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.lstramke.coincollector.services;
+
+import java.util.List;
+
+import io.github.lstramke.coincollector.exceptions.batchExceptions.BatchOperationException;
+import io.github.lstramke.coincollector.model.BatchOperation;
+import io.github.lstramke.coincollector.model.BatchResult;
+
+/**
+ * Service executing several writes of a user as one unit: all {@link BatchOperation}s are
+ * applied in order on one connection within one transaction, so either all of them are
+ * stored or none.
+ * <p>
+ * Every operation is checked against the ownership of the user first; operations on entities
+ * of other users fail like operations on entities that do not exist.
+ */
+public interface BatchService {
+
+    /**
+     * Executes the operations in order and commits them together.
+     *
+     * @param userId id of the user the operations are executed for; must not be {@code null}
+     * @param operations the operations to execute; must not be {@code null}
+     * @return the results in operation order
+     * @throws BatchOperationException if an operation fails; the transaction is rolled back and
+     *         the exception carries the index of the failing operation and its exception as cause,
+     *         e.g. a {@link io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinNotFoundException}
+     */
+    List<BatchResult> execute(String userId, List<BatchOperation> operations) throws BatchOperationException;
+}
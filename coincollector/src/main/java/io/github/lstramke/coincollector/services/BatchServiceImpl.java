@@ -0,0 +1,254 @@
+package io.github.lstramke.coincollector.services;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.lstramke.coincollector.exceptions.batchExceptions.BatchOperationException;
+import io.github.lstramke.coincollector.exceptions.euroCoinCollectionException.EuroCoinCollectionNotFoundException;
+import io.github.lstramke.coincollector.exceptions.euroCoinCollectionGroupException.EuroCoinCollectionGroupDeleteException;
+import io.github.lstramke.coincollector.exceptions.euroCoinCollectionGroupException.EuroCoinCollectionGroupNotFoundException;
+import io.github.lstramke.coincollector.exceptions.euroCoinCollectionGroupException.EuroCoinCollectionGroupSaveException;
+import io.github.lstramke.coincollector.exceptions.euroCoinCollectionGroupException.EuroCoinCollectionGroupUpdateException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinNotFoundException;
+import io.github.lstramke.coincollector.model.BatchOperation;
+import io.github.lstramke.coincollector.model.BatchResult;
+import io.github.lstramke.coincollector.model.ChangeEvent;
+import io.github.lstramke.coincollector.model.ChangeEvent.Action;
+import io.github.lstramke.coincollector.model.ChangeEvent.Entity;
+import io.github.lstramke.coincollector.model.EuroCoin;
+import io.github.lstramke.coincollector.model.EuroCoinCollection;
+import io.github.lstramke.coincollector.model.EuroCoinCollectionGroup;
+
+/**
+ * Implementation of {@link BatchService} on top of the {@code Connection}-accepting overloads
+ * of the coin, collection and group storage services.
+ * <p>
+ * Ownership is resolved from the {@link OwnershipIndex}, falling back to the batch connection
+ * for groups and collections the index does not know yet, such as those created earlier in
+ * the same batch. The services do not update the index for writes on a caller-managed
+ * connection, so the index updates of a batch are collected and applied here once it is
+ * committed; a rolled back batch leaves the index untouched. Writes on a caller-managed
+ * connection are not published by {@link ChangeEvents} either, so the {@link ChangeEvent}s of
+ * a batch are published after the commit as well.
+ */
+public class BatchServiceImpl implements BatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchServiceImpl.class);
+
+    private final DataSource dataSource;
+    private final EuroCoinStorageService coinStorageService;
+    private final EuroCoinCollectionStorageService collectionStorageService;
+    private final EuroCoinCollectionGroupStorageService groupStorageService;
+    private final OwnershipIndex ownershipIndex;
+    private final ChangeEventBus changeEventBus;
+
+    public BatchServiceImpl(
+        DataSource dataSource,
+        EuroCoinStorageService coinStorageService,
+        EuroCoinCollectionStorageService collectionStorageService,
+        EuroCoinCollectionGroupStorageService groupStorageService,
+        OwnershipIndex ownershipIndex,
+        ChangeEventBus changeEventBus
+    ) {
+        this.dataSource = dataSource;
+        this.coinStorageService = coinStorageService;
+        this.collectionStorageService = collectionStorageService;
+        this.groupStorageService = groupStorageService;
+        this.ownershipIndex = ownershipIndex;
+        this.changeEventBus = changeEventBus;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<BatchResult> execute(String userId, List<BatchOperation> operations) throws BatchOperationException {
+        if (userId == null || operations == null) {
+            throw new IllegalArgumentException("userId and operations must not be null (execute)");
+        }
+        logger.info("Executing batch of {} operations for user {}", operations.size(), userId);
+        List<BatchResult> results = new ArrayList<>(operations.size());
+        List<ChangeEvent> events = new ArrayList<>();
+        List<Runnable> indexUpdates = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            int index = 0;
+            try {
+                for (; index < operations.size(); index++) {
+                    results.add(apply(operations.get(index), userId, connection, events, indexUpdates));
+                }
+            } catch (RuntimeException | EuroCoinCollectionGroupSaveException | EuroCoinCollectionGroupUpdateException | EuroCoinCollectionGroupDeleteException e) {
+                connection.rollback();
+                logger.warn("Batch of user {} rolled back at operation {}: {}", userId, index, e.getMessage());
+                throw new BatchOperationException(index, e);
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            logger.error("SQL error executing batch of user {}: {}", userId, e.getMessage(), e);
+            throw new BatchOperationException(-1, e);
+        }
+        indexUpdates.forEach(Runnable::run);
+        logger.info("Batch of {} operations committed for user {}", operations.size(), userId);
+
+        if (changeEventBus.hasSubscribers()) {
+            events.forEach(event -> changeEventBus.publish(userId, event));
+        }
+        return results;
+    }
+
+    private BatchResult apply(BatchOperation operation, String userId, Connection connection, List<ChangeEvent> events, List<Runnable> indexUpdates)
+        throws EuroCoinCollectionGroupSaveException, EuroCoinCollectionGroupUpdateException, EuroCoinCollectionGroupDeleteException {
+        if (operation == null || operation.action() == null || operation.entity() == null) {
+            throw new IllegalArgumentException("Incomplete batch operation");
+        }
+        return switch (operation.entity()) {
+            case COIN -> applyToCoin(operation, userId, connection, events);
+            case COLLECTION -> applyToCollection(operation, userId, connection, events, indexUpdates);
+            case GROUP -> applyToGroup(operation, userId, connection, events, indexUpdates);
+        };
+    }
+
+    /**
+     * Coins are updated in place while their id stays the same. Changed attributes change the
+     * deterministic id, so the coin is then replaced like {@code PATCH /api/coins/{id}} does.
+     */
+    private BatchResult applyToCoin(BatchOperation operation, String userId, Connection connection, List<ChangeEvent> events) {
+        EuroCoin coin = operation.coin();
+        switch (operation.action()) {
+            case CREATED -> {
+                requireCollectionOwner(coin.getCollectionId(), userId, connection);
+                coinStorageService.save(coin, connection);
+                events.add(new ChangeEvent(Entity.COIN, Action.CREATED, coin.getId(), coin.getCollectionId()));
+            }
+            case UPDATED -> {
+                EuroCoin existing = requireOwnedCoin(operation.id(), userId, connection);
+                if (!existing.getCollectionId().equals(coin.getCollectionId())) {
+                    requireCollectionOwner(coin.getCollectionId(), userId, connection);
+                }
+                if (existing.getId().equals(coin.getId())) {
+                    coinStorageService.update(coin, connection);
+                    events.add(new ChangeEvent(Entity.COIN, Action.UPDATED, coin.getId(), coin.getCollectionId()));
+                } else {
+                    coinStorageService.delete(existing.getId(), connection);
+                    coinStorageService.save(coin, connection);
+                    events.add(new ChangeEvent(Entity.COIN, Action.DELETED, existing.getId(), existing.getCollectionId()));
+                    events.add(new ChangeEvent(Entity.COIN, Action.CREATED, coin.getId(), coin.getCollectionId()));
+                }
+            }
+            case DELETED -> {
+                EuroCoin existing = requireOwnedCoin(operation.id(), userId, connection);
+                coinStorageService.delete(existing.getId(), connection);
+                events.add(new ChangeEvent(Entity.COIN, Action.DELETED, existing.getId(), existing.getCollectionId()));
+                coin = null;
+            }
+        }
+        return new BatchResult(operation.action(), Entity.COIN, coin, null, null);
+    }
+
+    private BatchResult applyToCollection(BatchOperation operation, String userId, Connection connection, List<ChangeEvent> events, List<Runnable> indexUpdates) {
+        EuroCoinCollection collection = operation.collection();
+        switch (operation.action()) {
+            case CREATED -> {
+                requireGroupOwner(collection.getGroupId(), userId, connection);
+                String collectionId = collection.getId();
+                String groupId = collection.getGroupId();
+                collectionStorageService.save(collection, connection);
+                indexUpdates.add(() -> ownershipIndex.putCollection(collectionId, groupId));
+                events.add(new ChangeEvent(Entity.COLLECTION, Action.CREATED, collectionId, groupId));
+            }
+            case UPDATED -> {
+                collection = collectionStorageService.getById(operation.id(), connection);
+                String previousGroupId = collection.getGroupId();
+                requireGroupOwner(previousGroupId, userId, connection);
+                if (!previousGroupId.equals(operation.groupId())) {
+                    requireGroupOwner(operation.groupId(), userId, connection);
+                }
+                collection.setName(operation.name());
+                collection.setGroupId(operation.groupId());
+                String collectionId = collection.getId();
+                String groupId = collection.getGroupId();
+                collectionStorageService.updateMetadata(collection, connection);
+                indexUpdates.add(() -> ownershipIndex.putCollection(collectionId, groupId));
+                events.add(new ChangeEvent(Entity.COLLECTION, Action.UPDATED, collectionId, groupId));
+            }
+            case DELETED -> {
+                String collectionId = operation.id();
+                String groupId = ownershipIndex.getGroupIdOfCollection(collectionId)
+                    .orElseGet(() -> collectionStorageService.getById(collectionId, connection).getGroupId());
+                requireGroupOwner(groupId, userId, connection);
+                collectionStorageService.delete(collectionId, connection);
+                indexUpdates.add(() -> ownershipIndex.removeCollection(collectionId));
+                events.add(new ChangeEvent(Entity.COLLECTION, Action.DELETED, collectionId, groupId));
+                collection = null;
+            }
+        }
+        return new BatchResult(operation.action(), Entity.COLLECTION, null, collection, null);
+    }
+
+    private BatchResult applyToGroup(BatchOperation operation, String userId, Connection connection, List<ChangeEvent> events, List<Runnable> indexUpdates)
+        throws EuroCoinCollectionGroupSaveException, EuroCoinCollectionGroupUpdateException, EuroCoinCollectionGroupDeleteException {
+        EuroCoinCollectionGroup group = null;
+        switch (operation.action()) {
+            case CREATED -> {
+                group = new EuroCoinCollectionGroup(operation.name(), userId);
+                String groupId = group.getId();
+                groupStorageService.save(group, connection);
+                indexUpdates.add(() -> ownershipIndex.putGroup(groupId, userId));
+                events.add(new ChangeEvent(Entity.GROUP, Action.CREATED, groupId, null));
+            }
+            case UPDATED -> {
+                group = groupStorageService.getById(operation.id(), connection);
+                if (!userId.equals(group.getOwnerId())) {
+                    throw new EuroCoinCollectionGroupNotFoundException(operation.id());
+                }
+                group.setName(operation.name());
+                groupStorageService.updateMetadata(group, connection);
+                events.add(new ChangeEvent(Entity.GROUP, Action.UPDATED, group.getId(), null));
+            }
+            case DELETED -> {
+                String groupId = operation.id();
+                requireGroupOwner(groupId, userId, connection);
+                groupStorageService.delete(groupId, connection);
+                indexUpdates.add(() -> ownershipIndex.removeGroup(groupId));
+                events.add(new ChangeEvent(Entity.GROUP, Action.DELETED, groupId, null));
+            }
+        }
+        return new BatchResult(operation.action(), Entity.GROUP, null, null, group);
+    }
+
+    private EuroCoin requireOwnedCoin(String coinId, String userId, Connection connection) {
+        EuroCoin coin = coinStorageService.getById(coinId, connection);
+        String ownerId = ownershipIndex.getOwnerIdOfCollection(coin.getCollectionId()).orElse(null);
+        if (ownerId == null) {
+            ownerId = ownerIdOfGroup(collectionStorageService.getById(coin.getCollectionId(), connection).getGroupId(), connection);
+        }
+        if (!userId.equals(ownerId)) {
+            throw new EuroCoinNotFoundException(coinId);
+        }
+        return coin;
+    }
+
+    private void requireCollectionOwner(String collectionId, String userId, Connection connection) {
+        String groupId = ownershipIndex.getGroupIdOfCollection(collectionId)
+            .orElseGet(() -> collectionStorageService.getById(collectionId, connection).getGroupId());
+        if (!userId.equals(ownerIdOfGroup(groupId, connection))) {
+            throw new EuroCoinCollectionNotFoundException(collectionId);
+        }
+    }
+
+    private void requireGroupOwner(String groupId, String userId, Connection connection) {
+        if (!userId.equals(ownerIdOfGroup(groupId, connection))) {
+            throw new EuroCoinCollectionGroupNotFoundException(groupId);
+        }
+    }
+
+    private String ownerIdOfGroup(String groupId, Connection connection) {
+        return ownershipIndex.getOwnerIdOfGroup(groupId)
+            .orElseGet(() -> groupStorageService.getById(groupId, connection).getOwnerId());
+    }
+}
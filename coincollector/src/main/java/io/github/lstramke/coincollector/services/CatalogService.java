@@ -0,0 +1,42 @@
+package io.github.lstramke.coincollector.services;
+
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinCompletenessException;
+import io.github.lstramke.coincollector.model.CatalogCompleteness;
+import io.github.lstramke.coincollector.model.EuroCoinCatalog;
+
+/**
+ * Service abstraction for measuring collections against the {@link EuroCoinCatalog}.
+ * <p>
+ * <strong>Lifecycle &amp; transaction management:</strong>
+ * This service does not expose {@code Connection}-based overloads. Implementations
+ * must open/manage/close connections internally for each call.
+ * <p>
+ * <strong>Error/exception model:</strong>
+ * Implementations translate underlying technical errors into
+ * {@link EuroCoinCompletenessException}.
+ */
+public interface CatalogService {
+
+    /**
+     * @return the catalog all completeness figures refer to
+     */
+    EuroCoinCatalog getCatalog();
+
+    /**
+     * Computes which catalog coins one collection owns and which are missing.
+     *
+     * @param collectionId the collection id; must not be {@code null} or blank
+     * @return completeness of the collection (nothing owned for unknown or empty collections)
+     * @throws EuroCoinCompletenessException when reading the owned coins fails
+     */
+    CatalogCompleteness getCompletenessOfCollection(String collectionId) throws EuroCoinCompletenessException;
+
+    /**
+     * Computes which catalog coins are owned by any collection of a group and which are missing.
+     *
+     * @param groupId the group id; must not be {@code null} or blank
+     * @return completeness of the group (nothing owned for unknown or empty groups)
+     * @throws EuroCoinCompletenessException when reading the collection ids or the owned coins fails
+     */
+    CatalogCompleteness getCompletenessOfGroup(String groupId) throws EuroCoinCompletenessException;
+}
@@ -0,0 +1,75 @@
+package io.github.lstramke.coincollector.services;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinCompletenessException;
+import io.github.lstramke.coincollector.model.CatalogCompleteness;
+import io.github.lstramke.coincollector.model.EuroCoinCatalog;
+import io.github.lstramke.coincollector.repositories.EuroCoinCollectionStorageRepository;
+import io.github.lstramke.coincollector.repositories.EuroCoinStorageRepository;
+
+/**
+ * Implementation of {@link CatalogService} working on bitsets over catalog ordinals.
+ * <p>
+ * The owned coins are read per collection as one bitset each via
+ * {@link EuroCoinStorageRepository#getOwnedCatalogOrdinals}; a group owns the union of the
+ * bitsets of its collections. Neither collections nor coins are materialized.
+ */
+public class CatalogServiceImpl implements CatalogService {
+
+    private final DataSource dataSource;
+    private final EuroCoinStorageRepository euroCoinStorageRepository;
+    private final EuroCoinCollectionStorageRepository euroCoinCollectionStorageRepository;
+    private final EuroCoinCatalog catalog;
+
+    public CatalogServiceImpl(
+        DataSource dataSource,
+        EuroCoinStorageRepository euroCoinStorageRepository,
+        EuroCoinCollectionStorageRepository euroCoinCollectionStorageRepository,
+        EuroCoinCatalog catalog
+    ) {
+        this.dataSource = dataSource;
+        this.euroCoinStorageRepository = euroCoinStorageRepository;
+        this.euroCoinCollectionStorageRepository = euroCoinCollectionStorageRepository;
+        this.catalog = catalog;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public EuroCoinCatalog getCatalog() {
+        return catalog;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CatalogCompleteness getCompletenessOfCollection(String collectionId) throws EuroCoinCompletenessException {
+        try (Connection connection = dataSource.getConnection()) {
+            return toCompleteness(euroCoinStorageRepository.getOwnedCatalogOrdinals(connection, List.of(collectionId), catalog));
+        } catch (SQLException e) {
+            throw new EuroCoinCompletenessException(e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CatalogCompleteness getCompletenessOfGroup(String groupId) throws EuroCoinCompletenessException {
+        try (Connection connection = dataSource.getConnection()) {
+            List<String> collectionIds = euroCoinCollectionStorageRepository.getIdsByGroup(connection, groupId);
+            return toCompleteness(euroCoinStorageRepository.getOwnedCatalogOrdinals(connection, collectionIds, catalog));
+        } catch (SQLException e) {
+            throw new EuroCoinCompletenessException(e);
+        }
+    }
+
+    private CatalogCompleteness toCompleteness(Map<String, BitSet> ownedByCollection) {
+        BitSet owned = new BitSet(catalog.size());
+        ownedByCollection.values().forEach(owned::or);
+        return new CatalogCompleteness(catalog, owned);
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.lstramke.coincollector.services;
+
+import java.util.concurrent.TimeUnit;
+
+import io.github.lstramke.coincollector.model.ChangeEvent;
+
+/**
+ * In-process publish/subscribe bus for {@link ChangeEvent}s.
+ * <p>
+ * Events are routed by the id of the user owning the changed entity, so a subscriber only
+ * sees changes of its own groups, collections and coins. Every subscription buffers a bounded
+ * number of events; a subscriber that falls behind is dropped instead of slowing down
+ * publishers or growing without limit.
+ */
+public interface ChangeEventBus {
+
+    /**
+     * Delivers an event to all subscriptions of the owner without blocking.
+     *
+     * @param ownerId id of the user owning the changed entity
+     * @param event the event
+     */
+    void publish(String ownerId, ChangeEvent event);
+
+    /**
+     * Opens a subscription for the events of a user. The subscription must be closed when it
+     * is no longer read.
+     *
+     * @param ownerId id of the user
+     * @return the new subscription
+     */
+    Subscription subscribe(String ownerId);
+
+    /**
+     * Allows publishers to skip preparing events nobody receives.
+     *
+     * @return true if at least one subscription is open
+     */
+    boolean hasSubscribers();
+
+    /**
+     * Bounded buffer of the events published for one subscriber.
+     */
+    interface Subscription extends AutoCloseable {
+
+        /**
+         * Takes the next event, waiting up to the given time for one to arrive.
+         *
+         * @param timeout how long to wait
+         * @param unit unit of the timeout
+         * @return the next event, or null if none arrived in time or the subscription is closed
+         * @throws InterruptedException if interrupted while waiting
+         */
+        ChangeEvent poll(long timeout, TimeUnit unit) throws InterruptedException;
+
+        /**
+         * @return true if the subscription was closed by its reader or dropped by the bus
+         */
+        boolean isClosed();
+
+        /**
+         * @return true if the subscription was dropped because its buffer was full; events
+         *         published since then were lost
+         */
+        boolean isOverflowed();
+
+        /**
+         * Removes the subscription from the bus; pending events are discarded.
+         */
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,147 @@
+package io.github.lstramke.coincollector.services;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.lstramke.coincollector.model.ChangeEvent;
+
+/**
+ * Concrete implementation of the {@link ChangeEventBus} interface.
+ * <p>
+ * Subscriptions are kept per owner in a {@link ConcurrentHashMap}, each with an
+ * {@link ArrayBlockingQueue} of fixed capacity as buffer. Publishing only offers to these
+ * queues and never blocks; when a queue is full the subscription is dropped, so its reader
+ * notices the gap and can reload instead of silently missing events.
+ */
+public class ChangeEventBusImpl implements ChangeEventBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeEventBusImpl.class);
+    private static final ChangeEvent CLOSED = new ChangeEvent(null, null, null, null);
+
+    private final int bufferSize;
+    private final Map<String, Set<SubscriptionImpl>> subscriptionsByOwner = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriptionCount = new AtomicInteger();
+
+    /**
+     * @param bufferSize number of events buffered per subscription
+     * @throws IllegalArgumentException if the buffer size is not positive
+     */
+    public ChangeEventBusImpl(int bufferSize) throws IllegalArgumentException {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("bufferSize must be positive");
+        }
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publish(String ownerId, ChangeEvent event) {
+        if (ownerId == null || event == null) {
+            return;
+        }
+        Set<SubscriptionImpl> subscriptions = subscriptionsByOwner.get(ownerId);
+        if (subscriptions == null) {
+            return;
+        }
+        for (SubscriptionImpl subscription : subscriptions) {
+            subscription.offer(event);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Subscription subscribe(String ownerId) {
+        if (ownerId == null) {
+            throw new IllegalArgumentException("ownerId must not be null (subscribe)");
+        }
+        SubscriptionImpl subscription = new SubscriptionImpl(ownerId);
+        subscriptionsByOwner.compute(ownerId, (id, subscriptions) -> {
+            Set<SubscriptionImpl> result = subscriptions != null ? subscriptions : ConcurrentHashMap.newKeySet();
+            result.add(subscription);
+            return result;
+        });
+        subscriptionCount.incrementAndGet();
+        return subscription;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasSubscribers() {
+        return subscriptionCount.get() > 0;
+    }
+
+    private void remove(SubscriptionImpl subscription) {
+        subscriptionsByOwner.computeIfPresent(subscription.ownerId, (id, subscriptions) -> {
+            subscriptions.remove(subscription);
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+        subscriptionCount.decrementAndGet();
+    }
+
+    private final class SubscriptionImpl implements Subscription {
+        private final String ownerId;
+        private final BlockingQueue<ChangeEvent> queue;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean overflowed;
+
+        private SubscriptionImpl(String ownerId) {
+            this.ownerId = ownerId;
+            // one extra slot so the closing marker always fits
+            this.queue = new ArrayBlockingQueue<>(bufferSize + 1);
+        }
+
+        private void offer(ChangeEvent event) {
+            if (closed.get()) {
+                return;
+            }
+            if (queue.size() >= bufferSize || !queue.offer(event)) {
+                overflowed = true;
+                logger.warn("Dropping slow change event subscriber of user {} after {} buffered events", ownerId, bufferSize);
+                close();
+            }
+        }
+
+        @Override
+        public ChangeEvent poll(long timeout, TimeUnit unit) throws InterruptedException {
+            if (closed.get()) {
+                return null;
+            }
+            ChangeEvent event = queue.poll(timeout, unit);
+            return event == CLOSED ? null : event;
+        }
+
+        @Override
+        public boolean isClosed() {
+            return closed.get();
+        }
+
+        @Override
+        public boolean isOverflowed() {
+            return overflowed;
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                remove(this);
+                queue.clear();
+                queue.offer(CLOSED);
+            }
+        }
+    }
+}
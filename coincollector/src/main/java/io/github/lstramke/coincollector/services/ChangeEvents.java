@@ -0,0 +1,138 @@
+package io.github.lstramke.coincollector.services;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.lstramke.coincollector.model.ChangeEvent;
+import io.github.lstramke.coincollector.model.ChangeEvent.Action;
+import io.github.lstramke.coincollector.model.ChangeEvent.Entity;
+import io.github.lstramke.coincollector.model.EuroCoin;
+import io.github.lstramke.coincollector.model.EuroCoinCollection;
+import io.github.lstramke.coincollector.model.EuroCoinCollectionGroup;
+
+/**
+ * Wraps storage services so that every successful write is published as a {@link ChangeEvent}
+ * to a {@link ChangeEventBus}.
+ * <p>
+ * Like {@link StorageServiceEvents} the wrapper is a dynamic proxy over the service interface.
+ * Only the {@code save}, {@code update}, {@code updateMetadata} and {@code delete} overloads
+ * without a {@link java.sql.Connection} publish: they commit on their own, while writes on a
+ * caller-managed connection are part of a larger operation that publishes itself. The owner an
+ * event is routed to is resolved through the {@link OwnershipIndex}; for deletes before the
+ * call, since the index entry is removed with the entity. Nothing is resolved while the bus has
+ * no subscribers.
+ */
+public final class ChangeEvents {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeEvents.class);
+
+    private ChangeEvents() {}
+
+    /**
+     * Returns a proxy of the given service that publishes its writes.
+     *
+     * @param <T> the service interface type
+     * @param serviceType the service interface to proxy
+     * @param service the service implementation to delegate to
+     * @param entity the kind of entity the service stores
+     * @param bus the bus to publish to
+     * @param ownershipIndex the index used to resolve owners and parents
+     * @return the publishing service
+     */
+    public static <T> T publishing(Class<T> serviceType, T service, Entity entity, ChangeEventBus bus, OwnershipIndex ownershipIndex) {
+        return serviceType.cast(Proxy.newProxyInstance(
+            serviceType.getClassLoader(),
+            new Class<?>[] {serviceType},
+            (proxy, method, args) -> {
+                Action action = args != null && args.length == 1 ? actionOf(method.getName()) : null;
+                if (method.getDeclaringClass() == Object.class || action == null || !bus.hasSubscribers()) {
+                    return invoke(method, service, args);
+                }
+                String id = idOf(args[0]);
+                String parentId = null;
+                String ownerId = null;
+                if (action == Action.DELETED) {
+                    parentId = parentIdBeforeDelete(entity, id, service, ownershipIndex);
+                    ownerId = ownerIdOf(entity, id, parentId, ownershipIndex);
+                }
+                Object result = invoke(method, service, args);
+                if (action != Action.DELETED) {
+                    parentId = parentIdOf(args[0]);
+                    ownerId = args[0] instanceof EuroCoinCollectionGroup group
+                        ? group.getOwnerId()
+                        : ownerIdOf(entity, id, parentId, ownershipIndex);
+                }
+                if (ownerId != null) {
+                    bus.publish(ownerId, new ChangeEvent(entity, action, id, parentId));
+                }
+                return result;
+            }));
+    }
+
+    private static Object invoke(Method method, Object service, Object[] args) throws Throwable {
+        try {
+            return method.invoke(service, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    static Action actionOf(String methodName) {
+        return switch (methodName) {
+            case "save" -> Action.CREATED;
+            case "update", "updateMetadata" -> Action.UPDATED;
+            case "delete" -> Action.DELETED;
+            default -> null;
+        };
+    }
+
+    private static String idOf(Object argument) {
+        if (argument instanceof EuroCoin coin) {
+            return coin.getId();
+        }
+        if (argument instanceof EuroCoinCollection collection) {
+            return collection.getId();
+        }
+        if (argument instanceof EuroCoinCollectionGroup group) {
+            return group.getId();
+        }
+        return argument instanceof String id ? id : null;
+    }
+
+    private static String parentIdOf(Object argument) {
+        if (argument instanceof EuroCoin coin) {
+            return coin.getCollectionId();
+        }
+        if (argument instanceof EuroCoinCollection collection) {
+            return collection.getGroupId();
+        }
+        return null;
+    }
+
+    private static String parentIdBeforeDelete(Entity entity, String id, Object service, OwnershipIndex ownershipIndex) {
+        return switch (entity) {
+            case GROUP -> null;
+            case COLLECTION -> ownershipIndex.getGroupIdOfCollection(id).orElse(null);
+            case COIN -> {
+                try {
+                    yield ((EuroCoinStorageService) service).getById(id).getCollectionId();
+                } catch (RuntimeException e) {
+                    logger.debug("No change event for coin {}: {}", id, e.getMessage());
+                    yield null;
+                }
+            }
+        };
+    }
+
+    private static String ownerIdOf(Entity entity, String id, String parentId, OwnershipIndex ownershipIndex) {
+        return switch (entity) {
+            case GROUP -> ownershipIndex.getOwnerIdOfGroup(id).orElse(null);
+            case COLLECTION -> parentId != null ? ownershipIndex.getOwnerIdOfGroup(parentId).orElse(null) : null;
+            case COIN -> parentId != null ? ownershipIndex.getOwnerIdOfCollection(parentId).orElse(null) : null;
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.lstramke.coincollector.services;
+
+import io.github.lstramke.coincollector.exceptions.maintenanceExceptions.DatabaseMaintenanceException;
+
+/**
+ * Service abstraction for the periodic upkeep of the database: refreshing the query planner
+ * statistics, returning the pages of deleted rows to the file system and checkpointing the
+ * write-ahead log.
+ * <p>
+ * <strong>Lifecycle & transaction management:</strong>
+ * Implementations open/manage/close connections internally.
+ */
+public interface DatabaseMaintenanceService {
+
+    /**
+     * Runs the maintenance tasks if they are due and the server has been idle since the
+     * previous call. Meant to be called at a fixed rate; the request count between two calls
+     * decides whether the server is idle.
+     *
+     * @return {@code true} if the maintenance tasks ran
+     * @throws DatabaseMaintenanceException if a maintenance task fails
+     */
+    boolean runIfIdle() throws DatabaseMaintenanceException;
+}
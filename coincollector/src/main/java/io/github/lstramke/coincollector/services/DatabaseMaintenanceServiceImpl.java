@@ -0,0 +1,157 @@
+package io.github.lstramke.coincollector.services;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sqlite.SQLiteConnection;
+import org.sqlite.SQLiteErrorCode;
+
+import io.github.lstramke.coincollector.exceptions.maintenanceExceptions.DatabaseMaintenanceException;
+
+/**
+ * Implementation of {@link DatabaseMaintenanceService} for SQLite.
+ * <p>
+ * The server counts as idle if at most {@code idleRequests} requests were recorded in
+ * {@link RequestMetrics} since the previous call, which leaves room for monitoring scrapes.
+ * Once {@code intervalMillis} have passed since the last run, the next idle call runs:
+ * <ul>
+ *   <li>{@code analyze}: {@code ANALYZE} with a bounded {@code analysis_limit}, so the query
+ *       planner has current statistics without scanning whole tables.</li>
+ *   <li>{@code vacuum}: {@code incremental_vacuum}, which truncates the pages freed by deletes
+ *       from the file. It is skipped for a database created without
+ *       {@code auto_vacuum = INCREMENTAL}, which is converted once at startup with
+ *       {@code -Dcoincollector.convertIncrementalVacuum=true}, never by a full {@code VACUUM} here.</li>
+ *   <li>{@code checkpoint}: {@code wal_checkpoint(TRUNCATE)}, only if the database is in WAL
+ *       mode.</li>
+ * </ul>
+ * Duration and pages of every task are recorded in {@link MaintenanceMetrics}.
+ */
+public class DatabaseMaintenanceServiceImpl implements DatabaseMaintenanceService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseMaintenanceServiceImpl.class);
+    private static final int ANALYSIS_LIMIT = 1000;
+    private static final int AUTO_VACUUM_INCREMENTAL = 2;
+
+    private final DataSource dataSource;
+    private final RequestMetrics requestMetrics;
+    private final MaintenanceMetrics maintenanceMetrics;
+    private final long idleRequests;
+    private final long intervalMillis;
+    private long lastRequestCount;
+    private long lastRunMillis;
+    private boolean vacuumHintLogged;
+
+    /**
+     * @param dataSource the SQLite data source to maintain
+     * @param requestMetrics the request metrics telling whether the server is idle
+     * @param maintenanceMetrics metrics receiving the task timings
+     * @param idleRequests maximum number of requests between two calls for the server to count as idle
+     * @param intervalMillis minimum time between two runs
+     */
+    public DatabaseMaintenanceServiceImpl(
+        DataSource dataSource,
+        RequestMetrics requestMetrics,
+        MaintenanceMetrics maintenanceMetrics,
+        long idleRequests,
+        long intervalMillis
+    ) {
+        this.dataSource = dataSource;
+        this.requestMetrics = requestMetrics;
+        this.maintenanceMetrics = maintenanceMetrics;
+        this.idleRequests = idleRequests;
+        this.intervalMillis = intervalMillis;
+        this.lastRequestCount = requestMetrics.getTotalRequestCount();
+        this.lastRunMillis = System.currentTimeMillis();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized boolean runIfIdle() throws DatabaseMaintenanceException {
+        long requestCount = requestMetrics.getTotalRequestCount();
+        long requests = requestCount - lastRequestCount;
+        lastRequestCount = requestCount;
+        if (System.currentTimeMillis() - lastRunMillis < intervalMillis) {
+            return false;
+        }
+        if (requests > idleRequests) {
+            logger.debug("Database maintenance deferred: {} requests since the last check", requests);
+            return false;
+        }
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            analyze(statement);
+            vacuum(connection, statement);
+            checkpoint(statement);
+        } catch (SQLException e) {
+            logger.error("Database maintenance failed: {}", e.getMessage());
+            throw new DatabaseMaintenanceException(e);
+        } finally {
+            lastRunMillis = System.currentTimeMillis();
+            lastRequestCount = requestMetrics.getTotalRequestCount();
+        }
+        return true;
+    }
+
+    private void analyze(Statement statement) throws SQLException {
+        long start = System.nanoTime();
+        statement.execute("PRAGMA analysis_limit = " + ANALYSIS_LIMIT);
+        statement.execute("ANALYZE");
+        finished("analyze", start, 0);
+    }
+
+    private void vacuum(Connection connection, Statement statement) throws SQLException {
+        if (pragma(statement, "auto_vacuum") != AUTO_VACUUM_INCREMENTAL) {
+            if (!vacuumHintLogged) {
+                vacuumHintLogged = true;
+                logger.info("Vacuum skipped: database does not use incremental auto vacuum, "
+                    + "restart once with -Dcoincollector.convertIncrementalVacuum=true to convert it");
+            }
+            return;
+        }
+        long start = System.nanoTime();
+        long freePages = pragma(statement, "freelist_count");
+        if (freePages > 0) {
+            // Every step of the pragma frees one page, but JDBC statements step only once;
+            // sqlite3_exec steps until all free pages are gone
+            int result = connection.unwrap(SQLiteConnection.class).getDatabase()._exec("PRAGMA incremental_vacuum");
+            if (result != SQLiteErrorCode.SQLITE_OK.code) {
+                throw new SQLException("Incremental vacuum ended with " + SQLiteErrorCode.getErrorCode(result), null, result);
+            }
+        }
+        finished("vacuum", start, freePages - pragma(statement, "freelist_count"));
+    }
+
+    private void checkpoint(Statement statement) throws SQLException {
+        String journalMode;
+        try (ResultSet resultSet = statement.executeQuery("PRAGMA journal_mode")) {
+            journalMode = resultSet.next() ? resultSet.getString(1) : "";
+        }
+        if (!"wal".equalsIgnoreCase(journalMode)) {
+            return;
+        }
+        long start = System.nanoTime();
+        long checkpointed;
+        try (ResultSet resultSet = statement.executeQuery("PRAGMA wal_checkpoint(TRUNCATE)")) {
+            checkpointed = resultSet.next() ? Math.max(0, resultSet.getLong(3)) : 0;
+        }
+        finished("checkpoint", start, checkpointed);
+    }
+
+    private void finished(String task, long start, long pages) {
+        long durationNanos = System.nanoTime() - start;
+        maintenanceMetrics.record(task, durationNanos, pages);
+        logger.info("Database maintenance task {} finished: pages={}, durationMs={}", task, pages, durationNanos / 1_000_000);
+    }
+
+    private static long pragma(Statement statement, String name) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery("PRAGMA " + name)) {
+            return resultSet.next() ? resultSet.getLong(1) : 0;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.lstramke.coincollector.services;
 
+import java.sql.Connection;
 import java.util.List;
 
 import io.github.lstramke.coincollector.exceptions.euroCoinCollectionGroupException.EuroCoinCollectionGroupDeleteException;
@@ -8,6 +9,8 @@ import io.github.lstramke.coincollector.exceptions.euroCoinCollectionGroupExcept
 import io.github.lstramke.coincollector.exceptions.euroCoinCollectionGroupException.EuroCoinCollectionGroupNotFoundException;
 import io.github.lstramke.coincollector.exceptions.euroCoinCollectionGroupException.EuroCoinCollectionGroupSaveException;
 import io.github.lstramke.coincollector.exceptions.euroCoinCollectionGroupException.EuroCoinCollectionGroupUpdateException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinStatisticsException;
+import io.github.lstramke.coincollector.model.CoinStatistics;
 import io.github.lstramke.coincollector.model.EuroCoinCollectionGroup;
 import io.github.lstramke.coincollector.model.EuroCoinCollection;
 
@@ -16,8 +19,10 @@ import io.github.lstramke.coincollector.model.EuroCoinCollection;
  * entities using any relational database.
  * <p>
  * <strong>Lifecycle & transaction management:</strong>
- * This service does not expose {@code Connection}-based overloads. Implementations
- * must open/manage/close connections and transaction boundaries internally for each call.
+ * Implementations open/manage/close connections and transaction boundaries internally for
+ * each call. Writes and {@code getById} are additionally available as overloads taking a
+ * caller-managed {@link Connection}, so that they can take part in a larger transaction;
+ * those overloads do not alter the connection's lifecycle.
  * <p>
  * <strong>Error/exception model:</strong>
  * Implementations should translate underlying technical errors into domain-specific exceptions:
@@ -27,6 +32,7 @@ import io.github.lstramke.coincollector.model.EuroCoinCollection;
  *   <li>{@link EuroCoinCollectionGroupUpdateException} for update errors</li>
  *   <li>{@link EuroCoinCollectionGroupDeleteException} for delete errors</li>
  *   <li>{@link EuroCoinCollectionGroupGetAllException} when retrieving all groups fails</li>
+ *   <li>{@link EuroCoinStatisticsException} when aggregating coins fails</li>
  * </ul>
  */
 public interface EuroCoinCollectionGroupStorageService {
@@ -38,6 +44,16 @@ public interface EuroCoinCollectionGroupStorageService {
      */
     void save(EuroCoinCollectionGroup group) throws EuroCoinCollectionGroupSaveException;
 
+    /**
+     * Persists a new {@link EuroCoinCollectionGroup} using a caller-managed open JDBC
+     * {@link Connection}. The implementation does not manage the connection lifecycle.
+     *
+     * @param group group to persist; must not be {@code null} and must have valid attributes
+     * @param connection open JDBC connection; must not be {@code null}
+     * @throws EuroCoinCollectionGroupSaveException if validation fails or persistence does not succeed
+     */
+    void save(EuroCoinCollectionGroup group, Connection connection) throws EuroCoinCollectionGroupSaveException;
+
     /**
      * Retrieves a {@link EuroCoinCollectionGroup} by its id and manages connection/transaction boundaries internally.
      *
@@ -47,6 +63,17 @@ public interface EuroCoinCollectionGroupStorageService {
      */
     EuroCoinCollectionGroup getById(String groupId) throws EuroCoinCollectionGroupGetByIdException, EuroCoinCollectionGroupNotFoundException;
 
+    /**
+     * Retrieves a {@link EuroCoinCollectionGroup} by its id using a caller-managed open JDBC
+     * {@link Connection}. The implementation does not manage the connection lifecycle.
+     *
+     * @param groupId the group id to load; must not be {@code null} or blank
+     * @param connection open JDBC connection; must not be {@code null}
+     * @return the found group
+     * @throws EuroCoinCollectionGroupNotFoundException if no group with the given id exists
+     */
+    EuroCoinCollectionGroup getById(String groupId, Connection connection) throws EuroCoinCollectionGroupGetByIdException, EuroCoinCollectionGroupNotFoundException;
+
     /**
      * Updates an existing {@link EuroCoinCollectionGroup} and manages connection/transaction boundaries internally.
      *
@@ -55,6 +82,16 @@ public interface EuroCoinCollectionGroupStorageService {
      */
     void updateMetadata(EuroCoinCollectionGroup group) throws EuroCoinCollectionGroupUpdateException;
 
+    /**
+     * Updates an existing {@link EuroCoinCollectionGroup} using a caller-managed open JDBC
+     * {@link Connection}. The implementation does not manage the connection lifecycle.
+     *
+     * @param group updated group; must not be {@code null} and must reference an existing id
+     * @param connection open JDBC connection; must not be {@code null}
+     * @throws EuroCoinCollectionGroupUpdateException if validation fails or the update does not succeed
+     */
+    void updateMetadata(EuroCoinCollectionGroup group, Connection connection) throws EuroCoinCollectionGroupUpdateException;
+
     /**
      * Deletes a {@link EuroCoinCollectionGroup} by its id and manages connection/transaction boundaries internally.
      *
@@ -63,6 +100,16 @@ public interface EuroCoinCollectionGroupStorageService {
      */
     void delete(String groupId) throws EuroCoinCollectionGroupDeleteException;
 
+    /**
+     * Deletes a {@link EuroCoinCollectionGroup} by its id using a caller-managed open JDBC
+     * {@link Connection}. The implementation does not manage the connection lifecycle.
+     *
+     * @param groupId the group id to delete; must not be {@code null} or blank
+     * @param connection open JDBC connection; must not be {@code null}
+     * @throws EuroCoinCollectionGroupDeleteException if the delete operation fails
+     */
+    void delete(String groupId, Connection connection) throws EuroCoinCollectionGroupDeleteException;
+
     /**
      * Retrieves all {@link EuroCoinCollection} and manages connection/transaction boundaries internally.
      *
@@ -70,4 +117,14 @@ public interface EuroCoinCollectionGroupStorageService {
      * @throws EuroCoinCollectionGroupGetAllException when retrieving all groups fails
      */
     List<EuroCoinCollectionGroup> getAllByUser(String userId) throws EuroCoinCollectionGroupGetAllException;
+
+    /**
+     * Aggregates the coins of all collections of a group into {@link CoinStatistics} and manages
+     * connection/transaction boundaries internally. Neither collections nor coins are loaded.
+     *
+     * @param groupId the group id; must not be {@code null} or blank
+     * @return statistics of the group's coins (empty for unknown or empty groups)
+     * @throws EuroCoinStatisticsException when aggregating the coins fails
+     */
+    CoinStatistics getStatistics(String groupId) throws EuroCoinStatisticsException;
 }
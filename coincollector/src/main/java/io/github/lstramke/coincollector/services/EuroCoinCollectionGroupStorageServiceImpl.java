@@ -22,6 +22,8 @@ import io.github.lstramke.coincollector.exceptions.euroCoinCollectionGroupExcept
 import io.github.lstramke.coincollector.exceptions.euroCoinCollectionGroupException.EuroCoinCollectionGroupNotFoundException;
 import io.github.lstramke.coincollector.exceptions.euroCoinCollectionGroupException.EuroCoinCollectionGroupSaveException;
 import io.github.lstramke.coincollector.exceptions.euroCoinCollectionGroupException.EuroCoinCollectionGroupUpdateException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinStatisticsException;
+import io.github.lstramke.coincollector.model.CoinStatistics;
 import io.github.lstramke.coincollector.model.EuroCoinCollection;
 import io.github.lstramke.coincollector.model.EuroCoinCollectionGroup;
 import io.github.lstramke.coincollector.repositories.EuroCoinCollectionGroupStorageRepository;
@@ -30,7 +32,10 @@ import io.github.lstramke.coincollector.repositories.EuroCoinCollectionGroupStor
  * Thin service implementation of {@link EuroCoinCollectionGroupStorageService} that delegates to
  * {@link EuroCoinCollectionGroupStorageRepository} for group metadata and leverages
  * {@link EuroCoinCollectionStorageService} to populate groups with their collections. This class
- * manages connection/transaction boundaries itself for all public operations.
+ * manages connection/transaction boundaries itself for all operations without a {@link Connection}
+ * parameter; the overloads with one use the caller's connection as is. Writes this class
+ * commits are mirrored into the {@link OwnershipIndex} after the commit; for writes on a
+ * caller-managed connection the caller updates the index once its transaction is committed.
  */
 public class EuroCoinCollectionGroupStorageServiceImpl implements EuroCoinCollectionGroupStorageService {
 
@@ -39,14 +44,17 @@ public class EuroCoinCollectionGroupStorageServiceImpl implements EuroCoinCollec
     private final DataSource dataSource;
     private final EuroCoinCollectionGroupStorageRepository groupStorageRepository;
     private final EuroCoinCollectionStorageService euroCoinCollectionStorageService;
+    private final OwnershipIndex ownershipIndex;
 
     public EuroCoinCollectionGroupStorageServiceImpl(DataSource dataSource, 
         EuroCoinCollectionGroupStorageRepository groupStorageRepository, 
-        EuroCoinCollectionStorageService euroCoinCollectionStorageService) 
+        EuroCoinCollectionStorageService euroCoinCollectionStorageService,
+        OwnershipIndex ownershipIndex) 
     {
         this.dataSource = dataSource;
         this.groupStorageRepository = groupStorageRepository;
         this.euroCoinCollectionStorageService = euroCoinCollectionStorageService;
+        this.ownershipIndex = ownershipIndex;
     }
 
     /** {@inheritDoc} */
@@ -60,15 +68,12 @@ public class EuroCoinCollectionGroupStorageServiceImpl implements EuroCoinCollec
         try (Connection connection = dataSource.getConnection()) {
             connection.setAutoCommit(false);
             try {
-                groupStorageRepository.create(connection, group);
+                executeSave(group, connection);
+                connection.commit();
+                ownershipIndex.putGroup(group.getId(), group.getOwnerId());
                 for (EuroCoinCollection collection : group.getCollections()) {
-                    try {
-                        euroCoinCollectionStorageService.save(collection, connection);
-                    } catch (EuroCoinCollectionAlreadyExistsException e) {
-                        euroCoinCollectionStorageService.updateMetadata(collection, connection);
-                    }
+                    ownershipIndex.putCollection(collection.getId(), collection.getGroupId());
                 }
-                connection.commit();
                 logger.info("Group saved successfully: {}", group.getId());
             } catch (SQLException | EuroCoinCollectionSaveException | EuroCoinCollectionUpdateException e) {
                 connection.rollback();
@@ -81,11 +86,54 @@ public class EuroCoinCollectionGroupStorageServiceImpl implements EuroCoinCollec
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void save(EuroCoinCollectionGroup group, Connection connection) throws EuroCoinCollectionGroupSaveException {
+        if(group == null){
+            logger.error("save() called with null group");
+            throw new IllegalArgumentException();
+        }
+        logger.info("Saving group with id: {}", group.getId());
+        try {
+            executeSave(group, connection);
+            logger.info("Group saved: {}", group.getId());
+        } catch (SQLException | EuroCoinCollectionSaveException | EuroCoinCollectionUpdateException e) {
+            logger.error("Error saving group {}: {}", group.getId(), e.getMessage(), e);
+            throw new EuroCoinCollectionGroupSaveException(group.getId(), e);
+        }
+    }
+
+    /**
+     * Persists the group and then saves its collections, updating those that already exist.
+     * Shared by both save overloads; transaction boundaries are handled by the caller.
+     */
+    private void executeSave(EuroCoinCollectionGroup group, Connection connection) throws SQLException {
+        groupStorageRepository.create(connection, group);
+        for (EuroCoinCollection collection : group.getCollections()) {
+            try {
+                euroCoinCollectionStorageService.save(collection, connection);
+            } catch (EuroCoinCollectionAlreadyExistsException e) {
+                euroCoinCollectionStorageService.updateMetadata(collection, connection);
+            }
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public EuroCoinCollectionGroup getById(String groupId) throws EuroCoinCollectionGroupGetByIdException, EuroCoinCollectionGroupNotFoundException {
         logger.info("Fetching group by id: {}", groupId);
         try (Connection connection = dataSource.getConnection()) {
+            return getById(groupId, connection);
+        } catch (SQLException e) {
+            logger.error("SQL error fetching group {}: {}", groupId, e.getMessage(), e);
+            throw new EuroCoinCollectionGroupGetByIdException(groupId, e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public EuroCoinCollectionGroup getById(String groupId, Connection connection) throws EuroCoinCollectionGroupGetByIdException, EuroCoinCollectionGroupNotFoundException {
+        try {
             EuroCoinCollectionGroup group = groupStorageRepository
             .read(connection, groupId)
             .orElseThrow(() -> new EuroCoinCollectionGroupNotFoundException(groupId));
@@ -112,6 +160,24 @@ public class EuroCoinCollectionGroupStorageServiceImpl implements EuroCoinCollec
         }
         logger.info("Updating group metadata for id: {}", group.getId());
         try (Connection connection = dataSource.getConnection()) {
+            groupStorageRepository.update(connection, group);
+            ownershipIndex.putGroup(group.getId(), group.getOwnerId());
+            logger.info("Group metadata updated: {}", group.getId());
+        } catch (SQLException e) {
+            logger.error("SQL error updating group {}: {}", group.getId(), e.getMessage(), e);
+            throw new EuroCoinCollectionGroupUpdateException(group.getId(), e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateMetadata(EuroCoinCollectionGroup group, Connection connection) throws EuroCoinCollectionGroupUpdateException {
+        if(group == null){
+            logger.error("updateMetadata() called with null group");
+            throw new IllegalArgumentException();
+        }
+        logger.info("Updating group metadata for id: {}", group.getId());
+        try {
             groupStorageRepository.update(connection, group);
             logger.info("Group metadata updated: {}", group.getId());
         } catch (SQLException e) {
@@ -125,6 +191,20 @@ public class EuroCoinCollectionGroupStorageServiceImpl implements EuroCoinCollec
     public void delete(String groupId) throws EuroCoinCollectionGroupDeleteException {
         logger.info("Deleting group with id: {}", groupId);
         try (Connection connection = dataSource.getConnection()) {
+            groupStorageRepository.delete(connection, groupId);
+            ownershipIndex.removeGroup(groupId);
+            logger.info("Group deleted: {}", groupId);
+        } catch (SQLException e) {
+            logger.error("SQL error deleting group {}: {}", groupId, e.getMessage(), e);
+            throw new EuroCoinCollectionGroupDeleteException(groupId, e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void delete(String groupId, Connection connection) throws EuroCoinCollectionGroupDeleteException {
+        logger.info("Deleting group with id: {}", groupId);
+        try {
             groupStorageRepository.delete(connection, groupId);
             logger.info("Group deleted: {}", groupId);
         } catch (SQLException e) {
@@ -155,4 +235,11 @@ public class EuroCoinCollectionGroupStorageServiceImpl implements EuroCoinCollec
            throw new EuroCoinCollectionGroupGetAllException(e);
         }
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public CoinStatistics getStatistics(String groupId) throws EuroCoinStatisticsException {
+        logger.info("Computing statistics for group: {}", groupId);
+        return euroCoinCollectionStorageService.getStatisticsByGroup(groupId);
+    }
 }
@@ -11,6 +11,8 @@ import io.github.lstramke.coincollector.exceptions.euroCoinCollectionException.E
 import io.github.lstramke.coincollector.exceptions.euroCoinCollectionException.EuroCoinCollectionNotFoundException;
 import io.github.lstramke.coincollector.exceptions.euroCoinCollectionException.EuroCoinCollectionSaveException;
 import io.github.lstramke.coincollector.exceptions.euroCoinCollectionException.EuroCoinCollectionUpdateException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinStatisticsException;
+import io.github.lstramke.coincollector.model.CoinStatistics;
 import io.github.lstramke.coincollector.model.EuroCoinCollection;
 
 /**
@@ -39,6 +41,7 @@ import io.github.lstramke.coincollector.model.EuroCoinCollection;
  *   <li>{@link EuroCoinCollectionUpdateException} for update errors</li>
  *   <li>{@link EuroCoinCollectionDeleteException} for delete errors</li>
  *   <li>{@link EuroCoinCollectionGetAllException} when retrieving all collections fails</li>
+ *   <li>{@link EuroCoinStatisticsException} when aggregating coins fails</li>
  * </ul>
  */
 public interface EuroCoinCollectionStorageService {
@@ -141,4 +144,47 @@ public interface EuroCoinCollectionStorageService {
      * @throws EuroCoinCollectionGetAllException when retrieving all collections fails
      */
     List<EuroCoinCollection> getAll(Connection connection) throws EuroCoinCollectionGetAllException;
+
+    /**
+     * Aggregates the coins of one collection into {@link CoinStatistics} and manages
+     * connection/transaction boundaries internally. The coins are not loaded.
+     *
+     * @param collectionId the collection id; must not be {@code null} or blank
+     * @return statistics of the collection's coins (empty for unknown or empty collections)
+     * @throws EuroCoinStatisticsException when aggregating the coins fails
+     */
+    CoinStatistics getStatistics(String collectionId) throws EuroCoinStatisticsException;
+
+    /**
+     * Aggregates the coins of one collection into {@link CoinStatistics} using a
+     * caller-managed open JDBC {@link Connection}. The coins are not loaded.
+     *
+     * @param collectionId the collection id; must not be {@code null} or blank
+     * @param connection open JDBC connection; must not be {@code null}
+     * @return statistics of the collection's coins (empty for unknown or empty collections)
+     * @throws EuroCoinStatisticsException when aggregating the coins fails
+     */
+    CoinStatistics getStatistics(String collectionId, Connection connection) throws EuroCoinStatisticsException;
+
+    /**
+     * Aggregates the coins of all collections of a group into {@link CoinStatistics} and
+     * manages connection/transaction boundaries internally. Neither collections nor coins
+     * are loaded.
+     *
+     * @param groupId the group id; must not be {@code null} or blank
+     * @return statistics of the group's coins (empty for unknown or empty groups)
+     * @throws EuroCoinStatisticsException when reading the collection ids or aggregating the coins fails
+     */
+    CoinStatistics getStatisticsByGroup(String groupId) throws EuroCoinStatisticsException;
+
+    /**
+     * Aggregates the coins of all collections of a group into {@link CoinStatistics} using a
+     * caller-managed open JDBC {@link Connection}. Neither collections nor coins are loaded.
+     *
+     * @param groupId the group id; must not be {@code null} or blank
+     * @param connection open JDBC connection; must not be {@code null}
+     * @return statistics of the group's coins (empty for unknown or empty groups)
+     * @throws EuroCoinStatisticsException when reading the collection ids or aggregating the coins fails
+     */
+    CoinStatistics getStatisticsByGroup(String groupId, Connection connection) throws EuroCoinStatisticsException;
 }
@@ -4,7 +4,6 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.stream.Collectors;
 
 import javax.sql.DataSource;
@@ -23,7 +22,9 @@ import io.github.lstramke.coincollector.exceptions.euroCoinCollectionException.E
 import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinAlreadyExistsException;
 import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinGetAllException;
 import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinSaveException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinStatisticsException;
 import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinUpdateException;
+import io.github.lstramke.coincollector.model.CoinStatistics;
 import io.github.lstramke.coincollector.model.EuroCoin;
 import io.github.lstramke.coincollector.model.EuroCoinCollection;
 import io.github.lstramke.coincollector.repositories.EuroCoinCollectionStorageRepository;
@@ -41,7 +42,9 @@ import io.github.lstramke.coincollector.repositories.EuroCoinCollectionStorageRe
  *   NOT alter its lifecycle (no commit/rollback/close).
  *
  * Technical errors are translated to domain-specific exceptions where
- * applicable.
+ * applicable. Writes this class commits are mirrored into the {@link OwnershipIndex};
+ * for writes on a caller-managed connection the caller updates the index once its
+ * transaction is committed.
  */
 public class EuroCoinCollectionStorageServiceImpl implements EuroCoinCollectionStorageService {
     
@@ -50,16 +53,19 @@ public class EuroCoinCollectionStorageServiceImpl implements EuroCoinCollectionS
     private final EuroCoinCollectionStorageRepository euroCoinCollectionStorageRepository;
     private final DataSource dataSource;
     private final EuroCoinStorageService euroCoinStorageService;
+    private final OwnershipIndex ownershipIndex;
 
     public EuroCoinCollectionStorageServiceImpl(
         DataSource dataSource, 
         EuroCoinCollectionStorageRepository euroCoinCollectionStorageRepository,
-        EuroCoinStorageService euroCoinStorageService
+        EuroCoinStorageService euroCoinStorageService,
+        OwnershipIndex ownershipIndex
     ) {
             
         this.euroCoinCollectionStorageRepository = euroCoinCollectionStorageRepository;
         this.dataSource = dataSource;
         this.euroCoinStorageService = euroCoinStorageService;
+        this.ownershipIndex = ownershipIndex;
     }
 
     /** {@inheritDoc} */
@@ -75,6 +81,7 @@ public class EuroCoinCollectionStorageServiceImpl implements EuroCoinCollectionS
             try {
                 executeSave(euroCoinCollection, connection);
                 connection.commit();
+                ownershipIndex.putCollection(euroCoinCollection.getId(), euroCoinCollection.getGroupId());
                 logger.info("Collection saved successfully: {}", euroCoinCollection.getId());
             } catch (SQLException | EuroCoinSaveException | EuroCoinUpdateException e) {
                 connection.rollback();
@@ -155,21 +162,21 @@ public class EuroCoinCollectionStorageServiceImpl implements EuroCoinCollectionS
 
     /**
      * Shared read flow for a collection: loads the collection metadata and
-     * populates it with all related {@link EuroCoin} entries.
+     * populates it with all related {@link EuroCoin} entries. Only the coins of this
+     * collection are read.
      *
      * @param collectionId id of the collection to load
      * @param connection open JDBC connection managed by the caller
      * @return the fully populated collection
      * @throws SQLException if repository access fails
-     * @throws EuroCoinGetAllException if loading all coins fails
+     * @throws EuroCoinGetAllException if loading the coins fails
      * @throws EuroCoinCollectionNotFoundException if the collection does not exist
      */
     private EuroCoinCollection executeGetById(String collectionId, Connection connection) throws SQLException, EuroCoinGetAllException {
         EuroCoinCollection collection = euroCoinCollectionStorageRepository
             .read(connection, collectionId)
             .orElseThrow(() -> new EuroCoinCollectionNotFoundException(collectionId));
-        euroCoinStorageService.getAll(connection).stream()
-            .filter(coin -> Objects.equals(coin.getCollectionId(), collectionId))
+        euroCoinStorageService.getAllOfCollection(collectionId, connection)
             .forEach(collection::addCoin);
         return collection;
     }
@@ -184,6 +191,7 @@ public class EuroCoinCollectionStorageServiceImpl implements EuroCoinCollectionS
         logger.info("Updating collection metadata for id: {}", euroCoinCollection.getId());
         try (Connection connection = dataSource.getConnection()) {
             euroCoinCollectionStorageRepository.update(connection, euroCoinCollection);
+            ownershipIndex.putCollection(euroCoinCollection.getId(), euroCoinCollection.getGroupId());
             logger.info("Collection metadata updated: {}", euroCoinCollection.getId());
         } catch (SQLException e) {
             logger.error("SQL error updating collection {}: {}", euroCoinCollection.getId(), e.getMessage(), e);
@@ -207,6 +215,7 @@ public class EuroCoinCollectionStorageServiceImpl implements EuroCoinCollectionS
         logger.info("Deleting collection with id: {}", collectionId);
         try (Connection connection = dataSource.getConnection()) {
             euroCoinCollectionStorageRepository.delete(connection, collectionId);
+            ownershipIndex.removeCollection(collectionId);
             logger.info("Collection deleted: {}", collectionId);
         } catch (SQLException e) {
             logger.error("SQL error deleting collection {}: {}", collectionId, e.getMessage(), e);
@@ -270,4 +279,56 @@ public class EuroCoinCollectionStorageServiceImpl implements EuroCoinCollectionS
         }
         return collectionMap.values().stream().toList();
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public CoinStatistics getStatistics(String collectionId) throws EuroCoinStatisticsException {
+        try (Connection connection = dataSource.getConnection()) {
+            return euroCoinStorageService.getStatistics(List.of(collectionId), connection);
+        } catch (SQLException e) {
+            logger.error("SQL error computing statistics of collection {}: {}", collectionId, e.getMessage(), e);
+            throw new EuroCoinStatisticsException(e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CoinStatistics getStatistics(String collectionId, Connection connection) throws EuroCoinStatisticsException {
+        return euroCoinStorageService.getStatistics(List.of(collectionId), connection);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CoinStatistics getStatisticsByGroup(String groupId) throws EuroCoinStatisticsException {
+        try (Connection connection = dataSource.getConnection()) {
+            return executeGetStatisticsByGroup(groupId, connection);
+        } catch (SQLException e) {
+            logger.error("SQL error computing statistics of group {}: {}", groupId, e.getMessage(), e);
+            throw new EuroCoinStatisticsException(e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CoinStatistics getStatisticsByGroup(String groupId, Connection connection) throws EuroCoinStatisticsException {
+        try {
+            return executeGetStatisticsByGroup(groupId, connection);
+        } catch (SQLException e) {
+            throw new EuroCoinStatisticsException(e);
+        }
+    }
+
+    /**
+     * Shared statistics flow for both group overloads: resolves only the ids of the
+     * group's collections and lets the coin service aggregate their coins.
+     *
+     * @param groupId group id to aggregate
+     * @param connection open JDBC connection managed by the caller
+     * @return statistics of the group's coins
+     * @throws SQLException if reading the collection ids fails
+     */
+    private CoinStatistics executeGetStatisticsByGroup(String groupId, Connection connection) throws SQLException {
+        List<String> collectionIds = euroCoinCollectionStorageRepository.getIdsByGroup(connection, groupId);
+        return euroCoinStorageService.getStatistics(collectionIds, connection);
+    }
 }
@@ -5,11 +5,18 @@ import java.util.List;
 
 import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinAlreadyExistsException;
 import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinDeleteException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinFilterException;
 import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinGetAllException;
 import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinNotFoundException;
 import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinSaveException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinSearchException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinStatisticsException;
 import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinUpdateException;
+import io.github.lstramke.coincollector.model.CoinFilter;
+import io.github.lstramke.coincollector.model.CoinStatistics;
 import io.github.lstramke.coincollector.model.EuroCoin;
+import io.github.lstramke.coincollector.model.EuroCoinBatch;
+import io.github.lstramke.coincollector.model.FilteredCoins;
 
 /**
  * Service abstraction for managing and retrieving {@link EuroCoin} entities
@@ -37,6 +44,9 @@ import io.github.lstramke.coincollector.model.EuroCoin;
  *   <li>{@link EuroCoinNotFoundException} when a coin cannot be found</li>
  *   <li>{@link EuroCoinUpdateException} for update errors</li>
  *   <li>{@link EuroCoinDeleteException} for delete errors</li>
+ *   <li>{@link EuroCoinStatisticsException} when aggregating coins fails</li>
+ *   <li>{@link EuroCoinSearchException} when searching coins fails</li>
+ *   <li>{@link EuroCoinFilterException} when filtering coins fails</li>
  * </ul>
  * <p>
  */
@@ -143,4 +153,119 @@ public interface EuroCoinStorageService {
     * @throws EuroCoinGetAllException when retrieving all coins fails
      */
     List<EuroCoin> getAll(Connection connection) throws EuroCoinGetAllException;
+
+    /**
+     * Retrieves all {@link EuroCoin} rows as a compact {@link EuroCoinBatch} and manages
+     * connection/transaction boundaries internally.
+     *
+     * @return batch of coins (possibly empty, never {@code null})
+     * @throws EuroCoinGetAllException when retrieving all coins fails
+     */
+    EuroCoinBatch getAllAsBatch() throws EuroCoinGetAllException;
+
+    /**
+     * Retrieves all {@link EuroCoin} rows as a compact {@link EuroCoinBatch} using a
+     * caller-managed open JDBC {@link Connection}.
+     *
+     * @param connection open JDBC connection; must not be {@code null}
+     * @return batch of coins (possibly empty, never {@code null})
+     * @throws EuroCoinGetAllException when retrieving all coins fails
+     */
+    EuroCoinBatch getAllAsBatch(Connection connection) throws EuroCoinGetAllException;
+
+    /**
+     * Retrieves the {@link EuroCoin} rows of one collection and manages connection/transaction
+     * boundaries internally.
+     *
+     * @param collectionId identifier of the collection; must not be {@code null} or blank
+     * @return list of coins (possibly empty, never {@code null})
+     * @throws EuroCoinGetAllException when retrieving the coins fails
+     */
+    List<EuroCoin> getAllOfCollection(String collectionId) throws EuroCoinGetAllException;
+
+    /**
+     * Retrieves the {@link EuroCoin} rows of one collection using a caller-managed open JDBC
+     * {@link Connection}.
+     *
+     * @param collectionId identifier of the collection; must not be {@code null} or blank
+     * @param connection open JDBC connection; must not be {@code null}
+     * @return list of coins (possibly empty, never {@code null})
+     * @throws EuroCoinGetAllException when retrieving the coins fails
+     */
+    List<EuroCoin> getAllOfCollection(String collectionId, Connection connection) throws EuroCoinGetAllException;
+
+    /**
+     * Aggregates the coins of the given collections into {@link CoinStatistics} and
+     * manages connection/transaction boundaries internally.
+     *
+     * @param collectionIds ids of the collections to aggregate; must not be {@code null}
+     * @return statistics of the coins (empty if the collections hold no coins)
+     * @throws EuroCoinStatisticsException when aggregating the coins fails
+     */
+    CoinStatistics getStatistics(List<String> collectionIds) throws EuroCoinStatisticsException;
+
+    /**
+     * Aggregates the coins of the given collections into {@link CoinStatistics} using a
+     * caller-managed open JDBC {@link Connection}.
+     *
+     * @param collectionIds ids of the collections to aggregate; must not be {@code null}
+     * @param connection open JDBC connection; must not be {@code null}
+     * @return statistics of the coins (empty if the collections hold no coins)
+     * @throws EuroCoinStatisticsException when aggregating the coins fails
+     */
+    CoinStatistics getStatistics(List<String> collectionIds, Connection connection) throws EuroCoinStatisticsException;
+
+    /**
+     * Searches the descriptions of the coins in the given collections and manages
+     * connection boundaries internally.
+     *
+     * @param text free search text; every word has to match
+     * @param collectionIds ids of the collections to search in; must not be {@code null}
+     * @param limit maximum number of results
+     * @param offset number of results to skip
+     * @return the matching coins, best matches first
+     * @throws EuroCoinSearchException when the search fails
+     */
+    List<EuroCoin> search(String text, List<String> collectionIds, int limit, int offset) throws EuroCoinSearchException;
+
+    /**
+     * Searches the descriptions of the coins in the given collections using a
+     * caller-managed open JDBC {@link Connection}.
+     *
+     * @param text free search text; every word has to match
+     * @param collectionIds ids of the collections to search in; must not be {@code null}
+     * @param limit maximum number of results
+     * @param offset number of results to skip
+     * @param connection open JDBC connection; must not be {@code null}
+     * @return the matching coins, best matches first
+     * @throws EuroCoinSearchException when the search fails
+     */
+    List<EuroCoin> search(String text, List<String> collectionIds, int limit, int offset, Connection connection) throws EuroCoinSearchException;
+
+    /**
+     * Reads one page of the coins of the given collections that match the filter, together
+     * with the facet counts of the filter, and manages connection boundaries internally.
+     *
+     * @param filter criteria the coins have to match; must not be {@code null}
+     * @param collectionIds ids of the collections to read from; must not be {@code null}
+     * @param limit maximum number of coins
+     * @param offset number of coins to skip
+     * @return the page of matching coins and the facet counts
+     * @throws EuroCoinFilterException when filtering fails
+     */
+    FilteredCoins filter(CoinFilter filter, List<String> collectionIds, int limit, int offset) throws EuroCoinFilterException;
+
+    /**
+     * Reads one page of the coins of the given collections that match the filter, together
+     * with the facet counts of the filter, using a caller-managed open JDBC {@link Connection}.
+     *
+     * @param filter criteria the coins have to match; must not be {@code null}
+     * @param collectionIds ids of the collections to read from; must not be {@code null}
+     * @param limit maximum number of coins
+     * @param offset number of coins to skip
+     * @param connection open JDBC connection; must not be {@code null}
+     * @return the page of matching coins and the facet counts
+     * @throws EuroCoinFilterException when filtering fails
+     */
+    FilteredCoins filter(CoinFilter filter, List<String> collectionIds, int limit, int offset, Connection connection) throws EuroCoinFilterException;
 }
@@ -8,11 +8,19 @@ import javax.sql.DataSource;
 
 import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinAlreadyExistsException;
 import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinDeleteException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinFilterException;
 import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinGetAllException;
 import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinNotFoundException;
 import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinSaveException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinSearchException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinStatisticsException;
 import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinUpdateException;
+import io.github.lstramke.coincollector.model.CoinFacets;
+import io.github.lstramke.coincollector.model.CoinFilter;
+import io.github.lstramke.coincollector.model.CoinStatistics;
 import io.github.lstramke.coincollector.model.EuroCoin;
+import io.github.lstramke.coincollector.model.EuroCoinBatch;
+import io.github.lstramke.coincollector.model.FilteredCoins;
 import io.github.lstramke.coincollector.repositories.EuroCoinStorageRepository;
 
 /**
@@ -171,4 +179,106 @@ public class EuroCoinStorageServiceImpl implements EuroCoinStorageService {
             throw new EuroCoinGetAllException(e);
         }
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public EuroCoinBatch getAllAsBatch() throws EuroCoinGetAllException {
+        try (Connection connection = dataSource.getConnection()) {
+            return euroCoinStorageRepository.getAllAsBatch(connection);
+        } catch (SQLException e) {
+            throw new EuroCoinGetAllException(e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public EuroCoinBatch getAllAsBatch(Connection connection) throws EuroCoinGetAllException {
+        try {
+            return euroCoinStorageRepository.getAllAsBatch(connection);
+        } catch (SQLException e) {
+            throw new EuroCoinGetAllException(e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<EuroCoin> getAllOfCollection(String collectionId) throws EuroCoinGetAllException {
+        try (Connection connection = dataSource.getConnection()) {
+            return euroCoinStorageRepository.getAllOfCollection(connection, collectionId);
+        } catch (SQLException e) {
+            throw new EuroCoinGetAllException(e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<EuroCoin> getAllOfCollection(String collectionId, Connection connection) throws EuroCoinGetAllException {
+        try {
+            return euroCoinStorageRepository.getAllOfCollection(connection, collectionId);
+        } catch (SQLException e) {
+            throw new EuroCoinGetAllException(e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CoinStatistics getStatistics(List<String> collectionIds) throws EuroCoinStatisticsException {
+        try (Connection connection = dataSource.getConnection()) {
+            return euroCoinStorageRepository.getStatistics(connection, collectionIds);
+        } catch (SQLException e) {
+            throw new EuroCoinStatisticsException(e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CoinStatistics getStatistics(List<String> collectionIds, Connection connection) throws EuroCoinStatisticsException {
+        try {
+            return euroCoinStorageRepository.getStatistics(connection, collectionIds);
+        } catch (SQLException e) {
+            throw new EuroCoinStatisticsException(e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<EuroCoin> search(String text, List<String> collectionIds, int limit, int offset) throws EuroCoinSearchException {
+        try (Connection connection = dataSource.getConnection()) {
+            return euroCoinStorageRepository.search(connection, text, collectionIds, limit, offset);
+        } catch (SQLException e) {
+            throw new EuroCoinSearchException(e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<EuroCoin> search(String text, List<String> collectionIds, int limit, int offset, Connection connection) throws EuroCoinSearchException {
+        try {
+            return euroCoinStorageRepository.search(connection, text, collectionIds, limit, offset);
+        } catch (SQLException e) {
+            throw new EuroCoinSearchException(e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public FilteredCoins filter(CoinFilter filter, List<String> collectionIds, int limit, int offset) throws EuroCoinFilterException {
+        try (Connection connection = dataSource.getConnection()) {
+            return filter(filter, collectionIds, limit, offset, connection);
+        } catch (SQLException e) {
+            throw new EuroCoinFilterException(e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public FilteredCoins filter(CoinFilter filter, List<String> collectionIds, int limit, int offset, Connection connection) throws EuroCoinFilterException {
+        try {
+            List<EuroCoin> coins = euroCoinStorageRepository.filter(connection, filter, collectionIds, limit, offset);
+            CoinFacets facets = euroCoinStorageRepository.getFacets(connection, filter, collectionIds);
+            return new FilteredCoins(coins, facets);
+        } catch (SQLException e) {
+            throw new EuroCoinFilterException(e);
+        }
+    }
 }
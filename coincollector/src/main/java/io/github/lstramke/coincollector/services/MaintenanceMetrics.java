@@ -0,0 +1,24 @@
+package io.github.lstramke.coincollector.services;
+
+/**
+ * Interface for collecting database maintenance metrics.
+ * Defines methods for recording maintenance task runs and exporting them for monitoring.
+ */
+public interface MaintenanceMetrics {
+
+    /**
+     * Records one finished maintenance task.
+     *
+     * @param task the task name (e.g. {@code analyze})
+     * @param durationNanos time the task took in nanoseconds
+     * @param pages number of database pages the task freed or checkpointed, 0 if it does not work on pages
+     */
+    void record(String task, long durationNanos, long pages);
+
+    /**
+     * Renders all recorded metrics in the Prometheus text exposition format.
+     *
+     * @return the metrics as Prometheus text
+     */
+    String toPrometheusText();
+}
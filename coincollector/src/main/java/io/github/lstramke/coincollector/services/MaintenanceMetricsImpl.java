@@ -0,0 +1,68 @@
+package io.github.lstramke.coincollector.services;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Concrete implementation of the {@link MaintenanceMetrics} interface.
+ * <p>
+ * Maintenance runs rarely, so this class keeps only the run count, the total duration and
+ * the duration, page count and time of the last run per task. Updates are synchronized.
+ * <p>
+ * <b>Note:</b> This implementation is not persistent; all values are reset on restart.
+ */
+public class MaintenanceMetricsImpl implements MaintenanceMetrics {
+
+    private static final String RUNS_METRIC = "coincollector_db_maintenance_runs_total";
+    private static final String DURATION_METRIC = "coincollector_db_maintenance_duration_seconds_total";
+    private static final String LAST_DURATION_METRIC = "coincollector_db_maintenance_last_duration_seconds";
+    private static final String LAST_PAGES_METRIC = "coincollector_db_maintenance_last_pages";
+    private static final String LAST_RUN_METRIC = "coincollector_db_maintenance_last_run_timestamp_seconds";
+
+    private record TaskRuns(long runs, long totalDurationNanos, long lastDurationNanos, long lastPages, long lastRunMillis) {}
+
+    private final Map<String, TaskRuns> tasks = new TreeMap<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void record(String task, long durationNanos, long pages) {
+        TaskRuns previous = tasks.get(task);
+        long runs = previous == null ? 1 : previous.runs() + 1;
+        long totalDurationNanos = (previous == null ? 0 : previous.totalDurationNanos()) + durationNanos;
+        tasks.put(task, new TaskRuns(runs, totalDurationNanos, durationNanos, pages, System.currentTimeMillis()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized String toPrometheusText() {
+        StringBuilder text = new StringBuilder();
+        text.append("# HELP ").append(RUNS_METRIC).append(" Database maintenance task runs.\n");
+        text.append("# TYPE ").append(RUNS_METRIC).append(" counter\n");
+        tasks.forEach((task, runs) -> line(text, RUNS_METRIC, task, Long.toString(runs.runs())));
+
+        text.append("# HELP ").append(DURATION_METRIC).append(" Time spent in database maintenance tasks.\n");
+        text.append("# TYPE ").append(DURATION_METRIC).append(" counter\n");
+        tasks.forEach((task, runs) -> line(text, DURATION_METRIC, task, PrometheusFormat.seconds(runs.totalDurationNanos() / 1_000)));
+
+        text.append("# HELP ").append(LAST_DURATION_METRIC).append(" Duration of the last run of a database maintenance task.\n");
+        text.append("# TYPE ").append(LAST_DURATION_METRIC).append(" gauge\n");
+        tasks.forEach((task, runs) -> line(text, LAST_DURATION_METRIC, task, PrometheusFormat.seconds(runs.lastDurationNanos() / 1_000)));
+
+        text.append("# HELP ").append(LAST_PAGES_METRIC).append(" Pages freed or checkpointed by the last run of a database maintenance task.\n");
+        text.append("# TYPE ").append(LAST_PAGES_METRIC).append(" gauge\n");
+        tasks.forEach((task, runs) -> line(text, LAST_PAGES_METRIC, task, Long.toString(runs.lastPages())));
+
+        text.append("# HELP ").append(LAST_RUN_METRIC).append(" Time the last run of a database maintenance task finished.\n");
+        text.append("# TYPE ").append(LAST_RUN_METRIC).append(" gauge\n");
+        tasks.forEach((task, runs) -> line(text, LAST_RUN_METRIC, task, PrometheusFormat.number(runs.lastRunMillis() / 1e3)));
+        return text.toString();
+    }
+
+    private static void line(StringBuilder text, String metric, String task, String value) {
+        text.append(metric).append("{task=\"").append(PrometheusFormat.escape(task)).append("\"} ").append(value).append('\n');
+    }
+}
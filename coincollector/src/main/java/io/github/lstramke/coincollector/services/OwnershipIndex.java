@@ -0,0 +1,83 @@
+package io.github.lstramke.coincollector.services;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Interface for the in-memory ownership index.
+ * <p>
+ * Maps collection ids to their group id and group ids to their owner id so that
+ * authorization checks do not need to load whole aggregates from storage.
+ * The index is warmed at startup and kept up to date by the storage services
+ * whenever groups or collections are created, moved or deleted.
+ */
+public interface OwnershipIndex {
+
+    /**
+     * Registers or replaces the owner of a group.
+     *
+     * @param groupId the id of the group
+     * @param ownerId the id of the owning user
+     */
+    void putGroup(String groupId, String ownerId);
+
+    /**
+     * Registers or replaces the group a collection belongs to.
+     *
+     * @param collectionId the id of the collection
+     * @param groupId the id of the parent group
+     */
+    void putCollection(String collectionId, String groupId);
+
+    /**
+     * Removes a group and all collections referencing it (mirrors the cascading delete in storage).
+     *
+     * @param groupId the id of the removed group
+     */
+    void removeGroup(String groupId);
+
+    /**
+     * Removes a collection.
+     *
+     * @param collectionId the id of the removed collection
+     */
+    void removeCollection(String collectionId);
+
+    /**
+     * Returns the owner of a group.
+     *
+     * @param groupId the id of the group
+     * @return the owner id, or empty if the group is not indexed
+     */
+    Optional<String> getOwnerIdOfGroup(String groupId);
+
+    /**
+     * Returns the parent group of a collection.
+     *
+     * @param collectionId the id of the collection
+     * @return the group id, or empty if the collection is not indexed
+     */
+    Optional<String> getGroupIdOfCollection(String collectionId);
+
+    /**
+     * Returns the owner of a collection by following collection → group → owner.
+     *
+     * @param collectionId the id of the collection
+     * @return the owner id, or empty if the collection or its group is not indexed
+     */
+    Optional<String> getOwnerIdOfCollection(String collectionId);
+
+    /**
+     * Returns all indexed collections owned by a user. Relies on the index being warmed,
+     * collections that were never indexed are not found.
+     *
+     * @param ownerId the id of the owning user
+     * @return the ids of the user's collections, empty if none are indexed
+     */
+    List<String> getCollectionIdsOfOwner(String ownerId);
+
+    /**
+     * Removes all entries.
+     */
+    void clear();
+}
@@ -0,0 +1,174 @@
+package io.github.lstramke.coincollector.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Concrete implementation of the {@link OwnershipIndex} interface.
+ * <p>
+ * This class keeps two {@link ConcurrentHashMap}s (collectionId → groupId and
+ * groupId → ownerId), so an ownership check is at most two hash lookups and is safe
+ * to call from the concurrent request threads of the HTTP server. Two secondary maps
+ * (ownerId → groupIds and groupId → collectionIds) answer {@link #getCollectionIdsOfOwner}
+ * from the owner's own groups and let {@link #removeGroup} drop its collections without
+ * scanning the whole index. Groups and collections may be added in any order.
+ * <p>
+ * <b>Note:</b> This implementation is not persistent and is suitable only for single-instance applications.
+ */
+public class OwnershipIndexImpl implements OwnershipIndex {
+    private final Map<String, String> groupIdByCollectionId = new ConcurrentHashMap<>();
+    private final Map<String, String> ownerIdByGroupId = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> groupIdsByOwnerId = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> collectionIdsByGroupId = new ConcurrentHashMap<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putGroup(String groupId, String ownerId) {
+        if (groupId == null || ownerId == null) {
+            return;
+        }
+        String previousOwnerId = ownerIdByGroupId.put(groupId, ownerId);
+        if (previousOwnerId != null && !previousOwnerId.equals(ownerId)) {
+            removeFromSet(groupIdsByOwnerId, previousOwnerId, groupId);
+        }
+        addToSet(groupIdsByOwnerId, ownerId, groupId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putCollection(String collectionId, String groupId) {
+        if (collectionId == null || groupId == null) {
+            return;
+        }
+        String previousGroupId = groupIdByCollectionId.put(collectionId, groupId);
+        if (previousGroupId != null && !previousGroupId.equals(groupId)) {
+            removeFromSet(collectionIdsByGroupId, previousGroupId, collectionId);
+        }
+        addToSet(collectionIdsByGroupId, groupId, collectionId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeGroup(String groupId) {
+        if (groupId == null) {
+            return;
+        }
+        String ownerId = ownerIdByGroupId.remove(groupId);
+        if (ownerId != null) {
+            removeFromSet(groupIdsByOwnerId, ownerId, groupId);
+        }
+        Set<String> collectionIds = collectionIdsByGroupId.remove(groupId);
+        if (collectionIds != null) {
+            collectionIds.forEach(collectionId -> groupIdByCollectionId.remove(collectionId, groupId));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeCollection(String collectionId) {
+        if (collectionId == null) {
+            return;
+        }
+        String groupId = groupIdByCollectionId.remove(collectionId);
+        if (groupId != null) {
+            removeFromSet(collectionIdsByGroupId, groupId, collectionId);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<String> getOwnerIdOfGroup(String groupId) {
+        if (groupId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(ownerIdByGroupId.get(groupId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<String> getGroupIdOfCollection(String collectionId) {
+        if (collectionId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(groupIdByCollectionId.get(collectionId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<String> getOwnerIdOfCollection(String collectionId) {
+        return getGroupIdOfCollection(collectionId).flatMap(this::getOwnerIdOfGroup);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> getCollectionIdsOfOwner(String ownerId) {
+        if (ownerId == null) {
+            return List.of();
+        }
+        Set<String> groupIds = groupIdsByOwnerId.get(ownerId);
+        if (groupIds == null) {
+            return List.of();
+        }
+        List<String> collectionIds = new ArrayList<>();
+        for (String groupId : groupIds) {
+            Set<String> ids = collectionIdsByGroupId.get(groupId);
+            if (ids != null) {
+                collectionIds.addAll(ids);
+            }
+        }
+        return collectionIds;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        groupIdByCollectionId.clear();
+        ownerIdByGroupId.clear();
+        groupIdsByOwnerId.clear();
+        collectionIdsByGroupId.clear();
+    }
+
+    /**
+     * Adds a value to the set of a key. Runs inside {@code compute}, so it cannot race with
+     * {@link #removeFromSet} dropping the same set.
+     */
+    private static void addToSet(Map<String, Set<String>> setsByKey, String key, String value) {
+        setsByKey.compute(key, (k, values) -> {
+            Set<String> set = values != null ? values : ConcurrentHashMap.newKeySet();
+            set.add(value);
+            return set;
+        });
+    }
+
+    /**
+     * Removes a value from the set of a key and drops the set once it is empty.
+     */
+    private static void removeFromSet(Map<String, Set<String>> setsByKey, String key, String value) {
+        setsByKey.computeIfPresent(key, (k, values) -> {
+            values.remove(value);
+            return values.isEmpty() ? null : values;
+        });
+    }
+}
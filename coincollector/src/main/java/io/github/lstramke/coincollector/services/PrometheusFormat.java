@@ -0,0 +1,41 @@
+package io.github.lstramke.coincollector.services;
+
+import java.util.Locale;
+
+/**
+ * Small formatting helpers shared by the metric registries for the Prometheus
+ * text exposition format.
+ */
+final class PrometheusFormat {
+
+    private PrometheusFormat() {}
+
+    /**
+     * Escapes a label value (backslash, double quote and newline).
+     *
+     * @param value raw label value; {@code null} is rendered as empty string
+     * @return escaped label value
+     */
+    static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    /**
+     * @param micros duration in microseconds
+     * @return the duration in seconds as sample value
+     */
+    static String seconds(long micros) {
+        return number(micros / 1e6);
+    }
+
+    /**
+     * @param value sample value
+     * @return the value with fixed precision, independent of the default locale
+     */
+    static String number(double value) {
+        return String.format(Locale.ROOT, "%.6f", value);
+    }
+}
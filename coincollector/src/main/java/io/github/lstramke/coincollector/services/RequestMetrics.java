@@ -0,0 +1,32 @@
+package io.github.lstramke.coincollector.services;
+
+/**
+ * Interface for collecting HTTP request metrics.
+ * Defines methods for recording request latencies and exporting them for monitoring.
+ */
+public interface RequestMetrics {
+
+    /**
+     * Records the latency of a finished request.
+     *
+     * @param route the registered context path (e.g. {@code /api/groups}), not the raw request path
+     * @param method the HTTP method
+     * @param status the HTTP response status code
+     * @param durationNanos the time spent handling the request in nanoseconds
+     */
+    void record(String route, String method, int status, long durationNanos);
+
+    /**
+     * Returns the total number of requests recorded since startup.
+     *
+     * @return the request count over all routes
+     */
+    long getTotalRequestCount();
+
+    /**
+     * Renders all recorded metrics in the Prometheus text exposition format.
+     *
+     * @return the metrics as Prometheus text
+     */
+    String toPrometheusText();
+}
@@ -0,0 +1,190 @@
+package io.github.lstramke.coincollector.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.sun.net.httpserver.Filter;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpContext;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpPrincipal;
+
+import io.github.lstramke.coincollector.handler.HttpRequestEvent;
+import io.github.lstramke.coincollector.handler.Router;
+
+/**
+ * {@link Filter} that measures the wall-clock time of every request passing through
+ * an {@link com.sun.net.httpserver.HttpContext} and records it in {@link RequestMetrics}.
+ * <p>
+ * The route label is the path template the {@link Router} matched, stored in the exchange
+ * attribute {@link Router#ROUTE_ATTRIBUTE}, or the context path the exchange was dispatched to
+ * if no route matched. Labels are always templates, never raw paths, so ids in the request path
+ * do not create new series. The JDK server shares exchange attributes with the
+ * {@link HttpContext}, so the chain is passed an exchange that keeps its own attributes, which
+ * keeps concurrent requests on the same context from seeing each other's route. Requests that end without a status having been
+ * sent (e.g. the handler threw) are recorded with status 500. The server accepts any method
+ * token, so methods other than the standard HTTP methods are recorded as {@code OTHER} to keep
+ * the number of series bounded. Each request is also
+ * emitted as an {@link HttpRequestEvent} to Java Flight Recorder.
+ */
+public class RequestMetricsFilter extends Filter {
+
+    private static final Set<String> KNOWN_METHODS = Set.of("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS");
+    private static final String OTHER_METHOD = "OTHER";
+
+    private final RequestMetrics requestMetrics;
+
+    /**
+     * Constructs a new RequestMetricsFilter.
+     *
+     * @param requestMetrics the metrics registry to record into
+     */
+    public RequestMetricsFilter(RequestMetrics requestMetrics) {
+        this.requestMetrics = requestMetrics;
+    }
+
+    @Override
+    public void doFilter(HttpExchange exchange, Chain chain) throws IOException {
+        HttpRequestEvent event = new HttpRequestEvent();
+        event.begin();
+        long start = System.nanoTime();
+        RequestScopedExchange scoped = new RequestScopedExchange(exchange);
+        try {
+            chain.doFilter(scoped);
+        } finally {
+            long durationNanos = System.nanoTime() - start;
+            int status = exchange.getResponseCode();
+            if (status < 0) {
+                status = 500;
+            }
+            String route = scoped.getAttribute(Router.ROUTE_ATTRIBUTE) instanceof String template
+                ? template
+                : exchange.getHttpContext().getPath();
+            String method = KNOWN_METHODS.contains(exchange.getRequestMethod()) ? exchange.getRequestMethod() : OTHER_METHOD;
+            requestMetrics.record(route, method, status, durationNanos);
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.route = route;
+                event.method = method;
+                event.path = exchange.getRequestURI().getPath();
+                event.status = status;
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    public String description() {
+        return "Records per-route request latency";
+    }
+
+    /**
+     * Delegates everything to the server's exchange except attributes, which are kept
+     * per request instead of per context.
+     */
+    private static final class RequestScopedExchange extends HttpExchange {
+
+        private final HttpExchange delegate;
+        private final Map<String, Object> attributes = new HashMap<>();
+
+        private RequestScopedExchange(HttpExchange delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Object getAttribute(String name) {
+            return attributes.get(name);
+        }
+
+        @Override
+        public void setAttribute(String name, Object value) {
+            if (value == null) {
+                attributes.remove(name);
+            } else {
+                attributes.put(name, value);
+            }
+        }
+
+        @Override
+        public Headers getRequestHeaders() {
+            return delegate.getRequestHeaders();
+        }
+
+        @Override
+        public Headers getResponseHeaders() {
+            return delegate.getResponseHeaders();
+        }
+
+        @Override
+        public URI getRequestURI() {
+            return delegate.getRequestURI();
+        }
+
+        @Override
+        public String getRequestMethod() {
+            return delegate.getRequestMethod();
+        }
+
+        @Override
+        public HttpContext getHttpContext() {
+            return delegate.getHttpContext();
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+
+        @Override
+        public InputStream getRequestBody() {
+            return delegate.getRequestBody();
+        }
+
+        @Override
+        public OutputStream getResponseBody() {
+            return delegate.getResponseBody();
+        }
+
+        @Override
+        public void sendResponseHeaders(int rCode, long responseLength) throws IOException {
+            delegate.sendResponseHeaders(rCode, responseLength);
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddress() {
+            return delegate.getRemoteAddress();
+        }
+
+        @Override
+        public int getResponseCode() {
+            return delegate.getResponseCode();
+        }
+
+        @Override
+        public InetSocketAddress getLocalAddress() {
+            return delegate.getLocalAddress();
+        }
+
+        @Override
+        public String getProtocol() {
+            return delegate.getProtocol();
+        }
+
+        @Override
+        public void setStreams(InputStream i, OutputStream o) {
+            delegate.setStreams(i, o);
+        }
+
+        @Override
+        public HttpPrincipal getPrincipal() {
+            return delegate.getPrincipal();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package io.github.lstramke.coincollector.services;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Concrete implementation of the {@link RequestMetrics} interface.
+ * <p>
+ * This class keeps one {@link LatencyHistogram} per (route, method, status) in a
+ * {@link ConcurrentHashMap}. Recording only touches the histogram of the matching
+ * series and never takes a lock. The export reports p50/p95/p99 as a Prometheus
+ * summary together with the maximum and the average throughput since startup.
+ * <p>
+ * <b>Note:</b> This implementation is not persistent; all values are reset on restart.
+ */
+public class RequestMetricsImpl implements RequestMetrics {
+
+    private static final double[] QUANTILES = {0.5, 0.95, 0.99};
+    private static final String DURATION_METRIC = "coincollector_http_request_duration_seconds";
+    private static final String MAX_METRIC = "coincollector_http_request_duration_seconds_max";
+    private static final String THROUGHPUT_METRIC = "coincollector_http_requests_per_second";
+
+    private record SeriesKey(String route, String method, int status) {}
+
+    private final Map<SeriesKey, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final long startNanos = System.nanoTime();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void record(String route, String method, int status, long durationNanos) {
+        histograms
+            .computeIfAbsent(new SeriesKey(route, method, status), key -> new LatencyHistogram())
+            .recordNanos(durationNanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTotalRequestCount() {
+        return histograms.values().stream().mapToLong(LatencyHistogram::getCount).sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toPrometheusText() {
+        var series = histograms.entrySet().stream()
+            .sorted(Comparator
+                .comparing((Map.Entry<SeriesKey, LatencyHistogram> e) -> e.getKey().route())
+                .thenComparing(e -> e.getKey().method())
+                .thenComparingInt(e -> e.getKey().status()))
+            .toList();
+        double uptimeSeconds = Math.max((System.nanoTime() - startNanos) / 1e9, 1e-9);
+
+        StringBuilder text = new StringBuilder();
+        text.append("# HELP ").append(DURATION_METRIC).append(" HTTP request latency by route, method and status.\n");
+        text.append("# TYPE ").append(DURATION_METRIC).append(" summary\n");
+        for (var entry : series) {
+            String labels = labels(entry.getKey());
+            LatencyHistogram histogram = entry.getValue();
+            for (double quantile : QUANTILES) {
+                text.append(DURATION_METRIC).append('{').append(labels)
+                    .append(",quantile=\"").append(quantile).append("\"} ")
+                    .append(PrometheusFormat.seconds(histogram.getValueAtPercentile(quantile * 100))).append('\n');
+            }
+            text.append(DURATION_METRIC).append("_sum{").append(labels).append("} ")
+                .append(PrometheusFormat.seconds(histogram.getSumMicros())).append('\n');
+            text.append(DURATION_METRIC).append("_count{").append(labels).append("} ")
+                .append(histogram.getCount()).append('\n');
+        }
+
+        text.append("# HELP ").append(MAX_METRIC).append(" Largest observed HTTP request latency.\n");
+        text.append("# TYPE ").append(MAX_METRIC).append(" gauge\n");
+        for (var entry : series) {
+            text.append(MAX_METRIC).append('{').append(labels(entry.getKey())).append("} ")
+                .append(PrometheusFormat.seconds(entry.getValue().getMaxMicros())).append('\n');
+        }
+
+        text.append("# HELP ").append(THROUGHPUT_METRIC).append(" Average HTTP request throughput since startup.\n");
+        text.append("# TYPE ").append(THROUGHPUT_METRIC).append(" gauge\n");
+        for (var entry : series) {
+            text.append(THROUGHPUT_METRIC).append('{').append(labels(entry.getKey())).append("} ")
+                .append(PrometheusFormat.number(entry.getValue().getCount() / uptimeSeconds)).append('\n');
+        }
+        return text.toString();
+    }
+
+    private static String labels(SeriesKey key) {
+        return "route=\"" + PrometheusFormat.escape(key.route()) + "\",method=\"" + PrometheusFormat.escape(key.method()) + "\",status=\"" + key.status() + "\"";
+    }
+}
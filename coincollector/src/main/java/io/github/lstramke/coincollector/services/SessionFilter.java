@@ -14,6 +14,7 @@ import com.sun.net.httpserver.HttpHandler;
  */
 public class SessionFilter {
     private final static Logger logger = LoggerFactory.getLogger(SessionFilter.class);
+    private final static String SESSION_COOKIE = "sessionId";
 
     /**
      * Wraps an {@link HttpHandler} with session validation logic.
@@ -56,15 +57,60 @@ public class SessionFilter {
      * @return The sessionId if present, otherwise null
      */
     public static String getSessionCookie(HttpExchange exchange) {
-        String cookieHeader = exchange.getRequestHeaders().getFirst("Cookie");
-        if (cookieHeader != null) {
-            for (String cookie : cookieHeader.split(";")) {
-                String[] parts = cookie.trim().split("=");
-                if (parts.length == 2 && parts[0].equals("sessionId") && !parts[1].isEmpty()) {
-                    return parts[1];
+        return getCookieValue(exchange.getRequestHeaders().getFirst("Cookie"), SESSION_COOKIE);
+    }
+
+    /**
+     * Looks up a cookie in a Cookie header of the form {@code name=value; name2=value2}.
+     * The header is scanned in place, only the returned value is allocated. Whitespace
+     * around names and values is ignored and cookies with an empty value are skipped.
+     *
+     * @param cookieHeader The Cookie header, may be null
+     * @param name The name of the cookie
+     * @return The value of the first non-empty cookie with the given name, otherwise null
+     */
+    public static String getCookieValue(String cookieHeader, String name) {
+        if (cookieHeader == null) {
+            return null;
+        }
+        int length = cookieHeader.length();
+        int start = 0;
+        while (start < length) {
+            int end = cookieHeader.indexOf(';', start);
+            if (end < 0) {
+                end = length;
+            }
+            int separator = start;
+            while (separator < end && cookieHeader.charAt(separator) != '=') {
+                separator++;
+            }
+            if (separator < end) {
+                int nameStart = skipWhitespace(cookieHeader, start, separator);
+                int nameEnd = trimWhitespace(cookieHeader, nameStart, separator);
+                if (nameEnd - nameStart == name.length() && cookieHeader.regionMatches(nameStart, name, 0, name.length())) {
+                    int valueStart = skipWhitespace(cookieHeader, separator + 1, end);
+                    int valueEnd = trimWhitespace(cookieHeader, valueStart, end);
+                    if (valueStart < valueEnd) {
+                        return cookieHeader.substring(valueStart, valueEnd);
+                    }
                 }
             }
+            start = end + 1;
         }
         return null;
     }
+
+    private static int skipWhitespace(String value, int from, int to) {
+        while (from < to && value.charAt(from) <= ' ') {
+            from++;
+        }
+        return from;
+    }
+
+    private static int trimWhitespace(String value, int from, int to) {
+        while (to > from && value.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        return to;
+    }
 }
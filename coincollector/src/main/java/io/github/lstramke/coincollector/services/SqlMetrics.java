@@ -0,0 +1,25 @@
+package io.github.lstramke.coincollector.services;
+
+/**
+ * Interface for collecting SQL statement metrics.
+ * Defines methods for recording statement executions and exporting them for monitoring.
+ */
+public interface SqlMetrics {
+
+    /**
+     * Records one finished statement execution.
+     *
+     * @param caller the repository method that issued the statement (e.g. {@code EuroCoinSqliteRepository.getAll})
+     * @param sql the normalized SQL text of the statement
+     * @param durationNanos time spent executing the statement and fetching its rows in nanoseconds
+     * @param rows number of rows fetched (queries) or affected (updates)
+     */
+    void record(String caller, String sql, long durationNanos, long rows);
+
+    /**
+     * Renders all recorded metrics in the Prometheus text exposition format.
+     *
+     * @return the metrics as Prometheus text
+     */
+    String toPrometheusText();
+}
@@ -0,0 +1,135 @@
+package io.github.lstramke.coincollector.services;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Concrete implementation of the {@link SqlMetrics} interface.
+ * <p>
+ * This class keeps one {@link LatencyHistogram} and one row counter per
+ * (calling repository method, SQL text) in a {@link ConcurrentHashMap}. SQL texts that
+ * vary per call, such as filter conditions, still create new series, so at most
+ * {@code maxSeries} series are kept; executions of further statements are recorded in one
+ * overflow series labeled {@code OTHER}.
+ * <p>
+ * <b>Note:</b> This implementation is not persistent; all values are reset on restart.
+ */
+public class SqlMetricsImpl implements SqlMetrics {
+
+    private static final double[] QUANTILES = {0.5, 0.95, 0.99};
+    private static final String DURATION_METRIC = "coincollector_sql_statement_duration_seconds";
+    private static final String MAX_METRIC = "coincollector_sql_statement_duration_seconds_max";
+    private static final String ROWS_METRIC = "coincollector_sql_statement_rows_total";
+
+    private static final int DEFAULT_MAX_SERIES = 256;
+    private static final Logger logger = LoggerFactory.getLogger(SqlMetricsImpl.class);
+
+    private record SeriesKey(String caller, String sql) {}
+
+    private static final SeriesKey OVERFLOW = new SeriesKey("OTHER", "OTHER");
+
+    private record Series(LatencyHistogram histogram, LongAdder rows) {}
+
+    private final Map<SeriesKey, Series> series = new ConcurrentHashMap<>();
+    private final int maxSeries;
+
+    /**
+     * Constructs SQL metrics keeping at most {@value #DEFAULT_MAX_SERIES} series.
+     */
+    public SqlMetricsImpl() {
+        this(DEFAULT_MAX_SERIES);
+    }
+
+    /**
+     * @param maxSeries maximum number of (caller, statement) series besides the overflow series
+     */
+    public SqlMetricsImpl(int maxSeries) {
+        this.maxSeries = maxSeries;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void record(String caller, String sql, long durationNanos, long rows) {
+        SeriesKey key = new SeriesKey(caller, sql);
+        Series entry = series.get(key);
+        if (entry == null) {
+            entry = addSeries(key);
+        }
+        entry.histogram().recordNanos(durationNanos);
+        entry.rows().add(Math.max(0, rows));
+    }
+
+    /**
+     * Creates the series of a new statement, or returns the overflow series once the limit is
+     * reached. Synchronized so concurrent first executions cannot exceed the limit.
+     */
+    private synchronized Series addSeries(SeriesKey key) {
+        Series existing = series.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        if (series.size() < maxSeries) {
+            return series.computeIfAbsent(key, k -> new Series(new LatencyHistogram(), new LongAdder()));
+        }
+        return series.computeIfAbsent(OVERFLOW, k -> {
+            logger.warn("SQL metrics limit of {} series reached, further statements are recorded as OTHER (first: {} {})",
+                maxSeries, key.caller(), key.sql());
+            return new Series(new LatencyHistogram(), new LongAdder());
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toPrometheusText() {
+        var sorted = series.entrySet().stream()
+            .sorted(Comparator
+                .comparing((Map.Entry<SeriesKey, Series> e) -> e.getKey().caller())
+                .thenComparing(e -> e.getKey().sql()))
+            .toList();
+
+        StringBuilder text = new StringBuilder();
+        text.append("# HELP ").append(DURATION_METRIC).append(" SQL statement latency by calling repository method and statement.\n");
+        text.append("# TYPE ").append(DURATION_METRIC).append(" summary\n");
+        for (var entry : sorted) {
+            String labels = labels(entry.getKey());
+            LatencyHistogram histogram = entry.getValue().histogram();
+            for (double quantile : QUANTILES) {
+                text.append(DURATION_METRIC).append('{').append(labels)
+                    .append(",quantile=\"").append(quantile).append("\"} ")
+                    .append(PrometheusFormat.seconds(histogram.getValueAtPercentile(quantile * 100))).append('\n');
+            }
+            text.append(DURATION_METRIC).append("_sum{").append(labels).append("} ")
+                .append(PrometheusFormat.seconds(histogram.getSumMicros())).append('\n');
+            text.append(DURATION_METRIC).append("_count{").append(labels).append("} ")
+                .append(histogram.getCount()).append('\n');
+        }
+
+        text.append("# HELP ").append(MAX_METRIC).append(" Largest observed SQL statement latency.\n");
+        text.append("# TYPE ").append(MAX_METRIC).append(" gauge\n");
+        for (var entry : sorted) {
+            text.append(MAX_METRIC).append('{').append(labels(entry.getKey())).append("} ")
+                .append(PrometheusFormat.seconds(entry.getValue().histogram().getMaxMicros())).append('\n');
+        }
+
+        text.append("# HELP ").append(ROWS_METRIC).append(" Rows fetched or affected by SQL statements.\n");
+        text.append("# TYPE ").append(ROWS_METRIC).append(" counter\n");
+        for (var entry : sorted) {
+            text.append(ROWS_METRIC).append('{').append(labels(entry.getKey())).append("} ")
+                .append(entry.getValue().rows().sum()).append('\n');
+        }
+        return text.toString();
+    }
+
+    private static String labels(SeriesKey key) {
+        return "caller=\"" + PrometheusFormat.escape(key.caller()) + "\",sql=\"" + PrometheusFormat.escape(key.sql()) + "\"";
+    }
+}
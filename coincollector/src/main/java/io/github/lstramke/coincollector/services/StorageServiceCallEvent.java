@@ -0,0 +1,37 @@
+package io.github.lstramke.coincollector.services;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event covering one call into a storage service.
+ */
+@Name("io.github.lstramke.coincollector.StorageServiceCall")
+@Label("Storage Service Call")
+@Category({"CoinCollector", "Services"})
+@Description("Call into a storage service, e.g. EuroCoinStorageService.getById")
+@StackTrace(false)
+public class StorageServiceCallEvent extends Event {
+
+    @Label("Service")
+    public String service;
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Entity Id")
+    @Description("Id of the entity the call operates on, if any")
+    public String entityId;
+
+    @Label("Result Count")
+    @Description("Number of returned entities for list results, otherwise -1")
+    public int resultCount;
+
+    @Label("Exception")
+    @Description("Class of the exception thrown by the call, if any")
+    public String exception;
+}
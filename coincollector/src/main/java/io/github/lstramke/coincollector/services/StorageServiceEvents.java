@@ -0,0 +1,87 @@
+package io.github.lstramke.coincollector.services;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+
+import io.github.lstramke.coincollector.model.EuroCoin;
+import io.github.lstramke.coincollector.model.EuroCoinCollection;
+import io.github.lstramke.coincollector.model.EuroCoinCollectionGroup;
+import io.github.lstramke.coincollector.model.User;
+
+/**
+ * Wraps storage services so that every call is emitted as a {@link StorageServiceCallEvent}
+ * to Java Flight Recorder.
+ * <p>
+ * The wrapper is a dynamic proxy over the service interface, so the service implementations
+ * stay free of profiling code. The entity id is taken from the first id or entity argument.
+ */
+public final class StorageServiceEvents {
+
+    private StorageServiceEvents() {}
+
+    /**
+     * Returns a proxy of the given service that emits one event per call.
+     *
+     * @param <T> the service interface type
+     * @param serviceType the service interface to proxy
+     * @param service the service implementation to delegate to
+     * @return the instrumented service
+     */
+    public static <T> T instrument(Class<T> serviceType, T service) {
+        String serviceName = serviceType.getSimpleName();
+        return serviceType.cast(Proxy.newProxyInstance(
+            serviceType.getClassLoader(),
+            new Class<?>[] {serviceType},
+            (proxy, method, args) -> {
+                if (method.getDeclaringClass() == Object.class) {
+                    return method.invoke(service, args);
+                }
+                StorageServiceCallEvent event = new StorageServiceCallEvent();
+                event.begin();
+                Object result = null;
+                Throwable failure = null;
+                try {
+                    result = method.invoke(service, args);
+                    return result;
+                } catch (InvocationTargetException e) {
+                    failure = e.getCause();
+                    throw failure;
+                } finally {
+                    event.end();
+                    if (event.shouldCommit()) {
+                        event.service = serviceName;
+                        event.operation = method.getName();
+                        event.entityId = entityId(args);
+                        event.resultCount = result instanceof Collection<?> entities ? entities.size() : -1;
+                        event.exception = failure != null ? failure.getClass().getSimpleName() : null;
+                        event.commit();
+                    }
+                }
+            }));
+    }
+
+    static String entityId(Object[] args) {
+        if (args == null) {
+            return null;
+        }
+        for (Object arg : args) {
+            if (arg instanceof String id) {
+                return id;
+            }
+            if (arg instanceof EuroCoin coin) {
+                return coin.getId();
+            }
+            if (arg instanceof EuroCoinCollection collection) {
+                return collection.getId();
+            }
+            if (arg instanceof EuroCoinCollectionGroup group) {
+                return group.getId();
+            }
+            if (arg instanceof User user) {
+                return user.getId();
+            }
+        }
+        return null;
+    }
+}
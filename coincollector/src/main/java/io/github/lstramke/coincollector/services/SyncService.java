@@ -0,0 +1,26 @@
+package io.github.lstramke.coincollector.services;
+
+import io.github.lstramke.coincollector.exceptions.syncExceptions.SyncChangesException;
+import io.github.lstramke.coincollector.model.SyncChanges;
+
+/**
+ * Service abstraction for the delta sync of offline-capable clients: returns the changes of a
+ * user's groups, collections and coins after a version of the change log the client has
+ * already seen.
+ * <p>
+ * <strong>Lifecycle & transaction management:</strong>
+ * Implementations open/manage/close connections internally and read all changes of a call
+ * within one transaction, so a page of changes is a consistent snapshot.
+ */
+public interface SyncService {
+
+    /**
+     * Returns the changes after the given version, at most one page of them.
+     *
+     * @param ownerId id of the user whose changes are returned; must not be {@code null} or blank
+     * @param since the last version the client has seen; 0 for a full sync
+     * @return the changes and the version to continue from
+     * @throws SyncChangesException if reading the changes fails
+     */
+    SyncChanges getChangesSince(String ownerId, long since) throws SyncChangesException;
+}
@@ -0,0 +1,113 @@
+package io.github.lstramke.coincollector.services;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.lstramke.coincollector.exceptions.syncExceptions.SyncChangesException;
+import io.github.lstramke.coincollector.model.ChangeLogEntry;
+import io.github.lstramke.coincollector.model.EuroCoin;
+import io.github.lstramke.coincollector.model.EuroCoinCollection;
+import io.github.lstramke.coincollector.model.EuroCoinCollectionGroup;
+import io.github.lstramke.coincollector.model.SyncChanges;
+import io.github.lstramke.coincollector.repositories.ChangeLogStorageRepository;
+import io.github.lstramke.coincollector.repositories.EuroCoinCollectionGroupStorageRepository;
+import io.github.lstramke.coincollector.repositories.EuroCoinCollectionStorageRepository;
+import io.github.lstramke.coincollector.repositories.EuroCoinStorageRepository;
+
+/**
+ * Implementation of {@link SyncService} reading a page of the change log through the
+ * {@link ChangeLogStorageRepository} and loading the current state of every created or updated
+ * entity from its repository, all on one connection within one transaction.
+ */
+public class SyncServiceImpl implements SyncService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyncServiceImpl.class);
+
+    private final DataSource dataSource;
+    private final ChangeLogStorageRepository changeLogRepository;
+    private final EuroCoinCollectionGroupStorageRepository groupRepository;
+    private final EuroCoinCollectionStorageRepository collectionRepository;
+    private final EuroCoinStorageRepository coinRepository;
+    private final int pageSize;
+
+    /**
+     * @param dataSource the data source to read from
+     * @param changeLogRepository repository reading the change log
+     * @param groupRepository repository loading changed groups
+     * @param collectionRepository repository loading changed collections
+     * @param coinRepository repository loading changed coins
+     * @param pageSize maximum number of changes returned per call
+     */
+    public SyncServiceImpl(
+        DataSource dataSource,
+        ChangeLogStorageRepository changeLogRepository,
+        EuroCoinCollectionGroupStorageRepository groupRepository,
+        EuroCoinCollectionStorageRepository collectionRepository,
+        EuroCoinStorageRepository coinRepository,
+        int pageSize
+    ) {
+        this.dataSource = dataSource;
+        this.changeLogRepository = changeLogRepository;
+        this.groupRepository = groupRepository;
+        this.collectionRepository = collectionRepository;
+        this.coinRepository = coinRepository;
+        this.pageSize = pageSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SyncChanges getChangesSince(String ownerId, long since) throws SyncChangesException {
+        logger.info("Reading changes for user {} since version {}", ownerId, since);
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                SyncChanges changes = readChanges(connection, ownerId, since);
+                connection.commit();
+                logger.info("Read {} groups, {} collections, {} coins and {} deletions for user {} up to version {}",
+                    changes.groups().size(), changes.collections().size(), changes.coins().size(),
+                    changes.deleted().size(), ownerId, changes.version());
+                return changes;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            logger.error("Error reading changes for user {} since version {}: {}", ownerId, since, e.getMessage(), e);
+            throw new SyncChangesException(e);
+        }
+    }
+
+    private SyncChanges readChanges(Connection connection, String ownerId, long since) throws SQLException {
+        List<ChangeLogEntry> entries = changeLogRepository.getChangesSince(connection, ownerId, since, pageSize + 1);
+        boolean hasMore = entries.size() > pageSize;
+        if (hasMore) {
+            entries = entries.subList(0, pageSize);
+        }
+
+        List<EuroCoinCollectionGroup> groups = new ArrayList<>();
+        List<EuroCoinCollection> collections = new ArrayList<>();
+        List<EuroCoin> coins = new ArrayList<>();
+        List<ChangeLogEntry> deleted = new ArrayList<>();
+        long version = since;
+        for (ChangeLogEntry entry : entries) {
+            version = entry.version();
+            if (entry.deleted()) {
+                deleted.add(entry);
+                continue;
+            }
+            switch (entry.entity()) {
+                case GROUP -> groupRepository.read(connection, entry.entityId()).ifPresent(groups::add);
+                case COLLECTION -> collectionRepository.read(connection, entry.entityId()).ifPresent(collections::add);
+                case COIN -> coinRepository.read(connection, entry.entityId()).ifPresent(coins::add);
+            }
+        }
+        return new SyncChanges(version, hasMore, groups, collections, coins, deleted);
+    }
+}
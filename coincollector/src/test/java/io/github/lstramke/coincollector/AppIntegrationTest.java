@@ -516,6 +516,17 @@ public class AppIntegrationTest {
                     assertTrue(groupJson.contains("\"collections\":[]"));
                 }, 
                 "Get groups with sessionId cookie"
+            ),
+            () -> new AppTestcase(
+                "GET",
+                "/api/metrics",
+                null,
+                null,
+                response -> {
+                    assertEquals(200, response.statusCode());
+                    assertTrue(response.body().contains("coincollector_http_request_duration_seconds_count{route=\"/api/groups\",method=\"GET\",status=\"200\"}"));
+                },
+                "Metrics contain recorded group requests"
             )
         );
     }
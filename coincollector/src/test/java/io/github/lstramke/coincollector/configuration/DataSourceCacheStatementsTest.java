@@ -0,0 +1,135 @@
+package io.github.lstramke.coincollector.configuration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.sqlite.SQLiteDataSource;
+
+public class DataSourceCacheStatementsTest {
+
+    private static final String SELECT_SQL = "SELECT name FROM items WHERE id >= ? ORDER BY id";
+    private static final String OTHER_SQL = "SELECT COUNT(*) FROM items";
+
+    @TempDir
+    Path tempDir;
+
+    private SQLiteDataSource sqliteDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        sqliteDataSource = new SQLiteDataSource();
+        sqliteDataSource.setUrl("jdbc:sqlite:" + tempDir.resolve("items.db"));
+        sqliteDataSource.setBusyTimeout(200);
+        try (Connection connection = sqliteDataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE items (id INTEGER PRIMARY KEY, name TEXT)");
+            statement.execute("INSERT INTO items (name) VALUES ('a'), ('b'), ('c')");
+        }
+    }
+
+    private record ReuseTestcase(
+        int cacheSize,
+        boolean closeBeforeReuse,
+        boolean otherStatementBetween,
+        boolean expectedReused,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<ReuseTestcase> reuseTestcases() {
+        return Stream.of(
+            new ReuseTestcase(4, true, false, true, "Closed statement is reused for the same SQL"),
+            new ReuseTestcase(4, true, true, true, "Statement stays cached while the cache has room"),
+            new ReuseTestcase(4, false, false, false, "Statement still in use is not shared"),
+            new ReuseTestcase(1, true, true, false, "Least recently used statement is evicted and closed")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("reuseTestcases")
+    void testPrepareStatement(ReuseTestcase testcase) throws SQLException {
+        var dataSource = new DataSourceCacheStatements(sqliteDataSource, testcase.cacheSize);
+        try (Connection connection = dataSource.getConnection()) {
+            PreparedStatement first = connection.prepareStatement(SELECT_SQL);
+            PreparedStatement firstTarget = first.unwrap(PreparedStatement.class);
+            first.setInt(1, 2);
+            ResultSet resultSet = first.executeQuery();
+            assertTrue(resultSet.next());
+            if (testcase.closeBeforeReuse) {
+                first.close();
+                assertTrue(first.isClosed());
+            }
+            if (testcase.otherStatementBetween) {
+                try (PreparedStatement other = connection.prepareStatement(OTHER_SQL)) {
+                    other.executeQuery().close();
+                }
+            }
+
+            try (PreparedStatement second = connection.prepareStatement(SELECT_SQL)) {
+                assertEquals(testcase.expectedReused, second.unwrap(PreparedStatement.class) == firstTarget);
+                second.setInt(1, 1);
+                try (ResultSet secondResultSet = second.executeQuery()) {
+                    assertTrue(secondResultSet.next());
+                    assertEquals("a", secondResultSet.getString("name"));
+                }
+            }
+            if (testcase.closeBeforeReuse && !testcase.expectedReused) {
+                assertTrue(firstTarget.isClosed(), "Evicted statement must be closed");
+            }
+            if (!testcase.closeBeforeReuse) {
+                assertEquals("b", resultSet.getString("name"), "First statement must be unaffected by the second");
+                first.close();
+            }
+        }
+    }
+
+    @Test
+    void testReleasedStatementKeepsNoLockAndClearsParameters() throws SQLException {
+        var dataSource = new DataSourceCacheStatements(sqliteDataSource, 4);
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement(SELECT_SQL)) {
+                statement.setInt(1, 1);
+                ResultSet resultSet = statement.executeQuery();
+                assertTrue(resultSet.next());
+            }
+
+            try (Connection writer = sqliteDataSource.getConnection();
+                 Statement statement = writer.createStatement()) {
+                assertDoesNotThrow(() -> statement.execute("INSERT INTO items (name) VALUES ('d')"),
+                    "Returning a statement to the cache must close its result set and end the read");
+            }
+            try (PreparedStatement statement = connection.prepareStatement(SELECT_SQL);
+                 ResultSet resultSet = statement.executeQuery()) {
+                assertFalse(resultSet.next(), "Parameters of the previous use must be cleared");
+            }
+        }
+    }
+
+    @Test
+    void testCloseConnectionClosesCachedStatements() throws SQLException {
+        var dataSource = new DataSourceCacheStatements(sqliteDataSource, 4);
+        PreparedStatement target;
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(OTHER_SQL)) {
+            target = statement.unwrap(PreparedStatement.class);
+        }
+
+        assertTrue(target.isClosed());
+    }
+}
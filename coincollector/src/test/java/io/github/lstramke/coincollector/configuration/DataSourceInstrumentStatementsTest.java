@@ -0,0 +1,176 @@
+package io.github.lstramke.coincollector.configuration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.lstramke.coincollector.services.SqlMetrics;
+
+public class DataSourceInstrumentStatementsTest {
+
+    private static final String SQL = "SELECT *\n    FROM euroCoins";
+    private static final String NORMALIZED_SQL = "SELECT * FROM euroCoins";
+
+    private record QueryTestcase(
+        int rows,
+        boolean closeStatementOnly,
+        long expectedRows,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<QueryTestcase> queryTestcases() {
+        return Stream.of(
+            new QueryTestcase(3, false, 3, "Query records fetched rows once when result set is exhausted and closed"),
+            new QueryTestcase(0, false, 0, "Empty query records zero rows"),
+            new QueryTestcase(2, true, 2, "Query is recorded when only the statement is closed")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("queryTestcases")
+    void testExecuteQuery(QueryTestcase testcase) throws SQLException {
+        DataSource delegate = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        SqlMetrics sqlMetrics = mock(SqlMetrics.class);
+        when(delegate.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(SQL)).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        Boolean[] further = new Boolean[testcase.rows];
+        for (int i = 0; i < testcase.rows; i++) {
+            further[i] = i < testcase.rows - 1;
+        }
+        if (testcase.rows == 0) {
+            when(resultSet.next()).thenReturn(false);
+        } else {
+            when(resultSet.next()).thenReturn(true, further);
+        }
+
+        var dataSource = new DataSourceInstrumentStatements(delegate, sqlMetrics, 1000);
+        try (Connection instrumented = dataSource.getConnection();
+             PreparedStatement statement = instrumented.prepareStatement(SQL)) {
+            ResultSet rs = statement.executeQuery();
+            if (testcase.closeStatementOnly) {
+                for (int i = 0; i < testcase.rows; i++) {
+                    rs.next();
+                }
+            } else {
+                while (rs.next()) {}
+                rs.close();
+            }
+        }
+
+        verify(sqlMetrics, times(1)).record(
+            eq("DataSourceInstrumentStatementsTest.testExecuteQuery"), eq(NORMALIZED_SQL), anyLong(), eq(testcase.expectedRows));
+        verify(connection).close();
+        verify(preparedStatement).close();
+    }
+
+    private record UpdateTestcase(
+        int affectedRows,
+        boolean shouldThrowSQLException,
+        long expectedRecordings,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<UpdateTestcase> updateTestcases() {
+        return Stream.of(
+            new UpdateTestcase(1, false, 1, "Update records affected rows"),
+            new UpdateTestcase(0, true, 0, "Failing update propagates SQLException and records nothing")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("updateTestcases")
+    void testExecuteUpdate(UpdateTestcase testcase) throws SQLException {
+        DataSource delegate = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        SqlMetrics sqlMetrics = mock(SqlMetrics.class);
+        when(delegate.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        if (testcase.shouldThrowSQLException) {
+            when(preparedStatement.executeUpdate()).thenThrow(new SQLException("locked"));
+        } else {
+            when(preparedStatement.executeUpdate()).thenReturn(testcase.affectedRows);
+        }
+
+        var dataSource = new DataSourceInstrumentStatements(delegate, sqlMetrics, 0);
+        try (Connection instrumented = dataSource.getConnection();
+             PreparedStatement statement = instrumented.prepareStatement("DELETE FROM euroCoins WHERE id = ?")) {
+            statement.setString(1, "id");
+            if (testcase.shouldThrowSQLException) {
+                assertThrows(SQLException.class, statement::executeUpdate);
+            } else {
+                assertEquals(testcase.affectedRows, statement.executeUpdate());
+            }
+        }
+
+        verify(preparedStatement).setString(1, "id");
+        verify(sqlMetrics, times((int) testcase.expectedRecordings)).record(
+            anyString(), eq("DELETE FROM euroCoins WHERE id = ?"), anyLong(), eq((long) testcase.affectedRows));
+    }
+
+    private record NormalizeTestcase(
+        String sql,
+        String expectedSql,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<NormalizeTestcase> normalizeTestcases() {
+        return Stream.of(
+            new NormalizeTestcase("SELECT *\n    FROM euroCoins\n", "SELECT * FROM euroCoins", "Whitespace is collapsed"),
+            new NormalizeTestcase("SELECT * FROM euroCoins WHERE collection_id IN (?)", "SELECT * FROM euroCoins WHERE collection_id IN (?…)", "Single placeholder list is collapsed"),
+            new NormalizeTestcase("SELECT * FROM euroCoins WHERE collection_id IN (?, ?, ?) AND year IN (?,?)",
+                "SELECT * FROM euroCoins WHERE collection_id IN (?…) AND year IN (?…)", "Every placeholder list is collapsed"),
+            new NormalizeTestcase("SELECT * FROM euroCoins WHERE mint IN ('A', 'D')", "SELECT * FROM euroCoins WHERE mint IN ('A', 'D')", "Literal lists are kept")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("normalizeTestcases")
+    void testNormalize(NormalizeTestcase testcase) throws SQLException {
+        DataSource delegate = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        SqlMetrics sqlMetrics = mock(SqlMetrics.class);
+        when(delegate.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(testcase.sql)).thenReturn(preparedStatement);
+        when(preparedStatement.executeUpdate()).thenReturn(1);
+
+        var dataSource = new DataSourceInstrumentStatements(delegate, sqlMetrics, 1000);
+        try (Connection instrumented = dataSource.getConnection();
+             PreparedStatement statement = instrumented.prepareStatement(testcase.sql)) {
+            statement.executeUpdate();
+        }
+
+        verify(sqlMetrics).record(anyString(), eq(testcase.expectedSql), anyLong(), eq(1L));
+    }
+}
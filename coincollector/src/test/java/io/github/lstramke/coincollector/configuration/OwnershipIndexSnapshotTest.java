@@ -0,0 +1,130 @@
+package io.github.lstramke.coincollector.configuration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.lstramke.coincollector.model.EuroCoinCollectionFactory;
+import io.github.lstramke.coincollector.model.EuroCoinCollectionGroupFactory;
+import io.github.lstramke.coincollector.repositories.ChangeLogStorageRepository;
+import io.github.lstramke.coincollector.repositories.EuroCoinCollectionGroupStorageRepository;
+import io.github.lstramke.coincollector.repositories.EuroCoinCollectionStorageRepository;
+import io.github.lstramke.coincollector.services.OwnershipIndex;
+import io.github.lstramke.coincollector.services.OwnershipIndexImpl;
+
+public class OwnershipIndexSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    private record LoadTestcase(
+        boolean writeSnapshot,
+        long versionAtLoad,
+        boolean corrupt,
+        boolean expectedLoaded,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<LoadTestcase> loadTestcases() {
+        return Stream.of(
+            new LoadTestcase(true, 5, false, true, "Snapshot at the current version fills the index"),
+            new LoadTestcase(true, 6, false, false, "Snapshot of an older version is stale"),
+            new LoadTestcase(true, 5, true, false, "Snapshot failing its checksum is ignored"),
+            new LoadTestcase(false, 5, false, false, "Missing snapshot is not loaded")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("loadTestcases")
+    void testLoad(LoadTestcase testcase) throws SQLException, IOException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        EuroCoinCollectionGroupStorageRepository groupRepository = mock(EuroCoinCollectionGroupStorageRepository.class);
+        EuroCoinCollectionStorageRepository collectionRepository = mock(EuroCoinCollectionStorageRepository.class);
+        ChangeLogStorageRepository changeLogRepository = mock(ChangeLogStorageRepository.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(groupRepository.getAll(connection)).thenReturn(List.of(
+            new EuroCoinCollectionGroupFactory().fromValues("group-1", "Group", "user-1")));
+        when(collectionRepository.getAll(connection)).thenReturn(List.of(
+            new EuroCoinCollectionFactory().fromValues("collection-1", "Collection", "group-1")));
+        when(changeLogRepository.getLatestVersion(connection)).thenReturn(5L, testcase.versionAtLoad);
+        Path file = directory.resolve("coincollector.db.index");
+
+        if (testcase.writeSnapshot) {
+            assertTrue(new OwnershipIndexSnapshot(file, dataSource, groupRepository, collectionRepository, changeLogRepository).write());
+        }
+        if (testcase.corrupt) {
+            byte[] bytes = Files.readAllBytes(file);
+            bytes[12] ^= 0x01;
+            Files.write(file, bytes);
+        }
+        if (!testcase.writeSnapshot) {
+            when(changeLogRepository.getLatestVersion(connection)).thenReturn(testcase.versionAtLoad);
+        }
+
+        OwnershipIndex ownershipIndex = new OwnershipIndexImpl();
+        var snapshot = new OwnershipIndexSnapshot(file, dataSource, groupRepository, collectionRepository, changeLogRepository);
+        assertEquals(testcase.expectedLoaded, snapshot.load(ownershipIndex));
+        assertEquals(testcase.expectedLoaded ? Optional.of("user-1") : Optional.empty(), ownershipIndex.getOwnerIdOfCollection("collection-1"));
+    }
+
+    private record WriteTestcase(
+        long firstVersion,
+        long secondVersion,
+        boolean expectedSecondWrite,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<WriteTestcase> writeTestcases() {
+        return Stream.of(
+            new WriteTestcase(3, 3, false, "Unchanged version skips the write"),
+            new WriteTestcase(3, 4, true, "Changed version writes a new snapshot")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("writeTestcases")
+    void testWriteSkipsUnchangedVersion(WriteTestcase testcase) throws SQLException, IOException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        EuroCoinCollectionGroupStorageRepository groupRepository = mock(EuroCoinCollectionGroupStorageRepository.class);
+        EuroCoinCollectionStorageRepository collectionRepository = mock(EuroCoinCollectionStorageRepository.class);
+        ChangeLogStorageRepository changeLogRepository = mock(ChangeLogStorageRepository.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(groupRepository.getAll(connection)).thenReturn(List.of());
+        when(collectionRepository.getAll(connection)).thenReturn(List.of());
+        when(changeLogRepository.getLatestVersion(connection)).thenReturn(testcase.firstVersion, testcase.secondVersion);
+        var snapshot = new OwnershipIndexSnapshot(directory.resolve("coincollector.db.index"), dataSource,
+            groupRepository, collectionRepository, changeLogRepository);
+
+        assertTrue(snapshot.write());
+        assertEquals(testcase.expectedSecondWrite, snapshot.write());
+        verify(groupRepository, times(testcase.expectedSecondWrite ? 2 : 1)).getAll(any());
+        verify(connection, times(testcase.expectedSecondWrite ? 0 : 1)).rollback();
+    }
+}
@@ -0,0 +1,393 @@
+package io.github.lstramke.coincollector.configuration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.sqlite.SQLiteDataSource;
+
+import io.github.lstramke.coincollector.model.CoinCountry;
+import io.github.lstramke.coincollector.model.CoinDescription;
+import io.github.lstramke.coincollector.model.CoinFacets;
+import io.github.lstramke.coincollector.model.CoinFilter;
+import io.github.lstramke.coincollector.model.CoinValue;
+import io.github.lstramke.coincollector.model.EuroCoin;
+import io.github.lstramke.coincollector.model.EuroCoinBuilder;
+import io.github.lstramke.coincollector.model.EuroCoinFactory;
+import io.github.lstramke.coincollector.model.Mint;
+import io.github.lstramke.coincollector.repositories.sqlite.ChangeLogSqliteRepository;
+import io.github.lstramke.coincollector.repositories.sqlite.EuroCoinSqliteRepository;
+
+public class SqliteInitializerTest {
+
+    private static final List<String> tableNames = List.of("users", "euroCoinCollectionGroups", "euroCoinCollections", "euroCoins", "changeLog");
+    private static final String DEFAULT_TEXT = "2 Euro Münze aus Deutschland aus dem Jahr 2024 aus der Prägestätte A";
+
+    @TempDir
+    Path tempDir;
+
+    private record MigrationTestcase(
+        int year,
+        String storedDescription,
+        String expectedDescription,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<MigrationTestcase> migrationTestcases() {
+        return Stream.of(
+            new MigrationTestcase(2024, DEFAULT_TEXT, null, "Generated default description is cleared"),
+            new MigrationTestcase(2024, "Fehlprägung", "Fehlprägung", "Custom description is kept"),
+            new MigrationTestcase(1990, DEFAULT_TEXT, DEFAULT_TEXT, "Description of invalid row is kept")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("migrationTestcases")
+    void testInit_MigratesNotNullDescription(MigrationTestcase testcase) throws SQLException {
+        SQLiteDataSource dataSource = new SQLiteDataSource();
+        dataSource.setUrl("jdbc:sqlite:" + tempDir.resolve("coins.db"));
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("""
+                CREATE TABLE euroCoins (
+                    coin_id TEXT PRIMARY KEY,
+                    year INTEGER NOT NULL,
+                    coin_value INTEGER NOT NULL,
+                    mint_country TEXT NOT NULL,
+                    mint TEXT,
+                    description TEXT NOT NULL,
+                    collection_id TEXT NOT NULL
+                )
+                """);
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO euroCoins VALUES ('coin-1', ?, 200, 'DE', 'A', ?, 'collection-1')")) {
+                insert.setInt(1, testcase.year);
+                insert.setString(2, testcase.storedDescription);
+                insert.executeUpdate();
+            }
+        }
+
+        new SqliteInitializer(dataSource, tableNames).init();
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            try (ResultSet resultSet = statement.executeQuery("SELECT description FROM euroCoins WHERE coin_id = 'coin-1'")) {
+                assertTrue(resultSet.next(), "Row lost during migration for: " + testcase.description);
+                assertEquals(testcase.expectedDescription, resultSet.getString("description"),
+                    "Description mismatch for: " + testcase.description);
+            }
+            try (ResultSet resultSet = statement.executeQuery("PRAGMA table_info(euroCoins)")) {
+                while (resultSet.next()) {
+                    if ("description".equals(resultSet.getString("name"))) {
+                        assertEquals(0, resultSet.getInt("notnull"), "Column still NOT NULL for: " + testcase.description);
+                    }
+                }
+            }
+        }
+
+        assertDoesNotThrow(() -> new SqliteInitializer(dataSource, tableNames).init(), "Second init must be a no-op");
+    }
+
+    private static EuroCoin coin(int year, String description, String collectionId) {
+        return new EuroCoinBuilder()
+            .setYear(year)
+            .setValue(CoinValue.TWO_EUROS)
+            .setMintCountry(CoinCountry.GERMANY)
+            .setMint(Mint.BERLIN)
+            .setDescription(description != null ? new CoinDescription(description) : null)
+            .setCollectionId(collectionId)
+            .build();
+    }
+
+    private static List<Integer> searchYears(EuroCoinSqliteRepository repository, Connection connection, String text, List<String> collectionIds) throws SQLException {
+        return repository.search(connection, text, collectionIds, 10, 0).stream().map(EuroCoin::getYear).sorted().toList();
+    }
+
+    @Test
+    void testInit_SearchIndexFollowsCoinTable() throws SQLException {
+        SQLiteDataSource dataSource = new SQLiteDataSource();
+        dataSource.setUrl("jdbc:sqlite:" + tempDir.resolve("coins.db"));
+        new SqliteInitializer(dataSource, tableNames).init();
+        EuroCoinSqliteRepository repository = new EuroCoinSqliteRepository("euroCoins", new EuroCoinFactory());
+
+        try (Connection connection = dataSource.getConnection()) {
+            repository.create(connection, coin(2002, "Fehlprägung am Rand", "collection-1"));
+            repository.create(connection, coin(2003, "Randfehler, stark gebraucht", "collection-1"));
+            repository.create(connection, coin(2004, null, "collection-1"));
+            repository.create(connection, coin(2005, "Fehlpragung", "collection-2"));
+
+            assertEquals(List.of(2002, 2005), searchYears(repository, connection, "fehlpragung", List.of("collection-1", "collection-2")),
+                "Diacritics must be ignored");
+            assertEquals(List.of(2002), searchYears(repository, connection, "Fehlprä", List.of("collection-1")),
+                "Search must be scoped to the given collections");
+            assertEquals(List.of(2003), searchYears(repository, connection, "rand gebr", List.of("collection-1")),
+                "All words must match as prefixes");
+            assertEquals(List.of(), searchYears(repository, connection, "Münze", List.of("collection-1")),
+                "Default descriptions must not be indexed");
+
+            repository.update(connection, coin(2002, null, "collection-1"));
+            repository.update(connection, coin(2004, "Fehlprägung im Kern", "collection-1"));
+            repository.delete(connection, coin(2003, null, "collection-1").getId());
+
+            assertEquals(List.of(2004), searchYears(repository, connection, "Fehlprägung", List.of("collection-1")),
+                "Index must follow updates");
+            assertEquals(List.of(), searchYears(repository, connection, "Randfehler", List.of("collection-1")),
+                "Index must follow deletes");
+        }
+
+        new SqliteInitializer(dataSource, tableNames).init();
+        try (Connection connection = dataSource.getConnection()) {
+            assertEquals(List.of(2004), searchYears(repository, connection, "Kern", List.of("collection-1")),
+                "Second init must keep the index");
+        }
+    }
+
+    @Test
+    void testInit_SearchIndexFilledForExistingRows() throws SQLException {
+        SQLiteDataSource dataSource = new SQLiteDataSource();
+        dataSource.setUrl("jdbc:sqlite:" + tempDir.resolve("coins.db"));
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("""
+                CREATE TABLE euroCoins (
+                    coin_id TEXT PRIMARY KEY,
+                    year INTEGER NOT NULL,
+                    coin_value INTEGER NOT NULL,
+                    mint_country TEXT NOT NULL,
+                    mint TEXT,
+                    description TEXT,
+                    collection_id TEXT NOT NULL
+                )
+                """);
+            statement.execute("INSERT INTO euroCoins VALUES ('coin-1', 2002, 200, 'DE', 'A', 'Doppelschlag', 'collection-1')");
+        }
+
+        new SqliteInitializer(dataSource, tableNames).init();
+
+        EuroCoinSqliteRepository repository = new EuroCoinSqliteRepository("euroCoins", new EuroCoinFactory());
+        try (Connection connection = dataSource.getConnection()) {
+            assertEquals(List.of(2002), searchYears(repository, connection, "doppel", List.of("collection-1")),
+                "Existing descriptions must be indexed when the index is created");
+        }
+    }
+
+    private record AutoVacuumTestcase(
+        boolean existingDatabase,
+        boolean convert,
+        int expectedAutoVacuum,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<AutoVacuumTestcase> autoVacuumTestcases() {
+        return Stream.of(
+            new AutoVacuumTestcase(false, false, 2, "New database is created with incremental auto vacuum"),
+            new AutoVacuumTestcase(true, false, 0, "Existing database keeps its auto vacuum mode"),
+            new AutoVacuumTestcase(true, true, 2, "Existing database is converted on request")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("autoVacuumTestcases")
+    void testInit_AutoVacuum(AutoVacuumTestcase testcase) throws SQLException {
+        SQLiteDataSource dataSource = new SQLiteDataSource();
+        dataSource.setUrl("jdbc:sqlite:" + tempDir.resolve("coins.db"));
+        if (testcase.existingDatabase) {
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE legacy (id INTEGER PRIMARY KEY)");
+            }
+        }
+        SqliteInitializer initializer = new SqliteInitializer(dataSource, tableNames);
+
+        initializer.init();
+        if (testcase.convert) {
+            assertTrue(initializer.convertToIncrementalVacuum());
+            assertFalse(initializer.convertToIncrementalVacuum(), "Converted database must not be vacuumed again");
+        }
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("PRAGMA auto_vacuum")) {
+            assertTrue(resultSet.next());
+            assertEquals(testcase.expectedAutoVacuum, resultSet.getInt(1));
+        }
+    }
+
+    @Test
+    void testInit_FilterQueriesRunOnSchema() throws SQLException {
+        SQLiteDataSource dataSource = new SQLiteDataSource();
+        dataSource.setUrl("jdbc:sqlite:" + tempDir.resolve("coins.db"));
+        new SqliteInitializer(dataSource, tableNames).init();
+        EuroCoinSqliteRepository repository = new EuroCoinSqliteRepository("euroCoins", new EuroCoinFactory());
+        CoinFilter filter = new CoinFilter(null, CoinCountry.GERMANY, CoinValue.TWO_EUROS, 2003, 2010, Mint.BERLIN);
+
+        try (Connection connection = dataSource.getConnection()) {
+            repository.create(connection, coin(2002, null, "collection-1"));
+            repository.create(connection, coin(2004, null, "collection-1"));
+            repository.create(connection, coin(2008, null, "collection-2"));
+            repository.create(connection, coin(2009, null, "collection-3"));
+
+            assertEquals(List.of(2002, 2004), repository.getAllOfCollection(connection, "collection-1").stream().map(EuroCoin::getYear).sorted().toList(),
+                "Coins of other collections must not be read");
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("EXPLAIN QUERY PLAN SELECT coin_id FROM euroCoins WHERE collection_id = 'collection-1'")) {
+                assertTrue(resultSet.next());
+                assertTrue(resultSet.getString("detail").contains("USING"), "Collection read must use an index");
+            }
+
+            List<String> scope = List.of("collection-1", "collection-2");
+            assertEquals(List.of(2004, 2008), repository.filter(connection, filter, scope, 10, 0).stream().map(EuroCoin::getYear).toList(),
+                "Filter must combine criteria and scope");
+            assertEquals(List.of(2008), repository.filter(connection, filter, scope, 10, 1).stream().map(EuroCoin::getYear).toList(),
+                "Offset must skip matches");
+
+            CoinFacets facets = repository.getFacets(connection, filter, scope);
+            assertEquals(2, facets.getTotal(), "Total must count matches in scope");
+            assertEquals(Map.of(2002, 1, 2004, 1, 2008, 1), facets.getByYear(), "Year facet must ignore the year range");
+
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM sqlite_master WHERE type = 'index' AND name LIKE 'idx_euroCoins_collection_%'")) {
+                assertTrue(resultSet.next());
+                assertEquals(3, resultSet.getInt(1), "Statistics and filter indexes must exist");
+            }
+        }
+    }
+
+    private static List<String> changes(Connection connection, String ownerId, long since) throws SQLException {
+        return new ChangeLogSqliteRepository("changeLog").getChangesSince(connection, ownerId, since, 100).stream()
+            .map(entry -> entry.entity() + ":" + entry.entityId() + (entry.deleted() ? ":deleted" : ""))
+            .toList();
+    }
+
+    @Test
+    void testInit_ChangeLogFollowsWrites() throws SQLException {
+        SQLiteDataSource sqliteDataSource = new SQLiteDataSource();
+        sqliteDataSource.setUrl("jdbc:sqlite:" + tempDir.resolve("coins.db"));
+        DataSource dataSource = new DataSourceAutoActivateForeignKeys(sqliteDataSource);
+        new SqliteInitializer(dataSource, tableNames).init();
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO users VALUES ('user-1', 'alice'), ('user-2', 'bob')");
+            statement.execute("INSERT INTO euroCoinCollectionGroups VALUES ('group-1', 'Euro', 'user-1'), ('group-2', 'Other', 'user-2')");
+            statement.execute("INSERT INTO euroCoinCollections VALUES ('collection-1', 'Germany', 'group-1'), ('collection-2', 'France', 'group-1')");
+            statement.execute("""
+                INSERT INTO euroCoins VALUES
+                    ('coin-1', 2002, 200, 'DE', 'A', NULL, 'collection-1'),
+                    ('coin-2', 2003, 200, 'FR', NULL, NULL, 'collection-2')
+                """);
+
+            assertEquals(List.of("GROUP:group-1", "COLLECTION:collection-1", "COLLECTION:collection-2", "COIN:coin-1", "COIN:coin-2"),
+                changes(connection, "user-1", 0), "Inserts must be logged in write order");
+            assertEquals(List.of("GROUP:group-2"), changes(connection, "user-2", 0), "Changes must be scoped to the owner");
+
+            long version = new ChangeLogSqliteRepository("changeLog").getChangesSince(connection, "user-1", 0, 100).getLast().version();
+            statement.execute("UPDATE euroCoinCollectionGroups SET name = 'Euro coins' WHERE group_id = 'group-1'");
+            statement.execute("DELETE FROM euroCoins WHERE coin_id = 'coin-1'");
+            assertEquals(List.of("GROUP:group-1", "COIN:coin-1:deleted"), changes(connection, "user-1", version),
+                "Updates and deletes must be logged after the version");
+            assertEquals(List.of("COLLECTION:collection-1", "COLLECTION:collection-2", "COIN:coin-2", "GROUP:group-1", "COIN:coin-1:deleted"),
+                changes(connection, "user-1", 0), "Every entity must be logged once with its latest change");
+
+            statement.execute("DELETE FROM euroCoinCollectionGroups WHERE group_id = 'group-1'");
+            assertEquals(List.of("GROUP:group-1:deleted"), changes(connection, "user-1", 0),
+                "A cascading delete must leave only the tombstone of the deleted parent");
+
+            statement.execute("DELETE FROM users WHERE user_id = 'user-2'");
+            assertEquals(List.of(), changes(connection, "user-2", 0), "Deleting a user must drop the user's log");
+        }
+
+        new SqliteInitializer(dataSource, tableNames).init();
+        try (Connection connection = dataSource.getConnection()) {
+            assertEquals(List.of("GROUP:group-1:deleted"), changes(connection, "user-1", 0), "Second init must keep the log");
+        }
+    }
+
+    @Test
+    void testInit_ChangeLogFilledForExistingRows() throws SQLException {
+        SQLiteDataSource dataSource = new SQLiteDataSource();
+        dataSource.setUrl("jdbc:sqlite:" + tempDir.resolve("coins.db"));
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE euroCoinCollectionGroups (group_id TEXT PRIMARY KEY, name TEXT NOT NULL UNIQUE, owner_id TEXT NOT NULL)");
+            statement.execute("CREATE TABLE euroCoinCollections (collection_id TEXT PRIMARY KEY, name TEXT NOT NULL UNIQUE, group_id TEXT NOT NULL)");
+            statement.execute("INSERT INTO euroCoinCollectionGroups VALUES ('group-1', 'Euro', 'user-1')");
+            statement.execute("INSERT INTO euroCoinCollections VALUES ('collection-1', 'Germany', 'group-1')");
+        }
+
+        new SqliteInitializer(dataSource, tableNames).init();
+
+        try (Connection connection = dataSource.getConnection()) {
+            assertEquals(List.of("GROUP:group-1", "COLLECTION:collection-1"), changes(connection, "user-1", 0),
+                "Existing rows must be logged when the log is created");
+        }
+    }
+
+    @Test
+    void testRestartChangeLog_VersionsContinueAfterRestore() throws SQLException, IOException {
+        Path file = tempDir.resolve("coins.db");
+        SQLiteDataSource sqliteDataSource = new SQLiteDataSource();
+        sqliteDataSource.setUrl("jdbc:sqlite:" + file);
+        DataSource dataSource = new DataSourceAutoActivateForeignKeys(sqliteDataSource);
+        SqliteInitializer initializer = new SqliteInitializer(dataSource, tableNames);
+        initializer.init();
+        ChangeLogSqliteRepository changeLogRepository = new ChangeLogSqliteRepository("changeLog");
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO users VALUES ('user-1', 'alice')");
+            statement.execute("INSERT INTO euroCoinCollectionGroups VALUES ('group-1', 'Euro', 'user-1')");
+        }
+        Path backup = Files.copy(file, tempDir.resolve("backup.db"));
+        long versionBeforeRestore;
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO euroCoinCollections VALUES ('collection-1', 'Germany', 'group-1')");
+            statement.execute("INSERT INTO euroCoinCollectionGroups VALUES ('group-2', 'Other', 'user-1')");
+            versionBeforeRestore = changeLogRepository.getLatestVersion(connection);
+        }
+
+        SqliteInitializer.ChangeLogState previous = initializer.readChangeLogState();
+        Files.copy(backup, file, StandardCopyOption.REPLACE_EXISTING);
+        initializer.init();
+        initializer.restartChangeLog(previous);
+
+        try (Connection connection = dataSource.getConnection()) {
+            assertEquals(versionBeforeRestore, previous.version());
+            assertEquals(List.of("GROUP:group-1", "COLLECTION:collection-1:deleted", "GROUP:group-2:deleted"),
+                changes(connection, "user-1", versionBeforeRestore),
+                "A sync from before the restore must see the restored content and tombstones of the lost entities");
+            assertTrue(changeLogRepository.getLatestVersion(connection) > versionBeforeRestore, "Versions must keep growing");
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package io.github.lstramke.coincollector.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+
+import io.github.lstramke.coincollector.exceptions.batchExceptions.BatchOperationException;
+import io.github.lstramke.coincollector.exceptions.euroCoinCollectionGroupException.EuroCoinCollectionGroupNotFoundException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinAlreadyExistsException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinSaveException;
+import io.github.lstramke.coincollector.model.BatchOperation;
+import io.github.lstramke.coincollector.model.BatchResult;
+import io.github.lstramke.coincollector.model.ChangeEvent.Action;
+import io.github.lstramke.coincollector.model.ChangeEvent.Entity;
+import io.github.lstramke.coincollector.model.EuroCoinCollectionGroup;
+import io.github.lstramke.coincollector.services.BatchService;
+import tools.jackson.databind.ObjectMapper;
+
+public class BatchHandlerTest {
+
+    private static final String USER_ID = "user-1";
+    private static final EuroCoinCollectionGroup GROUP = new EuroCoinCollectionGroup("Euro", USER_ID);
+    private static final String GROUP_OPERATIONS = "{\"operations\":["
+        + "{\"action\":\"create\",\"entity\":\"group\",\"group\":{\"name\":\"Euro\"}},"
+        + "{\"action\":\"delete\",\"entity\":\"coin\",\"id\":\"coin-1\"}]}";
+    private static final List<BatchOperation> EXPECTED_OPERATIONS = List.of(
+        BatchOperation.createGroup("Euro"), BatchOperation.deleteCoin("coin-1"));
+
+    private record BatchTestcase(
+        String method,
+        String body,
+        RuntimeException serviceException,
+        int expectedStatus,
+        String expectedBody,
+        boolean expectServiceCall,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<BatchTestcase> batchTestcases() {
+        String tooMany = IntStream.range(0, 101)
+            .mapToObj(i -> "{\"action\":\"delete\",\"entity\":\"coin\",\"id\":\"coin-" + i + "\"}")
+            .collect(Collectors.joining(",", "{\"operations\":[", "]}"));
+        return Stream.of(
+            new BatchTestcase("POST", GROUP_OPERATIONS, null, 200,
+                "{\"results\":[{\"status\":201,\"body\":{\"id\":\"" + GROUP.getId() + "\",\"name\":\"Euro\",\"collections\":[]}},{\"status\":204,\"body\":null}]}",
+                true, "Operations are executed and their results returned"),
+            new BatchTestcase("POST", GROUP_OPERATIONS, new BatchOperationException(1, new EuroCoinCollectionGroupNotFoundException("group-1")), 404,
+                "{\"error\":\"Resource not found\",\"operation\":1}", true, "Missing entity names the operation"),
+            new BatchTestcase("POST", GROUP_OPERATIONS, new BatchOperationException(0, new EuroCoinAlreadyExistsException("coin-1")), 409,
+                "{\"error\":\"Resource already exists\",\"operation\":0}", true, "Existing entity names the operation"),
+            new BatchTestcase("POST", GROUP_OPERATIONS, new BatchOperationException(1, new EuroCoinSaveException("coin-1")), 500,
+                "{\"error\":\"Internal server error\",\"operation\":1}", true, "Failing write names the operation"),
+            new BatchTestcase("POST", "not json", null, 400, "{\"error\":\"Invalid request body\"}", false, "Invalid JSON"),
+            new BatchTestcase("POST", "{\"operations\":[]}", null, 400, "{\"error\":\"Request is not valid\"}", false, "Empty batch"),
+            new BatchTestcase("POST", tooMany, null, 400, "{\"error\":\"Request is not valid\"}", false, "Too many operations"),
+            new BatchTestcase("POST", "{\"operations\":[{\"action\":\"create\",\"entity\":\"group\",\"group\":{\"name\":\"Euro\"}},{\"action\":\"move\",\"entity\":\"coin\",\"id\":\"coin-1\"}]}",
+                null, 400, "{\"error\":\"Request is not valid\",\"operation\":1}", false, "Unknown action"),
+            new BatchTestcase("POST", "{\"operations\":[{\"action\":\"delete\",\"entity\":\"group\"}]}",
+                null, 400, "{\"error\":\"Request is not valid\",\"operation\":0}", false, "Delete without id"),
+            new BatchTestcase("POST", "{\"operations\":[{\"action\":\"create\",\"entity\":\"coin\",\"coin\":{\"year\":2002,\"value\":3,\"country\":\"DE\",\"collectionId\":\"c\"}}]}",
+                null, 400, "{\"error\":\"Request is not valid\",\"operation\":0}", false, "Invalid coin"),
+            new BatchTestcase("GET", null, null, 405, "", false, "Unsupported method")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("batchTestcases")
+    void testBatch(BatchTestcase testcase) throws IOException {
+        BatchService batchService = mock(BatchService.class);
+        if (testcase.serviceException != null) {
+            when(batchService.execute(USER_ID, EXPECTED_OPERATIONS)).thenThrow(testcase.serviceException);
+        } else {
+            lenient().when(batchService.execute(USER_ID, EXPECTED_OPERATIONS)).thenReturn(List.of(
+                new BatchResult(Action.CREATED, Entity.GROUP, null, null, GROUP),
+                new BatchResult(Action.DELETED, Entity.COIN, null, null, null)));
+        }
+        BatchHandler handler = new BatchHandler(batchService, new ObjectMapper());
+        HttpExchange exchange = mock(HttpExchange.class);
+        ByteArrayOutputStream responseStream = new ByteArrayOutputStream();
+        when(exchange.getRequestMethod()).thenReturn(testcase.method);
+        when(exchange.getRequestURI()).thenReturn(URI.create("/api/batch"));
+        lenient().when(exchange.getAttribute("userId")).thenReturn(USER_ID);
+        lenient().when(exchange.getRequestBody()).thenReturn(new ByteArrayInputStream(
+            testcase.body != null ? testcase.body.getBytes(StandardCharsets.UTF_8) : new byte[0]));
+        lenient().when(exchange.getResponseHeaders()).thenReturn(new Headers());
+        lenient().when(exchange.getResponseBody()).thenReturn(responseStream);
+
+        handler.handle(exchange);
+
+        verify(exchange).sendResponseHeaders(eq(testcase.expectedStatus), anyLong());
+        verify(exchange).close();
+        assertEquals(testcase.expectedBody, responseStream.toString(StandardCharsets.UTF_8), "Body mismatch for: " + testcase.description);
+        if (!testcase.expectServiceCall) {
+            verify(batchService, never()).execute(any(), any());
+        }
+    }
+}
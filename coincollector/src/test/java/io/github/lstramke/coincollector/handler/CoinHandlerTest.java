@@ -2,6 +2,7 @@ package io.github.lstramke.coincollector.handler;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.any;
@@ -11,13 +12,16 @@ import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URI;
+import java.util.List;
 import java.util.stream.Stream;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -31,19 +35,25 @@ import io.github.lstramke.coincollector.exceptions.euroCoinCollectionGroupExcept
 import io.github.lstramke.coincollector.exceptions.euroCoinCollectionGroupException.EuroCoinCollectionGroupNotFoundException;
 import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinAlreadyExistsException;
 import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinDeleteException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinFilterException;
 import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinNotFoundException;
 import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinSaveException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinSearchException;
 import io.github.lstramke.coincollector.model.CoinCountry;
 import io.github.lstramke.coincollector.model.CoinDescription;
+import io.github.lstramke.coincollector.model.CoinFacets;
+import io.github.lstramke.coincollector.model.CoinFilter;
 import io.github.lstramke.coincollector.model.CoinValue;
 import io.github.lstramke.coincollector.model.EuroCoin;
 import io.github.lstramke.coincollector.model.EuroCoinCollection;
 import io.github.lstramke.coincollector.model.EuroCoinCollectionGroup;
+import io.github.lstramke.coincollector.model.FilteredCoins;
 import io.github.lstramke.coincollector.model.Mint;
 import io.github.lstramke.coincollector.model.DTOs.Requests.CoinActionRequest;
 import io.github.lstramke.coincollector.services.EuroCoinCollectionGroupStorageService;
 import io.github.lstramke.coincollector.services.EuroCoinCollectionStorageService;
 import io.github.lstramke.coincollector.services.EuroCoinStorageService;
+import io.github.lstramke.coincollector.services.OwnershipIndexImpl;
 import tools.jackson.core.JacksonException;
 import tools.jackson.databind.ObjectMapper;
 
@@ -1986,6 +1996,134 @@ public class CoinHandlerTest {
         );
     }
     
+    private static Stream<CoinHandleTestcase> coinSearchTestcases() {
+        String invalid = "{\"error\":\"Request is not valid\"}";
+        return Stream.of(
+            new CoinHandleTestcase(
+                "GET",
+                PREFIX + "/search?q=rand",
+                null,
+                USER_ID,
+                (coinService, collectionService, groupService, mapper) -> {
+                    when(coinService.search("rand", List.of(), 21, 0)).thenReturn(List.of());
+                    when(mapper.writeValueAsString(any())).thenReturn("{\"coins\":[],\"limit\":20,\"offset\":0,\"hasMore\":false}");
+                },
+                200,
+                "{\"coins\":[],\"limit\":20,\"offset\":0,\"hasMore\":false}",
+                "SEARCH: happy path with default paging"
+            ),
+            new CoinHandleTestcase(
+                "GET",
+                PREFIX + "/search?q=gro%C3%9Fe+M%C3%BCnze&limit=5&offset=10",
+                null,
+                USER_ID,
+                (coinService, collectionService, groupService, mapper) -> {
+                    when(coinService.search("große Münze", List.of(), 6, 10)).thenReturn(List.of());
+                    when(mapper.writeValueAsString(any())).thenReturn("{}");
+                },
+                200,
+                "{}",
+                "SEARCH: decoded text and explicit paging"
+            ),
+            new CoinHandleTestcase("GET", PREFIX + "/search", null, USER_ID,
+                (coinService, collectionService, groupService, mapper) -> {}, 400, invalid, "SEARCH: missing text"),
+            new CoinHandleTestcase("GET", PREFIX + "/search?q=+", null, USER_ID,
+                (coinService, collectionService, groupService, mapper) -> {}, 400, invalid, "SEARCH: blank text"),
+            new CoinHandleTestcase("GET", PREFIX + "/search?q=rand&limit=abc", null, USER_ID,
+                (coinService, collectionService, groupService, mapper) -> {}, 400, invalid, "SEARCH: limit not a number"),
+            new CoinHandleTestcase("GET", PREFIX + "/search?q=rand&limit=0", null, USER_ID,
+                (coinService, collectionService, groupService, mapper) -> {}, 400, invalid, "SEARCH: limit too small"),
+            new CoinHandleTestcase("GET", PREFIX + "/search?q=rand&limit=101", null, USER_ID,
+                (coinService, collectionService, groupService, mapper) -> {}, 400, invalid, "SEARCH: limit too large"),
+            new CoinHandleTestcase("GET", PREFIX + "/search?q=rand&offset=-1", null, USER_ID,
+                (coinService, collectionService, groupService, mapper) -> {}, 400, invalid, "SEARCH: negative offset"),
+            new CoinHandleTestcase(
+                "GET",
+                PREFIX + "/search?q=rand",
+                null,
+                USER_ID,
+                (coinService, collectionService, groupService, mapper) -> {
+                    when(coinService.search("rand", List.of(), 21, 0)).thenThrow(new EuroCoinSearchException());
+                },
+                500,
+                "{\"error\":\"Internal server error\"}",
+                "SEARCH: search fails"
+            ),
+            new CoinHandleTestcase(
+                "GET",
+                PREFIX + "/search?q=rand",
+                null,
+                USER_ID,
+                (coinService, collectionService, groupService, mapper) -> {
+                    when(coinService.search("rand", List.of(), 21, 0)).thenReturn(List.of());
+                    when(mapper.writeValueAsString(any())).thenThrow(mock(JacksonException.class));
+                },
+                500,
+                "{\"error\":\"Internal server error\"}",
+                "SEARCH: serialization fails"
+            )
+        );
+    }
+
+    private static Stream<CoinHandleTestcase> coinFilterTestcases() {
+        String invalid = "{\"error\":\"Request is not valid\"}";
+        return Stream.of(
+            new CoinHandleTestcase(
+                "GET",
+                PREFIX,
+                null,
+                USER_ID,
+                (coinService, collectionService, groupService, mapper) -> {
+                    when(coinService.filter(CoinFilter.NONE, List.of(), 20, 0)).thenReturn(new FilteredCoins(List.of(), new CoinFacets(CoinFilter.NONE)));
+                    when(mapper.writeValueAsString(any())).thenReturn("{\"coins\":[],\"total\":0}");
+                },
+                200,
+                "{\"coins\":[],\"total\":0}",
+                "FILTER: no criteria with default paging"
+            ),
+            new CoinHandleTestcase(
+                "GET",
+                PREFIX + "?country=DE&value=200&yearFrom=2002&yearTo=2010&mint=A&collection=collection-1&limit=50&offset=50",
+                null,
+                USER_ID,
+                (coinService, collectionService, groupService, mapper) -> {
+                    var filter = new CoinFilter("collection-1", CoinCountry.GERMANY, CoinValue.TWO_EUROS, 2002, 2010, Mint.BERLIN);
+                    when(coinService.filter(filter, List.of(), 50, 50)).thenReturn(new FilteredCoins(List.of(), new CoinFacets(filter)));
+                    when(mapper.writeValueAsString(any())).thenReturn("{}");
+                },
+                200,
+                "{}",
+                "FILTER: all criteria combined"
+            ),
+            new CoinHandleTestcase("GET", PREFIX + "?country=XX", null, USER_ID,
+                (coinService, collectionService, groupService, mapper) -> {}, 400, invalid, "FILTER: unknown country"),
+            new CoinHandleTestcase("GET", PREFIX + "?value=3", null, USER_ID,
+                (coinService, collectionService, groupService, mapper) -> {}, 400, invalid, "FILTER: unknown value"),
+            new CoinHandleTestcase("GET", PREFIX + "?yearFrom=abc", null, USER_ID,
+                (coinService, collectionService, groupService, mapper) -> {}, 400, invalid, "FILTER: year not a number"),
+            new CoinHandleTestcase("GET", PREFIX + "?yearFrom=2010&yearTo=2002", null, USER_ID,
+                (coinService, collectionService, groupService, mapper) -> {}, 400, invalid, "FILTER: empty year range"),
+            new CoinHandleTestcase("GET", PREFIX + "?mint=X", null, USER_ID,
+                (coinService, collectionService, groupService, mapper) -> {}, 400, invalid, "FILTER: unknown mint"),
+            new CoinHandleTestcase("GET", PREFIX + "?collection=", null, USER_ID,
+                (coinService, collectionService, groupService, mapper) -> {}, 400, invalid, "FILTER: blank collection"),
+            new CoinHandleTestcase("GET", PREFIX + "?limit=500", null, USER_ID,
+                (coinService, collectionService, groupService, mapper) -> {}, 400, invalid, "FILTER: limit too large"),
+            new CoinHandleTestcase(
+                "GET",
+                PREFIX + "?country=DE",
+                null,
+                USER_ID,
+                (coinService, collectionService, groupService, mapper) -> {
+                    when(coinService.filter(any(), any(), anyInt(), anyInt())).thenThrow(new EuroCoinFilterException());
+                },
+                500,
+                "{\"error\":\"Internal server error\"}",
+                "FILTER: filtering fails"
+            )
+        );
+    }
+
     private static Stream<CoinHandleTestcase> coinHandleTestcases() {
         return Stream.concat(
             Stream.of(
@@ -2002,6 +2140,8 @@ public class CoinHandlerTest {
             ),
             Stream.of(
                 coinGetTestcases(),
+                coinSearchTestcases(),
+                coinFilterTestcases(),
                 coinCreateTestcases(),
                 coinUpdateTestcases(),
                 coinDeleteTestcases()
@@ -2016,7 +2156,7 @@ public class CoinHandlerTest {
         var groupService = mock(EuroCoinCollectionGroupStorageService.class);
         var coinService = mock(EuroCoinStorageService.class);
         var mapper = mock(ObjectMapper.class);
-        CoinHandler handler = new CoinHandler(coinService, collectionService, groupService, mapper);
+        CoinHandler handler = new CoinHandler(coinService, collectionService, groupService, new OwnershipIndexImpl(), mapper);
         var responseStream = new ByteArrayOutputStream();
 
         HttpExchange exchange = mock(HttpExchange.class);
@@ -2046,4 +2186,60 @@ public class CoinHandlerTest {
             assertEquals(testcase.expectedResponseBody, actual);
         }
     }
+
+    @Test
+    void testOwnershipResolvedFromIndexWithoutStorageLookup() throws Exception {
+        var collectionService = mock(EuroCoinCollectionStorageService.class);
+        var groupService = mock(EuroCoinCollectionGroupStorageService.class);
+        var coinService = mock(EuroCoinStorageService.class);
+        var mapper = mock(ObjectMapper.class);
+        var ownershipIndex = new OwnershipIndexImpl();
+        ownershipIndex.putGroup("group-1", "other-user");
+        ownershipIndex.putCollection("collection-1", "group-1");
+        CoinHandler handler = new CoinHandler(coinService, collectionService, groupService, ownershipIndex, mapper);
+
+        var mockCoin = createMockCoin(VALID_UUID, 2002, CoinValue.ONE_EURO, CoinCountry.GERMANY, Mint.BERLIN, "collection-1", "description");
+        when(coinService.getById(VALID_UUID)).thenReturn(mockCoin);
+
+        var responseStream = new ByteArrayOutputStream();
+        HttpExchange exchange = mock(HttpExchange.class);
+        lenient().when(exchange.getResponseHeaders()).thenReturn(new Headers());
+        when(exchange.getRequestMethod()).thenReturn("GET");
+        when(exchange.getRequestURI()).thenReturn(URI.create(PREFIX + "/" + VALID_UUID));
+        when(exchange.getAttribute("userId")).thenReturn(USER_ID);
+        when(exchange.getResponseBody()).thenReturn(responseStream);
+
+        handler.handle(exchange);
+
+        verify(exchange).sendResponseHeaders(eq(404), anyLong());
+        verify(collectionService, never()).getById(any());
+        verify(groupService, never()).getById(any());
+    }
+
+    @Test
+    void testSearchScopedToCollectionsOfUser() throws Exception {
+        var coinService = mock(EuroCoinStorageService.class);
+        var mapper = mock(ObjectMapper.class);
+        var ownershipIndex = new OwnershipIndexImpl();
+        ownershipIndex.putGroup("group-1", USER_ID);
+        ownershipIndex.putGroup("group-2", "other-user");
+        ownershipIndex.putCollection("collection-1", "group-1");
+        ownershipIndex.putCollection("collection-2", "group-2");
+        CoinHandler handler = new CoinHandler(coinService, mock(EuroCoinCollectionStorageService.class), mock(EuroCoinCollectionGroupStorageService.class), ownershipIndex, mapper);
+
+        when(coinService.search("rand", List.of("collection-1"), 21, 0)).thenReturn(List.of());
+        when(mapper.writeValueAsString(any())).thenReturn("{}");
+
+        HttpExchange exchange = mock(HttpExchange.class);
+        lenient().when(exchange.getResponseHeaders()).thenReturn(new Headers());
+        when(exchange.getRequestMethod()).thenReturn("GET");
+        when(exchange.getRequestURI()).thenReturn(URI.create(PREFIX + "/search?q=rand"));
+        when(exchange.getAttribute("userId")).thenReturn(USER_ID);
+        when(exchange.getResponseBody()).thenReturn(new ByteArrayOutputStream());
+
+        handler.handle(exchange);
+
+        verify(exchange).sendResponseHeaders(eq(200), anyLong());
+        verify(coinService).search("rand", List.of("collection-1"), 21, 0);
+    }
 }
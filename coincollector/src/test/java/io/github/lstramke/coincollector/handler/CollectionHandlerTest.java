@@ -4,6 +4,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URI;
+import java.util.BitSet;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -34,11 +35,18 @@ import io.github.lstramke.coincollector.exceptions.euroCoinCollectionException.E
 import io.github.lstramke.coincollector.exceptions.euroCoinCollectionException.EuroCoinCollectionSaveException;
 import io.github.lstramke.coincollector.exceptions.euroCoinCollectionGroupException.EuroCoinCollectionGroupGetByIdException;
 import io.github.lstramke.coincollector.exceptions.euroCoinCollectionGroupException.EuroCoinCollectionGroupNotFoundException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinCompletenessException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinStatisticsException;
+import io.github.lstramke.coincollector.model.CatalogCompleteness;
+import io.github.lstramke.coincollector.model.CoinStatistics;
+import io.github.lstramke.coincollector.model.EuroCoinCatalog;
 import io.github.lstramke.coincollector.model.EuroCoinCollection;
 import io.github.lstramke.coincollector.model.EuroCoinCollectionGroup;
 import io.github.lstramke.coincollector.model.DTOs.Requests.CreateCollectionRequest;
+import io.github.lstramke.coincollector.services.CatalogService;
 import io.github.lstramke.coincollector.services.EuroCoinCollectionGroupStorageService;
 import io.github.lstramke.coincollector.services.EuroCoinCollectionStorageService;
+import io.github.lstramke.coincollector.services.OwnershipIndexImpl;
 import tools.jackson.core.JacksonException;
 import tools.jackson.databind.ObjectMapper;
 
@@ -654,6 +662,71 @@ class CollectionHandlerTest {
                 404,
                 "{\"error\":\"Resource not found\"}",
                 "DELETE: Owner check failed, returns 404"
+            ),
+            new CollectionHandleTestcase(
+                "GET",
+                PREFIX + "/" + VALID_UUID + "/stats",
+                null,
+                USER_ID,
+                (collectionService, groupService, mapper) -> {
+                    var collectionMock = mock(EuroCoinCollection.class);
+                    when(collectionService.getById(VALID_UUID)).thenReturn(collectionMock);
+                    when(collectionMock.getGroupId()).thenReturn("group-1");
+                    var groupMock = mock(EuroCoinCollectionGroup.class);
+                    when(groupService.getById("group-1")).thenReturn(groupMock);
+                    when(groupMock.getOwnerId()).thenReturn(USER_ID);
+                    when(collectionService.getStatistics(VALID_UUID)).thenReturn(new CoinStatistics());
+                    when(mapper.writeValueAsString(any())).thenReturn("{\"coinCount\":0}");
+                },
+                200,
+                "{\"coinCount\":0}",
+                "GET stats: returns 200 and JSON object"
+            ),
+            new CollectionHandleTestcase(
+                "GET",
+                PREFIX + "/" + VALID_UUID + "/stats",
+                null,
+                USER_ID,
+                (collectionService, groupService, mapper) -> {
+                    var collectionMock = mock(EuroCoinCollection.class);
+                    when(collectionService.getById(VALID_UUID)).thenReturn(collectionMock);
+                    when(collectionMock.getGroupId()).thenReturn("group-1");
+                    var groupMock = mock(EuroCoinCollectionGroup.class);
+                    when(groupService.getById("group-1")).thenReturn(groupMock);
+                    when(groupMock.getOwnerId()).thenReturn("other-user");
+                },
+                404,
+                "{\"error\":\"Resource not found\"}",
+                "GET stats: Owner check failed, returns 404"
+            ),
+            new CollectionHandleTestcase(
+                "GET",
+                PREFIX + "/" + VALID_UUID + "/stats",
+                null,
+                USER_ID,
+                (collectionService, groupService, mapper) ->
+                    when(collectionService.getById(VALID_UUID)).thenThrow(new EuroCoinCollectionNotFoundException(VALID_UUID)),
+                404,
+                "{\"error\":\"Resource not found\"}",
+                "GET stats: unknown collection returns 404"
+            ),
+            new CollectionHandleTestcase(
+                "GET",
+                PREFIX + "/" + VALID_UUID + "/stats",
+                null,
+                USER_ID,
+                (collectionService, groupService, mapper) -> {
+                    var collectionMock = mock(EuroCoinCollection.class);
+                    when(collectionService.getById(VALID_UUID)).thenReturn(collectionMock);
+                    when(collectionMock.getGroupId()).thenReturn("group-1");
+                    var groupMock = mock(EuroCoinCollectionGroup.class);
+                    when(groupService.getById("group-1")).thenReturn(groupMock);
+                    when(groupMock.getOwnerId()).thenReturn(USER_ID);
+                    when(collectionService.getStatistics(VALID_UUID)).thenThrow(new EuroCoinStatisticsException());
+                },
+                500,
+                "{\"error\":\"Internal server error\"}",
+                "GET stats: EuroCoinStatisticsException -> 500"
             )
         );
     }
@@ -664,7 +737,7 @@ class CollectionHandlerTest {
         var collectionService = mock(EuroCoinCollectionStorageService.class);
         var groupService = mock(EuroCoinCollectionGroupStorageService.class);
         var mapper = mock(ObjectMapper.class);
-        CollectionHandler handler = new CollectionHandler(collectionService, groupService, mapper);
+        CollectionHandler handler = new CollectionHandler(collectionService, groupService, new OwnershipIndexImpl(), mock(CatalogService.class), mapper);
         var responseStream = new ByteArrayOutputStream();
 
         HttpExchange exchange = mock(HttpExchange.class);
@@ -694,4 +767,68 @@ class CollectionHandlerTest {
             assertEquals(testcase.expectedResponseBody, actual);
         }
     }
+
+    private record CompletenessTestcase(
+        String ownerId,
+        boolean collectionNotFound,
+        boolean catalogServiceThrows,
+        int expectedStatus,
+        String expectedResponseBody,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<CompletenessTestcase> completenessTestcases() {
+        return Stream.of(
+            new CompletenessTestcase(USER_ID, false, false, 200, "{\"ownedCount\":0}", "GET completeness: returns 200 and JSON object"),
+            new CompletenessTestcase("other-user", false, false, 404, "{\"error\":\"Resource not found\"}", "GET completeness: Owner check failed, returns 404"),
+            new CompletenessTestcase(USER_ID, true, false, 404, "{\"error\":\"Resource not found\"}", "GET completeness: unknown collection returns 404"),
+            new CompletenessTestcase(USER_ID, false, true, 500, "{\"error\":\"Internal server error\"}", "GET completeness: EuroCoinCompletenessException -> 500")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("completenessTestcases")
+    void testHandleCompleteness(CompletenessTestcase testcase) throws Exception {
+        var collectionService = mock(EuroCoinCollectionStorageService.class);
+        var groupService = mock(EuroCoinCollectionGroupStorageService.class);
+        var catalogService = mock(CatalogService.class);
+        var mapper = mock(ObjectMapper.class);
+        CollectionHandler handler = new CollectionHandler(collectionService, groupService, new OwnershipIndexImpl(), catalogService, mapper);
+        var responseStream = new ByteArrayOutputStream();
+
+        HttpExchange exchange = mock(HttpExchange.class);
+        lenient().when(exchange.getResponseHeaders()).thenReturn(new Headers());
+        when(exchange.getRequestMethod()).thenReturn("GET");
+        when(exchange.getRequestURI()).thenReturn(URI.create(PREFIX + "/" + VALID_UUID + "/completeness"));
+        when(exchange.getAttribute("userId")).thenReturn(USER_ID);
+        when(exchange.getResponseBody()).thenReturn(responseStream);
+
+        if (testcase.collectionNotFound) {
+            when(collectionService.getById(VALID_UUID)).thenThrow(new EuroCoinCollectionNotFoundException(VALID_UUID));
+        } else {
+            var collectionMock = mock(EuroCoinCollection.class);
+            when(collectionService.getById(VALID_UUID)).thenReturn(collectionMock);
+            when(collectionMock.getGroupId()).thenReturn("group-1");
+            var groupMock = mock(EuroCoinCollectionGroup.class);
+            when(groupService.getById("group-1")).thenReturn(groupMock);
+            when(groupMock.getOwnerId()).thenReturn(testcase.ownerId);
+        }
+        if (testcase.catalogServiceThrows) {
+            when(catalogService.getCompletenessOfCollection(VALID_UUID)).thenThrow(new EuroCoinCompletenessException());
+        } else {
+            EuroCoinCatalog catalog = EuroCoinCatalog.parse(List.of("FR;2002;2002;200;"), 2002);
+            lenient().when(catalogService.getCompletenessOfCollection(VALID_UUID)).thenReturn(new CatalogCompleteness(catalog, new BitSet()));
+            lenient().when(mapper.writeValueAsString(any())).thenReturn("{\"ownedCount\":0}");
+        }
+
+        handler.handle(exchange);
+
+        verify(exchange).sendResponseHeaders(eq(testcase.expectedStatus), anyLong());
+        assertEquals(testcase.expectedResponseBody, responseStream.toString());
+    }
 }
@@ -0,0 +1,132 @@
+package io.github.lstramke.coincollector.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+
+import io.github.lstramke.coincollector.model.ChangeEvent;
+import io.github.lstramke.coincollector.model.ChangeEvent.Action;
+import io.github.lstramke.coincollector.model.ChangeEvent.Entity;
+import io.github.lstramke.coincollector.services.ChangeEventBus;
+import tools.jackson.databind.ObjectMapper;
+
+public class EventsHandlerTest {
+
+    private static final String USER_ID = "user-1";
+    private static final ChangeEvent EVENT = new ChangeEvent(Entity.COIN, Action.DELETED, "coin-1", "collection-1");
+    private static final String CHANGE_FRAME = "event: change\ndata: {\"entity\":\"coin\",\"action\":\"deleted\",\"id\":\"coin-1\",\"parentId\":\"collection-1\"}\n\n";
+
+    private record StreamTestcase(
+        boolean overflowed,
+        String expectedBody,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<StreamTestcase> streamTestcases() {
+        return Stream.of(
+            new StreamTestcase(false, "retry: 3000\n\n" + CHANGE_FRAME + ": keep-alive\n\n", "Events and keep-alives are streamed until the subscription is closed"),
+            new StreamTestcase(true, "retry: 3000\n\n" + CHANGE_FRAME + ": keep-alive\n\nevent: overflow\ndata: {}\n\n", "Dropped subscription ends the stream with an overflow event")
+        );
+    }
+
+    private static HttpExchange exchange(String method, OutputStream responseStream, Headers headers) {
+        HttpExchange exchange = mock(HttpExchange.class);
+        lenient().when(exchange.getResponseHeaders()).thenReturn(headers);
+        when(exchange.getRequestMethod()).thenReturn(method);
+        when(exchange.getRequestURI()).thenReturn(URI.create("/api/events"));
+        lenient().when(exchange.getAttribute("userId")).thenReturn(USER_ID);
+        lenient().when(exchange.getResponseBody()).thenReturn(responseStream);
+        return exchange;
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("streamTestcases")
+    void testStream(StreamTestcase testcase) throws Exception {
+        var subscription = mock(ChangeEventBus.Subscription.class);
+        when(subscription.poll(15, TimeUnit.SECONDS)).thenReturn(EVENT, null, null);
+        when(subscription.isOverflowed()).thenReturn(false, testcase.overflowed);
+        lenient().when(subscription.isClosed()).thenReturn(false, true);
+        var bus = mock(ChangeEventBus.class);
+        when(bus.subscribe(USER_ID)).thenReturn(subscription);
+        EventsHandler handler = new EventsHandler(bus, new ObjectMapper(), Runnable::run, 15);
+        var responseStream = new ByteArrayOutputStream();
+        Headers headers = new Headers();
+        HttpExchange exchange = exchange("GET", responseStream, headers);
+
+        handler.handle(exchange);
+
+        verify(exchange).sendResponseHeaders(200, 0);
+        assertEquals("text/event-stream; charset=utf-8", headers.getFirst("Content-Type"));
+        assertEquals(testcase.expectedBody, responseStream.toString(StandardCharsets.UTF_8), "Body mismatch for: " + testcase.description);
+        verify(subscription).close();
+        verify(exchange).close();
+    }
+
+    @Test
+    void testStreamEndsWhenClientIsGone() throws Exception {
+        var subscription = mock(ChangeEventBus.Subscription.class);
+        lenient().when(subscription.poll(anyLong(), any())).thenReturn(EVENT);
+        var bus = mock(ChangeEventBus.class);
+        when(bus.subscribe(USER_ID)).thenReturn(subscription);
+        EventsHandler handler = new EventsHandler(bus, new ObjectMapper(), Runnable::run, 15);
+        OutputStream brokenStream = new OutputStream() {
+            private int writes;
+
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                if (writes++ > 0) {
+                    throw new IOException("Broken pipe");
+                }
+            }
+        };
+        HttpExchange exchange = exchange("GET", brokenStream, new Headers());
+
+        handler.handle(exchange);
+
+        verify(subscription).close();
+        verify(exchange).close();
+    }
+
+    @Test
+    void testUnsupportedMethod() throws IOException {
+        var bus = mock(ChangeEventBus.class);
+        EventsHandler handler = new EventsHandler(bus, new ObjectMapper(), Runnable::run, 15);
+        HttpExchange exchange = exchange("POST", new ByteArrayOutputStream(), new Headers());
+
+        handler.handle(exchange);
+
+        verify(exchange).sendResponseHeaders(eq(405), anyLong());
+        verify(bus, never()).subscribe(any());
+    }
+}
@@ -5,6 +5,8 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.List;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.fail;
@@ -33,10 +35,17 @@ import io.github.lstramke.coincollector.exceptions.euroCoinCollectionGroupExcept
 import io.github.lstramke.coincollector.exceptions.euroCoinCollectionGroupException.EuroCoinCollectionGroupNotFoundException;
 import io.github.lstramke.coincollector.exceptions.euroCoinCollectionGroupException.EuroCoinCollectionGroupSaveException;
 import io.github.lstramke.coincollector.exceptions.euroCoinCollectionGroupException.EuroCoinCollectionGroupUpdateException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinCompletenessException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinStatisticsException;
+import io.github.lstramke.coincollector.model.CatalogCompleteness;
+import io.github.lstramke.coincollector.model.CoinStatistics;
+import io.github.lstramke.coincollector.model.EuroCoinCatalog;
 import io.github.lstramke.coincollector.model.EuroCoinCollectionGroup;
 import io.github.lstramke.coincollector.model.DTOs.Requests.CreateGroupRequest;
 import io.github.lstramke.coincollector.model.DTOs.Requests.UpdateGroupRequest;
+import io.github.lstramke.coincollector.services.CatalogService;
 import io.github.lstramke.coincollector.services.EuroCoinCollectionGroupStorageService;
+import io.github.lstramke.coincollector.services.OwnershipIndexImpl;
 import tools.jackson.core.JacksonException;
 import tools.jackson.databind.ObjectMapper;
 
@@ -137,9 +146,9 @@ class GroupHandlerTest {
                 null,
                 USER_ID,
                 (service, mapper) -> {},
-                405,
-                null,
-                "GET with invalid path returns 405 (neither getAll nor getById)"
+                404,
+                "{\"error\":\"Resource not found\"}",
+                "GET with invalid path returns 404 (neither getAll nor getById)"
             ),
             new GroupHandleTestcase(
                 "GET",
@@ -422,6 +431,76 @@ class GroupHandlerTest {
         );
     }
 
+    private static Stream<GroupHandleTestcase> statsTestcases() {
+        return Stream.of(
+            new GroupHandleTestcase(
+                "GET",
+                PREFIX + "/" + VALID_UUID + "/stats",
+                null,
+                USER_ID,
+                (service, mapper) -> {
+                    var groupMock = mock(EuroCoinCollectionGroup.class);
+                    when(groupMock.getOwnerId()).thenReturn(USER_ID);
+                    when(service.getById(VALID_UUID)).thenReturn(groupMock);
+                    when(service.getStatistics(VALID_UUID)).thenReturn(new CoinStatistics());
+                    when(mapper.writeValueAsString(any())).thenReturn("{\"coinCount\":0}");
+                },
+                200,
+                "{\"coinCount\":0}",
+                "GET group stats returns 200 and JSON object"
+            ),
+            new GroupHandleTestcase(
+                "GET",
+                PREFIX + "/" + VALID_UUID + "/stats",
+                null,
+                USER_ID,
+                (service, mapper) -> {
+                    var groupMock = mock(EuroCoinCollectionGroup.class);
+                    when(groupMock.getOwnerId()).thenReturn("other-user");
+                    when(service.getById(VALID_UUID)).thenReturn(groupMock);
+                },
+                404,
+                "{\"error\":\"Resource not found\"}",
+                "GET group stats fails owner check and returns 404"
+            ),
+            new GroupHandleTestcase(
+                "GET",
+                PREFIX + "/" + VALID_UUID + "/stats",
+                null,
+                USER_ID,
+                (service, mapper) -> when(service.getById(VALID_UUID)).thenThrow(new EuroCoinCollectionGroupNotFoundException(VALID_UUID)),
+                404,
+                "{\"error\":\"Resource not found\"}",
+                "GET stats of unknown group returns 404"
+            ),
+            new GroupHandleTestcase(
+                "GET",
+                PREFIX + "/" + VALID_UUID + "/stats",
+                null,
+                USER_ID,
+                (service, mapper) -> {
+                    var groupMock = mock(EuroCoinCollectionGroup.class);
+                    when(groupMock.getOwnerId()).thenReturn(USER_ID);
+                    when(service.getById(VALID_UUID)).thenReturn(groupMock);
+                    when(service.getStatistics(VALID_UUID)).thenThrow(new EuroCoinStatisticsException());
+                },
+                500,
+                "{\"error\":\"Internal server error\"}",
+                "GET group stats triggers StatisticsException and returns 500"
+            ),
+            new GroupHandleTestcase(
+                "GET",
+                PREFIX + "/invalid-id/stats",
+                null,
+                USER_ID,
+                (service, mapper) -> {},
+                404,
+                "{\"error\":\"Resource not found\"}",
+                "GET stats with invalid group id returns 404"
+            )
+        );
+    }
+
     private static Stream<GroupHandleTestcase> groupHandleTestcases() {
         return Stream.concat(
             Stream.of(
@@ -439,6 +518,7 @@ class GroupHandlerTest {
             Stream.of(
                 deleteTestcases(),
                 getTestcases(),
+                statsTestcases(),
                 postTestcases(),
                 patchTestcases()
             ).flatMap(s -> s)
@@ -450,7 +530,7 @@ class GroupHandlerTest {
     void testHandle(GroupHandleTestcase testcase) throws IOException {
         var service = mock(EuroCoinCollectionGroupStorageService.class);
         var mapper = mock(ObjectMapper.class);
-        GroupHandler handler = new GroupHandler(service, mapper);
+        GroupHandler handler = new GroupHandler(service, new OwnershipIndexImpl(), mock(CatalogService.class), mapper);
         var responseStream = new ByteArrayOutputStream();
 
         HttpExchange exchange = mock(HttpExchange.class);
@@ -484,4 +564,64 @@ class GroupHandlerTest {
             );
         }
     }
+
+    private record CompletenessTestcase(
+        String ownerId,
+        boolean groupNotFound,
+        boolean catalogServiceThrows,
+        int expectedStatus,
+        String expectedResponseBody,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<CompletenessTestcase> completenessTestcases() {
+        return Stream.of(
+            new CompletenessTestcase(USER_ID, false, false, 200, "{\"ownedCount\":0}", "GET group completeness returns 200 and JSON object"),
+            new CompletenessTestcase("other-user", false, false, 404, "{\"error\":\"Resource not found\"}", "GET group completeness fails owner check and returns 404"),
+            new CompletenessTestcase(USER_ID, true, false, 404, "{\"error\":\"Resource not found\"}", "GET completeness of unknown group returns 404"),
+            new CompletenessTestcase(USER_ID, false, true, 500, "{\"error\":\"Internal server error\"}", "GET group completeness triggers CompletenessException and returns 500")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("completenessTestcases")
+    void testHandleCompleteness(CompletenessTestcase testcase) throws Exception {
+        var service = mock(EuroCoinCollectionGroupStorageService.class);
+        var catalogService = mock(CatalogService.class);
+        var mapper = mock(ObjectMapper.class);
+        GroupHandler handler = new GroupHandler(service, new OwnershipIndexImpl(), catalogService, mapper);
+        var responseStream = new ByteArrayOutputStream();
+
+        HttpExchange exchange = mock(HttpExchange.class);
+        lenient().when(exchange.getResponseHeaders()).thenReturn(new Headers());
+        when(exchange.getRequestMethod()).thenReturn("GET");
+        when(exchange.getRequestURI()).thenReturn(URI.create(PREFIX + "/" + VALID_UUID + "/completeness"));
+        when(exchange.getAttribute("userId")).thenReturn(USER_ID);
+        when(exchange.getResponseBody()).thenReturn(responseStream);
+
+        if (testcase.groupNotFound) {
+            when(service.getById(VALID_UUID)).thenThrow(new EuroCoinCollectionGroupNotFoundException(VALID_UUID));
+        } else {
+            var groupMock = mock(EuroCoinCollectionGroup.class);
+            when(groupMock.getOwnerId()).thenReturn(testcase.ownerId);
+            when(service.getById(VALID_UUID)).thenReturn(groupMock);
+        }
+        if (testcase.catalogServiceThrows) {
+            when(catalogService.getCompletenessOfGroup(VALID_UUID)).thenThrow(new EuroCoinCompletenessException());
+        } else {
+            EuroCoinCatalog catalog = EuroCoinCatalog.parse(List.of("FR;2002;2002;200;"), 2002);
+            lenient().when(catalogService.getCompletenessOfGroup(VALID_UUID)).thenReturn(new CatalogCompleteness(catalog, new BitSet()));
+            lenient().when(mapper.writeValueAsString(any())).thenReturn("{\"ownedCount\":0}");
+        }
+
+        handler.handle(exchange);
+
+        verify(exchange).sendResponseHeaders(eq(testcase.expectedStatus), anyLong());
+        assertEquals(testcase.expectedResponseBody, responseStream.toString(StandardCharsets.UTF_8));
+    }
 }
@@ -0,0 +1,81 @@
+package io.github.lstramke.coincollector.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+
+import io.github.lstramke.coincollector.services.MaintenanceMetrics;
+import io.github.lstramke.coincollector.services.RequestMetrics;
+import io.github.lstramke.coincollector.services.SqlMetrics;
+
+public class MetricsHandlerTest {
+
+    private record MetricsHandleTestcase(
+        String method,
+        String remoteAddress,
+        int expectedStatus,
+        String expectedResponseBody,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<MetricsHandleTestcase> metricsHandleTestcases() {
+        return Stream.of(
+            new MetricsHandleTestcase("GET", "127.0.0.1", 200, "metric 1\nsql 1\nmaintenance 1\n", "GET returns request, SQL and maintenance metrics as prometheus text"),
+            new MetricsHandleTestcase("POST", "127.0.0.1", 405, null, "Should trigger default case in handle-switch (method not allowed)"),
+            new MetricsHandleTestcase("GET", "10.0.0.5", 200, "metric 1\nsql 1\nmaintenance 1\n", "Configured remote address is allowed"),
+            new MetricsHandleTestcase("GET", "192.168.1.20", 403, null, "Other remote address is forbidden")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("metricsHandleTestcases")
+    void testHandle(MetricsHandleTestcase testcase) throws IOException {
+        var requestMetrics = mock(RequestMetrics.class);
+        lenient().when(requestMetrics.toPrometheusText()).thenReturn("metric 1\n");
+        var sqlMetrics = mock(SqlMetrics.class);
+        lenient().when(sqlMetrics.toPrometheusText()).thenReturn("sql 1\n");
+        var maintenanceMetrics = mock(MaintenanceMetrics.class);
+        lenient().when(maintenanceMetrics.toPrometheusText()).thenReturn("maintenance 1\n");
+        MetricsHandler handler = new MetricsHandler(requestMetrics, sqlMetrics, maintenanceMetrics,
+            Set.of(InetAddress.getByName("10.0.0.5")));
+        var responseStream = new ByteArrayOutputStream();
+
+        HttpExchange exchange = mock(HttpExchange.class);
+        Headers headers = new Headers();
+        lenient().when(exchange.getResponseHeaders()).thenReturn(headers);
+        when(exchange.getRequestMethod()).thenReturn(testcase.method());
+        when(exchange.getRequestURI()).thenReturn(URI.create("/api/metrics"));
+        when(exchange.getRemoteAddress()).thenReturn(new InetSocketAddress(InetAddress.getByName(testcase.remoteAddress()), 50000));
+        lenient().when(exchange.getResponseBody()).thenReturn(responseStream);
+
+        handler.handle(exchange);
+
+        verify(exchange).sendResponseHeaders(eq(testcase.expectedStatus), anyLong());
+        if (testcase.expectedResponseBody != null) {
+            assertEquals(testcase.expectedResponseBody, responseStream.toString());
+        }
+    }
+}
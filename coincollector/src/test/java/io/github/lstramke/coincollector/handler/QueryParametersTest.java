@@ -0,0 +1,44 @@
+package io.github.lstramke.coincollector.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class QueryParametersTest {
+
+    private record ParseTestcase(String rawQuery, Map<String, String> expectedParameters, String description) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<ParseTestcase> parseTestcases() {
+        return Stream.of(
+            new ParseTestcase(null, Map.of(), "No query"),
+            new ParseTestcase("", Map.of(), "Empty query"),
+            new ParseTestcase("q=rand&limit=5", Map.of("q", "rand", "limit", "5"), "Multiple parameters"),
+            new ParseTestcase("q=gro%C3%9Fe+M%C3%BCnze", Map.of("q", "große Münze"), "Values are decoded"),
+            new ParseTestcase("q=a&q=b", Map.of("q", "a"), "First value wins"),
+            new ParseTestcase("flag&&q=", Map.of("flag", "", "q", ""), "Missing values are empty"),
+            new ParseTestcase("q=a=b", Map.of("q", "a=b"), "Only the first '=' separates")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("parseTestcases")
+    void testParse(ParseTestcase testcase) {
+        assertEquals(testcase.expectedParameters, QueryParameters.parse(testcase.rawQuery), "Parameters mismatch for: " + testcase.description);
+    }
+
+    @Test
+    void testParseInvalidEscape() {
+        assertThrows(IllegalArgumentException.class, () -> QueryParameters.parse("q=%zz"));
+    }
+}
@@ -0,0 +1,166 @@
+package io.github.lstramke.coincollector.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+
+public class RouterTest {
+
+    private static final String UUID = "0190c3f2-7a4b-7c1d-9e2f-3a4b5c6d7e8f";
+
+    private static final Router.Route LIST = (exchange, parameters) -> {};
+    private static final Router.Route SEARCH = (exchange, parameters) -> {};
+    private static final Router.Route GET = (exchange, parameters) -> {};
+    private static final Router.Route STATS = (exchange, parameters) -> {};
+    private static final Router.Route DELETE = (exchange, parameters) -> {};
+    private static final Router.Route COIN = (exchange, parameters) -> {};
+
+    private static final Router ROUTER = new Router()
+        .add("GET", "/api/groups", LIST)
+        .add("GET", "/api/groups/search", SEARCH)
+        .add("GET", "/api/groups/{id:uuid}", GET)
+        .add("GET", "/api/groups/{id:uuid}/stats", STATS)
+        .add("DELETE", "/api/groups/{id:uuid}", DELETE)
+        .add("GET", "/api/groups/{id:uuid}/coins/{coinId}", COIN);
+
+    private record MatchTestcase(String method, String path, Router.Route expectedRoute, String expectedId, String expectedTemplate, String description) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<MatchTestcase> matchTestcases() {
+        return Stream.of(
+            new MatchTestcase("GET", "/api/groups", LIST, null, "/api/groups", "Literal route"),
+            new MatchTestcase("GET", "/api/groups/search", SEARCH, null, "/api/groups/search", "Literal segment wins over parameter"),
+            new MatchTestcase("GET", "/api/groups/" + UUID, GET, UUID, "/api/groups/{id:uuid}", "Parameter route"),
+            new MatchTestcase("GET", "/api/groups/" + UUID.toUpperCase(), GET, UUID.toUpperCase(), "/api/groups/{id:uuid}", "Upper case UUID"),
+            new MatchTestcase("GET", "/api/groups/" + UUID + "/stats", STATS, UUID, "/api/groups/{id:uuid}/stats", "Parameter followed by literal"),
+            new MatchTestcase("DELETE", "/api/groups/" + UUID, DELETE, UUID, "/api/groups/{id:uuid}", "Method table of the same node"),
+            new MatchTestcase("PATCH", "/api/groups/" + UUID, null, null, null, "Unknown method"),
+            new MatchTestcase("GET", "/api/groups/not-a-uuid", null, null, null, "Typed parameter rejects value"),
+            new MatchTestcase("GET", "/api/groups/", null, null, null, "Empty parameter"),
+            new MatchTestcase("GET", "/api/groups/" + UUID + "/", null, null, null, "Trailing slash"),
+            new MatchTestcase("GET", "/api/groups/" + UUID + "/stats/more", null, null, null, "Additional segment"),
+            new MatchTestcase("GET", "/api", null, null, null, "Inner node without routes"),
+            new MatchTestcase("GET", "api/groups", null, null, null, "Relative path"),
+            new MatchTestcase("GET", null, null, null, null, "No path")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("matchTestcases")
+    void testMatch(MatchTestcase testcase) {
+        Router.Match match = ROUTER.match(testcase.method, testcase.path);
+        if (testcase.expectedRoute == null) {
+            assertNull(match, "Unexpected match for: " + testcase.description);
+            return;
+        }
+        assertSame(testcase.expectedRoute, match.route(), "Route mismatch for: " + testcase.description);
+        assertEquals(testcase.expectedTemplate, match.template(), "Template mismatch for: " + testcase.description);
+        if (testcase.expectedId != null) {
+            assertEquals(testcase.expectedId, match.parameters().get("id"), "Id mismatch for: " + testcase.description);
+        }
+    }
+
+    @Test
+    void testMatchMultipleParameters() {
+        Router.Match match = ROUTER.match("GET", "/api/groups/" + UUID + "/coins/coin-1");
+
+        assertSame(COIN, match.route());
+        assertEquals(UUID, match.parameters().get("id"));
+        assertEquals("coin-1", match.parameters().get("coinId"));
+        assertThrows(IllegalArgumentException.class, () -> match.parameters().get("other"));
+    }
+
+    @Test
+    void testAllowedMethods() {
+        assertEquals(Set.of("DELETE", "GET"), ROUTER.allowedMethods("/api/groups/" + UUID));
+        assertEquals(Set.of(), ROUTER.allowedMethods("/api/unknown"));
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @ValueSource(strings = {"api/groups", "/api/{}", "/api/{id:int}", "/api/x{id}", "/api/groups/{name}"})
+    void testAddInvalidRoute(String template) {
+        Router router = new Router().add("GET", "/api/groups/{id}", GET);
+        assertThrows(IllegalArgumentException.class, () -> router.add("GET", template, LIST));
+    }
+
+    @Test
+    void testAddDuplicateRoute() {
+        Router router = new Router().add("GET", "/api/groups", LIST);
+        assertThrows(IllegalArgumentException.class, () -> router.add("GET", "/api/groups", SEARCH));
+    }
+
+    private record HandleTestcase(String method, String path, int expectedStatus, String expectedBody, String expectedAllow, String description) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<HandleTestcase> handleTestcases() {
+        return Stream.of(
+            new HandleTestcase("GET", "/api/unknown", 404, "{\"error\":\"Resource not found\"}", null, "Unknown path returns 404"),
+            new HandleTestcase("PUT", "/api/groups/" + UUID, 405, "", "DELETE, GET", "Unknown method returns 405 with Allow header")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("handleTestcases")
+    void testHandleUnmatched(HandleTestcase testcase) throws IOException {
+        HttpExchange exchange = mock(HttpExchange.class);
+        Headers headers = new Headers();
+        ByteArrayOutputStream responseStream = new ByteArrayOutputStream();
+        when(exchange.getRequestMethod()).thenReturn(testcase.method);
+        when(exchange.getRequestURI()).thenReturn(URI.create(testcase.path));
+        when(exchange.getResponseHeaders()).thenReturn(headers);
+        when(exchange.getResponseBody()).thenReturn(responseStream);
+
+        ROUTER.handle(exchange);
+
+        verify(exchange).sendResponseHeaders(eq(testcase.expectedStatus), anyLong());
+        verify(exchange).close();
+        verify(exchange, never()).setAttribute(eq(Router.ROUTE_ATTRIBUTE), any());
+        assertEquals(testcase.expectedBody, responseStream.toString(StandardCharsets.UTF_8), "Body mismatch for: " + testcase.description);
+        assertEquals(testcase.expectedAllow, headers.getFirst("Allow"), "Allow header mismatch for: " + testcase.description);
+    }
+
+    @Test
+    void testHandleDispatchesWithParameters() throws IOException {
+        String[] id = new String[1];
+        Router router = new Router().add("GET", "/api/coins/{id}", (exchange, parameters) -> id[0] = parameters.get("id"));
+        HttpExchange exchange = mock(HttpExchange.class);
+        when(exchange.getRequestMethod()).thenReturn("GET");
+        when(exchange.getRequestURI()).thenReturn(URI.create("/api/coins/coin-1"));
+
+        router.handle(exchange);
+
+        assertEquals("coin-1", id[0]);
+        verify(exchange).setAttribute(Router.ROUTE_ATTRIBUTE, "/api/coins/{id}");
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.lstramke.coincollector.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+
+import io.github.lstramke.coincollector.exceptions.syncExceptions.SyncChangesException;
+import io.github.lstramke.coincollector.model.ChangeEvent.Entity;
+import io.github.lstramke.coincollector.model.ChangeLogEntry;
+import io.github.lstramke.coincollector.model.EuroCoinCollection;
+import io.github.lstramke.coincollector.model.EuroCoinCollectionGroup;
+import io.github.lstramke.coincollector.model.SyncChanges;
+import io.github.lstramke.coincollector.services.SyncService;
+import tools.jackson.databind.ObjectMapper;
+
+public class SyncHandlerTest {
+
+    private static final String USER_ID = "user-1";
+    private static final EuroCoinCollectionGroup GROUP = new EuroCoinCollectionGroup("Euro", USER_ID);
+    private static final EuroCoinCollection COLLECTION = new EuroCoinCollection("Germany", GROUP.getId());
+    private static final SyncChanges CHANGES = new SyncChanges(42, true, List.of(GROUP), List.of(COLLECTION), List.of(),
+        List.of(new ChangeLogEntry(41, Entity.COIN, "coin-1", "collection-1", true)));
+
+    private record SyncTestcase(
+        String method,
+        String query,
+        Long expectedSince,
+        boolean serviceThrows,
+        int expectedStatus,
+        String expectedBody,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<SyncTestcase> syncTestcases() {
+        String body = "{\"version\":42,\"hasMore\":true,"
+            + "\"groups\":[{\"id\":\"" + GROUP.getId() + "\",\"name\":\"Euro\"}],"
+            + "\"collections\":[{\"id\":\"" + COLLECTION.getId() + "\",\"name\":\"Germany\",\"groupId\":\"" + GROUP.getId() + "\"}],"
+            + "\"coins\":[],"
+            + "\"deleted\":[{\"entity\":\"coin\",\"id\":\"coin-1\",\"parentId\":\"collection-1\"}]}";
+        return Stream.of(
+            new SyncTestcase("GET", "since=17", 17L, false, 200, body, "Changes since the given version"),
+            new SyncTestcase("GET", null, 0L, false, 200, body, "Missing version syncs everything"),
+            new SyncTestcase("GET", "since=abc", null, false, 400, "{\"error\":\"Request is not valid\"}", "Version is not a number"),
+            new SyncTestcase("GET", "since=-1", null, false, 400, "{\"error\":\"Request is not valid\"}", "Version is negative"),
+            new SyncTestcase("GET", "since=17", 17L, true, 500, "{\"error\":\"Internal server error\"}", "Service fails"),
+            new SyncTestcase("POST", null, null, false, 405, "", "Unsupported method")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("syncTestcases")
+    void testSync(SyncTestcase testcase) throws IOException {
+        SyncService syncService = mock(SyncService.class);
+        if (testcase.serviceThrows) {
+            when(syncService.getChangesSince(USER_ID, testcase.expectedSince)).thenThrow(new SyncChangesException());
+        } else if (testcase.expectedSince != null) {
+            when(syncService.getChangesSince(USER_ID, testcase.expectedSince)).thenReturn(CHANGES);
+        }
+        SyncHandler handler = new SyncHandler(syncService, new ObjectMapper());
+        HttpExchange exchange = mock(HttpExchange.class);
+        ByteArrayOutputStream responseStream = new ByteArrayOutputStream();
+        when(exchange.getRequestMethod()).thenReturn(testcase.method);
+        when(exchange.getRequestURI()).thenReturn(URI.create("/api/sync" + (testcase.query != null ? "?" + testcase.query : "")));
+        lenient().when(exchange.getAttribute("userId")).thenReturn(USER_ID);
+        lenient().when(exchange.getResponseHeaders()).thenReturn(new Headers());
+        lenient().when(exchange.getResponseBody()).thenReturn(responseStream);
+
+        handler.handle(exchange);
+
+        verify(exchange).sendResponseHeaders(eq(testcase.expectedStatus), anyLong());
+        verify(exchange).close();
+        assertEquals(testcase.expectedBody, responseStream.toString(StandardCharsets.UTF_8), "Body mismatch for: " + testcase.description);
+        if (testcase.expectedSince == null) {
+            verify(syncService, never()).getChangesSince(anyString(), anyLong());
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package io.github.lstramke.coincollector.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import io.github.lstramke.coincollector.App;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * In-process load test of the complete application.
+ * <p>
+ * Starts {@link App} on a temporary database, lets a number of {@link VirtualUser}s register,
+ * log in and create a group, a collection and some coins, and then replays a random
+ * read/write mix for a fixed duration after a warm-up. Latency percentiles and throughput
+ * are printed per endpoint, so server-side changes can be compared on the same machine.
+ * <p>
+ * Run with {@code mvn -Pload-test test-compile exec:java}; settings are taken from
+ * {@code -Dloadtest.*} system properties, see {@link LoadTestConfig}.
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromProperties(System.getProperties());
+        System.setProperty("java.awt.headless", "true");
+
+        Path directory = Files.createTempDirectory("coincollector-loadtest");
+        Path database = directory.resolve("loadtest.db");
+        String baseUrl = "http://localhost:" + config.port();
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        startServer(database, config.port());
+        ExecutorService executor = Executors.newFixedThreadPool(config.users());
+        try {
+            awaitServer(client, baseUrl, Duration.ofSeconds(30));
+            String report = run(config, client, baseUrl, executor);
+            System.out.println(report);
+            if (config.output() != null) {
+                Files.writeString(Path.of(config.output()), report);
+            }
+        } finally {
+            executor.shutdownNow();
+            App.stopServer();
+            Files.deleteIfExists(database);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    private static String run(LoadTestConfig config, HttpClient client, String baseUrl, ExecutorService executor) throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        List<VirtualUser> users = new ArrayList<>();
+        for (int i = 0; i < config.users(); i++) {
+            users.add(new VirtualUser(i, client, baseUrl, mapper, config.seed()));
+        }
+
+        LoadTestStats setupStats = new LoadTestStats();
+        long setupStart = System.nanoTime();
+        invokeAll(executor, users.stream()
+            .<Callable<Void>>map(user -> () -> {
+                user.setUp(config.seedCoins(), setupStats);
+                return null;
+            })
+            .toList());
+        Duration setupElapsed = Duration.ofNanos(System.nanoTime() - setupStart);
+
+        LoadTestStats warmupStats = new LoadTestStats();
+        LoadTestStats stats = new LoadTestStats();
+        long measureStart = System.nanoTime() + config.warmup().toNanos();
+        long measureEnd = measureStart + config.duration().toNanos();
+        invokeAll(executor, users.stream()
+            .<Callable<Void>>map(user -> () -> {
+                long now;
+                while ((now = System.nanoTime()) < measureEnd) {
+                    user.runOperation(config.readRatio(), now < measureStart ? warmupStats : stats);
+                }
+                return null;
+            })
+            .toList());
+
+        return "Load test: " + config + "\n\n"
+            + "Setup (" + setupElapsed.toMillis() + " ms)\n" + setupStats.toReport(setupElapsed) + "\n"
+            + "Read/write mix (" + config.duration().toSeconds() + " s after " + config.warmup().toSeconds() + " s warm-up)\n"
+            + stats.toReport(config.duration());
+    }
+
+    private static void invokeAll(ExecutorService executor, List<Callable<Void>> tasks) throws Exception {
+        for (Future<Void> future : executor.invokeAll(tasks)) {
+            future.get();
+        }
+    }
+
+    private static void startServer(Path database, int port) {
+        Thread serverThread = new Thread(() -> {
+            try {
+                App.main(new String[] {database.toString(), String.valueOf(port)});
+            } catch (IOException e) {
+                throw new IllegalStateException("Server could not be started", e);
+            }
+        }, "coincollector-loadtest-server");
+        serverThread.setDaemon(true);
+        serverThread.start();
+    }
+
+    private static void awaitServer(HttpClient client, String baseUrl, Duration timeout) throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/metrics")).GET().build();
+        while (true) {
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            if (System.nanoTime() > deadline) {
+                throw new IOException("Server did not start within " + timeout);
+            }
+            Thread.sleep(100);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.lstramke.coincollector.loadtest;
+
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * Settings of one load-test run, read from system properties prefixed with {@code loadtest.}.
+ *
+ * @param users number of concurrent virtual users
+ * @param duration measured duration of the read/write phase
+ * @param warmup duration of the unmeasured warm-up phase before it
+ * @param readRatio share of read operations in the mix, between 0 and 1
+ * @param seedCoins coins created per user during setup
+ * @param port port of the embedded server
+ * @param seed seed of the random generator choosing operations
+ * @param output optional file the report is additionally written to
+ */
+public record LoadTestConfig(
+    int users,
+    Duration duration,
+    Duration warmup,
+    double readRatio,
+    int seedCoins,
+    int port,
+    long seed,
+    String output
+) {
+
+    public LoadTestConfig {
+        if (users < 1) {
+            throw new IllegalArgumentException("loadtest.users must be >= 1");
+        }
+        if (readRatio < 0 || readRatio > 1) {
+            throw new IllegalArgumentException("loadtest.readRatio must be between 0 and 1");
+        }
+        if (seedCoins < 0) {
+            throw new IllegalArgumentException("loadtest.seedCoins must be >= 0");
+        }
+    }
+
+    /**
+     * Reads the configuration from the given properties, falling back to defaults
+     * for every missing key.
+     *
+     * @param properties usually {@link System#getProperties()}
+     * @return the parsed configuration
+     * @throws IllegalArgumentException if a value is not a number or out of range
+     */
+    public static LoadTestConfig fromProperties(Properties properties) {
+        return new LoadTestConfig(
+            Integer.parseInt(properties.getProperty("loadtest.users", "8")),
+            Duration.ofSeconds(Long.parseLong(properties.getProperty("loadtest.durationSeconds", "30"))),
+            Duration.ofSeconds(Long.parseLong(properties.getProperty("loadtest.warmupSeconds", "5"))),
+            Double.parseDouble(properties.getProperty("loadtest.readRatio", "0.8")),
+            Integer.parseInt(properties.getProperty("loadtest.seedCoins", "10")),
+            Integer.parseInt(properties.getProperty("loadtest.port", "18080")),
+            Long.parseLong(properties.getProperty("loadtest.seed", "42")),
+            properties.getProperty("loadtest.output")
+        );
+    }
+}
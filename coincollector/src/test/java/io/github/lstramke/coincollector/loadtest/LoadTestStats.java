@@ -0,0 +1,74 @@
+package io.github.lstramke.coincollector.loadtest;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.github.lstramke.coincollector.services.LatencyHistogram;
+
+/**
+ * Client-side latency statistics of a load-test run, kept per endpoint.
+ * <p>
+ * Endpoints are labelled with their method and templated path (e.g. {@code GET /api/coins/{id}})
+ * so that every entity id falls into the same series.
+ */
+public class LoadTestStats {
+
+    private record Endpoint(LatencyHistogram histogram, LongAdder errors) {}
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Records one request.
+     *
+     * @param endpoint the endpoint label
+     * @param durationNanos client-side round-trip time in nanoseconds
+     * @param success whether the request returned the expected status
+     */
+    public void record(String endpoint, long durationNanos, boolean success) {
+        Endpoint entry = endpoints.computeIfAbsent(endpoint, key -> new Endpoint(new LatencyHistogram(), new LongAdder()));
+        entry.histogram().recordNanos(durationNanos);
+        if (!success) {
+            entry.errors().increment();
+        }
+    }
+
+    /**
+     * Renders a fixed-width table with count, errors, throughput and latency
+     * percentiles per endpoint, followed by a total line.
+     *
+     * @param elapsed the measured wall-clock duration used for throughput
+     * @return the report
+     */
+    public String toReport(Duration elapsed) {
+        double seconds = Math.max(elapsed.toNanos(), 1) / 1_000_000_000.0;
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "%-32s %8s %7s %9s %9s %9s %9s %9s%n",
+            "endpoint", "count", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+
+        long totalCount = 0;
+        long totalErrors = 0;
+        for (var entry : new TreeMap<>(endpoints).entrySet()) {
+            LatencyHistogram histogram = entry.getValue().histogram();
+            long count = histogram.getCount();
+            long errors = entry.getValue().errors().sum();
+            totalCount += count;
+            totalErrors += errors;
+            report.append(String.format(Locale.ROOT, "%-32s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                entry.getKey(), count, errors, count / seconds,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(95)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getMaxMicros())));
+        }
+        report.append(String.format(Locale.ROOT, "%-32s %8d %7d %9.1f%n", "total", totalCount, totalErrors, totalCount / seconds));
+        return report.toString();
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
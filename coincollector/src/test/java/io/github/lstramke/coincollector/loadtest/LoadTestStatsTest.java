@@ -0,0 +1,85 @@
+package io.github.lstramke.coincollector.loadtest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class LoadTestStatsTest {
+
+	private record ReportCase(int requests, int failures, String expectedLine, String description) {
+		@Override public String toString() { return description; }
+	}
+
+	private static Stream<ReportCase> reportCases() {
+		return Stream.of(
+			new ReportCase(10, 0, "GET /api/groups                        10       0       5.0      2.00      2.00      2.00      2.00", "Endpoint line with throughput and percentiles"),
+			new ReportCase(4, 1, "GET /api/groups                         4       1       2.0", "Failures are counted as errors"),
+			new ReportCase(10, 2, "total                                  10       2       5.0", "Total line sums all endpoints")
+		);
+	}
+
+	@ParameterizedTest(name = "{index} - {0}")
+	@MethodSource("reportCases")
+	void testToReport(ReportCase tc) {
+		LoadTestStats stats = new LoadTestStats();
+		for (int i = 0; i < tc.requests; i++) {
+			stats.record("GET /api/groups", 2_000_000, i >= tc.failures);
+		}
+		String report = stats.toReport(Duration.ofSeconds(2));
+		assertTrue(report.contains(tc.expectedLine), "Missing line: " + tc.expectedLine + "\n" + report);
+	}
+
+	private record ConfigCase(String key, String value, Class<? extends Exception> expectedException, String description) {
+		@Override public String toString() { return description; }
+	}
+
+	private static Stream<ConfigCase> configCases() {
+		return Stream.of(
+			new ConfigCase(null, null, null, "Defaults are used for missing keys"),
+			new ConfigCase("loadtest.users", "0", IllegalArgumentException.class, "Zero users are rejected"),
+			new ConfigCase("loadtest.readRatio", "1.5", IllegalArgumentException.class, "Read ratio above 1 is rejected"),
+			new ConfigCase("loadtest.durationSeconds", "abc", NumberFormatException.class, "Non-numeric duration is rejected")
+		);
+	}
+
+	@ParameterizedTest(name = "{index} - {0}")
+	@MethodSource("configCases")
+	void testFromProperties(ConfigCase tc) {
+		Properties properties = new Properties();
+		if (tc.key != null) {
+			properties.setProperty(tc.key, tc.value);
+		}
+		if (tc.expectedException != null) {
+			assertThrows(tc.expectedException, () -> LoadTestConfig.fromProperties(properties));
+		} else {
+			LoadTestConfig config = LoadTestConfig.fromProperties(properties);
+			assertEquals(8, config.users());
+			assertEquals(Duration.ofSeconds(30), config.duration());
+			assertEquals(0.8, config.readRatio());
+		}
+	}
+
+	private record CoinBodyCase(int sequence, String expected, String description) {
+		@Override public String toString() { return description; }
+	}
+
+	private static Stream<CoinBodyCase> coinBodyCases() {
+		return Stream.of(
+			new CoinBodyCase(0, "{\"year\":1999,\"value\":1,\"country\":\"AT\",\"collectionId\":\"c\",\"mint\":\"A\"}", "First combination"),
+			new CoinBodyCase(1, "{\"year\":1999,\"value\":1,\"country\":\"BE\",\"collectionId\":\"c\",\"mint\":\"A\"}", "Country changes first"),
+			new CoinBodyCase(24, "{\"year\":1999,\"value\":2,\"country\":\"AT\",\"collectionId\":\"c\",\"mint\":\"A\"}", "Value changes after all countries"),
+			new CoinBodyCase(24 * 8 * VirtualUser.YEARS, "{\"year\":1999,\"value\":1,\"country\":\"AT\",\"collectionId\":\"c\",\"mint\":\"D\"}", "Mint changes after all years")
+		);
+	}
+
+	@ParameterizedTest(name = "{index} - {0}")
+	@MethodSource("coinBodyCases")
+	void testCoinRequestBody(CoinBodyCase tc) {
+		assertEquals(tc.expected, VirtualUser.coinRequestBody(tc.sequence, "c"));
+	}
+}
@@ -0,0 +1,93 @@
+package io.github.lstramke.coincollector.loadtest;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.IntUnaryOperator;
+
+import io.github.lstramke.coincollector.handler.Router;
+import io.github.lstramke.coincollector.services.SessionFilter;
+
+/**
+ * Micro benchmark of the per-request cookie and path parsing.
+ * <p>
+ * Compares the former split/substring based parsing with {@link SessionFilter#getCookieValue(String, String)}
+ * and the {@link Router} lookup and prints the time and the bytes allocated per call, measured with
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)} after a warm-up.
+ * <p>
+ * Run with {@code mvn -Pload-test test-compile exec:java -Dloadtest.mainClass=io.github.lstramke.coincollector.loadtest.RequestParsingBenchmark};
+ * the number of calls per measurement is taken from {@code -Dbenchmark.iterations}.
+ */
+public class RequestParsingBenchmark {
+
+    private static final String COOKIE_HEADER = "theme=dark; lang=de; sessionId=8f14e45f-ceea-467f-a0e6-1b5c2d4e9a10; consent=1";
+    private static final String PREFIX = "/api/groups";
+    private static final String STATS_SUFFIX = "/stats";
+    private static final Router ROUTER = new Router()
+        .add("GET", PREFIX, (exchange, parameters) -> {})
+        .add("GET", PREFIX + "/{id:uuid}", (exchange, parameters) -> {})
+        .add("GET", PREFIX + "/{id:uuid}/stats", (exchange, parameters) -> {})
+        .add("GET", PREFIX + "/{id:uuid}/completeness", (exchange, parameters) -> {});
+    private static final String[] PATHS = {
+        "/api/groups/0190c3f2-7a4b-7c1d-9e2f-3a4b5c6d7e8f/stats",
+        "/api/groups/0190c3f2-7a4b-7c1d-9e2f-3a4b5c6d7e8f/completeness"
+    };
+
+    public static void main(String[] args) {
+        int iterations = Integer.getInteger("benchmark.iterations", 5_000_000);
+
+        run("cookie split", iterations, i -> length(splitCookie(COOKIE_HEADER)));
+        run("cookie scan", iterations, i -> length(SessionFilter.getCookieValue(COOKIE_HEADER, "sessionId")));
+        run("path substring", iterations, i -> substringStatsId(PATHS[i & 1]));
+        run("path router", iterations, i -> routerStatsId(PATHS[i & 1]));
+    }
+
+    private static void run(String name, int iterations, IntUnaryOperator operation) {
+        measure(operation, iterations);
+        Result result = measure(operation, iterations);
+        System.out.printf("%-16s %10.1f ns/op %10.1f B/op   (checksum %d)%n",
+            name, (double) result.nanos / iterations, (double) result.bytes / iterations, result.checksum);
+    }
+
+    private static Result measure(IntUnaryOperator operation, int iterations) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long checksum = 0;
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            checksum += operation.applyAsInt(i);
+        }
+        long nanos = System.nanoTime() - start;
+        long bytes = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+        return new Result(nanos, bytes, checksum);
+    }
+
+    private record Result(long nanos, long bytes, long checksum) {}
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    /** Cookie parsing as previously done by {@link SessionFilter#getSessionCookie}. */
+    private static String splitCookie(String cookieHeader) {
+        for (String cookie : cookieHeader.split(";")) {
+            String[] parts = cookie.trim().split("=");
+            if (parts.length == 2 && parts[0].equals("sessionId") && !parts[1].isEmpty()) {
+                return parts[1];
+            }
+        }
+        return null;
+    }
+
+    private static int routerStatsId(String path) {
+        Router.Match match = ROUTER.match("GET", path);
+        return match != null ? match.parameters().get("id").length() : 0;
+    }
+
+    /** Stats route check and id extraction as previously done by the handlers. */
+    private static int substringStatsId(String path) {
+        if (!path.endsWith(STATS_SUFFIX) || path.length() <= PREFIX.length() + 1 + STATS_SUFFIX.length()) {
+            return 0;
+        }
+        return path.substring(PREFIX.length() + 1, path.length() - STATS_SUFFIX.length()).length();
+    }
+}
@@ -0,0 +1,179 @@
+package io.github.lstramke.coincollector.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.github.lstramke.coincollector.model.CoinCountry;
+import io.github.lstramke.coincollector.model.CoinValue;
+import io.github.lstramke.coincollector.model.Mint;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * One simulated user of the load test. Owns a session, a group and a collection
+ * and replays a random read/write mix against them.
+ * <p>
+ * Coin ids are derived from country, value, year and mint and are unique across all users,
+ * so every created coin takes the next combination from a shared sequence.
+ */
+class VirtualUser {
+
+    static final int FIRST_YEAR = 1999;
+    static final int YEARS = 26;
+    private static final CoinCountry[] COUNTRIES = CoinCountry.values();
+    private static final CoinValue[] VALUES = CoinValue.values();
+    private static final Mint[] MINTS = {Mint.BERLIN, Mint.MUNICH, Mint.STUTTGART, Mint.KARLSRUHE, Mint.HAMBURG};
+    private static final AtomicInteger coinSequence = new AtomicInteger();
+
+    private final int number;
+    private final HttpClient client;
+    private final String baseUrl;
+    private final ObjectMapper mapper;
+    private final Random random;
+    private final List<String> coinIds = new ArrayList<>();
+    private int seedCoins;
+
+    private String cookie;
+    private String groupId;
+    private String collectionId;
+
+    VirtualUser(int number, HttpClient client, String baseUrl, ObjectMapper mapper, long seed) {
+        this.number = number;
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.mapper = mapper;
+        this.random = new Random(seed + number);
+    }
+
+    /**
+     * Registers and logs in the user, then creates one group, one collection and
+     * the given number of coins.
+     *
+     * @param seedCoins number of coins to create
+     * @param stats statistics receiving the setup requests
+     * @throws IOException if a request fails or returns an unexpected status
+     * @throws InterruptedException if interrupted while waiting for a response
+     */
+    void setUp(int seedCoins, LoadTestStats stats) throws IOException, InterruptedException {
+        this.seedCoins = seedCoins;
+        String body = "{\"username\":\"loadtest-user-" + number + "\"}";
+        expect(send("POST /api/registration", "POST", "/api/registration", body, 201, stats), 201);
+        HttpResponse<String> login = expect(send("POST /api/login", "POST", "/api/login", body, 200, stats), 200);
+        cookie = login.headers().firstValue("Set-Cookie").orElseThrow().split(";")[0];
+
+        groupId = idOf(expect(send("POST /api/groups", "POST", "/api/groups",
+            "{\"name\":\"Load test group " + number + "\"}", 201, stats), 201));
+        collectionId = idOf(expect(send("POST /api/collections", "POST", "/api/collections",
+            "{\"name\":\"Load test collection " + number + "\",\"groupId\":\"" + groupId + "\"}", 201, stats), 201));
+        for (int i = 0; i < seedCoins; i++) {
+            createCoin(stats);
+        }
+    }
+
+    /**
+     * Performs one randomly chosen operation. Failed requests are recorded as errors
+     * and do not abort the run.
+     *
+     * @param readRatio share of read operations
+     * @param stats statistics receiving the request
+     * @throws InterruptedException if interrupted while waiting for a response
+     */
+    void runOperation(double readRatio, LoadTestStats stats) throws InterruptedException {
+        try {
+            if (random.nextDouble() < readRatio) {
+                switch (random.nextInt(4)) {
+                    case 0 -> send("GET /api/groups", "GET", "/api/groups", null, 200, stats);
+                    case 1 -> send("GET /api/groups/{id}", "GET", "/api/groups/" + groupId, null, 200, stats);
+                    case 2 -> send("GET /api/collections/{id}", "GET", "/api/collections/" + collectionId, null, 200, stats);
+                    default -> {
+                        if (coinIds.isEmpty()) {
+                            send("GET /api/groups", "GET", "/api/groups", null, 200, stats);
+                        } else {
+                            String coinId = coinIds.get(random.nextInt(coinIds.size()));
+                            send("GET /api/coins/{id}", "GET", "/api/coins/" + coinId, null, 200, stats);
+                        }
+                    }
+                }
+            } else {
+                switch (random.nextInt(3)) {
+                    case 0 -> createCoin(stats);
+                    case 1 -> {
+                        if (coinIds.size() > seedCoins) {
+                            String coinId = coinIds.remove(coinIds.size() - 1);
+                            send("DELETE /api/coins/{id}", "DELETE", "/api/coins/" + coinId, null, 204, stats);
+                        } else {
+                            createCoin(stats);
+                        }
+                    }
+                    default -> send("PATCH /api/groups/{id}", "PATCH", "/api/groups/" + groupId,
+                        "{\"name\":\"Load test group " + number + "-" + random.nextInt(1000) + "\"}", 200, stats);
+                }
+            }
+        } catch (IOException e) {
+            // already recorded as error by send
+        }
+    }
+
+    private void createCoin(LoadTestStats stats) throws IOException, InterruptedException {
+        HttpResponse<String> response = send("POST /api/coins", "POST", "/api/coins",
+            coinRequestBody(coinSequence.getAndIncrement(), collectionId), 201, stats);
+        if (response.statusCode() == 201) {
+            coinIds.add(idOf(response));
+        }
+    }
+
+    /**
+     * Builds the request body of the coin with the given sequence number. The sequence
+     * enumerates all combinations of country, value, year and mint before repeating.
+     */
+    static String coinRequestBody(int sequence, String collectionId) {
+        int index = sequence;
+        CoinCountry country = COUNTRIES[index % COUNTRIES.length];
+        index /= COUNTRIES.length;
+        CoinValue value = VALUES[index % VALUES.length];
+        index /= VALUES.length;
+        int year = FIRST_YEAR + index % YEARS;
+        index /= YEARS;
+        Mint mint = MINTS[index % MINTS.length];
+        return "{\"year\":" + year + ",\"value\":" + value.getCentValue() + ",\"country\":\"" + country.getIsoCode()
+            + "\",\"collectionId\":\"" + collectionId + "\",\"mint\":\"" + mint.getMintMark() + "\"}";
+    }
+
+    private HttpResponse<String> send(String endpoint, String method, String path, String body, int expectedStatus, LoadTestStats stats)
+        throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .method(method, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body));
+        if (body != null) {
+            builder.header("Content-Type", "application/json");
+        }
+        if (cookie != null) {
+            builder.header("Cookie", cookie);
+        }
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+            stats.record(endpoint, System.nanoTime() - start, response.statusCode() == expectedStatus);
+            return response;
+        } catch (IOException e) {
+            stats.record(endpoint, System.nanoTime() - start, false);
+            throw e;
+        }
+    }
+
+    private static HttpResponse<String> expect(HttpResponse<String> response, int status) throws IOException {
+        if (response.statusCode() != status) {
+            throw new IOException("Unexpected status " + response.statusCode() + " for " + response.request().uri() + ": " + response.body());
+        }
+        return response;
+    }
+
+    private String idOf(HttpResponse<String> response) {
+        return mapper.readTree(response.body()).get("id").asString();
+    }
+}
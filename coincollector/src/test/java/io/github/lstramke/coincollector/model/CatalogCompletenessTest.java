@@ -0,0 +1,94 @@
+package io.github.lstramke.coincollector.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class CatalogCompletenessTest {
+
+    private static final EuroCoinCatalog catalog = EuroCoinCatalog.parse(List.of("DE;2002;2002;200;A,D", "FR;2002;2003;200;"), 2026);
+
+    private record CompletenessTestcase(
+        BitSet owned,
+        int expectedOwnedCount,
+        double expectedPercent,
+        int expectedMissingCount,
+        Map<CoinCountry, CatalogCompleteness.CountryCompleteness> expectedByCountry,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static BitSet bits(int... ordinals) {
+        BitSet bitSet = new BitSet();
+        for (int ordinal : ordinals) {
+            bitSet.set(ordinal);
+        }
+        return bitSet;
+    }
+
+    private static Stream<CompletenessTestcase> completenessTestcases() {
+        int germanBerlin = catalog.ordinalOf(CoinCountry.GERMANY, CoinValue.TWO_EUROS, 2002, Mint.BERLIN);
+        int french2003 = catalog.ordinalOf(CoinCountry.FRANCE, CoinValue.TWO_EUROS, 2003, null);
+        return Stream.of(
+            new CompletenessTestcase(new BitSet(), 0, 0, 4,
+                Map.of(CoinCountry.GERMANY, new CatalogCompleteness.CountryCompleteness(2, 0),
+                       CoinCountry.FRANCE, new CatalogCompleteness.CountryCompleteness(2, 0)),
+                "Nothing owned"),
+            new CompletenessTestcase(bits(germanBerlin, french2003), 2, 50, 2,
+                Map.of(CoinCountry.GERMANY, new CatalogCompleteness.CountryCompleteness(2, 1),
+                       CoinCountry.FRANCE, new CatalogCompleteness.CountryCompleteness(2, 1)),
+                "Half owned"),
+            new CompletenessTestcase(catalog.all(), 4, 100, 0,
+                Map.of(CoinCountry.GERMANY, new CatalogCompleteness.CountryCompleteness(2, 2),
+                       CoinCountry.FRANCE, new CatalogCompleteness.CountryCompleteness(2, 2)),
+                "Everything owned"),
+            new CompletenessTestcase(bits(germanBerlin, 100), 1, 25, 3,
+                Map.of(CoinCountry.GERMANY, new CatalogCompleteness.CountryCompleteness(2, 1),
+                       CoinCountry.FRANCE, new CatalogCompleteness.CountryCompleteness(2, 0)),
+                "Ordinals outside the catalog are ignored")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("completenessTestcases")
+    void testCompleteness(CompletenessTestcase testcase) {
+        CatalogCompleteness completeness = new CatalogCompleteness(catalog, testcase.owned);
+
+        assertEquals(catalog.size(), completeness.getCatalogCount(), "Catalog count mismatch for: " + testcase.description);
+        assertEquals(testcase.expectedOwnedCount, completeness.getOwnedCount(), "Owned count mismatch for: " + testcase.description);
+        assertEquals(testcase.expectedPercent, completeness.getCompletionPercent(), 1e-9, "Percent mismatch for: " + testcase.description);
+        assertEquals(testcase.expectedMissingCount, completeness.getMissing().cardinality(), "Missing count mismatch for: " + testcase.description);
+        assertEquals(testcase.expectedByCountry, completeness.getByCountry(), "Country breakdown mismatch for: " + testcase.description);
+    }
+
+    private record InvalidArgumentsTestcase(EuroCoinCatalog catalog, BitSet owned, String description) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<InvalidArgumentsTestcase> invalidArgumentsTestcases() {
+        return Stream.of(
+            new InvalidArgumentsTestcase(null, new BitSet(), "Null catalog"),
+            new InvalidArgumentsTestcase(catalog, null, "Null owned bitset")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("invalidArgumentsTestcases")
+    void testConstructor_InvalidArguments(InvalidArgumentsTestcase testcase) {
+        assertThrows(IllegalArgumentException.class, () -> new CatalogCompleteness(testcase.catalog, testcase.owned));
+    }
+}
@@ -53,4 +53,33 @@ public class CoinDescriptionTest {
                 "Result value mismatch for: " + testcase.description);
         }
     }
+
+    private record DefaultTextTestcase(
+        Mint mint,
+        String expectedString,
+        String description
+    ){
+        @Override
+        public String toString(){
+            return description;
+        }
+    }
+
+    private static Stream<DefaultTextTestcase> defaultTextTestcases(){
+        return Stream.of(
+            new DefaultTextTestcase(Mint.MUNICH, "1 Euro Münze aus Deutschland aus dem Jahr 2010 aus der Prägestätte D", "known mint is named"),
+            new DefaultTextTestcase(Mint.UNKOWN, "1 Euro Münze aus Deutschland aus dem Jahr 2010", "unknown mint is omitted"),
+            new DefaultTextTestcase(null, "1 Euro Münze aus Deutschland aus dem Jahr 2010", "null mint is omitted")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("defaultTextTestcases")
+    void testDefaultText_IsCached(DefaultTextTestcase testcase){
+        String first = CoinDescription.defaultText(CoinValue.ONE_EURO, 2010, CoinCountry.GERMANY, testcase.mint);
+        String second = CoinDescription.defaultText(CoinValue.ONE_EURO, 2010, CoinCountry.GERMANY, testcase.mint);
+
+        Assertions.assertEquals(testcase.expectedString, first, "Result value mismatch for: " + testcase.description);
+        Assertions.assertSame(first, second, "Text was formatted twice for: " + testcase.description);
+    }
 }
@@ -0,0 +1,97 @@
+package io.github.lstramke.coincollector.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class CoinFacetsTest {
+
+    private record BucketData(String collectionId, CoinCountry country, CoinValue value, int year, Mint mint, int count) {}
+
+    private static final List<BucketData> BUCKETS = List.of(
+        new BucketData("c1", CoinCountry.GERMANY, CoinValue.TWO_EUROS, 2002, Mint.BERLIN, 2),
+        new BucketData("c1", CoinCountry.GERMANY, CoinValue.ONE_EURO, 2005, Mint.MUNICH, 1),
+        new BucketData("c1", CoinCountry.FRANCE, CoinValue.TWO_EUROS, 2010, null, 3),
+        new BucketData("c2", CoinCountry.GERMANY, CoinValue.TWO_EUROS, 2010, Mint.BERLIN, 4)
+    );
+
+    private record AddTestcase(
+        CoinFilter filter,
+        int expectedTotal,
+        Map<String, Integer> expectedByCollection,
+        Map<CoinCountry, Integer> expectedByCountry,
+        Map<CoinValue, Integer> expectedByValue,
+        Map<Integer, Integer> expectedByYear,
+        Map<Mint, Integer> expectedByMint,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<AddTestcase> addTestcases() {
+        return Stream.of(
+            new AddTestcase(CoinFilter.NONE, 10,
+                Map.of("c1", 6, "c2", 4),
+                Map.of(CoinCountry.GERMANY, 7, CoinCountry.FRANCE, 3),
+                Map.of(CoinValue.TWO_EUROS, 9, CoinValue.ONE_EURO, 1),
+                Map.of(2002, 2, 2005, 1, 2010, 7),
+                Map.of(Mint.BERLIN, 6, Mint.MUNICH, 1),
+                "No criteria - all coins counted, mints only for German coins"),
+            new AddTestcase(new CoinFilter(null, CoinCountry.GERMANY, null, null, null, null), 7,
+                Map.of("c1", 3, "c2", 4),
+                Map.of(CoinCountry.GERMANY, 7, CoinCountry.FRANCE, 3),
+                Map.of(CoinValue.TWO_EUROS, 6, CoinValue.ONE_EURO, 1),
+                Map.of(2002, 2, 2005, 1, 2010, 4),
+                Map.of(Mint.BERLIN, 6, Mint.MUNICH, 1),
+                "Selected facet keeps the counts of its other values"),
+            new AddTestcase(new CoinFilter("c1", null, CoinValue.TWO_EUROS, 2005, null, null), 3,
+                Map.of("c1", 3, "c2", 4),
+                Map.of(CoinCountry.FRANCE, 3),
+                Map.of(CoinValue.TWO_EUROS, 3, CoinValue.ONE_EURO, 1),
+                Map.of(2002, 2, 2010, 3),
+                Map.of(),
+                "Combined criteria narrow the other facets"),
+            new AddTestcase(new CoinFilter(null, null, null, null, null, Mint.BERLIN), 6,
+                Map.of("c1", 2, "c2", 4),
+                Map.of(CoinCountry.GERMANY, 6),
+                Map.of(CoinValue.TWO_EUROS, 6),
+                Map.of(2002, 2, 2010, 4),
+                Map.of(Mint.BERLIN, 6, Mint.MUNICH, 1),
+                "Mint criterion excludes coins without mint")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("addTestcases")
+    void testAdd(AddTestcase testcase) {
+        CoinFacets facets = new CoinFacets(testcase.filter);
+        BUCKETS.forEach(bucket -> facets.add(bucket.collectionId, bucket.country, bucket.value, bucket.year, bucket.mint, bucket.count));
+
+        assertEquals(testcase.expectedTotal, facets.getTotal(), "Total mismatch for: " + testcase.description);
+        assertEquals(testcase.expectedByCollection, facets.getByCollection(), "Collection facet mismatch for: " + testcase.description);
+        assertEquals(testcase.expectedByCountry, facets.getByCountry(), "Country facet mismatch for: " + testcase.description);
+        assertEquals(testcase.expectedByValue, facets.getByValue(), "Value facet mismatch for: " + testcase.description);
+        assertEquals(testcase.expectedByYear, facets.getByYear(), "Year facet mismatch for: " + testcase.description);
+        assertEquals(testcase.expectedByMint, facets.getByMint(), "Mint facet mismatch for: " + testcase.description);
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new CoinFacets(null));
+        CoinFacets facets = new CoinFacets(CoinFilter.NONE);
+        assertThrows(IllegalArgumentException.class, () -> facets.add(null, CoinCountry.GERMANY, CoinValue.ONE_EURO, 2002, Mint.BERLIN, 1));
+        assertThrows(IllegalArgumentException.class, () -> facets.add("c1", null, CoinValue.ONE_EURO, 2002, Mint.BERLIN, 1));
+        assertThrows(IllegalArgumentException.class, () -> facets.add("c1", CoinCountry.GERMANY, null, 2002, Mint.BERLIN, 1));
+        assertThrows(IllegalArgumentException.class, () -> facets.add("c1", CoinCountry.GERMANY, CoinValue.ONE_EURO, 2002, Mint.BERLIN, 0));
+    }
+}
@@ -0,0 +1,40 @@
+package io.github.lstramke.coincollector.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class CoinFilterTest {
+
+    private record MatchesTestcase(CoinFilter filter, boolean expectedMatch, String description) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<MatchesTestcase> matchesTestcases() {
+        return Stream.of(
+            new MatchesTestcase(CoinFilter.NONE, true, "No criteria"),
+            new MatchesTestcase(new CoinFilter("c1", CoinCountry.GERMANY, CoinValue.TWO_EUROS, 2002, 2002, Mint.BERLIN), true, "All criteria match"),
+            new MatchesTestcase(new CoinFilter("c2", null, null, null, null, null), false, "Other collection"),
+            new MatchesTestcase(new CoinFilter(null, CoinCountry.FRANCE, null, null, null, null), false, "Other country"),
+            new MatchesTestcase(new CoinFilter(null, null, CoinValue.ONE_EURO, null, null, null), false, "Other value"),
+            new MatchesTestcase(new CoinFilter(null, null, null, 2003, null, null), false, "Year before range"),
+            new MatchesTestcase(new CoinFilter(null, null, null, null, 2001, null), false, "Year after range"),
+            new MatchesTestcase(new CoinFilter(null, null, null, 2000, 2010, null), true, "Year within range"),
+            new MatchesTestcase(new CoinFilter(null, null, null, null, null, Mint.MUNICH), false, "Other mint")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("matchesTestcases")
+    void testMatches(MatchesTestcase testcase) {
+        assertEquals(testcase.expectedMatch,
+            testcase.filter.matches("c1", CoinCountry.GERMANY, CoinValue.TWO_EUROS, 2002, Mint.BERLIN),
+            "Match mismatch for: " + testcase.description);
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.lstramke.coincollector.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class CoinStatisticsTest {
+
+    private record BucketData(CoinCountry country, CoinValue value, int year, Mint mint, int count) {}
+
+    private record AddTestcase(
+        List<BucketData> buckets,
+        int expectedCoinCount,
+        long expectedTotalCentValue,
+        Map<CoinCountry, CoinStatistics.Bucket> expectedByCountry,
+        Map<Mint, CoinStatistics.Bucket> expectedByMint,
+        Class<? extends Exception> expectedException,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<AddTestcase> addTestcases() {
+        return Stream.of(
+            new AddTestcase(List.of(), 0, 0, Map.of(), Map.of(), null, "No buckets"),
+            new AddTestcase(
+                List.of(
+                    new BucketData(CoinCountry.GERMANY, CoinValue.TWO_EUROS, 2002, Mint.BERLIN, 2),
+                    new BucketData(CoinCountry.GERMANY, CoinValue.ONE_CENT, 2002, Mint.MUNICH, 1)
+                ),
+                3, 401,
+                Map.of(CoinCountry.GERMANY, new CoinStatistics.Bucket(3, 401)),
+                Map.of(Mint.BERLIN, new CoinStatistics.Bucket(2, 400), Mint.MUNICH, new CoinStatistics.Bucket(1, 1)),
+                null, "Buckets of the same country are merged"
+            ),
+            new AddTestcase(
+                List.of(new BucketData(CoinCountry.FRANCE, CoinValue.FIFTY_CENTS, 2010, Mint.BERLIN, 4)),
+                4, 200,
+                Map.of(CoinCountry.FRANCE, new CoinStatistics.Bucket(4, 200)),
+                Map.of(),
+                null, "Mint is only counted for German coins"
+            ),
+            new AddTestcase(
+                List.of(new BucketData(CoinCountry.GERMANY, CoinValue.TWO_EUROS, 2002, Mint.UNKOWN, 1)),
+                1, 200,
+                Map.of(CoinCountry.GERMANY, new CoinStatistics.Bucket(1, 200)),
+                Map.of(),
+                null, "Unknown mint is not counted"
+            ),
+            new AddTestcase(List.of(new BucketData(null, CoinValue.TWO_EUROS, 2002, null, 1)), 0, 0, Map.of(), Map.of(),
+                IllegalArgumentException.class, "Null country"),
+            new AddTestcase(List.of(new BucketData(CoinCountry.FRANCE, null, 2002, null, 1)), 0, 0, Map.of(), Map.of(),
+                IllegalArgumentException.class, "Null value"),
+            new AddTestcase(List.of(new BucketData(CoinCountry.FRANCE, CoinValue.TWO_EUROS, 2002, null, 0)), 0, 0, Map.of(), Map.of(),
+                IllegalArgumentException.class, "Count not positive")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("addTestcases")
+    void testAdd(AddTestcase testcase) {
+        CoinStatistics statistics = new CoinStatistics();
+
+        if (testcase.expectedException != null) {
+            BucketData data = testcase.buckets.get(0);
+            assertThrows(testcase.expectedException,
+                () -> statistics.add(data.country, data.value, data.year, data.mint, data.count),
+                "Expected exception was not thrown for: " + testcase.description);
+            assertEquals(0, statistics.getCoinCount(), "Statistics changed for: " + testcase.description);
+            return;
+        }
+
+        testcase.buckets.forEach(data -> statistics.add(data.country, data.value, data.year, data.mint, data.count));
+
+        assertEquals(testcase.expectedCoinCount, statistics.getCoinCount(), "Coin count mismatch for: " + testcase.description);
+        assertEquals(testcase.expectedTotalCentValue, statistics.getTotalCentValue(), "Total value mismatch for: " + testcase.description);
+        assertEquals(testcase.expectedByCountry, statistics.getByCountry(), "Country histogram mismatch for: " + testcase.description);
+        assertEquals(testcase.expectedByMint, statistics.getByMint(), "Mint histogram mismatch for: " + testcase.description);
+    }
+}
@@ -0,0 +1,137 @@
+package io.github.lstramke.coincollector.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class EuroCoinBatchTest {
+
+	private static final String collectionA = UUID.randomUUID().toString();
+	private static final String collectionB = UUID.randomUUID().toString();
+
+	private static EuroCoinBuilder coin(int year, CoinValue value, CoinCountry country, String collectionId){
+		return new EuroCoinBuilder()
+			.setYear(year)
+			.setValue(value)
+			.setMintCountry(country)
+			.setMint(country == CoinCountry.GERMANY ? Mint.MUNICH : null)
+			.setCollectionId(collectionId);
+	}
+
+	private record RoundTripTestcase(
+		EuroCoin coin,
+		String description
+	){
+		@Override
+		public String toString(){
+			return description;
+		}
+	}
+
+	private static Stream<RoundTripTestcase> roundTripTestcases(){
+		return Stream.of(
+			new RoundTripTestcase(coin(2002, CoinValue.ONE_EURO, CoinCountry.GERMANY, collectionA).build(), "German coin with UUID collection and default description"),
+			new RoundTripTestcase(coin(2015, CoinValue.TEN_CENTS, CoinCountry.ITALY, collectionB).build(), "Non-German coin with default description"),
+			new RoundTripTestcase(coin(2020, CoinValue.TWO_EUROS, CoinCountry.MALTA, "legacy-collection").build(), "Collection id that is not a UUID"),
+			new RoundTripTestcase(coin(2021, CoinValue.FIVE_CENTS, CoinCountry.LATVIA, collectionA).setDescription(new CoinDescription("Sonderprägung")).build(), "Custom description"),
+			new RoundTripTestcase(coin(2021, CoinValue.FIVE_CENTS, CoinCountry.LATVIA, collectionA).setId("imported-42").build(), "Custom id")
+		);
+	}
+
+	@ParameterizedTest(name = "{index} - {0}")
+	@MethodSource("roundTripTestcases")
+	void testRoundTrip(RoundTripTestcase testcase){
+		EuroCoinBatch batch = EuroCoinBatch.of(List.of(testcase.coin));
+		assertEquals(1, batch.size());
+		assertEquals(testcase.coin, batch.toEuroCoin(0));
+		assertEquals(testcase.coin.getId(), batch.getId(0));
+		assertEquals(testcase.coin.getCollectionId(), batch.getCollectionId(0));
+		assertEquals(testcase.coin.getDescription(), batch.getDescription(0));
+	}
+
+	private record CollectionTestcase(
+		String collectionId,
+		int expectedCount,
+		String description
+	){
+		@Override
+		public String toString(){
+			return description;
+		}
+	}
+
+	private static Stream<CollectionTestcase> collectionTestcases(){
+		return Stream.of(
+			new CollectionTestcase(collectionA, 100, "UUID collection selects its coins"),
+			new CollectionTestcase(collectionB, 1, "Other UUID collection selects its coins"),
+			new CollectionTestcase("legacy-collection", 1, "Non-UUID collection selects its coins"),
+			new CollectionTestcase(UUID.randomUUID().toString(), 0, "Unknown collection selects nothing"),
+			new CollectionTestcase(null, 0, "Null collection selects nothing")
+		);
+	}
+
+	@ParameterizedTest(name = "{index} - {0}")
+	@MethodSource("collectionTestcases")
+	void testToEuroCoinsOfCollection(CollectionTestcase testcase){
+		EuroCoinBatch batch = new EuroCoinBatch(1);
+		for (int i = 0; i < 100; i++) {
+			batch.add(coin(1999 + i, CoinValue.ONE_CENT, CoinCountry.AUSTRIA, collectionA).build());
+		}
+		batch.add(coin(2002, CoinValue.TWO_EUROS, CoinCountry.GERMANY, collectionB).build());
+		batch.add(coin(2003, CoinValue.TWO_EUROS, CoinCountry.GERMANY, "legacy-collection").build());
+
+		List<EuroCoin> coins = batch.toEuroCoinsOfCollection(testcase.collectionId);
+
+		assertEquals(testcase.expectedCount, coins.size());
+		assertTrue(coins.stream().allMatch(coin -> coin.getCollectionId().equals(testcase.collectionId)));
+		assertEquals(102, batch.size());
+		assertEquals(100 + 200 + 200, batch.getTotalCentValue());
+	}
+
+	private record AddTestcase(
+		int year,
+		CoinValue value,
+		CoinCountry country,
+		Mint mint,
+		String collectionId,
+		String expectedMintMark,
+		Class<? extends Exception> expectedException,
+		String description
+	){
+		@Override
+		public String toString(){
+			return description;
+		}
+	}
+
+	private static Stream<AddTestcase> addTestcases(){
+		return Stream.of(
+			new AddTestcase(2002, CoinValue.ONE_EURO, CoinCountry.GERMANY, Mint.BERLIN, collectionA, "A", null, "valid: German coin keeps mint"),
+			new AddTestcase(2002, CoinValue.ONE_EURO, CoinCountry.FRANCE, Mint.BERLIN, collectionA, "UNKNOWN", null, "valid: non-German coin gets unknown mint"),
+			new AddTestcase(1998, CoinValue.ONE_EURO, CoinCountry.FRANCE, null, collectionA, null, IllegalStateException.class, "invalid: year too small"),
+			new AddTestcase(2002, null, CoinCountry.FRANCE, null, collectionA, null, IllegalStateException.class, "invalid: null value"),
+			new AddTestcase(2002, CoinValue.ONE_EURO, null, null, collectionA, null, IllegalStateException.class, "invalid: null country"),
+			new AddTestcase(2002, CoinValue.ONE_EURO, CoinCountry.GERMANY, Mint.UNKOWN, collectionA, null, IllegalStateException.class, "invalid: German coin without mint"),
+			new AddTestcase(2002, CoinValue.ONE_EURO, CoinCountry.FRANCE, null, null, null, IllegalStateException.class, "invalid: null collection id")
+		);
+	}
+
+	@ParameterizedTest(name = "{index} - {0}")
+	@MethodSource("addTestcases")
+	void testAdd(AddTestcase testcase){
+		EuroCoinBatch batch = new EuroCoinBatch();
+		if (testcase.expectedException != null){
+			assertThrows(testcase.expectedException, () -> batch.add(null, testcase.year, testcase.value, testcase.country, testcase.mint, null, testcase.collectionId));
+			assertEquals(0, batch.size());
+		} else {
+			batch.add(null, testcase.year, testcase.value, testcase.country, testcase.mint, null, testcase.collectionId);
+			assertEquals(testcase.expectedMintMark, batch.getMint(0).getMintMark());
+			assertThrows(IndexOutOfBoundsException.class, () -> batch.getYear(1));
+		}
+	}
+}
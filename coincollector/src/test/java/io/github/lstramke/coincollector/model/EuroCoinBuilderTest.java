@@ -88,4 +88,50 @@ public class EuroCoinBuilderTest {
 		    assertNotNull(coin.getId(), "id should be present (auto-gen)");
         }
 	}
+
+	private record DescriptionTestcase(
+		CoinCountry mintCountry,
+		Mint mint,
+		CoinDescription coinDescription,
+		String expectedText,
+		boolean expectedCustom,
+		String description
+	){
+		@Override
+		public String toString(){
+			return description;
+		}
+	}
+
+	private static Stream<DescriptionTestcase> descriptionTestcases(){
+		return Stream.of(
+			new DescriptionTestcase(CoinCountry.GERMANY, Mint.STUTTGART, null,
+				"50 Cent Münze aus Deutschland aus dem Jahr 2015 aus der Prägestätte F", false, "No description - default derived"),
+			new DescriptionTestcase(CoinCountry.GERMANY, Mint.STUTTGART,
+				new CoinDescription("50 Cent Münze aus Deutschland aus dem Jahr 2015 aus der Prägestätte F"),
+				"50 Cent Münze aus Deutschland aus dem Jahr 2015 aus der Prägestätte F", false, "Default text given - not custom"),
+			new DescriptionTestcase(CoinCountry.SPAIN, Mint.STUTTGART, null,
+				"50 Cent Münze aus Spanien aus dem Jahr 2015", false, "Non-German coin - default without mint"),
+			new DescriptionTestcase(CoinCountry.GERMANY, Mint.STUTTGART, new CoinDescription((String) null),
+				"50 Cent Münze aus Deutschland aus dem Jahr 2015 aus der Prägestätte F", false, "Description without text - default derived"),
+			new DescriptionTestcase(CoinCountry.GERMANY, Mint.STUTTGART, new CoinDescription("Fehlprägung"),
+				"Fehlprägung", true, "Custom text - kept")
+		);
+	}
+
+	@ParameterizedTest(name = "{index} - {0}")
+	@MethodSource("descriptionTestcases")
+	void testBuild_Description(DescriptionTestcase testcase){
+		EuroCoin coin = new EuroCoinBuilder()
+			.setYear(2015)
+			.setValue(CoinValue.FIFTY_CENTS)
+			.setMintCountry(testcase.mintCountry)
+			.setMint(testcase.mint)
+			.setDescription(testcase.coinDescription)
+			.setCollectionId("col-ok")
+			.build();
+
+		assertEquals(testcase.expectedText, coin.getDescription().toString(), "Description mismatch for: " + testcase.description);
+		assertEquals(testcase.expectedCustom, coin.hasCustomDescription(), "Custom flag mismatch for: " + testcase.description);
+	}
 }
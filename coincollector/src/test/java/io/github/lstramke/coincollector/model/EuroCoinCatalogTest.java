@@ -0,0 +1,128 @@
+package io.github.lstramke.coincollector.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class EuroCoinCatalogTest {
+
+    private record ParseTestcase(
+        List<String> lines,
+        int expectedSize,
+        Class<? extends Exception> expectedException,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<ParseTestcase> parseTestcases() {
+        return Stream.of(
+            new ParseTestcase(List.of("# comment", "", "FR;2002;2003;1,200;"), 4, null, "Comments and blank lines are ignored"),
+            new ParseTestcase(List.of("DE;2002;2002;200;A,D,F,G,J"), 5, null, "German issues are listed per mint"),
+            new ParseTestcase(List.of("IT;2024;;100;"), 3, null, "Running issue ends with the current year"),
+            new ParseTestcase(List.of("FR;2002;2002;200;", "FR;2002;2002;200;"), 1, null, "Duplicate entries are merged"),
+            new ParseTestcase(List.of("FR;2002;2002;200"), 0, IllegalArgumentException.class, "Missing field"),
+            new ParseTestcase(List.of("XX;2002;2002;200;"), 0, IllegalArgumentException.class, "Unknown country"),
+            new ParseTestcase(List.of("FR;2002;2002;3;"), 0, IllegalArgumentException.class, "Unknown value"),
+            new ParseTestcase(List.of("FR;two;2002;200;"), 0, IllegalArgumentException.class, "Invalid year"),
+            new ParseTestcase(List.of("FR;1990;2002;200;"), 0, IllegalArgumentException.class, "Year before the euro"),
+            new ParseTestcase(List.of("FR;2002;2002;200;A"), 0, IllegalArgumentException.class, "Mint for country other than Germany"),
+            new ParseTestcase(List.of("DE;2002;2002;200;"), 0, IllegalArgumentException.class, "German issue without mint"),
+            new ParseTestcase(List.of("DE;2002;2002;200;A,X"), 0, IllegalArgumentException.class, "German issue with unknown mint")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("parseTestcases")
+    void testParse(ParseTestcase testcase) {
+        if (testcase.expectedException != null) {
+            assertThrows(testcase.expectedException, () -> EuroCoinCatalog.parse(testcase.lines, 2026),
+                "Expected exception was not thrown for: " + testcase.description);
+        } else {
+            EuroCoinCatalog catalog = EuroCoinCatalog.parse(testcase.lines, 2026);
+            assertEquals(testcase.expectedSize, catalog.size(), "Size mismatch for: " + testcase.description);
+            assertEquals(testcase.expectedSize, catalog.all().cardinality(), "All mask mismatch for: " + testcase.description);
+        }
+    }
+
+    private record OrdinalTestcase(
+        CoinCountry country,
+        CoinValue value,
+        int year,
+        Mint mint,
+        boolean expectedInCatalog,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<OrdinalTestcase> ordinalTestcases() {
+        return Stream.of(
+            new OrdinalTestcase(CoinCountry.GERMANY, CoinValue.TWO_EUROS, 2002, Mint.BERLIN, true, "German coin with catalog mint"),
+            new OrdinalTestcase(CoinCountry.GERMANY, CoinValue.TWO_EUROS, 2002, Mint.HAMBURG, false, "German coin with other mint"),
+            new OrdinalTestcase(CoinCountry.GERMANY, CoinValue.TWO_EUROS, 2002, Mint.UNKOWN, false, "German coin with unknown mint"),
+            new OrdinalTestcase(CoinCountry.FRANCE, CoinValue.ONE_CENT, 1999, null, true, "Coin without mint"),
+            new OrdinalTestcase(CoinCountry.FRANCE, CoinValue.ONE_CENT, 1999, Mint.BERLIN, true, "Mint ignored for countries other than Germany"),
+            new OrdinalTestcase(CoinCountry.FRANCE, CoinValue.ONE_CENT, 2001, null, false, "Year outside issue"),
+            new OrdinalTestcase(CoinCountry.ITALY, CoinValue.ONE_CENT, 2000, null, false, "Country without issue"),
+            new OrdinalTestcase(null, CoinValue.ONE_CENT, 2000, null, false, "Null country"),
+            new OrdinalTestcase(CoinCountry.FRANCE, CoinValue.ONE_CENT, -1, null, false, "Negative year")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("ordinalTestcases")
+    void testOrdinalOf(OrdinalTestcase testcase) {
+        EuroCoinCatalog catalog = EuroCoinCatalog.parse(List.of("DE;2002;2003;200;A,D", "FR;1999;2000;1,200;"), 2026);
+
+        int ordinal = catalog.ordinalOf(testcase.country, testcase.value, testcase.year, testcase.mint);
+
+        if (testcase.expectedInCatalog) {
+            long entry = catalog.getEntry(ordinal);
+            assertEquals(testcase.country, PackedEuroCoin.country(entry), "Country mismatch for: " + testcase.description);
+            assertEquals(testcase.value, PackedEuroCoin.value(entry), "Value mismatch for: " + testcase.description);
+            assertEquals(testcase.year, PackedEuroCoin.year(entry), "Year mismatch for: " + testcase.description);
+            assertTrue(catalog.ofCountry(testcase.country).get(ordinal), "Country mask mismatch for: " + testcase.description);
+        } else {
+            assertEquals(-1, ordinal, "Unexpected ordinal for: " + testcase.description);
+        }
+    }
+
+    @Test
+    void testToBitSet() {
+        EuroCoinCatalog catalog = EuroCoinCatalog.parse(List.of("FR;2002;2003;200;"), 2026);
+        EuroCoin inCatalog = new EuroCoinBuilder().setValue(CoinValue.TWO_EUROS).setYear(2003)
+            .setMintCountry(CoinCountry.FRANCE).setCollectionId("collection").build();
+        EuroCoin notInCatalog = new EuroCoinBuilder().setValue(CoinValue.ONE_EURO).setYear(2003)
+            .setMintCountry(CoinCountry.FRANCE).setCollectionId("collection").build();
+
+        var bitSet = catalog.toBitSet(List.of(inCatalog, notInCatalog, inCatalog));
+
+        assertEquals(1, bitSet.cardinality());
+        assertTrue(bitSet.get(catalog.ordinalOf(inCatalog)));
+    }
+
+    @Test
+    void testLoad_BundledCatalog() {
+        EuroCoinCatalog catalog = EuroCoinCatalog.load();
+
+        assertTrue(catalog.size() > 0);
+        assertTrue(catalog.ordinalOf(CoinCountry.GERMANY, CoinValue.TWO_EUROS, 2002, Mint.KARLSRUHE) >= 0);
+        assertTrue(catalog.ordinalOf(CoinCountry.GERMANY, CoinValue.TWO_EUROS, 2002, Mint.UNKOWN) < 0);
+        assertTrue(catalog.ordinalOf(CoinCountry.SLOVENIA, CoinValue.ONE_CENT, 2006, null) < 0);
+        assertTrue(catalog.ofCountry(CoinCountry.GERMANY).cardinality() > catalog.ofCountry(CoinCountry.FRANCE).cardinality());
+    }
+}
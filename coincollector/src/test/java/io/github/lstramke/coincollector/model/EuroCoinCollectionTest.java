@@ -0,0 +1,100 @@
+package io.github.lstramke.coincollector.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class EuroCoinCollectionTest {
+
+    private static final String COLLECTION_ID = "collection-1";
+
+    private static EuroCoin coin(int year, CoinValue value) {
+        return new EuroCoinBuilder()
+            .setYear(year)
+            .setValue(value)
+            .setMintCountry(CoinCountry.FRANCE)
+            .setCollectionId(COLLECTION_ID)
+            .build();
+    }
+
+    private record TotalsTestcase(
+        Consumer<EuroCoinCollection> changes,
+        int expectedCoinCount,
+        int expectedTotalValue,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<TotalsTestcase> totalsTestcases() {
+        return Stream.of(
+            new TotalsTestcase(collection -> {}, 1, 200, "Initial coins are counted"),
+            new TotalsTestcase(collection -> collection.addCoin(coin(2003, CoinValue.FIFTY_CENTS)), 2, 250, "Added coin is counted"),
+            new TotalsTestcase(collection -> collection.removeCoin(coin(2002, CoinValue.TWO_EUROS)), 0, 0, "Removed coin is subtracted"),
+            new TotalsTestcase(collection -> collection.removeCoin(coin(2004, CoinValue.ONE_EURO)), 1, 200, "Removing an absent coin changes nothing"),
+            new TotalsTestcase(collection -> collection.removeCoin(null), 1, 200, "Removing null changes nothing"),
+            new TotalsTestcase(collection -> {
+                collection.addCoin(coin(2003, CoinValue.ONE_CENT));
+                collection.addCoin(coin(2004, CoinValue.ONE_EURO));
+                collection.removeCoin(coin(2003, CoinValue.ONE_CENT));
+            }, 2, 300, "Mixed adds and removes")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("totalsTestcases")
+    void testTotals(TotalsTestcase testcase) {
+        EuroCoinCollection collection = new EuroCoinCollection(COLLECTION_ID, "Name", "group-1");
+        collection.addCoin(coin(2002, CoinValue.TWO_EUROS));
+
+        testcase.changes.accept(collection);
+
+        assertEquals(testcase.expectedCoinCount, collection.getCoinCount(), "Coin count mismatch for: " + testcase.description);
+        assertEquals(testcase.expectedTotalValue, collection.getTotalValue(), "Total value mismatch for: " + testcase.description);
+        assertEquals(
+            collection.getCoins().stream().mapToInt(coin -> coin.getValue().getCentValue()).sum(),
+            collection.getTotalValue(),
+            "Total value differs from coins for: " + testcase.description
+        );
+    }
+
+    @Test
+    void testGetCoinsIsUnmodifiableLiveView() {
+        EuroCoinCollection collection = new EuroCoinCollection(COLLECTION_ID, "Name", "group-1");
+        List<EuroCoin> coins = collection.getCoins();
+
+        EuroCoin added = coin(2002, CoinValue.TWO_EUROS);
+        collection.addCoin(added);
+
+        assertSame(coins, collection.getCoins());
+        assertEquals(List.of(added), coins);
+        assertThrows(UnsupportedOperationException.class, () -> coins.add(added));
+        assertThrows(UnsupportedOperationException.class, () -> coins.remove(added));
+    }
+
+    @Test
+    void testGroupTotalsAndLiveView() {
+        EuroCoinCollectionGroup group = new EuroCoinCollectionGroup("group-1", "Group", "owner-1");
+        List<EuroCoinCollection> collections = group.getCollections();
+        EuroCoinCollection collection = new EuroCoinCollection(COLLECTION_ID, "Name", "group-1");
+        group.addCollection(collection);
+        collection.addCoin(coin(2002, CoinValue.TWO_EUROS));
+        collection.addCoin(coin(2003, CoinValue.TEN_CENTS));
+
+        assertEquals(List.of(collection), collections);
+        assertThrows(UnsupportedOperationException.class, () -> collections.clear());
+        assertEquals(2, group.getTotalCoins());
+        assertEquals(210, group.getTotalValue());
+    }
+}
@@ -102,4 +102,41 @@ public class EuroCoinFactoryTest {
 			verifyNoMoreInteractions(rs);
 		}
 	}
+
+	@ParameterizedTest(name = "{index} - {0}")
+	@MethodSource("fromDbEntryTestcases")
+	void testAddDataBaseEntry(FromDbEntryTestcase testcase) throws Exception {
+		EuroCoinFactory factory = new EuroCoinFactory();
+		EuroCoinBatch batch = new EuroCoinBatch();
+
+		ResultSet rs = mock(ResultSet.class);
+
+		if (testcase.sqlExceptionOnAccess){
+			when(rs.getString(anyString())).thenThrow(new SQLException("rs boom"));
+			when(rs.getInt(anyString())).thenThrow(new SQLException("rs boom"));
+		} else {
+			when(rs.getString("coin_id")).thenReturn(testcase.id);
+			when(rs.getInt("year")).thenReturn(testcase.year);
+			when(rs.getInt("coin_value")).thenReturn(testcase.centValue);
+			when(rs.getString("mint_country")).thenReturn(testcase.countryIso);
+			when(rs.getString("mint")).thenReturn(testcase.mintMark);
+			when(rs.getString("description")).thenReturn(testcase.description);
+			when(rs.getString("collection_id")).thenReturn(testcase.collectionId);
+		}
+
+		if (testcase.expectedException != null){
+			assertThrows(testcase.expectedException, () -> factory.addDataBaseEntry(rs, batch));
+			assertEquals(0, batch.size());
+		} else {
+			factory.addDataBaseEntry(rs, batch);
+			assertEquals(1, batch.size());
+			assertEquals(((testcase.id != null && !testcase.id.isBlank()) ? testcase.id : "GERMANY_ONE_EURO_2002_BERLIN"), batch.getId(0));
+			assertEquals(testcase.year, batch.getYear(0));
+			assertEquals(testcase.centValue, batch.getValue(0).getCentValue());
+			assertEquals(testcase.countryIso, batch.getMintCountry(0).getIsoCode());
+			assertEquals(testcase.expectedMintMark, batch.getMint(0).getMintMark());
+			assertEquals(testcase.collectionId, batch.getCollectionId(0));
+			assertEquals(testcase.description, batch.getDescription(0).toString());
+		}
+	}
 }
@@ -0,0 +1,77 @@
+package io.github.lstramke.coincollector.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class IdGeneratorsTest {
+
+    private record ByNameTestcase(
+        String name,
+        Class<? extends IdGenerator> expectedType,
+        Class<? extends Exception> expectedException,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<ByNameTestcase> byNameTestcases() {
+        return Stream.of(
+            new ByNameTestcase("uuidv7", UuidV7IdGenerator.class, null, "uuidv7 -> time-ordered generator"),
+            new ByNameTestcase("UUIDv7", UuidV7IdGenerator.class, null, "Name is case-insensitive"),
+            new ByNameTestcase("random", RandomUuidIdGenerator.class, null, "random -> UUIDv4 generator"),
+            new ByNameTestcase("sequence", null, IllegalArgumentException.class, "Unknown name"),
+            new ByNameTestcase(null, null, IllegalArgumentException.class, "Null name")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("byNameTestcases")
+    void testByName(ByNameTestcase testcase) {
+        if (testcase.expectedException != null) {
+            assertThrows(testcase.expectedException, () -> IdGenerators.byName(testcase.name),
+                "Expected exception was not thrown for: " + testcase.description);
+        } else {
+            assertInstanceOf(testcase.expectedType, IdGenerators.byName(testcase.name),
+                "Generator type mismatch for: " + testcase.description);
+        }
+    }
+
+    private record NewIdTestcase(
+        IdGenerator generator,
+        int expectedVersion,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<NewIdTestcase> newIdTestcases() {
+        return Stream.of(
+            new NewIdTestcase(new UuidV7IdGenerator(), 7, "Collections get version 7 ids"),
+            new NewIdTestcase(new RandomUuidIdGenerator(), 4, "Collections get version 4 ids")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("newIdTestcases")
+    void testNewCollectionUsesConfiguredGenerator(NewIdTestcase testcase) {
+        try {
+            IdGenerators.set(testcase.generator);
+            EuroCoinCollection collection = new EuroCoinCollection("name", "group-1");
+            assertEquals(testcase.expectedVersion, UUID.fromString(collection.getId()).version(),
+                "Version mismatch for: " + testcase.description);
+        } finally {
+            IdGenerators.set(new UuidV7IdGenerator());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.lstramke.coincollector.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class PackedEuroCoinTest {
+
+	private record PackTestcase(
+		int year,
+		CoinValue value,
+		CoinCountry country,
+		Mint mint,
+		Class<? extends Exception> expectedException,
+		String description
+	){
+		@Override
+		public String toString(){
+			return description;
+		}
+	}
+
+	private static Stream<PackTestcase> packTestcases(){
+		return Stream.of(
+			new PackTestcase(2002, CoinValue.TWO_EUROS, CoinCountry.GERMANY, Mint.HAMBURG, null, "valid: German coin round-trips"),
+			new PackTestcase(1999, CoinValue.ONE_CENT, CoinCountry.AUSTRIA, Mint.UNKOWN, null, "valid: first enum constants round-trip"),
+			new PackTestcase(65535, CoinValue.TWO_EUROS, CoinCountry.BULGARIA, Mint.UNKOWN, null, "valid: last enum constants and max year round-trip"),
+			new PackTestcase(65536, CoinValue.ONE_CENT, CoinCountry.AUSTRIA, Mint.UNKOWN, IllegalArgumentException.class, "invalid: year does not fit"),
+			new PackTestcase(-1, CoinValue.ONE_CENT, CoinCountry.AUSTRIA, Mint.UNKOWN, IllegalArgumentException.class, "invalid: negative year"),
+			new PackTestcase(2002, null, CoinCountry.AUSTRIA, Mint.UNKOWN, IllegalArgumentException.class, "invalid: null value"),
+			new PackTestcase(2002, CoinValue.ONE_CENT, null, Mint.UNKOWN, IllegalArgumentException.class, "invalid: null country"),
+			new PackTestcase(2002, CoinValue.ONE_CENT, CoinCountry.AUSTRIA, null, IllegalArgumentException.class, "invalid: null mint")
+		);
+	}
+
+	@ParameterizedTest(name = "{index} - {0}")
+	@MethodSource("packTestcases")
+	void testPack(PackTestcase testcase){
+		if (testcase.expectedException != null){
+			assertThrows(testcase.expectedException, () -> PackedEuroCoin.pack(testcase.year, testcase.value, testcase.country, testcase.mint));
+		} else {
+			long packed = PackedEuroCoin.pack(testcase.year, testcase.value, testcase.country, testcase.mint);
+			assertEquals(testcase.year, PackedEuroCoin.year(packed));
+			assertEquals(testcase.value, PackedEuroCoin.value(packed));
+			assertEquals(testcase.country, PackedEuroCoin.country(packed));
+			assertEquals(testcase.mint, PackedEuroCoin.mint(packed));
+		}
+	}
+
+	private record IdTestcase(
+		EuroCoin coin,
+		String description
+	){
+		@Override
+		public String toString(){
+			return description;
+		}
+	}
+
+	private static Stream<IdTestcase> idTestcases(){
+		return Stream.of(
+			new IdTestcase(new EuroCoinBuilder().setYear(2002).setValue(CoinValue.ONE_EURO).setMintCountry(CoinCountry.GERMANY).setMint(Mint.BERLIN).setCollectionId("c").build(), "German coin id"),
+			new IdTestcase(new EuroCoinBuilder().setYear(2010).setValue(CoinValue.FIFTY_CENTS).setMintCountry(CoinCountry.FRANCE).setCollectionId("c").build(), "Non-German coin id with unknown mint")
+		);
+	}
+
+	@ParameterizedTest(name = "{index} - {0}")
+	@MethodSource("idTestcases")
+	void testId(IdTestcase testcase){
+		assertEquals(testcase.coin.getId(), PackedEuroCoin.id(PackedEuroCoin.pack(testcase.coin)));
+	}
+}
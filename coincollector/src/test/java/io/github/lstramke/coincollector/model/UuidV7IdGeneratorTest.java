@@ -0,0 +1,117 @@
+package io.github.lstramke.coincollector.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class UuidV7IdGeneratorTest {
+
+    private static final long MILLIS = 1_700_000_000_000L;
+
+    private record OrderingTestcase(
+        int count,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<OrderingTestcase> orderingTestcases() {
+        return Stream.of(
+            new OrderingTestcase(2, "Two ids in the same millisecond"),
+            new OrderingTestcase(10_000, "Counter overflow within one millisecond")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("orderingTestcases")
+    void testNext_IsStrictlyIncreasingOnFixedClock(OrderingTestcase testcase) {
+        UuidV7IdGenerator generator = new UuidV7IdGenerator(Clock.fixed(Instant.ofEpochMilli(MILLIS), ZoneOffset.UTC));
+
+        List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i < testcase.count; i++) {
+            uuids.add(generator.next());
+        }
+
+        for (int i = 1; i < uuids.size(); i++) {
+            UUID previous = uuids.get(i - 1);
+            UUID current = uuids.get(i);
+            assertTrue(previous.toString().compareTo(current.toString()) < 0,
+                "Ids not increasing at " + i + " for: " + testcase.description);
+        }
+        assertEquals(MILLIS, UuidV7IdGenerator.timestampOf(uuids.get(0)), "Timestamp mismatch for: " + testcase.description);
+    }
+
+    private record FormatTestcase(
+        long millis,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<FormatTestcase> formatTestcases() {
+        return Stream.of(
+            new FormatTestcase(0L, "Unix epoch"),
+            new FormatTestcase(MILLIS, "Current time"),
+            new FormatTestcase(0xFFFF_FFFF_FFFFL, "Largest 48-bit timestamp")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("formatTestcases")
+    void testNewId_Format(FormatTestcase testcase) {
+        UuidV7IdGenerator generator = new UuidV7IdGenerator(Clock.fixed(Instant.ofEpochMilli(testcase.millis), ZoneOffset.UTC));
+
+        String id = generator.newId();
+        UUID uuid = UUID.fromString(id);
+
+        assertEquals(uuid.toString(), id, "Id not canonical for: " + testcase.description);
+        assertEquals(7, uuid.version(), "Version mismatch for: " + testcase.description);
+        assertEquals(2, uuid.variant(), "Variant mismatch for: " + testcase.description);
+        assertEquals(testcase.millis, UuidV7IdGenerator.timestampOf(uuid), "Timestamp mismatch for: " + testcase.description);
+    }
+
+    private record TimestampTestcase(
+        UUID uuid,
+        Class<? extends Exception> expectedException,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<TimestampTestcase> timestampTestcases() {
+        return Stream.of(
+            new TimestampTestcase(new UuidV7IdGenerator().next(), null, "Version 7 UUID"),
+            new TimestampTestcase(UUID.randomUUID(), IllegalArgumentException.class, "Version 4 UUID")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("timestampTestcases")
+    void testTimestampOf(TimestampTestcase testcase) {
+        if (testcase.expectedException != null) {
+            assertThrows(testcase.expectedException, () -> UuidV7IdGenerator.timestampOf(testcase.uuid),
+                "Expected exception was not thrown for: " + testcase.description);
+        } else {
+            assertDoesNotThrow(() -> UuidV7IdGenerator.timestampOf(testcase.uuid),
+                "Unexpected exception thrown for: " + testcase.description);
+        }
+    }
+}
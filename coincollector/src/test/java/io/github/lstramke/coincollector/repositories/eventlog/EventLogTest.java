@@ -0,0 +1,136 @@
+package io.github.lstramke.coincollector.repositories.eventlog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.lstramke.coincollector.model.CoinCountry;
+import io.github.lstramke.coincollector.model.CoinValue;
+import io.github.lstramke.coincollector.model.Mint;
+import io.github.lstramke.coincollector.repositories.memory.MemoryStore;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation.CoinRow;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation.CollectionRow;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation.Delete;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation.GroupRow;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation.Table;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation.UserRow;
+
+public class EventLogTest {
+
+    private static final List<List<StoreOperation>> COMMITS = List.of(
+        List.of(new UserRow("user-1", "alice")),
+        List.of(new GroupRow("group-1", "Group", "user-1"), new CollectionRow("collection-1", "Collection", "group-1")),
+        List.of(new CoinRow("coin-1", 2002, CoinValue.ONE_EURO, CoinCountry.GERMANY, Mint.BERLIN, null, "collection-1")),
+        List.of(new CoinRow("coin-2", 2010, CoinValue.TWO_EUROS, CoinCountry.FRANCE, null, "Gedenkmünze", "collection-1")),
+        List.of(new Delete(Table.COINS, "coin-1")),
+        List.of(new GroupRow("group-1", "Renamed", "user-1"))
+    );
+
+    @TempDir
+    Path directory;
+
+    private record RecoveryTestcase(
+        long segmentBytes,
+        int snapshotAfter,
+        boolean closeCleanly,
+        boolean tornTail,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<RecoveryTestcase> recoveryTestcases() {
+        return Stream.of(
+            new RecoveryTestcase(1 << 20, -1, false, false, "Crash without snapshot replays all records"),
+            new RecoveryTestcase(1 << 20, 3, false, false, "Crash after snapshot replays the tail"),
+            new RecoveryTestcase(1 << 20, -1, true, false, "Clean close restores from the final snapshot"),
+            new RecoveryTestcase(64, -1, false, false, "Records spread over several segments are replayed"),
+            new RecoveryTestcase(64, 2, false, false, "Snapshot deletes covered segments"),
+            new RecoveryTestcase(1 << 20, -1, false, true, "Torn record at the end is cut off")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("recoveryTestcases")
+    void testRecovery(RecoveryTestcase testcase) throws IOException, SQLException {
+        MemoryStore store = new MemoryStore();
+        EventLog eventLog = EventLog.open(directory, store, testcase.segmentBytes, 1000, 0);
+        for (int i = 0; i < COMMITS.size(); i++) {
+            commit(store, eventLog, COMMITS.get(i));
+            if (i + 1 == testcase.snapshotAfter) {
+                eventLog.snapshot();
+            }
+        }
+        if (testcase.closeCleanly) {
+            eventLog.close();
+        }
+        if (testcase.tornTail) {
+            Path lastSegment = segments().get(segments().size() - 1);
+            Files.write(lastSegment, ByteBuffer.allocate(12).putInt(100).putInt(0).array(), StandardOpenOption.APPEND);
+        }
+
+        MemoryStore recovered = new MemoryStore();
+        try (EventLog reopened = EventLog.open(directory, recovered, testcase.segmentBytes, 1000, 0)) {
+            MemoryStore.Snapshot expected = store.snapshot();
+            MemoryStore.Snapshot actual = recovered.snapshot();
+            assertEquals(COMMITS.size(), actual.position());
+            assertEquals(expected.users(), actual.users());
+            assertEquals(expected.groups(), actual.groups());
+            assertEquals(expected.collections(), actual.collections());
+            assertEquals(expected.coins(), actual.coins());
+            assertEquals(expected.changes(), actual.changes());
+            assertEquals(expected.changeVersion(), actual.changeVersion());
+
+            commit(recovered, reopened, List.of(new UserRow("user-2", "bob")));
+            assertEquals(COMMITS.size() + 1, reopened.position());
+        }
+        if (testcase.snapshotAfter > 0 && testcase.segmentBytes < 1024) {
+            assertTrue(Files.notExists(directory.resolve(String.format("events-%020d.log", 1))));
+        }
+    }
+
+    @Test
+    void testCorruptRecordBeforeLastSegmentFailsRecovery() throws IOException, SQLException {
+        MemoryStore store = new MemoryStore();
+        EventLog eventLog = EventLog.open(directory, store, 64, 1000, 0);
+        for (List<StoreOperation> operations : COMMITS) {
+            commit(store, eventLog, operations);
+        }
+        Path firstSegment = segments().get(0);
+        byte[] bytes = Files.readAllBytes(firstSegment);
+        bytes[bytes.length - 1] ^= 0x7f;
+        Files.write(firstSegment, bytes);
+
+        assertThrows(IOException.class, () -> EventLog.open(directory, new MemoryStore(), 64, 1000, 0));
+    }
+
+    /**
+     * Applies and journals one transaction the way a commit of the store does.
+     */
+    private static void commit(MemoryStore store, EventLog eventLog, List<StoreOperation> operations) throws IOException, SQLException {
+        store.replay(operations);
+        eventLog.awaitDurable(eventLog.append(operations));
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".log")).sorted().toList();
+        }
+    }
+}
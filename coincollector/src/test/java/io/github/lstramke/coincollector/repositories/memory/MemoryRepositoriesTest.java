@@ -0,0 +1,172 @@
+package io.github.lstramke.coincollector.repositories.memory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.lstramke.coincollector.model.CoinCountry;
+import io.github.lstramke.coincollector.model.CoinValue;
+import io.github.lstramke.coincollector.model.EuroCoinCollectionFactory;
+import io.github.lstramke.coincollector.model.EuroCoinCollectionGroupFactory;
+import io.github.lstramke.coincollector.model.EuroCoinFactory;
+import io.github.lstramke.coincollector.model.Mint;
+import io.github.lstramke.coincollector.model.UserFactory;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class MemoryRepositoriesTest {
+
+    private final UserFactory userFactory = new UserFactory();
+    private final EuroCoinCollectionGroupFactory groupFactory = new EuroCoinCollectionGroupFactory();
+    private final EuroCoinCollectionFactory collectionFactory = new EuroCoinCollectionFactory();
+    private final EuroCoinFactory coinFactory = new EuroCoinFactory();
+
+    private MemoryDataSource dataSource;
+    private UserMemoryRepository userRepository;
+    private EuroCoinCollectionGroupMemoryRepository groupRepository;
+    private EuroCoinCollectionMemoryRepository collectionRepository;
+    private EuroCoinMemoryRepository coinRepository;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        MemoryStore store = new MemoryStore();
+        dataSource = new MemoryDataSource(store);
+        userRepository = new UserMemoryRepository(store, userFactory);
+        groupRepository = new EuroCoinCollectionGroupMemoryRepository(store, groupFactory);
+        collectionRepository = new EuroCoinCollectionMemoryRepository(store, collectionFactory);
+        coinRepository = new EuroCoinMemoryRepository(store, coinFactory);
+        try (Connection connection = dataSource.getConnection()) {
+            userRepository.create(connection, userFactory.fromValues("user-1", "alice"));
+            userRepository.create(connection, userFactory.fromValues("user-2", "bob"));
+            groupRepository.create(connection, groupFactory.fromValues("group-1", "Group", "user-1"));
+            collectionRepository.create(connection, collectionFactory.fromValues("collection-1", "Collection", "group-1"));
+            coinRepository.create(connection, coinFactory.fromValues("coin-1", 2002, CoinValue.ONE_EURO, CoinCountry.GERMANY, Mint.BERLIN, null, "collection-1"));
+        }
+    }
+
+    private interface Write {
+        void run(Connection connection) throws SQLException;
+    }
+
+    private record ConstraintTestcase(
+        Write write,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private Stream<ConstraintTestcase> constraintTestcases() {
+        return Stream.of(
+            new ConstraintTestcase(connection -> userRepository.create(connection, userFactory.fromValues("user-3", "alice")),
+                "Username taken by another user"),
+            new ConstraintTestcase(connection -> groupRepository.create(connection, groupFactory.fromValues("group-2", "Group", "user-2")),
+                "Group name taken by another group"),
+            new ConstraintTestcase(connection -> collectionRepository.create(connection, collectionFactory.fromValues("collection-2", "Collection", "group-1")),
+                "Collection name taken by another collection"),
+            new ConstraintTestcase(connection -> collectionRepository.create(connection, collectionFactory.fromValues("collection-2", "Other", "group-unknown")),
+                "Collection of a missing group"),
+            new ConstraintTestcase(connection -> groupRepository.update(connection, groupFactory.fromValues("group-unknown", "Other", "user-1")),
+                "Update of a missing group")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("constraintTestcases")
+    void testConstraintViolationThrows(ConstraintTestcase testcase) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            assertThrows(SQLException.class, () -> testcase.write.run(connection));
+        }
+    }
+
+    private record CascadeTestcase(
+        Write delete,
+        boolean groupExists,
+        boolean collectionExists,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private Stream<CascadeTestcase> cascadeTestcases() {
+        return Stream.of(
+            new CascadeTestcase(connection -> collectionRepository.delete(connection, "collection-1"), true, false,
+                "Deleting a collection deletes its coins"),
+            new CascadeTestcase(connection -> groupRepository.delete(connection, "group-1"), false, false,
+                "Deleting a group deletes its collections and coins"),
+            new CascadeTestcase(connection -> userRepository.delete(connection, "user-1"), false, false,
+                "Deleting a user deletes the owned groups, collections and coins")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("cascadeTestcases")
+    void testDeleteCascades(CascadeTestcase testcase) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            testcase.delete.run(connection);
+
+            assertEquals(testcase.groupExists, groupRepository.exists(connection, "group-1"));
+            assertEquals(testcase.groupExists ? 1 : 0, groupRepository.getAllByUser(connection, "user-1").size());
+            assertEquals(testcase.collectionExists, collectionRepository.exists(connection, "collection-1"));
+            assertEquals(List.of(), collectionRepository.getIdsByGroup(connection, "group-1"));
+            assertFalse(coinRepository.exists(connection, "coin-1"));
+        }
+    }
+
+    @Test
+    void testConcurrentTransactionsAreIsolated() throws Exception {
+        int threads = 8;
+        int coinsPerThread = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < coinsPerThread; i++) {
+                        try (Connection connection = dataSource.getConnection()) {
+                            connection.setAutoCommit(false);
+                            coinRepository.create(connection, coinFactory.fromValues("coin-" + thread + "-" + i, 2010,
+                                CoinValue.TWO_EUROS, CoinCountry.FRANCE, null, null, "collection-1"));
+                            if (i % 2 == 0) {
+                                connection.commit();
+                            } else {
+                                connection.rollback();
+                            }
+                        }
+                        try (Connection connection = dataSource.getConnection()) {
+                            coinRepository.getAll(connection);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+            assertEquals(1 + threads * coinsPerThread / 2, coinRepository.getAll(connection).size());
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package io.github.lstramke.coincollector.repositories.memory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.lstramke.coincollector.model.ChangeEvent.Entity;
+import io.github.lstramke.coincollector.model.CoinCountry;
+import io.github.lstramke.coincollector.model.CoinValue;
+import io.github.lstramke.coincollector.model.Mint;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation.CoinRow;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation.CollectionRow;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation.Delete;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation.GroupRow;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation.Table;
+import io.github.lstramke.coincollector.repositories.memory.StoreOperation.UserRow;
+
+public class MemoryStoreTest {
+
+    private static final List<StoreOperation> BASE = List.of(
+        new UserRow("user-1", "alice"),
+        new GroupRow("group-1", "Group", "user-1"),
+        new CollectionRow("collection-1", "Collection", "group-1"),
+        new CoinRow("coin-1", 2002, CoinValue.ONE_EURO, CoinCountry.GERMANY, Mint.BERLIN, null, "collection-1")
+    );
+
+    private record InsertTestcase(
+        StoreOperation operation,
+        boolean shouldThrow,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<InsertTestcase> insertTestcases() {
+        return Stream.of(
+            new InsertTestcase(new UserRow("user-2", "bob"), false, "New user is inserted"),
+            new InsertTestcase(new UserRow("user-2", "alice"), true, "Duplicate username is rejected"),
+            new InsertTestcase(new UserRow("user-1", "bob"), true, "Duplicate user id is rejected"),
+            new InsertTestcase(new GroupRow("group-2", "Group", "user-1"), true, "Duplicate group name is rejected"),
+            new InsertTestcase(new GroupRow("group-2", null, "user-1"), false, "Group without name is inserted"),
+            new InsertTestcase(new GroupRow("group-2", "Other", "user-unknown"), true, "Group of unknown owner is rejected"),
+            new InsertTestcase(new CollectionRow("collection-2", "Collection", "group-1"), true, "Duplicate collection name is rejected"),
+            new InsertTestcase(new CollectionRow("collection-2", "Other", "group-unknown"), true, "Collection of unknown group is rejected"),
+            new InsertTestcase(new CoinRow("coin-2", 2010, CoinValue.TWO_EUROS, CoinCountry.FRANCE, null, null, "collection-unknown"), true, "Coin of unknown collection is rejected")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("insertTestcases")
+    void testInsert(InsertTestcase testcase) throws SQLException {
+        MemoryStore store = new MemoryStore();
+        store.replay(BASE);
+        MemoryStore.Snapshot before = store.snapshot();
+
+        try (Connection connection = new MemoryDataSource(store).getConnection()) {
+            if (testcase.shouldThrow) {
+                assertThrows(SQLException.class, () -> store.insert(connection, testcase.operation));
+                assertEquals(before, store.snapshot());
+            } else {
+                assertDoesNotThrow(() -> store.insert(connection, testcase.operation));
+                assertNotEquals(before, store.snapshot());
+            }
+        }
+    }
+
+    private record DeleteTestcase(
+        Delete delete,
+        List<String> remainingIds,
+        List<Entity> loggedEntities,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<DeleteTestcase> deleteTestcases() {
+        return Stream.of(
+            new DeleteTestcase(new Delete(Table.COINS, "coin-1"), List.of("user-1", "group-1", "collection-1"),
+                List.of(Entity.GROUP, Entity.COLLECTION, Entity.COIN), "Deleting a coin leaves a tombstone"),
+            new DeleteTestcase(new Delete(Table.COLLECTIONS, "collection-1"), List.of("user-1", "group-1"),
+                List.of(Entity.GROUP, Entity.COLLECTION), "Deleting a collection cascades to its coins"),
+            new DeleteTestcase(new Delete(Table.GROUPS, "group-1"), List.of("user-1"),
+                List.of(Entity.GROUP), "Deleting a group cascades to collections and coins"),
+            new DeleteTestcase(new Delete(Table.USERS, "user-1"), List.of(),
+                List.of(), "Deleting a user drops all owned rows and the change log")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("deleteTestcases")
+    void testDeleteCascades(DeleteTestcase testcase) throws SQLException {
+        MemoryStore store = new MemoryStore();
+        store.replay(BASE);
+
+        store.replay(List.of(testcase.delete));
+
+        List<String> remaining = Stream.of(
+            store.user("user-1") != null ? "user-1" : null,
+            store.group("group-1") != null ? "group-1" : null,
+            store.collection("collection-1") != null ? "collection-1" : null,
+            store.coin("coin-1") != null ? "coin-1" : null
+        ).filter(id -> id != null).toList();
+        assertEquals(testcase.remainingIds, remaining);
+        assertEquals(testcase.loggedEntities,
+            store.changesSince("user-1", 0, 100).stream().map(MemoryStore.ChangeRow::entity).toList());
+        assertTrue(store.changesSince("user-1", 0, 100).stream()
+            .allMatch(change -> change.deleted() == change.entityId().equals(testcase.delete.id())));
+    }
+
+    @Test
+    void testRollbackRestoresState() throws SQLException {
+        MemoryStore store = new MemoryStore();
+        store.replay(BASE);
+        MemoryStore.Snapshot before = store.snapshot();
+
+        try (Connection connection = new MemoryDataSource(store).getConnection()) {
+            connection.setAutoCommit(false);
+            store.insert(connection, new UserRow("user-2", "bob"));
+            store.update(connection, new GroupRow("group-1", "Renamed", "user-1"));
+            store.delete(connection, Table.COLLECTIONS, "collection-1");
+            assertNull(store.read(connection, () -> store.coin("coin-1")));
+            connection.rollback();
+        }
+
+        assertEquals(before.users(), store.snapshot().users());
+        assertEquals(before.groups(), store.snapshot().groups());
+        assertEquals(before.coins(), store.snapshot().coins());
+        assertEquals(before.changes(), store.snapshot().changes());
+        assertEquals(before.changeVersion(), store.snapshot().changeVersion());
+    }
+
+    @Test
+    void testReplayIsAtomic() throws SQLException {
+        MemoryStore store = new MemoryStore();
+        store.replay(BASE);
+        MemoryStore.Snapshot before = store.snapshot();
+
+        assertThrows(SQLException.class, () -> store.replay(List.of(
+            new UserRow("user-2", "bob"),
+            new GroupRow("group-2", "Group", "user-2"))));
+
+        assertEquals(before, store.snapshot());
+    }
+
+    private record JournalTestcase(
+        boolean appendFails,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<JournalTestcase> journalTestcases() {
+        return Stream.of(
+            new JournalTestcase(false, "Commit hands the operations to the journal"),
+            new JournalTestcase(true, "Failing journal rolls the commit back")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("journalTestcases")
+    void testCommitAppendsToJournal(JournalTestcase testcase) throws SQLException, IOException {
+        MemoryStore store = new MemoryStore();
+        store.replay(BASE);
+        MemoryStore.Journal journal = mock(MemoryStore.Journal.class);
+        if (testcase.appendFails) {
+            when(journal.append(anyList())).thenThrow(new IOException("disk full"));
+        } else {
+            when(journal.append(anyList())).thenReturn(7L);
+        }
+        store.setJournal(journal);
+        StoreOperation operation = new UserRow("user-2", "bob");
+
+        try (Connection connection = new MemoryDataSource(store).getConnection()) {
+            if (testcase.appendFails) {
+                assertThrows(SQLException.class, () -> store.insert(connection, operation));
+                assertNull(store.user("user-2"));
+                verify(journal, never()).awaitDurable(anyLong());
+            } else {
+                store.insert(connection, operation);
+                assertNotNull(store.user("user-2"));
+                verify(journal).awaitDurable(7L);
+            }
+        }
+        verify(journal).append(List.of(operation));
+    }
+}
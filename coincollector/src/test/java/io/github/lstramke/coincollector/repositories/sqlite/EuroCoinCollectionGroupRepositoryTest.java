@@ -393,6 +393,85 @@ public class EuroCoinCollectionGroupRepositoryTest {
         }
     }
 
+    private record GetAllTestcase(
+        Connection connection,
+        boolean shouldThrowSQLException,
+        List<EuroCoinCollectionGroup> groupsInDB,
+        int factoryThrowsOnRow,
+        List<EuroCoinCollectionGroup> expectedGroups,
+        Class<? extends Exception> expectedException,
+        String description
+    ){
+        @Override
+        public String toString(){
+            return description;
+        }
+    }
+
+    private static Stream<GetAllTestcase> getAllTestcases(){
+        EuroCoinCollectionGroup dummyCollectionGroup2 = new EuroCoinCollectionGroup("dummy_group2", "other_owner");
+        return Stream.of(
+            new GetAllTestcase(null, false, List.of(), -1, List.of(), IllegalArgumentException.class, "Null connection"),
+            new GetAllTestcase(mock(Connection.class), true, List.of(), -1, List.of(), SQLException.class, "SQLException during select all attempt"),
+            new GetAllTestcase(mock(Connection.class), false, List.of(), -1, List.of(), null, "Empty ResultSet"),
+            new GetAllTestcase(mock(Connection.class), false, List.of(dummyCollectionGroup, dummyCollectionGroup2), -1, List.of(dummyCollectionGroup, dummyCollectionGroup2),
+            null, "Multiple Groups of different owners - all valid"),
+            new GetAllTestcase(mock(Connection.class), false, List.of(dummyCollectionGroup, dummyCollectionGroup2), 0, List.of(dummyCollectionGroup2),
+            null, "Multiple Groups - with factory exception")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("getAllTestcases")
+    void testGetAll(GetAllTestcase testcase){
+        EuroCoinCollectionGroupFactory groupFactory = mock(EuroCoinCollectionGroupFactory.class);
+        EuroCoinCollectionGroupSqliteRepository repository = new EuroCoinCollectionGroupSqliteRepository(tableName, groupFactory);
+
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+
+        try {
+            if(testcase.connection != null){
+                when(testcase.connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+
+                if(testcase.shouldThrowSQLException){
+                    when(preparedStatement.executeQuery()).thenThrow(new SQLException("Select all failed"));
+                } else {
+                    when(preparedStatement.executeQuery()).thenReturn(resultSet);
+
+                    AtomicInteger row = new AtomicInteger(-1);
+                    lenient().when(resultSet.next()).then(hasNext -> row.incrementAndGet() < testcase.groupsInDB.size());
+                    lenient().when(resultSet.getString(eq("group_id"))).then(groupId -> testcase.groupsInDB.get(row.get()).getId());
+                    lenient().when(groupFactory.fromDataBaseEntry(resultSet)).then(group -> {
+                        int i = row.get();
+                        if(testcase.factoryThrowsOnRow == i){
+                            throw new SQLException("factory exception");
+                        } else {
+                            return testcase.groupsInDB.get(i);
+                        }
+                    });
+                }
+            }
+
+            if(testcase.expectedException != null){
+                assertThrows(testcase.expectedException, () ->
+                    repository.getAll(testcase.connection),
+                    "Expected exception was not thrown for: " + testcase.description
+                );
+            } else {
+                List<EuroCoinCollectionGroup> result = repository.getAll(testcase.connection);
+                assertEquals(testcase.expectedGroups, result,
+                    "Result value mismatch for: " + testcase.description
+                );
+
+                verify(testcase.connection).prepareStatement(anyString());
+                verify(preparedStatement).executeQuery();
+            }
+        } catch (SQLException e) {
+            fail("SQLException should not occur with mocks: " + e.getMessage());
+        }
+    }
+
     private record ExistsTestcase(
         String coinId,
         Connection connection,
@@ -511,4 +511,57 @@ public class EuroCoinCollectionSqliteRepositoryTest {
         assertEquals(testcase.expectedResult(), result,
                 "Result value mismatch for: " + testcase.description);
     }
+
+    record GetIdsByGroupTestcase(
+        String groupId,
+        Connection connection,
+        boolean shouldThrowSQLException,
+        List<String> idsInDB,
+        Class<? extends Exception> expectedException,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    static Stream<GetIdsByGroupTestcase> getIdsByGroupTestcases() {
+        return Stream.of(
+            new GetIdsByGroupTestcase("test_group", null, false, List.of(), IllegalArgumentException.class, "Null connection"),
+            new GetIdsByGroupTestcase(" ", mock(Connection.class), false, List.of(), IllegalArgumentException.class, "Blank group id"),
+            new GetIdsByGroupTestcase("test_group", mock(Connection.class), false, List.of(), null, "Group without collections"),
+            new GetIdsByGroupTestcase("test_group", mock(Connection.class), false, List.of("c1", "c2"), null, "Group with collections"),
+            new GetIdsByGroupTestcase("test_group", mock(Connection.class), true, List.of(), SQLException.class, "SQLException during select attempt")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("getIdsByGroupTestcases")
+    void testGetIdsByGroup(GetIdsByGroupTestcase testcase) throws SQLException {
+        EuroCoinCollectionSqliteRepository repository = new EuroCoinCollectionSqliteRepository(tableName, mock(EuroCoinCollectionFactory.class));
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+
+        if (testcase.connection != null && testcase.expectedException != IllegalArgumentException.class) {
+            when(testcase.connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+            if (testcase.shouldThrowSQLException) {
+                when(preparedStatement.executeQuery()).thenThrow(new SQLException("Select failed"));
+            } else {
+                when(preparedStatement.executeQuery()).thenReturn(resultSet);
+                AtomicInteger row = new AtomicInteger(-1);
+                when(resultSet.next()).then(hasNext -> row.incrementAndGet() < testcase.idsInDB.size());
+                lenient().when(resultSet.getString("collection_id")).then(id -> testcase.idsInDB.get(row.get()));
+            }
+        }
+
+        if (testcase.expectedException != null) {
+            assertThrows(testcase.expectedException, () -> repository.getIdsByGroup(testcase.connection, testcase.groupId),
+                "Expected exception was not thrown for: " + testcase.description);
+        } else {
+            assertEquals(testcase.idsInDB, repository.getIdsByGroup(testcase.connection, testcase.groupId),
+                "Result value mismatch for: " + testcase.description);
+            verify(preparedStatement).setString(1, testcase.groupId);
+        }
+    }
 }
@@ -1,14 +1,20 @@
 package io.github.lstramke.coincollector.repositories.sqlite;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.Mockito.*;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
@@ -18,9 +24,15 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import io.github.lstramke.coincollector.model.CoinCountry;
+import io.github.lstramke.coincollector.model.CoinDescription;
+import io.github.lstramke.coincollector.model.CoinFacets;
+import io.github.lstramke.coincollector.model.CoinFilter;
+import io.github.lstramke.coincollector.model.CoinStatistics;
 import io.github.lstramke.coincollector.model.CoinValue;
 import io.github.lstramke.coincollector.model.EuroCoin;
+import io.github.lstramke.coincollector.model.EuroCoinBatch;
 import io.github.lstramke.coincollector.model.EuroCoinBuilder;
+import io.github.lstramke.coincollector.model.EuroCoinCatalog;
 import io.github.lstramke.coincollector.model.EuroCoinFactory;
 import io.github.lstramke.coincollector.model.Mint;
 
@@ -401,6 +413,108 @@ class EuroCoinSqliteRepositoryTest {
         }
     }
 
+    @ParameterizedTest(name = " {index} - {0}")
+    @MethodSource("getAllTestcases")
+    void testGetAllAsBatch(GetAllTestcase testcase){
+        EuroCoinFactory euroCoinFactory = mock(EuroCoinFactory.class);
+        EuroCoinSqliteRepository repository = new EuroCoinSqliteRepository(tableName, euroCoinFactory);
+
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+
+        try {
+            if(testcase.connection != null){
+                when(testcase.connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+
+                if(testcase.shouldThrowSQLException){
+                    when(preparedStatement.executeQuery()).thenThrow(new SQLException("Select all failed"));
+                } else {
+                    when(preparedStatement.executeQuery()).thenReturn(resultSet);
+
+                    AtomicInteger row = new AtomicInteger(-1);
+                    lenient().when(resultSet.next()).then(hasNext -> row.incrementAndGet() < testcase.coinsInDB.size());
+                    lenient().when(resultSet.getString(eq("coin_id"))).then(coinId -> testcase.coinsInDB.get(row.get()).getId());
+                    lenient().doAnswer(invocation -> {
+                        int i = row.get();
+                        if (testcase.factoryThrowsOnRow == i){
+                            throw new SQLException("factory exception");
+                        }
+                        invocation.getArgument(1, EuroCoinBatch.class).add(testcase.coinsInDB.get(i));
+                        return null;
+                    }).when(euroCoinFactory).addDataBaseEntry(eq(resultSet), any(EuroCoinBatch.class));
+                }
+            }
+
+            if(testcase.expectedException != null){
+                assertThrows(testcase.expectedException, () ->
+                    repository.getAllAsBatch(testcase.connection),
+                    "Expected exception was not thrown for: " + testcase.description
+                );
+            } else {
+                EuroCoinBatch result = repository.getAllAsBatch(testcase.connection);
+                assertEquals(testcase.expectedEuroCoins, result.toEuroCoins(),
+                    "Result value mismatch for: " + testcase.description
+                );
+
+                verify(testcase.connection).prepareStatement(anyString());
+                verify(preparedStatement).executeQuery();
+            }
+        } catch (SQLException e) {
+           fail("SQLException should not occur with mocks: " + e.getMessage());
+        }
+    }
+
+    @ParameterizedTest(name = " {index} - {0}")
+    @MethodSource("getAllTestcases")
+    void testGetAllOfCollection(GetAllTestcase testcase){
+        EuroCoinFactory euroCoinFactory = mock(EuroCoinFactory.class);
+        EuroCoinSqliteRepository repository = new EuroCoinSqliteRepository(tableName, euroCoinFactory);
+
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+
+        try {
+            if(testcase.connection != null){
+                when(testcase.connection.prepareStatement(contains("WHERE collection_id = ?"))).thenReturn(preparedStatement);
+
+                if(testcase.shouldThrowSQLException){
+                    when(preparedStatement.executeQuery()).thenThrow(new SQLException("Select failed"));
+                } else {
+                    when(preparedStatement.executeQuery()).thenReturn(resultSet);
+
+                    AtomicInteger row = new AtomicInteger(-1);
+                    lenient().when(resultSet.next()).then(hasNext -> row.incrementAndGet() < testcase.coinsInDB.size());
+                    lenient().when(resultSet.getString(eq("coin_id"))).then(coinId -> testcase.coinsInDB.get(row.get()).getId());
+                    lenient().when(euroCoinFactory.fromDataBaseEntry(resultSet)).then(coin -> {
+                        int i = row.get();
+                        if (testcase.factoryThrowsOnRow == i){
+                            throw new SQLException("factory exception");
+                        } else {
+                            return testcase.coinsInDB.get(i);
+                        }
+                    });
+                }
+            }
+
+            if(testcase.expectedException != null){
+                assertThrows(testcase.expectedException, () ->
+                    repository.getAllOfCollection(testcase.connection, "dummy collection"),
+                    "Expected exception was not thrown for: " + testcase.description
+                );
+            } else {
+                List<EuroCoin> result = repository.getAllOfCollection(testcase.connection, "dummy collection");
+                assertEquals(testcase.expectedEuroCoins, result,
+                    "Result value mismatch for: " + testcase.description
+                );
+
+                verify(preparedStatement).setString(1, "dummy collection");
+                verify(preparedStatement).executeQuery();
+            }
+        } catch (SQLException e) {
+           fail("SQLException should not occur with mocks: " + e.getMessage());
+        }
+    }
+
     private record ExistsTestcase(
         String coinId,
         Connection connection,
@@ -533,4 +647,481 @@ class EuroCoinSqliteRepositoryTest {
         assertEquals(testcase.expectedResult(), result,
                 "Validation result mismatch for: " + testcase.description);
     }
+
+    private record DescriptionBindingTestcase(
+        CoinDescription coinDescription,
+        String expectedText,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<DescriptionBindingTestcase> descriptionBindingTestcases() {
+        return Stream.of(
+            new DescriptionBindingTestcase(null, null, "No description - stored as NULL"),
+            new DescriptionBindingTestcase(new CoinDescription(CoinValue.TWO_EUROS, 2002, CoinCountry.GERMANY, Mint.BERLIN),
+                null, "Generated default description - stored as NULL"),
+            new DescriptionBindingTestcase(new CoinDescription("Custom text"), "Custom text", "Custom description - stored as text")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("descriptionBindingTestcases")
+    void testCreateBindsDescription(DescriptionBindingTestcase testcase) throws SQLException {
+        EuroCoinSqliteRepository repository = new EuroCoinSqliteRepository(tableName, mock(EuroCoinFactory.class));
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeUpdate()).thenReturn(1);
+
+        EuroCoin coin = new EuroCoinBuilder()
+            .setValue(CoinValue.TWO_EUROS)
+            .setYear(2002)
+            .setMintCountry(CoinCountry.GERMANY)
+            .setMint(Mint.BERLIN)
+            .setDescription(testcase.coinDescription)
+            .setCollectionId("dummy collection")
+            .build();
+
+        repository.create(connection, coin);
+
+        if (testcase.expectedText == null) {
+            verify(preparedStatement).setNull(6, Types.VARCHAR);
+            verify(preparedStatement, never()).setString(eq(6), any());
+        } else {
+            verify(preparedStatement).setString(6, testcase.expectedText);
+        }
+    }
+
+    private record StatisticsRow(String country, int centValue, int year, String mint, int count) {}
+
+    private record StatisticsTestcase(
+        Connection connection,
+        List<String> collectionIds,
+        boolean shouldThrowSQLException,
+        List<StatisticsRow> rows,
+        int expectedCoinCount,
+        long expectedTotalCentValue,
+        Class<? extends Exception> expectedException,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<StatisticsTestcase> statisticsTestcases() {
+        List<StatisticsRow> validRows = List.of(
+            new StatisticsRow("DE", 200, 2002, "A", 2),
+            new StatisticsRow("FR", 50, 2010, null, 3)
+        );
+        List<StatisticsRow> rowsWithInvalidBucket = List.of(
+            new StatisticsRow("DE", 200, 2002, "A", 2),
+            new StatisticsRow("XX", 200, 2002, null, 5)
+        );
+        return Stream.of(
+            new StatisticsTestcase(null, List.of("c1"), false, List.of(), 0, 0, IllegalArgumentException.class, "Null connection"),
+            new StatisticsTestcase(mock(Connection.class), List.of(" "), false, List.of(), 0, 0, IllegalArgumentException.class, "Blank collection id"),
+            new StatisticsTestcase(mock(Connection.class), List.of(), false, List.of(), 0, 0, null, "No collections - no query"),
+            new StatisticsTestcase(mock(Connection.class), List.of("c1", "c2"), false, validRows, 5, 550, null, "Buckets are aggregated"),
+            new StatisticsTestcase(mock(Connection.class), List.of("c1"), false, rowsWithInvalidBucket, 2, 400, null, "Invalid bucket is skipped"),
+            new StatisticsTestcase(mock(Connection.class), List.of("c1"), true, List.of(), 0, 0, SQLException.class, "SQLException during statistics query")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("statisticsTestcases")
+    void testGetStatistics(StatisticsTestcase testcase) throws SQLException {
+        EuroCoinSqliteRepository repository = new EuroCoinSqliteRepository(tableName, mock(EuroCoinFactory.class));
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+
+        if (testcase.connection != null && !testcase.collectionIds.isEmpty() && testcase.expectedException != IllegalArgumentException.class) {
+            when(testcase.connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+            if (testcase.shouldThrowSQLException) {
+                when(preparedStatement.executeQuery()).thenThrow(new SQLException("Statistics failed"));
+            } else {
+                when(preparedStatement.executeQuery()).thenReturn(resultSet);
+                AtomicInteger row = new AtomicInteger(-1);
+                when(resultSet.next()).then(hasNext -> row.incrementAndGet() < testcase.rows.size());
+                lenient().when(resultSet.getString("mint_country")).then(country -> testcase.rows.get(row.get()).country);
+                lenient().when(resultSet.getInt("coin_value")).then(value -> testcase.rows.get(row.get()).centValue);
+                lenient().when(resultSet.getInt("year")).then(year -> testcase.rows.get(row.get()).year);
+                lenient().when(resultSet.getString("mint")).then(mint -> testcase.rows.get(row.get()).mint);
+                lenient().when(resultSet.getInt("coin_count")).then(count -> testcase.rows.get(row.get()).count);
+            }
+        }
+
+        if (testcase.expectedException != null) {
+            assertThrows(testcase.expectedException, () ->
+                repository.getStatistics(testcase.connection, testcase.collectionIds),
+                "Expected exception was not thrown for: " + testcase.description
+            );
+        } else {
+            CoinStatistics result = repository.getStatistics(testcase.connection, testcase.collectionIds);
+            assertEquals(testcase.expectedCoinCount, result.getCoinCount(), "Coin count mismatch for: " + testcase.description);
+            assertEquals(testcase.expectedTotalCentValue, result.getTotalCentValue(), "Total value mismatch for: " + testcase.description);
+            if (testcase.collectionIds.isEmpty()) {
+                verify(testcase.connection, never()).prepareStatement(anyString());
+            } else {
+                for (int i = 0; i < testcase.collectionIds.size(); i++) {
+                    verify(preparedStatement).setString(i + 1, testcase.collectionIds.get(i));
+                }
+            }
+        }
+    }
+
+    private record OwnedRow(String collectionId, String country, int centValue, int year, String mint) {}
+
+    private record OwnedCatalogOrdinalsTestcase(
+        Connection connection,
+        List<String> collectionIds,
+        boolean shouldThrowSQLException,
+        List<OwnedRow> rows,
+        Map<String, Integer> expectedOwnedCounts,
+        Class<? extends Exception> expectedException,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<OwnedCatalogOrdinalsTestcase> ownedCatalogOrdinalsTestcases() {
+        List<OwnedRow> rows = List.of(
+            new OwnedRow("c1", "DE", 200, 2002, "A"),
+            new OwnedRow("c1", "FR", 200, 2002, null),
+            new OwnedRow("c2", "FR", 200, 2002, null),
+            new OwnedRow("c2", "FR", 100, 2002, null),
+            new OwnedRow("c2", "XX", 200, 2002, null)
+        );
+        return Stream.of(
+            new OwnedCatalogOrdinalsTestcase(null, List.of("c1"), false, List.of(), Map.of(), IllegalArgumentException.class, "Null connection"),
+            new OwnedCatalogOrdinalsTestcase(mock(Connection.class), List.of(""), false, List.of(), Map.of(), IllegalArgumentException.class, "Blank collection id"),
+            new OwnedCatalogOrdinalsTestcase(mock(Connection.class), List.of(), false, List.of(), Map.of(), null, "No collections - no query"),
+            new OwnedCatalogOrdinalsTestcase(mock(Connection.class), List.of("c1", "c2", "c3"), false, rows, Map.of("c1", 2, "c2", 1, "c3", 0), null,
+                "Owned ordinals per collection, coins outside the catalog ignored"),
+            new OwnedCatalogOrdinalsTestcase(mock(Connection.class), List.of("c1"), true, List.of(), Map.of(), SQLException.class, "SQLException during select attempt")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("ownedCatalogOrdinalsTestcases")
+    void testGetOwnedCatalogOrdinals(OwnedCatalogOrdinalsTestcase testcase) throws SQLException {
+        EuroCoinSqliteRepository repository = new EuroCoinSqliteRepository(tableName, mock(EuroCoinFactory.class));
+        EuroCoinCatalog catalog = EuroCoinCatalog.parse(List.of("DE;2002;2002;200;A", "FR;2002;2002;200;"), 2026);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+
+        if (testcase.connection != null && !testcase.collectionIds.isEmpty() && testcase.expectedException != IllegalArgumentException.class) {
+            when(testcase.connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+            if (testcase.shouldThrowSQLException) {
+                when(preparedStatement.executeQuery()).thenThrow(new SQLException("Select failed"));
+            } else {
+                when(preparedStatement.executeQuery()).thenReturn(resultSet);
+                AtomicInteger row = new AtomicInteger(-1);
+                when(resultSet.next()).then(hasNext -> row.incrementAndGet() < testcase.rows.size());
+                lenient().when(resultSet.getString("collection_id")).then(id -> testcase.rows.get(row.get()).collectionId);
+                lenient().when(resultSet.getString("mint_country")).then(country -> testcase.rows.get(row.get()).country);
+                lenient().when(resultSet.getInt("coin_value")).then(value -> testcase.rows.get(row.get()).centValue);
+                lenient().when(resultSet.getInt("year")).then(year -> testcase.rows.get(row.get()).year);
+                lenient().when(resultSet.getString("mint")).then(mint -> testcase.rows.get(row.get()).mint);
+            }
+        }
+
+        if (testcase.expectedException != null) {
+            assertThrows(testcase.expectedException, () ->
+                repository.getOwnedCatalogOrdinals(testcase.connection, testcase.collectionIds, catalog),
+                "Expected exception was not thrown for: " + testcase.description
+            );
+        } else {
+            Map<String, BitSet> result = repository.getOwnedCatalogOrdinals(testcase.connection, testcase.collectionIds, catalog);
+            assertEquals(testcase.collectionIds, List.copyOf(result.keySet()), "Collection ids mismatch for: " + testcase.description);
+            testcase.expectedOwnedCounts.forEach((collectionId, count) ->
+                assertEquals(count, result.get(collectionId).cardinality(), "Owned count mismatch of " + collectionId + " for: " + testcase.description));
+            if (testcase.collectionIds.isEmpty()) {
+                verify(testcase.connection, never()).prepareStatement(anyString());
+            }
+        }
+    }
+
+    private record MatchQueryTestcase(String text, String expectedQuery, String description) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<MatchQueryTestcase> matchQueryTestcases() {
+        return Stream.of(
+            new MatchQueryTestcase(null, "", "Null text"),
+            new MatchQueryTestcase("  -*\" ", "", "Only separators and operators"),
+            new MatchQueryTestcase("Fehlprägung", "\"Fehlprägung\"*", "Single word with umlaut"),
+            new MatchQueryTestcase("rand  Fehler", "\"rand\"* \"Fehler\"*", "Multiple words"),
+            new MatchQueryTestcase("NOT \"x\" OR y*", "\"NOT\"* \"x\"* \"OR\"* \"y\"*", "FTS5 syntax is quoted"),
+            new MatchQueryTestcase("2002-A", "\"2002\"* \"A\"*", "Digits are words")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("matchQueryTestcases")
+    void testToMatchQuery(MatchQueryTestcase testcase) {
+        assertEquals(testcase.expectedQuery, EuroCoinSqliteRepository.toMatchQuery(testcase.text), "Query mismatch for: " + testcase.description);
+    }
+
+    private record SearchTestcase(
+        Connection connection,
+        String text,
+        List<String> collectionIds,
+        int limit,
+        int offset,
+        boolean shouldThrowSQLException,
+        boolean expectsQuery,
+        Class<? extends Exception> expectedException,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<SearchTestcase> searchTestcases() {
+        return Stream.of(
+            new SearchTestcase(null, "rand", List.of("c1"), 10, 0, false, false, IllegalArgumentException.class, "Null connection"),
+            new SearchTestcase(mock(Connection.class), "rand", List.of(" "), 10, 0, false, false, IllegalArgumentException.class, "Blank collection id"),
+            new SearchTestcase(mock(Connection.class), "rand", List.of("c1"), -1, 0, false, false, IllegalArgumentException.class, "Negative limit"),
+            new SearchTestcase(mock(Connection.class), "rand", List.of("c1"), 10, -1, false, false, IllegalArgumentException.class, "Negative offset"),
+            new SearchTestcase(mock(Connection.class), " * ", List.of("c1"), 10, 0, false, false, null, "No words - no query"),
+            new SearchTestcase(mock(Connection.class), "rand", List.of(), 10, 0, false, false, null, "No collections - no query"),
+            new SearchTestcase(mock(Connection.class), "rand", List.of("c1"), 0, 0, false, false, null, "Zero limit - no query"),
+            new SearchTestcase(mock(Connection.class), "rand fehler", List.of("c1", "c2"), 10, 20, false, true, null, "Parameters bound in order"),
+            new SearchTestcase(mock(Connection.class), "rand", List.of("c1"), 10, 0, true, true, SQLException.class, "SQLException during select attempt")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("searchTestcases")
+    void testSearch(SearchTestcase testcase) throws SQLException {
+        EuroCoinSqliteRepository repository = new EuroCoinSqliteRepository(tableName, mock(EuroCoinFactory.class));
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+
+        if (testcase.expectsQuery) {
+            when(testcase.connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+            if (testcase.shouldThrowSQLException) {
+                when(preparedStatement.executeQuery()).thenThrow(new SQLException("Select failed"));
+            } else {
+                when(preparedStatement.executeQuery()).thenReturn(resultSet);
+                when(resultSet.next()).thenReturn(false);
+            }
+        }
+
+        if (testcase.expectedException != null) {
+            assertThrows(testcase.expectedException, () ->
+                repository.search(testcase.connection, testcase.text, testcase.collectionIds, testcase.limit, testcase.offset),
+                "Expected exception was not thrown for: " + testcase.description
+            );
+        } else {
+            List<EuroCoin> result = repository.search(testcase.connection, testcase.text, testcase.collectionIds, testcase.limit, testcase.offset);
+            assertTrue(result.isEmpty(), "Unexpected hits for: " + testcase.description);
+            if (testcase.expectsQuery) {
+                int index = 1;
+                verify(preparedStatement).setString(index++, EuroCoinSqliteRepository.toMatchQuery(testcase.text));
+                for (String collectionId : testcase.collectionIds) {
+                    verify(preparedStatement).setString(index++, collectionId);
+                }
+                verify(preparedStatement).setInt(index++, testcase.limit);
+                verify(preparedStatement).setInt(index, testcase.offset);
+            } else {
+                verify(testcase.connection, never()).prepareStatement(anyString());
+            }
+        }
+    }
+
+    private record FilterConditionsTestcase(CoinFilter filter, String expectedConditions, List<Object> expectedParameters, String description) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<FilterConditionsTestcase> filterConditionsTestcases() {
+        return Stream.of(
+            new FilterConditionsTestcase(CoinFilter.NONE, "", List.of(), "No criteria"),
+            new FilterConditionsTestcase(
+                new CoinFilter("c1", CoinCountry.GERMANY, CoinValue.TWO_EUROS, 2002, 2010, Mint.BERLIN),
+                " AND collection_id = ? AND mint_country = ? AND coin_value = ? AND year >= ? AND year <= ? AND mint = ?",
+                List.of("c1", "DE", 200, 2002, 2010, "A"),
+                "All criteria"
+            ),
+            new FilterConditionsTestcase(new CoinFilter(null, null, null, null, 2005, null), " AND year <= ?", List.of(2005), "Open year range"),
+            new FilterConditionsTestcase(new CoinFilter(null, null, null, null, null, Mint.UNKOWN), " AND mint IS NULL", List.of(), "Coins without mint")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("filterConditionsTestcases")
+    void testFilterConditions(FilterConditionsTestcase testcase) {
+        List<Object> parameters = new ArrayList<>(List.of("scope"));
+        assertEquals(testcase.expectedConditions, EuroCoinSqliteRepository.filterConditions(testcase.filter, parameters),
+            "Conditions mismatch for: " + testcase.description);
+        List<Object> expectedParameters = new ArrayList<>(List.of("scope"));
+        expectedParameters.addAll(testcase.expectedParameters);
+        assertEquals(expectedParameters, parameters, "Parameters mismatch for: " + testcase.description);
+    }
+
+    private record FilterTestcase(
+        Connection connection,
+        CoinFilter filter,
+        List<String> collectionIds,
+        int limit,
+        int offset,
+        boolean shouldThrowSQLException,
+        boolean expectsQuery,
+        Class<? extends Exception> expectedException,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<FilterTestcase> filterTestcases() {
+        CoinFilter filter = new CoinFilter(null, CoinCountry.GERMANY, null, 2002, null, null);
+        return Stream.of(
+            new FilterTestcase(null, filter, List.of("c1"), 10, 0, false, false, IllegalArgumentException.class, "Null connection"),
+            new FilterTestcase(mock(Connection.class), null, List.of("c1"), 10, 0, false, false, IllegalArgumentException.class, "Null filter"),
+            new FilterTestcase(mock(Connection.class), filter, List.of(""), 10, 0, false, false, IllegalArgumentException.class, "Blank collection id"),
+            new FilterTestcase(mock(Connection.class), filter, List.of("c1"), 10, -1, false, false, IllegalArgumentException.class, "Negative offset"),
+            new FilterTestcase(mock(Connection.class), filter, List.of(), 10, 0, false, false, null, "No collections - no query"),
+            new FilterTestcase(mock(Connection.class), filter, List.of("c1"), 0, 0, false, false, null, "Zero limit - no query"),
+            new FilterTestcase(mock(Connection.class), filter, List.of("c1", "c2"), 10, 30, false, true, null, "Parameters bound in order"),
+            new FilterTestcase(mock(Connection.class), filter, List.of("c1"), 10, 0, true, true, SQLException.class, "SQLException during select attempt")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("filterTestcases")
+    void testFilter(FilterTestcase testcase) throws SQLException {
+        EuroCoinSqliteRepository repository = new EuroCoinSqliteRepository(tableName, mock(EuroCoinFactory.class));
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+
+        if (testcase.expectsQuery) {
+            when(testcase.connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+            if (testcase.shouldThrowSQLException) {
+                when(preparedStatement.executeQuery()).thenThrow(new SQLException("Select failed"));
+            } else {
+                when(preparedStatement.executeQuery()).thenReturn(resultSet);
+                when(resultSet.next()).thenReturn(false);
+            }
+        }
+
+        if (testcase.expectedException != null) {
+            assertThrows(testcase.expectedException, () ->
+                repository.filter(testcase.connection, testcase.filter, testcase.collectionIds, testcase.limit, testcase.offset),
+                "Expected exception was not thrown for: " + testcase.description
+            );
+        } else {
+            List<EuroCoin> result = repository.filter(testcase.connection, testcase.filter, testcase.collectionIds, testcase.limit, testcase.offset);
+            assertTrue(result.isEmpty(), "Unexpected coins for: " + testcase.description);
+            if (testcase.expectsQuery) {
+                int index = 1;
+                for (String collectionId : testcase.collectionIds) {
+                    verify(preparedStatement).setObject(index++, collectionId);
+                }
+                verify(preparedStatement).setObject(index++, "DE");
+                verify(preparedStatement).setObject(index++, 2002);
+                verify(preparedStatement).setObject(index++, testcase.limit);
+                verify(preparedStatement).setObject(index, testcase.offset);
+            } else {
+                verify(testcase.connection, never()).prepareStatement(anyString());
+            }
+        }
+    }
+
+    private record FacetRow(String collectionId, String country, int centValue, int year, String mint, int count) {}
+
+    private record FacetsTestcase(
+        Connection connection,
+        CoinFilter filter,
+        List<String> collectionIds,
+        boolean shouldThrowSQLException,
+        List<FacetRow> rows,
+        int expectedTotal,
+        Class<? extends Exception> expectedException,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<FacetsTestcase> facetsTestcases() {
+        List<FacetRow> rows = List.of(
+            new FacetRow("c1", "DE", 200, 2002, "A", 2),
+            new FacetRow("c1", "FR", 200, 2002, null, 3),
+            new FacetRow("c2", "XX", 200, 2002, null, 1)
+        );
+        CoinFilter germany = new CoinFilter(null, CoinCountry.GERMANY, null, null, null, null);
+        return Stream.of(
+            new FacetsTestcase(null, germany, List.of("c1"), false, List.of(), 0, IllegalArgumentException.class, "Null connection"),
+            new FacetsTestcase(mock(Connection.class), null, List.of("c1"), false, List.of(), 0, IllegalArgumentException.class, "Null filter"),
+            new FacetsTestcase(mock(Connection.class), germany, List.of(" "), false, List.of(), 0, IllegalArgumentException.class, "Blank collection id"),
+            new FacetsTestcase(mock(Connection.class), germany, List.of(), false, List.of(), 0, null, "No collections - no query"),
+            new FacetsTestcase(mock(Connection.class), germany, List.of("c1", "c2"), false, rows, 2, null, "Buckets counted, invalid bucket skipped"),
+            new FacetsTestcase(mock(Connection.class), germany, List.of("c1"), true, List.of(), 0, SQLException.class, "SQLException during select attempt")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("facetsTestcases")
+    void testGetFacets(FacetsTestcase testcase) throws SQLException {
+        EuroCoinSqliteRepository repository = new EuroCoinSqliteRepository(tableName, mock(EuroCoinFactory.class));
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+
+        if (testcase.connection != null && testcase.filter != null && !testcase.collectionIds.isEmpty() && testcase.expectedException != IllegalArgumentException.class) {
+            when(testcase.connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+            if (testcase.shouldThrowSQLException) {
+                when(preparedStatement.executeQuery()).thenThrow(new SQLException("Select failed"));
+            } else {
+                when(preparedStatement.executeQuery()).thenReturn(resultSet);
+                AtomicInteger row = new AtomicInteger(-1);
+                when(resultSet.next()).then(hasNext -> row.incrementAndGet() < testcase.rows.size());
+                lenient().when(resultSet.getString("collection_id")).then(id -> testcase.rows.get(row.get()).collectionId);
+                lenient().when(resultSet.getString("mint_country")).then(country -> testcase.rows.get(row.get()).country);
+                lenient().when(resultSet.getInt("coin_value")).then(value -> testcase.rows.get(row.get()).centValue);
+                lenient().when(resultSet.getInt("year")).then(year -> testcase.rows.get(row.get()).year);
+                lenient().when(resultSet.getString("mint")).then(mint -> testcase.rows.get(row.get()).mint);
+                lenient().when(resultSet.getInt("coin_count")).then(count -> testcase.rows.get(row.get()).count);
+            }
+        }
+
+        if (testcase.expectedException != null) {
+            assertThrows(testcase.expectedException, () ->
+                repository.getFacets(testcase.connection, testcase.filter, testcase.collectionIds),
+                "Expected exception was not thrown for: " + testcase.description
+            );
+        } else {
+            CoinFacets result = repository.getFacets(testcase.connection, testcase.filter, testcase.collectionIds);
+            assertEquals(testcase.expectedTotal, result.getTotal(), "Total mismatch for: " + testcase.description);
+            if (testcase.collectionIds.isEmpty()) {
+                verify(testcase.connection, never()).prepareStatement(anyString());
+            } else {
+                assertEquals(Map.of(CoinCountry.GERMANY, 2, CoinCountry.FRANCE, 3), result.getByCountry(), "Country facet mismatch for: " + testcase.description);
+                for (int i = 0; i < testcase.collectionIds.size(); i++) {
+                    verify(preparedStatement).setString(i + 1, testcase.collectionIds.get(i));
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,165 @@
+package io.github.lstramke.coincollector.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.sqlite.SQLiteDataSource;
+
+import io.github.lstramke.coincollector.exceptions.backupExceptions.BackupRestoreException;
+
+public class BackupServiceImplTest {
+
+    @TempDir
+    Path directory;
+
+    private SQLiteDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = dataSource(directory.resolve("coincollector.db"));
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE items (id INTEGER PRIMARY KEY, name TEXT)");
+            statement.execute("WITH RECURSIVE n(i) AS (SELECT 1 UNION ALL SELECT i + 1 FROM n WHERE i < 2000) "
+                + "INSERT INTO items (name) SELECT printf('item-%d-%s', i, hex(randomblob(64))) FROM n");
+        }
+    }
+
+    private record RetentionTestcase(
+        int backups,
+        int retained,
+        long expectedFiles,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<RetentionTestcase> retentionTestcases() {
+        return Stream.of(
+            new RetentionTestcase(1, 3, 1, "Single backup is kept"),
+            new RetentionTestcase(4, 2, 2, "Backups beyond the retention limit are deleted")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("retentionTestcases")
+    void testCreateBackup(RetentionTestcase testcase) throws SQLException, IOException, InterruptedException {
+        Path backupDirectory = directory.resolve("backups");
+        var backupService = new BackupServiceImpl(dataSource, backupDirectory, 16, 0, testcase.retained);
+
+        Path backup = null;
+        for (int i = 0; i < testcase.backups; i++) {
+            backup = backupService.createBackup();
+            Thread.sleep(2);
+        }
+
+        assertEquals(2000, count(dataSource(backup)));
+        try (Stream<Path> files = Files.list(backupDirectory)) {
+            assertEquals(testcase.expectedFiles, files.count());
+        }
+        assertTrue(Files.exists(backup));
+    }
+
+    @Test
+    void testBackupDuringWritesIsConsistent() throws Exception {
+        var backupService = new BackupServiceImpl(dataSource, directory.resolve("backups"), 8, 1, 1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                connection.setAutoCommit(false);
+                while (running.get()) {
+                    statement.execute("INSERT INTO items (name) VALUES ('a')");
+                    statement.execute("INSERT INTO items (name) VALUES ('b')");
+                    connection.commit();
+                    Thread.sleep(5);
+                }
+            } catch (SQLException | InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        Path backup;
+        try {
+            backup = backupService.createBackup();
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+
+        assertEquals(0, count(dataSource(backup)) % 2);
+    }
+
+    private record RestoreTestcase(
+        boolean validBackup,
+        long expectedRows,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<RestoreTestcase> restoreTestcases() {
+        return Stream.of(
+            new RestoreTestcase(true, 2000, "Restore replaces the content with the backup"),
+            new RestoreTestcase(false, 1, "Corrupt backup is rejected and the database left as is")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("restoreTestcases")
+    void testRestore(RestoreTestcase testcase) throws SQLException, IOException {
+        var backupService = new BackupServiceImpl(dataSource, directory.resolve("backups"), 16, 0, 1);
+        Path backup = backupService.createBackup();
+        if (!testcase.validBackup) {
+            Files.write(backup, "not a database".getBytes());
+        }
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM items WHERE id > 1");
+        }
+
+        if (testcase.validBackup) {
+            backupService.restore(backup);
+        } else {
+            assertThrows(BackupRestoreException.class, () -> backupService.restore(backup));
+        }
+
+        assertEquals(testcase.expectedRows, count(dataSource));
+    }
+
+    private static SQLiteDataSource dataSource(Path file) {
+        SQLiteDataSource dataSource = new SQLiteDataSource();
+        dataSource.setUrl("jdbc:sqlite:" + file);
+        return dataSource;
+    }
+
+    private static long count(SQLiteDataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM items")) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
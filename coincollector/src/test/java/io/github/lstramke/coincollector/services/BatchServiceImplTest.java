@@ -0,0 +1,249 @@
+package io.github.lstramke.coincollector.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.lstramke.coincollector.exceptions.batchExceptions.BatchOperationException;
+import io.github.lstramke.coincollector.exceptions.euroCoinCollectionException.EuroCoinCollectionNotFoundException;
+import io.github.lstramke.coincollector.exceptions.euroCoinCollectionGroupException.EuroCoinCollectionGroupNotFoundException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinAlreadyExistsException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinNotFoundException;
+import io.github.lstramke.coincollector.model.BatchOperation;
+import io.github.lstramke.coincollector.model.BatchResult;
+import io.github.lstramke.coincollector.model.ChangeEvent;
+import io.github.lstramke.coincollector.model.ChangeEvent.Action;
+import io.github.lstramke.coincollector.model.ChangeEvent.Entity;
+import io.github.lstramke.coincollector.model.CoinCountry;
+import io.github.lstramke.coincollector.model.CoinValue;
+import io.github.lstramke.coincollector.model.EuroCoin;
+import io.github.lstramke.coincollector.model.EuroCoinBuilder;
+import io.github.lstramke.coincollector.model.EuroCoinCollection;
+import io.github.lstramke.coincollector.model.EuroCoinCollectionGroup;
+import io.github.lstramke.coincollector.model.Mint;
+
+public class BatchServiceImplTest {
+
+    private static final String USER_ID = "user-1";
+    private static final String OTHER_USER_ID = "user-2";
+    private static final EuroCoinCollectionGroup GROUP = new EuroCoinCollectionGroup("Euro", USER_ID);
+    private static final EuroCoinCollection COLLECTION = new EuroCoinCollection("Germany", GROUP.getId());
+    private static final String GROUP_ID = GROUP.getId();
+    private static final String OTHER_GROUP_ID = "group-2";
+    private static final String COLLECTION_ID = COLLECTION.getId();
+    private static final String OTHER_COLLECTION_ID = "collection-2";
+
+    private static EuroCoin coin(int year, String collectionId) {
+        return new EuroCoinBuilder()
+            .setYear(year)
+            .setValue(CoinValue.TWO_EUROS)
+            .setMintCountry(CoinCountry.GERMANY)
+            .setMint(Mint.BERLIN)
+            .setCollectionId(collectionId)
+            .build();
+    }
+
+    private static final EuroCoin COIN = coin(2002, COLLECTION_ID);
+    private static final EuroCoin OTHER_YEAR_COIN = coin(2003, COLLECTION_ID);
+
+    private DataSource dataSource;
+    private Connection connection;
+    private EuroCoinStorageService coinService;
+    private EuroCoinCollectionStorageService collectionService;
+    private EuroCoinCollectionGroupStorageService groupService;
+    private OwnershipIndex ownershipIndex;
+    private ChangeEventBus bus;
+    private BatchService service;
+
+    private void setUp() throws SQLException {
+        dataSource = mock(DataSource.class);
+        connection = mock(Connection.class);
+        coinService = mock(EuroCoinStorageService.class);
+        collectionService = mock(EuroCoinCollectionStorageService.class);
+        groupService = mock(EuroCoinCollectionGroupStorageService.class);
+        bus = mock(ChangeEventBus.class);
+        ownershipIndex = new OwnershipIndexImpl();
+        ownershipIndex.putGroup(GROUP_ID, USER_ID);
+        ownershipIndex.putCollection(COLLECTION_ID, GROUP_ID);
+        ownershipIndex.putGroup(OTHER_GROUP_ID, OTHER_USER_ID);
+        ownershipIndex.putCollection(OTHER_COLLECTION_ID, OTHER_GROUP_ID);
+        lenient().when(dataSource.getConnection()).thenReturn(connection);
+        lenient().when(bus.hasSubscribers()).thenReturn(true);
+        service = new BatchServiceImpl(dataSource, coinService, collectionService, groupService, ownershipIndex, bus);
+    }
+
+    private record SuccessTestcase(
+        BatchOperation operation,
+        List<ChangeEvent> expectedEvents,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<SuccessTestcase> successTestcases() {
+        return Stream.of(
+            new SuccessTestcase(BatchOperation.createCoin(COIN),
+                List.of(new ChangeEvent(Entity.COIN, Action.CREATED, COIN.getId(), COLLECTION_ID)),
+                "Coin is created"),
+            new SuccessTestcase(BatchOperation.updateCoin(COIN.getId(), COIN),
+                List.of(new ChangeEvent(Entity.COIN, Action.UPDATED, COIN.getId(), COLLECTION_ID)),
+                "Coin with unchanged id is updated in place"),
+            new SuccessTestcase(BatchOperation.updateCoin(COIN.getId(), OTHER_YEAR_COIN),
+                List.of(new ChangeEvent(Entity.COIN, Action.DELETED, COIN.getId(), COLLECTION_ID),
+                    new ChangeEvent(Entity.COIN, Action.CREATED, OTHER_YEAR_COIN.getId(), COLLECTION_ID)),
+                "Coin with changed id is replaced"),
+            new SuccessTestcase(BatchOperation.deleteCoin(COIN.getId()),
+                List.of(new ChangeEvent(Entity.COIN, Action.DELETED, COIN.getId(), COLLECTION_ID)),
+                "Coin is deleted"),
+            new SuccessTestcase(BatchOperation.updateCollection(COLLECTION_ID, "Renamed", GROUP_ID),
+                List.of(new ChangeEvent(Entity.COLLECTION, Action.UPDATED, COLLECTION_ID, GROUP_ID)),
+                "Collection is updated"),
+            new SuccessTestcase(BatchOperation.deleteCollection(COLLECTION_ID),
+                List.of(new ChangeEvent(Entity.COLLECTION, Action.DELETED, COLLECTION_ID, GROUP_ID)),
+                "Collection is deleted"),
+            new SuccessTestcase(BatchOperation.updateGroup(GROUP_ID, "Renamed"),
+                List.of(new ChangeEvent(Entity.GROUP, Action.UPDATED, GROUP_ID, null)),
+                "Group is updated"),
+            new SuccessTestcase(BatchOperation.deleteGroup(GROUP_ID),
+                List.of(new ChangeEvent(Entity.GROUP, Action.DELETED, GROUP_ID, null)),
+                "Group is deleted")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("successTestcases")
+    void testExecuteSingleOperation(SuccessTestcase testcase) throws Exception {
+        setUp();
+        lenient().when(coinService.getById(COIN.getId(), connection)).thenReturn(COIN);
+        lenient().when(collectionService.getById(COLLECTION_ID, connection)).thenReturn(COLLECTION);
+        lenient().when(groupService.getById(GROUP_ID, connection)).thenReturn(GROUP);
+
+        List<BatchResult> results = service.execute(USER_ID, List.of(testcase.operation));
+
+        assertEquals(1, results.size(), "Result count mismatch for: " + testcase.description);
+        assertEquals(testcase.operation.action(), results.get(0).action(), "Result action mismatch for: " + testcase.description);
+        verify(connection).commit();
+        for (ChangeEvent event : testcase.expectedEvents) {
+            verify(bus).publish(USER_ID, event);
+        }
+    }
+
+    @Test
+    void testExecuteCreatesGroupAndCollection() throws Exception {
+        setUp();
+        EuroCoinCollection collection = new EuroCoinCollection("Germany", GROUP_ID);
+
+        List<BatchResult> results = service.execute(USER_ID, List.of(
+            BatchOperation.createGroup("Euro"),
+            BatchOperation.createCollection(collection)));
+
+        EuroCoinCollectionGroup group = results.get(0).group();
+        assertEquals("Euro", group.getName());
+        assertEquals(USER_ID, group.getOwnerId());
+        assertEquals(collection, results.get(1).collection());
+        verify(groupService).save(group, connection);
+        verify(collectionService).save(collection, connection);
+        verify(connection).commit();
+        verify(bus).publish(USER_ID, new ChangeEvent(Entity.GROUP, Action.CREATED, group.getId(), null));
+        verify(bus).publish(USER_ID, new ChangeEvent(Entity.COLLECTION, Action.CREATED, collection.getId(), GROUP_ID));
+        assertEquals(Optional.of(USER_ID), ownershipIndex.getOwnerIdOfGroup(group.getId()), "Group must be indexed after commit");
+        assertEquals(Optional.of(GROUP_ID), ownershipIndex.getGroupIdOfCollection(collection.getId()), "Collection must be indexed after commit");
+    }
+
+    @Test
+    void testExecuteUpdatesIndexOnlyAfterCommit() throws Exception {
+        setUp();
+        doAnswer(invocation -> {
+            assertEquals(Optional.of(GROUP_ID), ownershipIndex.getGroupIdOfCollection(COLLECTION_ID),
+                "Index must not change before the commit");
+            return null;
+        }).when(connection).commit();
+
+        service.execute(USER_ID, List.of(BatchOperation.deleteGroup(GROUP_ID)));
+
+        verify(connection).commit();
+        assertEquals(Optional.empty(), ownershipIndex.getOwnerIdOfGroup(GROUP_ID));
+        assertEquals(Optional.empty(), ownershipIndex.getGroupIdOfCollection(COLLECTION_ID));
+    }
+
+    private record FailureTestcase(
+        List<BatchOperation> operations,
+        int expectedIndex,
+        Class<? extends Exception> expectedCause,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<FailureTestcase> failureTestcases() {
+        return Stream.of(
+            new FailureTestcase(List.of(BatchOperation.createCoin(coin(2002, OTHER_COLLECTION_ID))),
+                0, EuroCoinCollectionNotFoundException.class, "Coin in a collection of another user"),
+            new FailureTestcase(List.of(BatchOperation.deleteGroup(GROUP_ID), BatchOperation.deleteGroup(OTHER_GROUP_ID)),
+                1, EuroCoinCollectionGroupNotFoundException.class, "Group of another user after a delete"),
+            new FailureTestcase(List.of(BatchOperation.createCoin(OTHER_YEAR_COIN), BatchOperation.createCoin(COIN)),
+                1, EuroCoinAlreadyExistsException.class, "Save fails"),
+            new FailureTestcase(List.of(BatchOperation.deleteCollection(COLLECTION_ID), BatchOperation.deleteCoin("missing")),
+                1, EuroCoinNotFoundException.class, "Unknown coin after a collection delete")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("failureTestcases")
+    void testExecuteRollsBack(FailureTestcase testcase) throws Exception {
+        setUp();
+        doThrow(new EuroCoinAlreadyExistsException(COIN.getId())).when(coinService).save(COIN, connection);
+        when(coinService.getById("missing", connection)).thenThrow(new EuroCoinNotFoundException("missing"));
+
+        BatchOperationException exception = assertThrows(BatchOperationException.class,
+            () -> service.execute(USER_ID, testcase.operations),
+            "Expected exception was not thrown for: " + testcase.description);
+
+        assertEquals(testcase.expectedIndex, exception.getIndex(), "Index mismatch for: " + testcase.description);
+        assertInstanceOf(testcase.expectedCause, exception.getCause(), "Cause mismatch for: " + testcase.description);
+        verify(connection).rollback();
+        verify(connection, never()).commit();
+        verify(bus, never()).publish(any(), any());
+        assertEquals(Optional.of(USER_ID), ownershipIndex.getOwnerIdOfCollection(COLLECTION_ID),
+            "Ownership index changed by rolled back batch: " + testcase.description);
+    }
+
+    @Test
+    void testExecuteConnectionFails() throws Exception {
+        setUp();
+        when(dataSource.getConnection()).thenThrow(new SQLException("No connection"));
+
+        BatchOperationException exception = assertThrows(BatchOperationException.class,
+            () -> service.execute(USER_ID, List.of(BatchOperation.deleteCoin(COIN.getId()))));
+
+        assertEquals(-1, exception.getIndex());
+        assertTrue(exception.getCause() instanceof SQLException);
+    }
+}
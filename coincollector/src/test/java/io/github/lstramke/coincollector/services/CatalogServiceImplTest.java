@@ -0,0 +1,120 @@
+package io.github.lstramke.coincollector.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinCompletenessException;
+import io.github.lstramke.coincollector.model.CatalogCompleteness;
+import io.github.lstramke.coincollector.model.EuroCoinCatalog;
+import io.github.lstramke.coincollector.repositories.EuroCoinCollectionStorageRepository;
+import io.github.lstramke.coincollector.repositories.EuroCoinStorageRepository;
+
+public class CatalogServiceImplTest {
+
+    private static final EuroCoinCatalog catalog = EuroCoinCatalog.parse(List.of("FR;2002;2005;200;"), 2026);
+
+    private static BitSet bits(int... ordinals) {
+        BitSet bitSet = new BitSet();
+        for (int ordinal : ordinals) {
+            bitSet.set(ordinal);
+        }
+        return bitSet;
+    }
+
+    private record CompletenessTestcase(
+        boolean ofGroup,
+        boolean getConnectionThrows,
+        boolean getIdsThrows,
+        boolean getOrdinalsThrows,
+        int expectedOwnedCount,
+        Class<? extends Exception> expectedException,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<CompletenessTestcase> completenessTestcases() {
+        return Stream.of(
+            new CompletenessTestcase(false, false, false, false, 2, null, "Collection completeness is successful"),
+            new CompletenessTestcase(false, true, false, false, 0, EuroCoinCompletenessException.class, "Collection: getConnection throws"),
+            new CompletenessTestcase(false, false, false, true, 0, EuroCoinCompletenessException.class, "Collection: repository throws"),
+            new CompletenessTestcase(true, false, false, false, 3, null, "Group completeness is the union of its collections"),
+            new CompletenessTestcase(true, true, false, false, 0, EuroCoinCompletenessException.class, "Group: getConnection throws"),
+            new CompletenessTestcase(true, false, true, false, 0, EuroCoinCompletenessException.class, "Group: getIdsByGroup throws"),
+            new CompletenessTestcase(true, false, false, true, 0, EuroCoinCompletenessException.class, "Group: repository throws")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("completenessTestcases")
+    void testCompleteness(CompletenessTestcase testcase) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        EuroCoinStorageRepository coinRepository = mock(EuroCoinStorageRepository.class);
+        EuroCoinCollectionStorageRepository collectionRepository = mock(EuroCoinCollectionStorageRepository.class);
+        CatalogService service = new CatalogServiceImpl(dataSource, coinRepository, collectionRepository, catalog);
+
+        List<String> collectionIds = testcase.ofGroup ? List.of("c1", "c2") : List.of("c1");
+        Map<String, BitSet> owned = new LinkedHashMap<>();
+        owned.put("c1", bits(0, 1));
+        if (testcase.ofGroup) {
+            owned.put("c2", bits(1, 3));
+        }
+
+        if (testcase.getConnectionThrows) {
+            when(dataSource.getConnection()).thenThrow(new SQLException());
+        } else {
+            when(dataSource.getConnection()).thenReturn(connection);
+            if (testcase.getIdsThrows) {
+                doThrow(new SQLException()).when(collectionRepository).getIdsByGroup(connection, "group1");
+            } else {
+                doReturn(collectionIds).when(collectionRepository).getIdsByGroup(connection, "group1");
+                if (testcase.getOrdinalsThrows) {
+                    doThrow(new SQLException()).when(coinRepository).getOwnedCatalogOrdinals(connection, collectionIds, catalog);
+                } else {
+                    doReturn(owned).when(coinRepository).getOwnedCatalogOrdinals(connection, collectionIds, catalog);
+                }
+            }
+        }
+
+        if (testcase.expectedException != null) {
+            assertThrows(testcase.expectedException, () -> {
+                if (testcase.ofGroup) {
+                    service.getCompletenessOfGroup("group1");
+                } else {
+                    service.getCompletenessOfCollection("c1");
+                }
+            }, "Expected exception was not thrown for: " + testcase.description);
+        } else {
+            CatalogCompleteness completeness = testcase.ofGroup
+                ? service.getCompletenessOfGroup("group1")
+                : service.getCompletenessOfCollection("c1");
+            assertEquals(testcase.expectedOwnedCount, completeness.getOwnedCount(), "Owned count mismatch for: " + testcase.description);
+            assertEquals(catalog.size() - testcase.expectedOwnedCount, completeness.getMissing().cardinality(),
+                "Missing count mismatch for: " + testcase.description);
+            verify(coinRepository).getOwnedCatalogOrdinals(connection, collectionIds, catalog);
+            verify(connection).close();
+        }
+    }
+}
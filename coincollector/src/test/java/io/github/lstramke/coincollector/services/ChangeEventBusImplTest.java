@@ -0,0 +1,103 @@
+package io.github.lstramke.coincollector.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.lstramke.coincollector.model.ChangeEvent;
+import io.github.lstramke.coincollector.model.ChangeEvent.Action;
+import io.github.lstramke.coincollector.model.ChangeEvent.Entity;
+
+class ChangeEventBusImplTest {
+
+    private static ChangeEvent event(String id) {
+        return new ChangeEvent(Entity.COIN, Action.CREATED, id, "collection-1");
+    }
+
+    @Test
+    void testPublishIsRoutedByOwner() throws InterruptedException {
+        ChangeEventBus bus = new ChangeEventBusImpl(4);
+        try (var alice = bus.subscribe("alice"); var aliceOtherTab = bus.subscribe("alice"); var bob = bus.subscribe("bob")) {
+            bus.publish("alice", event("coin-1"));
+
+            assertEquals(event("coin-1"), alice.poll(0, TimeUnit.SECONDS));
+            assertEquals(event("coin-1"), aliceOtherTab.poll(0, TimeUnit.SECONDS));
+            assertNull(bob.poll(0, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void testEventsKeepPublishOrder() throws InterruptedException {
+        ChangeEventBus bus = new ChangeEventBusImpl(4);
+        try (var subscription = bus.subscribe("alice")) {
+            bus.publish("alice", event("coin-1"));
+            bus.publish("alice", event("coin-2"));
+
+            assertEquals("coin-1", subscription.poll(0, TimeUnit.SECONDS).id());
+            assertEquals("coin-2", subscription.poll(0, TimeUnit.SECONDS).id());
+        }
+    }
+
+    @Test
+    void testSlowSubscriberIsDropped() throws InterruptedException {
+        ChangeEventBus bus = new ChangeEventBusImpl(2);
+        var slow = bus.subscribe("alice");
+        try (var fast = bus.subscribe("alice")) {
+            bus.publish("alice", event("coin-1"));
+            bus.publish("alice", event("coin-2"));
+            assertEquals("coin-1", fast.poll(0, TimeUnit.SECONDS).id());
+            assertEquals("coin-2", fast.poll(0, TimeUnit.SECONDS).id());
+
+            bus.publish("alice", event("coin-3"));
+
+            assertTrue(slow.isOverflowed());
+            assertTrue(slow.isClosed());
+            assertNull(slow.poll(1, TimeUnit.SECONDS), "A dropped subscription returns at once and discards its buffer");
+            assertFalse(fast.isOverflowed());
+            assertEquals("coin-3", fast.poll(0, TimeUnit.SECONDS).id());
+        }
+    }
+
+    @Test
+    void testCloseUnsubscribes() throws InterruptedException {
+        ChangeEventBus bus = new ChangeEventBusImpl(4);
+        var subscription = bus.subscribe("alice");
+        assertTrue(bus.hasSubscribers());
+
+        subscription.close();
+        subscription.close();
+        bus.publish("alice", event("coin-1"));
+
+        assertFalse(bus.hasSubscribers());
+        assertTrue(subscription.isClosed());
+        assertFalse(subscription.isOverflowed());
+        assertNull(subscription.poll(0, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testCloseWakesUpWaitingReader() throws Exception {
+        ChangeEventBus bus = new ChangeEventBusImpl(4);
+        var subscription = bus.subscribe("alice");
+        Thread closer = Thread.ofVirtual().start(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            subscription.close();
+        });
+
+        long start = System.nanoTime();
+        assertNull(subscription.poll(10, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        closer.join();
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ChangeEventBusImpl(0));
+        assertThrows(IllegalArgumentException.class, () -> new ChangeEventBusImpl(1).subscribe(null));
+    }
+}
@@ -0,0 +1,154 @@
+package io.github.lstramke.coincollector.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinNotFoundException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinSaveException;
+import io.github.lstramke.coincollector.model.ChangeEvent;
+import io.github.lstramke.coincollector.model.ChangeEvent.Action;
+import io.github.lstramke.coincollector.model.ChangeEvent.Entity;
+import io.github.lstramke.coincollector.model.CoinCountry;
+import io.github.lstramke.coincollector.model.CoinValue;
+import io.github.lstramke.coincollector.model.EuroCoin;
+import io.github.lstramke.coincollector.model.EuroCoinBuilder;
+import io.github.lstramke.coincollector.model.EuroCoinCollection;
+import io.github.lstramke.coincollector.model.EuroCoinCollectionGroup;
+import io.github.lstramke.coincollector.model.Mint;
+
+class ChangeEventsTest {
+
+    private static final EuroCoin coin = new EuroCoinBuilder()
+        .setYear(2002)
+        .setValue(CoinValue.ONE_EURO)
+        .setMintCountry(CoinCountry.GERMANY)
+        .setMint(Mint.BERLIN)
+        .setCollectionId("collection-1")
+        .build();
+
+    private record ActionTestcase(String methodName, Action expected, String description) {
+        @Override public String toString() { return description; }
+    }
+
+    private static Stream<ActionTestcase> actionTestcases() {
+        return Stream.of(
+            new ActionTestcase("save", Action.CREATED, "save creates"),
+            new ActionTestcase("update", Action.UPDATED, "update updates"),
+            new ActionTestcase("updateMetadata", Action.UPDATED, "updateMetadata updates"),
+            new ActionTestcase("delete", Action.DELETED, "delete deletes"),
+            new ActionTestcase("getById", null, "Reads are not published")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("actionTestcases")
+    void testActionOf(ActionTestcase tc) {
+        assertEquals(tc.expected, ChangeEvents.actionOf(tc.methodName));
+    }
+
+    private static OwnershipIndex index() {
+        OwnershipIndex index = new OwnershipIndexImpl();
+        index.putGroup("group-1", "alice");
+        index.putCollection("collection-1", "group-1");
+        return index;
+    }
+
+    @Test
+    void testCoinWritesArePublished() throws InterruptedException {
+        EuroCoinStorageService delegate = mock(EuroCoinStorageService.class);
+        when(delegate.getById(coin.getId())).thenReturn(coin);
+        ChangeEventBus bus = new ChangeEventBusImpl(8);
+        EuroCoinStorageService service = ChangeEvents.publishing(EuroCoinStorageService.class, delegate, Entity.COIN, bus, index());
+
+        try (var subscription = bus.subscribe("alice")) {
+            service.save(coin);
+            service.update(coin);
+            service.delete(coin.getId());
+
+            assertEquals(new ChangeEvent(Entity.COIN, Action.CREATED, coin.getId(), "collection-1"), subscription.poll(0, TimeUnit.SECONDS));
+            assertEquals(new ChangeEvent(Entity.COIN, Action.UPDATED, coin.getId(), "collection-1"), subscription.poll(0, TimeUnit.SECONDS));
+            assertEquals(new ChangeEvent(Entity.COIN, Action.DELETED, coin.getId(), "collection-1"), subscription.poll(0, TimeUnit.SECONDS));
+            assertNull(subscription.poll(0, TimeUnit.SECONDS));
+        }
+        verify(delegate).save(coin);
+        verify(delegate).update(coin);
+        verify(delegate).delete(coin.getId());
+    }
+
+    @Test
+    void testWritesOnCallerConnectionAndFailuresAreNotPublished() throws InterruptedException {
+        EuroCoinStorageService delegate = mock(EuroCoinStorageService.class);
+        doThrow(new EuroCoinSaveException(coin.getId())).when(delegate).save(coin);
+        when(delegate.getById("missing")).thenThrow(new EuroCoinNotFoundException("missing"));
+        ChangeEventBus bus = new ChangeEventBusImpl(8);
+        EuroCoinStorageService service = ChangeEvents.publishing(EuroCoinStorageService.class, delegate, Entity.COIN, bus, index());
+
+        try (var subscription = bus.subscribe("alice")) {
+            service.update(coin, null);
+            assertThrows(EuroCoinSaveException.class, () -> service.save(coin));
+            service.delete("missing");
+
+            assertNull(subscription.poll(0, TimeUnit.SECONDS));
+        }
+        verify(delegate).delete("missing");
+    }
+
+    @Test
+    void testCollectionAndGroupDeletesResolveOwnerBeforehand() throws Exception {
+        OwnershipIndex index = index();
+        EuroCoinCollectionStorageService collectionDelegate = mock(EuroCoinCollectionStorageService.class);
+        doAnswer(invocation -> { index.removeCollection("collection-1"); return null; }).when(collectionDelegate).delete("collection-1");
+        EuroCoinCollectionGroupStorageService groupDelegate = mock(EuroCoinCollectionGroupStorageService.class);
+        doAnswer(invocation -> { index.removeGroup("group-1"); return null; }).when(groupDelegate).delete("group-1");
+        ChangeEventBus bus = new ChangeEventBusImpl(8);
+        var collectionService = ChangeEvents.publishing(EuroCoinCollectionStorageService.class, collectionDelegate, Entity.COLLECTION, bus, index);
+        var groupService = ChangeEvents.publishing(EuroCoinCollectionGroupStorageService.class, groupDelegate, Entity.GROUP, bus, index);
+
+        try (var subscription = bus.subscribe("alice")) {
+            collectionService.delete("collection-1");
+            groupService.delete("group-1");
+
+            assertEquals(new ChangeEvent(Entity.COLLECTION, Action.DELETED, "collection-1", "group-1"), subscription.poll(0, TimeUnit.SECONDS));
+            assertEquals(new ChangeEvent(Entity.GROUP, Action.DELETED, "group-1", null), subscription.poll(0, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void testCollectionAndGroupSavesArePublished() throws Exception {
+        EuroCoinCollectionGroup group = new EuroCoinCollectionGroup("group", "alice");
+        OwnershipIndex index = index();
+        index.putGroup(group.getId(), "alice");
+        EuroCoinCollection collection = new EuroCoinCollection("collection", group.getId());
+        ChangeEventBus bus = new ChangeEventBusImpl(8);
+        var collectionService = ChangeEvents.publishing(EuroCoinCollectionStorageService.class, mock(EuroCoinCollectionStorageService.class), Entity.COLLECTION, bus, index);
+        var groupService = ChangeEvents.publishing(EuroCoinCollectionGroupStorageService.class, mock(EuroCoinCollectionGroupStorageService.class), Entity.GROUP, bus, index);
+
+        try (var subscription = bus.subscribe("alice")) {
+            groupService.save(group);
+            collectionService.updateMetadata(collection);
+
+            assertEquals(new ChangeEvent(Entity.GROUP, Action.CREATED, group.getId(), null), subscription.poll(0, TimeUnit.SECONDS));
+            assertEquals(new ChangeEvent(Entity.COLLECTION, Action.UPDATED, collection.getId(), group.getId()), subscription.poll(0, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void testNothingIsResolvedWithoutSubscribers() {
+        EuroCoinStorageService delegate = mock(EuroCoinStorageService.class);
+        OwnershipIndex index = mock(OwnershipIndex.class);
+        EuroCoinStorageService service = ChangeEvents.publishing(EuroCoinStorageService.class, delegate, Entity.COIN, new ChangeEventBusImpl(8), index);
+
+        service.delete(coin.getId());
+
+        verify(delegate).delete(coin.getId());
+        verify(delegate, never()).getById(any());
+        verifyNoInteractions(index);
+    }
+}
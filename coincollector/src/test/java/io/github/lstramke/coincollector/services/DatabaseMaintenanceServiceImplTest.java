@@ -0,0 +1,102 @@
+package io.github.lstramke.coincollector.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.sqlite.SQLiteDataSource;
+
+public class DatabaseMaintenanceServiceImplTest {
+
+    @TempDir
+    Path directory;
+
+    private record MaintenanceTestcase(
+        String journalMode,
+        boolean incrementalVacuum,
+        long requestsSinceCheck,
+        long intervalMillis,
+        boolean expectedRun,
+        boolean expectedCheckpoint,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<MaintenanceTestcase> maintenanceTestcases() {
+        return Stream.of(
+            new MaintenanceTestcase("delete", false, 0, 0, true, false, "Database without incremental vacuum is analyzed but not converted"),
+            new MaintenanceTestcase("delete", true, 5, 0, true, false, "Idle server frees deleted pages incrementally"),
+            new MaintenanceTestcase("wal", true, 0, 0, true, true, "WAL database is checkpointed"),
+            new MaintenanceTestcase("delete", true, 6, 0, false, false, "Busy server defers the maintenance"),
+            new MaintenanceTestcase("delete", true, 0, 60_000, false, false, "Maintenance is not run before the interval passed")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("maintenanceTestcases")
+    void testRunIfIdle(MaintenanceTestcase testcase) throws SQLException {
+        SQLiteDataSource dataSource = new SQLiteDataSource();
+        dataSource.setUrl("jdbc:sqlite:" + directory.resolve("coincollector.db"));
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            if (testcase.incrementalVacuum) {
+                statement.execute("PRAGMA auto_vacuum = INCREMENTAL");
+            }
+            statement.execute("PRAGMA journal_mode = " + testcase.journalMode);
+            statement.execute("CREATE TABLE items (id INTEGER PRIMARY KEY, name TEXT)");
+            statement.execute("CREATE INDEX idx_items_name ON items (name)");
+            statement.execute("WITH RECURSIVE n(i) AS (SELECT 1 UNION ALL SELECT i + 1 FROM n WHERE i < 2000) "
+                + "INSERT INTO items (name) SELECT printf('item-%d-%s', i, hex(randomblob(64))) FROM n");
+            statement.execute("DELETE FROM items WHERE id > 100");
+        }
+        long freePages = pragma(dataSource, "freelist_count");
+        RequestMetrics requestMetrics = mock(RequestMetrics.class);
+        when(requestMetrics.getTotalRequestCount()).thenReturn(10L, 10L + testcase.requestsSinceCheck);
+        MaintenanceMetrics maintenanceMetrics = mock(MaintenanceMetrics.class);
+        var maintenanceService = new DatabaseMaintenanceServiceImpl(dataSource, requestMetrics, maintenanceMetrics, 5, testcase.intervalMillis);
+
+        assertEquals(testcase.expectedRun, maintenanceService.runIfIdle());
+
+        if (testcase.expectedRun) {
+            assertTrue(freePages > 0);
+            assertTrue(pragma(dataSource, "(SELECT COUNT(*) FROM sqlite_stat1)") > 0, "Statistics must be collected");
+            verify(maintenanceMetrics).record(eq("analyze"), anyLong(), eq(0L));
+            if (testcase.incrementalVacuum) {
+                assertEquals(0, pragma(dataSource, "freelist_count"));
+                verify(maintenanceMetrics).record(eq("vacuum"), anyLong(), longThat(pages -> pages > 0));
+            } else {
+                assertTrue(pragma(dataSource, "freelist_count") > 0, "Database must not be vacuumed in full");
+                assertEquals(0, pragma(dataSource, "auto_vacuum"));
+                verify(maintenanceMetrics, never()).record(eq("vacuum"), anyLong(), anyLong());
+            }
+        } else {
+            assertEquals(freePages, pragma(dataSource, "freelist_count"));
+            verifyNoInteractions(maintenanceMetrics);
+        }
+        verify(maintenanceMetrics, times(testcase.expectedCheckpoint ? 1 : 0)).record(eq("checkpoint"), anyLong(), anyLong());
+    }
+
+    private static long pragma(SQLiteDataSource dataSource, String name) throws SQLException {
+        String sql = name.startsWith("(") ? "SELECT " + name : "PRAGMA " + name;
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
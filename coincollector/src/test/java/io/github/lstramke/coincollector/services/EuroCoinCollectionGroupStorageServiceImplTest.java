@@ -183,7 +183,7 @@ public class EuroCoinCollectionGroupStorageServiceImplTest {
         EuroCoinCollectionStorageService coinCollectionStorageService = mock(EuroCoinCollectionStorageService.class);
         DataSource dataSource = mock(DataSource.class);
         Connection connection = mock(Connection.class);
-        EuroCoinCollectionGroupStorageService service = new EuroCoinCollectionGroupStorageServiceImpl(dataSource, repository, coinCollectionStorageService);
+        EuroCoinCollectionGroupStorageService service = new EuroCoinCollectionGroupStorageServiceImpl(dataSource, repository, coinCollectionStorageService, new OwnershipIndexImpl());
 
         try {
             if(testcase.getConnectionThrows){
@@ -313,7 +313,7 @@ public class EuroCoinCollectionGroupStorageServiceImplTest {
         EuroCoinCollectionStorageService coinCollectionStorageService = mock(EuroCoinCollectionStorageService.class);
         DataSource dataSource = mock(DataSource.class);
         Connection connection = mock(Connection.class);
-        EuroCoinCollectionGroupStorageService service = new EuroCoinCollectionGroupStorageServiceImpl(dataSource, repository, coinCollectionStorageService);
+        EuroCoinCollectionGroupStorageService service = new EuroCoinCollectionGroupStorageServiceImpl(dataSource, repository, coinCollectionStorageService, new OwnershipIndexImpl());
 
         try {
             if(testcase.getConnectionThrows){
@@ -406,7 +406,7 @@ public class EuroCoinCollectionGroupStorageServiceImplTest {
         EuroCoinCollectionStorageService coinCollectionStorageService = mock(EuroCoinCollectionStorageService.class);
         DataSource dataSource = mock(DataSource.class);
         Connection connection = mock(Connection.class);
-        EuroCoinCollectionGroupStorageService service = new EuroCoinCollectionGroupStorageServiceImpl(dataSource, repository, coinCollectionStorageService);
+        EuroCoinCollectionGroupStorageService service = new EuroCoinCollectionGroupStorageServiceImpl(dataSource, repository, coinCollectionStorageService, new OwnershipIndexImpl());
 
         try {
             if(testcase.getConnectionThrows){
@@ -479,7 +479,7 @@ public class EuroCoinCollectionGroupStorageServiceImplTest {
         EuroCoinCollectionStorageService coinCollectionStorageService = mock(EuroCoinCollectionStorageService.class);
         DataSource dataSource = mock(DataSource.class);
         Connection connection = mock(Connection.class);
-        EuroCoinCollectionGroupStorageService service = new EuroCoinCollectionGroupStorageServiceImpl(dataSource, repository, coinCollectionStorageService);
+        EuroCoinCollectionGroupStorageService service = new EuroCoinCollectionGroupStorageServiceImpl(dataSource, repository, coinCollectionStorageService, new OwnershipIndexImpl());
 
         try {
             if(testcase.getConnectionThrows){
@@ -569,7 +569,7 @@ public class EuroCoinCollectionGroupStorageServiceImplTest {
         EuroCoinCollectionStorageService coinCollectionStorageService = mock(EuroCoinCollectionStorageService.class);
         DataSource dataSource = mock(DataSource.class);
         Connection connection = mock(Connection.class);
-        EuroCoinCollectionGroupStorageService service = new EuroCoinCollectionGroupStorageServiceImpl(dataSource, repository, coinCollectionStorageService);
+        EuroCoinCollectionGroupStorageService service = new EuroCoinCollectionGroupStorageServiceImpl(dataSource, repository, coinCollectionStorageService, new OwnershipIndexImpl());
 
         try {
             if(testcase.getConnectionThrows){
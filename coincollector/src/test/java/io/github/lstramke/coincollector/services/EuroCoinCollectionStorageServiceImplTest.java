@@ -38,8 +38,10 @@ import io.github.lstramke.coincollector.exceptions.euroCoinCollectionException.E
 import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinAlreadyExistsException;
 import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinGetAllException;
 import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinSaveException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinStatisticsException;
 import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinUpdateException;
 import io.github.lstramke.coincollector.model.CoinCountry;
+import io.github.lstramke.coincollector.model.CoinStatistics;
 import io.github.lstramke.coincollector.model.CoinValue;
 import io.github.lstramke.coincollector.model.EuroCoin;
 import io.github.lstramke.coincollector.model.EuroCoinBuilder;
@@ -116,7 +118,7 @@ public class EuroCoinCollectionStorageServiceImplTest {
         EuroCoinStorageService coinStorageService = mock(EuroCoinStorageService.class);
         DataSource dataSource = mock(DataSource.class);
         Connection connection = mock(Connection.class);
-        EuroCoinCollectionStorageService service = new EuroCoinCollectionStorageServiceImpl(dataSource, repository, coinStorageService);
+        EuroCoinCollectionStorageService service = new EuroCoinCollectionStorageServiceImpl(dataSource, repository, coinStorageService, new OwnershipIndexImpl());
 
         try {
             if(testcase.getConnectionThrows){
@@ -200,7 +202,7 @@ public class EuroCoinCollectionStorageServiceImplTest {
         EuroCoinStorageService coinStorageService = mock(EuroCoinStorageService.class);
         DataSource dataSource = mock(DataSource.class);
         Connection connection = mock(Connection.class);
-        EuroCoinCollectionStorageService service = new EuroCoinCollectionStorageServiceImpl(dataSource, repository, coinStorageService);
+        EuroCoinCollectionStorageService service = new EuroCoinCollectionStorageServiceImpl(dataSource, repository, coinStorageService, new OwnershipIndexImpl());
 
         try {
             if(testcase.repositoryCreateThrows){
@@ -269,7 +271,7 @@ public class EuroCoinCollectionStorageServiceImplTest {
         EuroCoinStorageService coinStorageService = mock(EuroCoinStorageService.class);
         DataSource dataSource = mock(DataSource.class);
         Connection connection = mock(Connection.class);
-        EuroCoinCollectionStorageService service = new EuroCoinCollectionStorageServiceImpl(dataSource, repository, coinStorageService);
+        EuroCoinCollectionStorageService service = new EuroCoinCollectionStorageServiceImpl(dataSource, repository, coinStorageService, new OwnershipIndexImpl());
 
         try {
             if(testcase.getConnectionThrows){
@@ -283,9 +285,9 @@ public class EuroCoinCollectionStorageServiceImplTest {
                     doReturn(testcase.readReturn).when(repository).read(connection, testcase.collectionId);
 
                     if(testcase.coinServiceGetAllThrows){
-                        doThrow(new EuroCoinGetAllException()).when(coinStorageService).getAll(connection);
+                        doThrow(new EuroCoinGetAllException()).when(coinStorageService).getAllOfCollection(testcase.collectionId, connection);
                     } else {
-                        doReturn(coinsForMetadataCollection).when(coinStorageService).getAll(connection);
+                        doReturn(coinsForMetadataCollection).when(coinStorageService).getAllOfCollection(testcase.collectionId, connection);
                     }
                 }
             }
@@ -300,7 +302,7 @@ public class EuroCoinCollectionStorageServiceImplTest {
                 assertTrue(coinsForMetadataCollection.equals(result.getCoins()));
                 verify(dataSource).getConnection();
                 verify(repository).read(connection, testcase.collectionId);
-                verify(coinStorageService).getAll(connection);
+                verify(coinStorageService).getAllOfCollection(testcase.collectionId, connection);
             }
         } catch (SQLException e) {
             fail("SQLException should not occur with mocks: " + e.getMessage());
@@ -339,7 +341,7 @@ public class EuroCoinCollectionStorageServiceImplTest {
         EuroCoinStorageService coinStorageService = mock(EuroCoinStorageService.class);
         DataSource dataSource = mock(DataSource.class);
         Connection connection = mock(Connection.class);
-        EuroCoinCollectionStorageService service = new EuroCoinCollectionStorageServiceImpl(dataSource, repository, coinStorageService);
+        EuroCoinCollectionStorageService service = new EuroCoinCollectionStorageServiceImpl(dataSource, repository, coinStorageService, new OwnershipIndexImpl());
 
         try {
             if(testcase.repositoryReadThrows){
@@ -348,9 +350,9 @@ public class EuroCoinCollectionStorageServiceImplTest {
                 doReturn(testcase.readReturn).when(repository).read(connection, testcase.collectionId);
 
                 if(testcase.coinServiceGetAllThrows){
-                    doThrow(new EuroCoinGetAllException()).when(coinStorageService).getAll(connection);
+                    doThrow(new EuroCoinGetAllException()).when(coinStorageService).getAllOfCollection(testcase.collectionId, connection);
                 } else {
-                    doReturn(coinsForMetadataCollection).when(coinStorageService).getAll(connection);
+                    doReturn(coinsForMetadataCollection).when(coinStorageService).getAllOfCollection(testcase.collectionId, connection);
                 }
             }
 
@@ -360,7 +362,7 @@ public class EuroCoinCollectionStorageServiceImplTest {
                 EuroCoinCollection result = service.getById(testcase.collectionId, connection);
                 assertEquals(testcase.expectedCollection, result);
                 verify(repository).read(connection, testcase.collectionId);
-                verify(coinStorageService).getAll(connection);
+                verify(coinStorageService).getAllOfCollection(testcase.collectionId, connection);
             }
         } catch (SQLException e) {
             fail("SQLException should not occur with mocks: " + e.getMessage());      
@@ -395,7 +397,7 @@ public class EuroCoinCollectionStorageServiceImplTest {
         EuroCoinStorageService coinStorageService = mock(EuroCoinStorageService.class);
         DataSource dataSource = mock(DataSource.class);
         Connection connection = mock(Connection.class);
-        EuroCoinCollectionStorageService service = new EuroCoinCollectionStorageServiceImpl(dataSource, repository, coinStorageService);
+        EuroCoinCollectionStorageService service = new EuroCoinCollectionStorageServiceImpl(dataSource, repository, coinStorageService, new OwnershipIndexImpl());
 
         try {
             if(testcase.getConnectionThrows){
@@ -448,7 +450,7 @@ public class EuroCoinCollectionStorageServiceImplTest {
         EuroCoinStorageService coinStorageService = mock(EuroCoinStorageService.class);
         DataSource dataSource = mock(DataSource.class);
         Connection connection = mock(Connection.class);
-        EuroCoinCollectionStorageService service = new EuroCoinCollectionStorageServiceImpl(dataSource, repository, coinStorageService);
+        EuroCoinCollectionStorageService service = new EuroCoinCollectionStorageServiceImpl(dataSource, repository, coinStorageService, new OwnershipIndexImpl());
 
         try {
             if(testcase.repositoryUpdateThrows){
@@ -496,7 +498,7 @@ public class EuroCoinCollectionStorageServiceImplTest {
         EuroCoinStorageService coinStorageService = mock(EuroCoinStorageService.class);
         DataSource dataSource = mock(DataSource.class);
         Connection connection = mock(Connection.class);
-        EuroCoinCollectionStorageService service = new EuroCoinCollectionStorageServiceImpl(dataSource, repository, coinStorageService);
+        EuroCoinCollectionStorageService service = new EuroCoinCollectionStorageServiceImpl(dataSource, repository, coinStorageService, new OwnershipIndexImpl());
 
         try {
             if(testcase.getConnectionThrows){
@@ -549,7 +551,7 @@ public class EuroCoinCollectionStorageServiceImplTest {
         EuroCoinStorageService coinStorageService = mock(EuroCoinStorageService.class);
         DataSource dataSource = mock(DataSource.class);
         Connection connection = mock(Connection.class);
-        EuroCoinCollectionStorageService service = new EuroCoinCollectionStorageServiceImpl(dataSource, repository, coinStorageService);
+        EuroCoinCollectionStorageService service = new EuroCoinCollectionStorageServiceImpl(dataSource, repository, coinStorageService, new OwnershipIndexImpl());
 
         try {
             if(testcase.repositoryDeleteThrows){
@@ -598,7 +600,7 @@ public class EuroCoinCollectionStorageServiceImplTest {
         EuroCoinStorageService coinStorageService = mock(EuroCoinStorageService.class);
         DataSource dataSource = mock(DataSource.class);
         Connection connection = mock(Connection.class);
-        EuroCoinCollectionStorageService service = new EuroCoinCollectionStorageServiceImpl(dataSource, repository, coinStorageService);
+        EuroCoinCollectionStorageService service = new EuroCoinCollectionStorageServiceImpl(dataSource, repository, coinStorageService, new OwnershipIndexImpl());
 
         try {
             if(testcase.getConnectionThrows){
@@ -663,7 +665,7 @@ public class EuroCoinCollectionStorageServiceImplTest {
         EuroCoinStorageService coinStorageService = mock(EuroCoinStorageService.class);
         DataSource dataSource = mock(DataSource.class);
         Connection connection = mock(Connection.class);
-        EuroCoinCollectionStorageService service = new EuroCoinCollectionStorageServiceImpl(dataSource, repository, coinStorageService);
+        EuroCoinCollectionStorageService service = new EuroCoinCollectionStorageServiceImpl(dataSource, repository, coinStorageService, new OwnershipIndexImpl());
 
         try {
 
@@ -693,4 +695,59 @@ public class EuroCoinCollectionStorageServiceImplTest {
         }
     }
 
+    private record StatisticsByGroupTestcase(
+        boolean repositoryGetIdsThrows,
+        boolean coinServiceStatisticsThrows,
+        Class<? extends Exception> expectedException,
+        String description
+    ) {
+        @Override
+        public String toString(){
+            return description;
+        }
+    }
+
+    private static Stream<StatisticsByGroupTestcase> statisticsByGroupTestcases(){
+        return Stream.of(
+            new StatisticsByGroupTestcase(false, false, null, "getStatisticsByGroup is successful"),
+            new StatisticsByGroupTestcase(true, false, EuroCoinStatisticsException.class, "repository getIdsByGroup throws"),
+            new StatisticsByGroupTestcase(false, true, EuroCoinStatisticsException.class, "coin service getStatistics throws")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("statisticsByGroupTestcases")
+    void testGetStatisticsByGroupExternalConnection(StatisticsByGroupTestcase testcase){
+        EuroCoinCollectionStorageRepository repository = mock(EuroCoinCollectionStorageRepository.class);
+        EuroCoinStorageService coinStorageService = mock(EuroCoinStorageService.class);
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        EuroCoinCollectionStorageService service = new EuroCoinCollectionStorageServiceImpl(dataSource, repository, coinStorageService, new OwnershipIndexImpl());
+        List<String> collectionIds = List.of(dummyCollection.getId(), dummyCollectionOnlyMetadata.getId());
+        CoinStatistics statistics = new CoinStatistics();
+
+        try {
+            if(testcase.repositoryGetIdsThrows){
+                doThrow(new SQLException()).when(repository).getIdsByGroup(connection, "group1");
+            } else {
+                doReturn(collectionIds).when(repository).getIdsByGroup(connection, "group1");
+                if(testcase.coinServiceStatisticsThrows){
+                    doThrow(new EuroCoinStatisticsException()).when(coinStorageService).getStatistics(collectionIds, connection);
+                } else {
+                    doReturn(statistics).when(coinStorageService).getStatistics(collectionIds, connection);
+                }
+            }
+
+            if(testcase.expectedException != null){
+                assertThrows(testcase.expectedException, () -> service.getStatisticsByGroup("group1", connection));
+            } else {
+                assertEquals(statistics, service.getStatisticsByGroup("group1", connection));
+                verify(repository).getIdsByGroup(connection, "group1");
+                verify(coinStorageService).getStatistics(collectionIds, connection);
+            }
+        } catch (SQLException e) {
+            fail("SQLException should not occur with mocks: " + e.getMessage());
+        }
+    }
+
 }
@@ -2,6 +2,7 @@ package io.github.lstramke.coincollector.services;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -9,6 +10,7 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.sql.Connection;
@@ -28,10 +30,18 @@ import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinNo
 import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinSaveException;
 import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinUpdateException;
 import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinGetAllException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinFilterException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinSearchException;
+import io.github.lstramke.coincollector.exceptions.euroCoinExceptions.EuroCoinStatisticsException;
 import io.github.lstramke.coincollector.model.CoinCountry;
+import io.github.lstramke.coincollector.model.CoinFacets;
+import io.github.lstramke.coincollector.model.CoinFilter;
+import io.github.lstramke.coincollector.model.CoinStatistics;
 import io.github.lstramke.coincollector.model.CoinValue;
 import io.github.lstramke.coincollector.model.EuroCoin;
+import io.github.lstramke.coincollector.model.EuroCoinBatch;
 import io.github.lstramke.coincollector.model.EuroCoinBuilder;
+import io.github.lstramke.coincollector.model.FilteredCoins;
 import io.github.lstramke.coincollector.model.Mint;
 import io.github.lstramke.coincollector.repositories.EuroCoinStorageRepository;
 
@@ -574,4 +584,366 @@ public class EuroCoinStorageServiceImplTest {
             fail("SQLException should not occur with mocks: " + e.getMessage());
         }
     }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("getAllInternalConnectionTestcases")
+    void testGetAllAsBatchInternalConnection(GetAllInternalConnectionTestcase testcase){
+        EuroCoinStorageRepository repository = mock(EuroCoinStorageRepository.class);
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        EuroCoinStorageService service = new EuroCoinStorageServiceImpl(repository, dataSource);
+
+        try {
+            if(testcase.getConnectionThrows){
+                when(dataSource.getConnection()).thenThrow(new SQLException());
+            } else {
+                when(dataSource.getConnection()).thenReturn(connection);
+
+                if(testcase.repositoryDeleteThrows){
+                    doThrow(new SQLException()).when(repository).getAllAsBatch(connection);
+                } else {
+                    when(repository.getAllAsBatch(connection)).thenReturn(EuroCoinBatch.of(testcase.expectedCoins));
+                }
+            }
+
+            if(testcase.expectedException != null){
+                assertThrows(testcase.expectedException, () -> service.getAllAsBatch());
+            } else {
+                assertEquals(testcase.expectedCoins, service.getAllAsBatch().toEuroCoins());
+                verify(dataSource).getConnection();
+                verify(repository).getAllAsBatch(connection);
+                verify(connection).close();
+            }
+        } catch (SQLException | EuroCoinGetAllException e) {
+            fail("Exception should not occur with mocks: " + e.getMessage());
+        }
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("getAllExternalConnectionTestcases")
+    void testGetAllAsBatchExternalConnection(GetAllExternalConnectionTestcase testcase){
+        EuroCoinStorageRepository repository = mock(EuroCoinStorageRepository.class);
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        EuroCoinStorageService service = new EuroCoinStorageServiceImpl(repository, dataSource);
+
+        try {
+            if(testcase.repositoryDeleteThrows){
+                doThrow(new SQLException()).when(repository).getAllAsBatch(connection);
+            } else {
+                when(repository.getAllAsBatch(connection)).thenReturn(EuroCoinBatch.of(testcase.expectedCoins));
+            }
+
+            if(testcase.expectedException != null){
+                assertThrows(testcase.expectedException, () -> service.getAllAsBatch(connection));
+            } else {
+                assertEquals(testcase.expectedCoins, service.getAllAsBatch(connection).toEuroCoins());
+                verify(repository).getAllAsBatch(connection);
+                verifyNoInteractions(connection);
+            }
+        } catch (SQLException | EuroCoinGetAllException e) {
+            fail("Exception should not occur with mocks: " + e.getMessage());
+        }
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("getAllInternalConnectionTestcases")
+    void testGetAllOfCollectionInternalConnection(GetAllInternalConnectionTestcase testcase){
+        EuroCoinStorageRepository repository = mock(EuroCoinStorageRepository.class);
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        EuroCoinStorageService service = new EuroCoinStorageServiceImpl(repository, dataSource);
+
+        try {
+            if(testcase.getConnectionThrows){
+                when(dataSource.getConnection()).thenThrow(new SQLException());
+            } else {
+                when(dataSource.getConnection()).thenReturn(connection);
+
+                if(testcase.repositoryDeleteThrows){
+                    doThrow(new SQLException()).when(repository).getAllOfCollection(connection, "collection-1");
+                } else {
+                    when(repository.getAllOfCollection(connection, "collection-1")).thenReturn(testcase.expectedCoins);
+                }
+            }
+
+            if(testcase.expectedException != null){
+                assertThrows(testcase.expectedException, () -> service.getAllOfCollection("collection-1"));
+            } else {
+                assertEquals(testcase.expectedCoins, service.getAllOfCollection("collection-1"));
+                verify(dataSource).getConnection();
+                verify(repository).getAllOfCollection(connection, "collection-1");
+                verify(connection).close();
+            }
+        } catch (SQLException | EuroCoinGetAllException e) {
+            fail("Exception should not occur with mocks: " + e.getMessage());
+        }
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("getAllExternalConnectionTestcases")
+    void testGetAllOfCollectionExternalConnection(GetAllExternalConnectionTestcase testcase){
+        EuroCoinStorageRepository repository = mock(EuroCoinStorageRepository.class);
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        EuroCoinStorageService service = new EuroCoinStorageServiceImpl(repository, dataSource);
+
+        try {
+            if(testcase.repositoryDeleteThrows){
+                doThrow(new SQLException()).when(repository).getAllOfCollection(connection, "collection-1");
+            } else {
+                when(repository.getAllOfCollection(connection, "collection-1")).thenReturn(testcase.expectedCoins);
+            }
+
+            if(testcase.expectedException != null){
+                assertThrows(testcase.expectedException, () -> service.getAllOfCollection("collection-1", connection));
+            } else {
+                assertEquals(testcase.expectedCoins, service.getAllOfCollection("collection-1", connection));
+                verify(repository).getAllOfCollection(connection, "collection-1");
+                verifyNoInteractions(connection);
+            }
+        } catch (SQLException | EuroCoinGetAllException e) {
+            fail("Exception should not occur with mocks: " + e.getMessage());
+        }
+    }
+
+    private record StatisticsTestcase(
+        boolean repositoryThrows,
+        Class<? extends Exception> expectedException,
+        String description
+    ){
+        @Override
+        public String toString(){
+            return description;
+        }
+    }
+
+    private static Stream<StatisticsTestcase> statisticsTestcases(){
+        return Stream.of(
+            new StatisticsTestcase(false, null, "statistics are computed"),
+            new StatisticsTestcase(true, EuroCoinStatisticsException.class, "repository throws")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("statisticsTestcases")
+    void testGetStatisticsInternalConnection(StatisticsTestcase testcase){
+        EuroCoinStorageRepository repository = mock(EuroCoinStorageRepository.class);
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        EuroCoinStorageService service = new EuroCoinStorageServiceImpl(repository, dataSource);
+        List<String> collectionIds = List.of("collection-1");
+        CoinStatistics statistics = new CoinStatistics();
+
+        try {
+            when(dataSource.getConnection()).thenReturn(connection);
+            if(testcase.repositoryThrows){
+                doThrow(new SQLException()).when(repository).getStatistics(connection, collectionIds);
+            } else {
+                when(repository.getStatistics(connection, collectionIds)).thenReturn(statistics);
+            }
+
+            if(testcase.expectedException != null){
+                assertThrows(testcase.expectedException, () -> service.getStatistics(collectionIds));
+            } else {
+                assertSame(statistics, service.getStatistics(collectionIds));
+            }
+            verify(connection).close();
+        } catch (SQLException e) {
+            fail("SQLException should not occur with mocks: " + e.getMessage());
+        }
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("statisticsTestcases")
+    void testGetStatisticsExternalConnection(StatisticsTestcase testcase){
+        EuroCoinStorageRepository repository = mock(EuroCoinStorageRepository.class);
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        EuroCoinStorageService service = new EuroCoinStorageServiceImpl(repository, dataSource);
+        List<String> collectionIds = List.of("collection-1");
+        CoinStatistics statistics = new CoinStatistics();
+
+        try {
+            if(testcase.repositoryThrows){
+                doThrow(new SQLException()).when(repository).getStatistics(connection, collectionIds);
+            } else {
+                when(repository.getStatistics(connection, collectionIds)).thenReturn(statistics);
+            }
+
+            if(testcase.expectedException != null){
+                assertThrows(testcase.expectedException, () -> service.getStatistics(collectionIds, connection));
+            } else {
+                assertSame(statistics, service.getStatistics(collectionIds, connection));
+            }
+            verifyNoInteractions(connection, dataSource);
+        } catch (SQLException e) {
+            fail("SQLException should not occur with mocks: " + e.getMessage());
+        }
+    }
+
+    private record SearchTestcase(
+        boolean repositoryThrows,
+        Class<? extends Exception> expectedException,
+        String description
+    ){
+        @Override
+        public String toString(){
+            return description;
+        }
+    }
+
+    private static Stream<SearchTestcase> searchTestcases(){
+        return Stream.of(
+            new SearchTestcase(false, null, "hits are returned"),
+            new SearchTestcase(true, EuroCoinSearchException.class, "repository throws")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("searchTestcases")
+    void testSearchInternalConnection(SearchTestcase testcase){
+        EuroCoinStorageRepository repository = mock(EuroCoinStorageRepository.class);
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        EuroCoinStorageService service = new EuroCoinStorageServiceImpl(repository, dataSource);
+        List<String> collectionIds = List.of("collection-1", "collection-2");
+        List<EuroCoin> hits = List.of(mock(EuroCoin.class));
+
+        try {
+            when(dataSource.getConnection()).thenReturn(connection);
+            if(testcase.repositoryThrows){
+                doThrow(new SQLException()).when(repository).search(connection, "rand", collectionIds, 21, 0);
+            } else {
+                when(repository.search(connection, "rand", collectionIds, 21, 0)).thenReturn(hits);
+            }
+
+            if(testcase.expectedException != null){
+                assertThrows(testcase.expectedException, () -> service.search("rand", collectionIds, 21, 0));
+            } else {
+                assertSame(hits, service.search("rand", collectionIds, 21, 0));
+            }
+            verify(connection).close();
+        } catch (SQLException e) {
+            fail("SQLException should not occur with mocks: " + e.getMessage());
+        }
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("searchTestcases")
+    void testSearchExternalConnection(SearchTestcase testcase){
+        EuroCoinStorageRepository repository = mock(EuroCoinStorageRepository.class);
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        EuroCoinStorageService service = new EuroCoinStorageServiceImpl(repository, dataSource);
+        List<String> collectionIds = List.of("collection-1");
+        List<EuroCoin> hits = List.of(mock(EuroCoin.class));
+
+        try {
+            if(testcase.repositoryThrows){
+                doThrow(new SQLException()).when(repository).search(connection, "rand", collectionIds, 5, 10);
+            } else {
+                when(repository.search(connection, "rand", collectionIds, 5, 10)).thenReturn(hits);
+            }
+
+            if(testcase.expectedException != null){
+                assertThrows(testcase.expectedException, () -> service.search("rand", collectionIds, 5, 10, connection));
+            } else {
+                assertSame(hits, service.search("rand", collectionIds, 5, 10, connection));
+            }
+            verifyNoInteractions(connection, dataSource);
+        } catch (SQLException e) {
+            fail("SQLException should not occur with mocks: " + e.getMessage());
+        }
+    }
+
+    private record FilterTestcase(
+        boolean listThrows,
+        boolean facetsThrow,
+        Class<? extends Exception> expectedException,
+        String description
+    ){
+        @Override
+        public String toString(){
+            return description;
+        }
+    }
+
+    private static Stream<FilterTestcase> filterTestcases(){
+        return Stream.of(
+            new FilterTestcase(false, false, null, "coins and facets are returned"),
+            new FilterTestcase(true, false, EuroCoinFilterException.class, "reading coins fails"),
+            new FilterTestcase(false, true, EuroCoinFilterException.class, "counting facets fails")
+        );
+    }
+
+    private static void stubFilter(EuroCoinStorageRepository repository, Connection connection, FilterTestcase testcase, CoinFilter filter, List<String> collectionIds, List<EuroCoin> coins, CoinFacets facets) throws SQLException {
+        if(testcase.listThrows){
+            doThrow(new SQLException()).when(repository).filter(connection, filter, collectionIds, 20, 0);
+        } else {
+            when(repository.filter(connection, filter, collectionIds, 20, 0)).thenReturn(coins);
+            if(testcase.facetsThrow){
+                doThrow(new SQLException()).when(repository).getFacets(connection, filter, collectionIds);
+            } else {
+                when(repository.getFacets(connection, filter, collectionIds)).thenReturn(facets);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("filterTestcases")
+    void testFilterInternalConnection(FilterTestcase testcase){
+        EuroCoinStorageRepository repository = mock(EuroCoinStorageRepository.class);
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        EuroCoinStorageService service = new EuroCoinStorageServiceImpl(repository, dataSource);
+        CoinFilter filter = new CoinFilter(null, CoinCountry.GERMANY, null, null, null, null);
+        List<String> collectionIds = List.of("collection-1");
+        List<EuroCoin> coins = List.of(mock(EuroCoin.class));
+        CoinFacets facets = new CoinFacets(filter);
+
+        try {
+            when(dataSource.getConnection()).thenReturn(connection);
+            stubFilter(repository, connection, testcase, filter, collectionIds, coins, facets);
+
+            if(testcase.expectedException != null){
+                assertThrows(testcase.expectedException, () -> service.filter(filter, collectionIds, 20, 0));
+            } else {
+                FilteredCoins result = service.filter(filter, collectionIds, 20, 0);
+                assertSame(coins, result.coins());
+                assertSame(facets, result.facets());
+            }
+            verify(connection).close();
+        } catch (SQLException e) {
+            fail("SQLException should not occur with mocks: " + e.getMessage());
+        }
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("filterTestcases")
+    void testFilterExternalConnection(FilterTestcase testcase){
+        EuroCoinStorageRepository repository = mock(EuroCoinStorageRepository.class);
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        EuroCoinStorageService service = new EuroCoinStorageServiceImpl(repository, dataSource);
+        CoinFilter filter = CoinFilter.NONE;
+        List<String> collectionIds = List.of("collection-1", "collection-2");
+        List<EuroCoin> coins = List.of(mock(EuroCoin.class));
+        CoinFacets facets = new CoinFacets(filter);
+
+        try {
+            stubFilter(repository, connection, testcase, filter, collectionIds, coins, facets);
+
+            if(testcase.expectedException != null){
+                assertThrows(testcase.expectedException, () -> service.filter(filter, collectionIds, 20, 0, connection));
+            } else {
+                FilteredCoins result = service.filter(filter, collectionIds, 20, 0, connection);
+                assertSame(coins, result.coins());
+                assertSame(facets, result.facets());
+            }
+            verifyNoInteractions(connection, dataSource);
+        } catch (SQLException e) {
+            fail("SQLException should not occur with mocks: " + e.getMessage());
+        }
+    }
 }
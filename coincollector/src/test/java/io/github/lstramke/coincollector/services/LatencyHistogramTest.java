@@ -0,0 +1,80 @@
+package io.github.lstramke.coincollector.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+class LatencyHistogramTest {
+
+	private record PercentileCase(long[] valuesMicros, double percentile, long expectedMicros, double tolerance, String description) {
+		@Override public String toString() { return description; }
+	}
+
+	private static Stream<PercentileCase> percentileCases() {
+		long[] uniform = LongStream.rangeClosed(1, 10_000).toArray();
+		return Stream.of(
+			new PercentileCase(new long[]{}, 50, 0, 0, "Empty histogram returns 0"),
+			new PercentileCase(new long[]{7}, 50, 7, 0, "Single small value is exact"),
+			new PercentileCase(new long[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10}, 50, 5, 0, "Small values are recorded linearly"),
+			new PercentileCase(uniform, 50, 5_000, 0.07, "p50 of uniform distribution within bucket error"),
+			new PercentileCase(uniform, 99, 9_900, 0.07, "p99 of uniform distribution within bucket error"),
+			new PercentileCase(uniform, 100, 10_000, 0, "p100 is capped at the exact maximum")
+		);
+	}
+
+	@ParameterizedTest(name = "{index} - {0}")
+	@MethodSource("percentileCases")
+	void testGetValueAtPercentile(PercentileCase tc) {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (long micros : tc.valuesMicros) {
+			histogram.recordNanos(micros * 1_000);
+		}
+		long actual = histogram.getValueAtPercentile(tc.percentile);
+		assertEquals(tc.expectedMicros, actual, tc.expectedMicros * tc.tolerance);
+		assertEquals(tc.valuesMicros.length, histogram.getCount());
+	}
+
+	private record BucketCase(long micros, String description) {
+		@Override public String toString() { return description; }
+	}
+
+	private static Stream<BucketCase> bucketCases() {
+		return Stream.of(
+			new BucketCase(0, "Zero"),
+			new BucketCase(31, "Last linear bucket"),
+			new BucketCase(32, "First logarithmic bucket"),
+			new BucketCase(1_000, "One millisecond"),
+			new BucketCase(123_456_789, "Two minutes")
+		);
+	}
+
+	@ParameterizedTest(name = "{index} - {0}")
+	@MethodSource("bucketCases")
+	void testBucketContainsValue(BucketCase tc) {
+		int index = LatencyHistogram.bucketIndex(tc.micros);
+		assertTrue(LatencyHistogram.bucketUpperBound(index) >= tc.micros);
+		if (index > 0) {
+			assertTrue(LatencyHistogram.bucketUpperBound(index - 1) < tc.micros);
+		}
+	}
+
+	private record InvalidPercentileCase(double percentile, String description) {
+		@Override public String toString() { return description; }
+	}
+
+	private static Stream<InvalidPercentileCase> invalidPercentileCases() {
+		return Stream.of(
+			new InvalidPercentileCase(0, "Zero percentile"),
+			new InvalidPercentileCase(100.1, "Percentile above 100")
+		);
+	}
+
+	@ParameterizedTest(name = "{index} - {0}")
+	@MethodSource("invalidPercentileCases")
+	void testInvalidPercentile(InvalidPercentileCase tc) {
+		LatencyHistogram histogram = new LatencyHistogram();
+		assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(tc.percentile));
+	}
+}
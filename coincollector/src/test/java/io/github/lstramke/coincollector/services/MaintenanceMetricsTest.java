@@ -0,0 +1,37 @@
+package io.github.lstramke.coincollector.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class MaintenanceMetricsTest {
+
+	private record PrometheusCase(String task, int runs, long pages, String expectedLine, String description) {
+		@Override public String toString() { return description; }
+	}
+
+	private static Stream<PrometheusCase> prometheusCases() {
+		return Stream.of(
+			new PrometheusCase("analyze", 3, 0, "coincollector_db_maintenance_runs_total{task=\"analyze\"} 3", "Runs counted per task"),
+			new PrometheusCase("vacuum", 2, 120, "coincollector_db_maintenance_duration_seconds_total{task=\"vacuum\"} 0.004000", "Durations summed per task"),
+			new PrometheusCase("vacuum", 1, 120, "coincollector_db_maintenance_last_duration_seconds{task=\"vacuum\"} 0.002000", "Duration of the last run"),
+			new PrometheusCase("checkpoint", 1, 42, "coincollector_db_maintenance_last_pages{task=\"checkpoint\"} 42", "Pages of the last run")
+		);
+	}
+
+	@ParameterizedTest(name = "{index} - {0}")
+	@MethodSource("prometheusCases")
+	void testToPrometheusText(PrometheusCase tc) {
+		MaintenanceMetricsImpl metrics = new MaintenanceMetricsImpl();
+		for (int i = 0; i < tc.runs; i++) {
+			metrics.record(tc.task, 2_000_000, tc.pages);
+		}
+		String text = metrics.toPrometheusText();
+		assertTrue(text.contains("# TYPE coincollector_db_maintenance_runs_total counter"));
+		assertTrue(text.contains("coincollector_db_maintenance_last_run_timestamp_seconds{task=\"" + tc.task + "\"}"));
+		assertTrue(text.contains(tc.expectedLine), "Missing line: " + tc.expectedLine + "\n" + text);
+	}
+}
@@ -0,0 +1,140 @@
+package io.github.lstramke.coincollector.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+class OwnershipIndexTest {
+
+	private record OwnerOfCollectionCase(String collectionId, Optional<String> expected, String description) {
+		@Override public String toString() { return description; }
+	}
+
+	private static Stream<OwnerOfCollectionCase> ownerOfCollectionCases() {
+		return Stream.of(
+			new OwnerOfCollectionCase("collection-1", Optional.of("user-1"), "Indexed collection resolves owner via group"),
+			new OwnerOfCollectionCase("collection-orphan", Optional.empty(), "Collection with unindexed group resolves empty"),
+			new OwnerOfCollectionCase("unknown", Optional.empty(), "Unknown collection resolves empty"),
+			new OwnerOfCollectionCase(null, Optional.empty(), "Null collectionId resolves empty")
+		);
+	}
+
+	@ParameterizedTest(name = "{index} - {0}")
+	@MethodSource("ownerOfCollectionCases")
+	void testGetOwnerIdOfCollection(OwnerOfCollectionCase tc) {
+		OwnershipIndexImpl index = new OwnershipIndexImpl();
+		index.putGroup("group-1", "user-1");
+		index.putCollection("collection-1", "group-1");
+		index.putCollection("collection-orphan", "group-unknown");
+		assertEquals(tc.expected, index.getOwnerIdOfCollection(tc.collectionId));
+	}
+
+	private record MoveCollectionCase(String targetGroupId, String targetOwnerId, String description) {
+		@Override public String toString() { return description; }
+	}
+
+	private static Stream<MoveCollectionCase> moveCollectionCases() {
+		return Stream.of(
+			new MoveCollectionCase("group-2", "user-1", "Moving a collection to another group of the same owner"),
+			new MoveCollectionCase("group-3", "user-2", "Moving a collection to a group of another owner")
+		);
+	}
+
+	@ParameterizedTest(name = "{index} - {0}")
+	@MethodSource("moveCollectionCases")
+	void testPutCollectionReplacesGroup(MoveCollectionCase tc) {
+		OwnershipIndexImpl index = new OwnershipIndexImpl();
+		index.putGroup("group-1", "user-1");
+		index.putGroup(tc.targetGroupId, tc.targetOwnerId);
+		index.putCollection("collection-1", "group-1");
+		index.putCollection("collection-1", tc.targetGroupId);
+		assertEquals(Optional.of(tc.targetGroupId), index.getGroupIdOfCollection("collection-1"));
+		assertEquals(Optional.of(tc.targetOwnerId), index.getOwnerIdOfCollection("collection-1"));
+	}
+
+	private record RemoveCase(String removedGroupId, String removedCollectionId, boolean collection1Present, boolean collection2Present, String description) {
+		@Override public String toString() { return description; }
+	}
+
+	private static Stream<RemoveCase> removeCases() {
+		return Stream.of(
+			new RemoveCase("group-1", null, false, true, "Removing a group removes its collections"),
+			new RemoveCase(null, "collection-1", false, true, "Removing a collection keeps siblings in other groups"),
+			new RemoveCase("unknown", "unknown", true, true, "Removing unknown ids changes nothing"),
+			new RemoveCase(null, null, true, true, "Removing null ids changes nothing")
+		);
+	}
+
+	@ParameterizedTest(name = "{index} - {0}")
+	@MethodSource("removeCases")
+	void testRemove(RemoveCase tc) {
+		OwnershipIndexImpl index = new OwnershipIndexImpl();
+		index.putGroup("group-1", "user-1");
+		index.putGroup("group-2", "user-2");
+		index.putCollection("collection-1", "group-1");
+		index.putCollection("collection-2", "group-2");
+
+		index.removeGroup(tc.removedGroupId);
+		index.removeCollection(tc.removedCollectionId);
+
+		assertEquals(tc.collection1Present, index.getOwnerIdOfCollection("collection-1").isPresent());
+		assertEquals(tc.collection2Present, index.getOwnerIdOfCollection("collection-2").isPresent());
+	}
+
+	private record PutNullCase(String groupId, String ownerId, String description) {
+		@Override public String toString() { return description; }
+	}
+
+	private static Stream<PutNullCase> putNullCases() {
+		return Stream.of(
+			new PutNullCase(null, "user-1", "Null groupId is ignored"),
+			new PutNullCase("group-1", null, "Null ownerId is ignored")
+		);
+	}
+
+	@ParameterizedTest(name = "{index} - {0}")
+	@MethodSource("putNullCases")
+	void testPutGroupIgnoresNull(PutNullCase tc) {
+		OwnershipIndexImpl index = new OwnershipIndexImpl();
+		assertDoesNotThrow(() -> index.putGroup(tc.groupId, tc.ownerId));
+		assertEquals(Optional.empty(), index.getOwnerIdOfGroup(tc.groupId));
+	}
+
+	private record CollectionsOfOwnerCase(String ownerId, Consumer<OwnershipIndexImpl> change, Set<String> expected, String description) {
+		@Override public String toString() { return description; }
+	}
+
+	private static Stream<CollectionsOfOwnerCase> collectionsOfOwnerCases() {
+		return Stream.of(
+			new CollectionsOfOwnerCase("user-1", index -> {}, Set.of("collection-1", "collection-2", "collection-3"), "Collections of all groups of the owner"),
+			new CollectionsOfOwnerCase("user-2", index -> {}, Set.of("collection-4"), "Collections of other owners are excluded"),
+			new CollectionsOfOwnerCase("user-1", index -> index.removeGroup("group-1"), Set.of("collection-3"), "Collections of a removed group are dropped"),
+			new CollectionsOfOwnerCase("user-1", index -> index.removeCollection("collection-2"), Set.of("collection-1", "collection-3"), "Removed collection is dropped"),
+			new CollectionsOfOwnerCase("user-2", index -> index.putCollection("collection-1", "group-3"), Set.of("collection-1", "collection-4"), "Moved collection belongs to the new owner"),
+			new CollectionsOfOwnerCase("user-2", index -> index.putGroup("group-2", "user-2"), Set.of("collection-3", "collection-4"), "Group with a new owner takes its collections along"),
+			new CollectionsOfOwnerCase("user-4", index -> index.putGroup("group-unknown", "user-4"), Set.of("collection-orphan"), "Collection added before its group is found"),
+			new CollectionsOfOwnerCase("user-3", index -> {}, Set.of(), "Owner without collections"),
+			new CollectionsOfOwnerCase(null, index -> {}, Set.of(), "Null ownerId resolves empty")
+		);
+	}
+
+	@ParameterizedTest(name = "{index} - {0}")
+	@MethodSource("collectionsOfOwnerCases")
+	void testGetCollectionIdsOfOwner(CollectionsOfOwnerCase tc) {
+		OwnershipIndexImpl index = new OwnershipIndexImpl();
+		index.putGroup("group-1", "user-1");
+		index.putGroup("group-2", "user-1");
+		index.putGroup("group-3", "user-2");
+		index.putCollection("collection-1", "group-1");
+		index.putCollection("collection-2", "group-1");
+		index.putCollection("collection-3", "group-2");
+		index.putCollection("collection-4", "group-3");
+		index.putCollection("collection-orphan", "group-unknown");
+		tc.change.accept(index);
+		assertEquals(tc.expected, Set.copyOf(index.getCollectionIdsOfOwner(tc.ownerId)));
+	}
+}
@@ -0,0 +1,109 @@
+package io.github.lstramke.coincollector.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.sun.net.httpserver.Filter;
+import com.sun.net.httpserver.HttpContext;
+import com.sun.net.httpserver.HttpExchange;
+
+class RequestMetricsTest {
+
+	private record PrometheusCase(String route, String method, int status, int requests, String expectedLine, String description) {
+		@Override public String toString() { return description; }
+	}
+
+	private static Stream<PrometheusCase> prometheusCases() {
+		return Stream.of(
+			new PrometheusCase("/api/groups", "GET", 200, 3, "coincollector_http_request_duration_seconds_count{route=\"/api/groups\",method=\"GET\",status=\"200\"} 3", "Count per series"),
+			new PrometheusCase("/api/coins", "POST", 201, 1, "coincollector_http_request_duration_seconds{route=\"/api/coins\",method=\"POST\",status=\"201\",quantile=\"0.99\"} 0.002", "Quantile line per series"),
+			new PrometheusCase("/api/coins", "DELETE", 404, 1, "coincollector_http_request_duration_seconds_max{route=\"/api/coins\",method=\"DELETE\",status=\"404\"} 0.002", "Max line per series"),
+			new PrometheusCase("/api/collections", "PATCH", 500, 1, "coincollector_http_requests_per_second{route=\"/api/collections\",method=\"PATCH\",status=\"500\"}", "Throughput line per series")
+		);
+	}
+
+	@ParameterizedTest(name = "{index} - {0}")
+	@MethodSource("prometheusCases")
+	void testToPrometheusText(PrometheusCase tc) {
+		RequestMetricsImpl metrics = new RequestMetricsImpl();
+		for (int i = 0; i < tc.requests; i++) {
+			metrics.record(tc.route, tc.method, tc.status, 2_000_000);
+		}
+		String text = metrics.toPrometheusText();
+		assertTrue(text.contains("# TYPE coincollector_http_request_duration_seconds summary"));
+		assertTrue(text.contains(tc.expectedLine), "Missing line: " + tc.expectedLine + "\n" + text);
+		assertEquals(tc.requests, metrics.getTotalRequestCount());
+	}
+
+	private record FilterCase(String method, String matchedRoute, int responseCode, boolean chainThrows, String expectedRoute, String expectedMethod, int expectedStatus, String description) {
+		@Override public String toString() { return description; }
+	}
+
+	private static Stream<FilterCase> filterCases() {
+		return Stream.of(
+			new FilterCase("GET", null, 200, false, "/api/groups", "GET", 200, "Records sent status"),
+			new FilterCase("GET", null, -1, false, "/api/groups", "GET", 500, "No status sent records 500"),
+			new FilterCase("GET", null, -1, true, "/api/groups", "GET", 500, "Handler exception records 500 and rethrows"),
+			new FilterCase("X-RANDOM-1234", null, 405, false, "/api/groups", "OTHER", 405, "Unknown method is recorded as OTHER"),
+			new FilterCase("GET", "/api/groups/{id:uuid}/stats", 200, false, "/api/groups/{id:uuid}/stats", "GET", 200, "Matched route template is the label"),
+			new FilterCase("GET", "/api/groups/{id:uuid}/stats", -1, true, "/api/groups/{id:uuid}/stats", "GET", 500, "Route template is kept when the handler throws")
+		);
+	}
+
+	@ParameterizedTest(name = "{index} - {0}")
+	@MethodSource("filterCases")
+	void testRequestMetricsFilter(FilterCase tc) throws IOException {
+		RequestMetrics metrics = mock(RequestMetrics.class);
+		HttpExchange exchange = mock(HttpExchange.class);
+		HttpContext httpContext = mock(HttpContext.class);
+		when(httpContext.getPath()).thenReturn("/api/groups");
+		when(exchange.getHttpContext()).thenReturn(httpContext);
+		when(exchange.getRequestMethod()).thenReturn(tc.method);
+		when(exchange.getResponseCode()).thenReturn(tc.responseCode);
+		Filter.Chain chain = mock(Filter.Chain.class);
+		doAnswer(invocation -> {
+			HttpExchange filtered = invocation.getArgument(0);
+			if (tc.matchedRoute != null) {
+				filtered.setAttribute("route", tc.matchedRoute);
+			}
+			if (tc.chainThrows) {
+				throw new IOException("fail");
+			}
+			return null;
+		}).when(chain).doFilter(any(HttpExchange.class));
+
+		RequestMetricsFilter filter = new RequestMetricsFilter(metrics);
+		if (tc.chainThrows) {
+			assertThrows(IOException.class, () -> filter.doFilter(exchange, chain));
+		} else {
+			filter.doFilter(exchange, chain);
+		}
+
+		verify(metrics).record(eq(tc.expectedRoute), eq(tc.expectedMethod), eq(tc.expectedStatus), anyLong());
+	}
+
+	@Test
+	void testRequestMetricsFilterIgnoresContextAttributes() throws IOException {
+		RequestMetrics metrics = mock(RequestMetrics.class);
+		HttpExchange exchange = mock(HttpExchange.class);
+		HttpContext httpContext = mock(HttpContext.class);
+		when(httpContext.getPath()).thenReturn("/api/groups");
+		when(exchange.getHttpContext()).thenReturn(httpContext);
+		when(exchange.getRequestMethod()).thenReturn("GET");
+		when(exchange.getAttribute("route")).thenReturn("/api/groups/{id:uuid}/completeness");
+		when(exchange.getResponseCode()).thenReturn(200);
+		Filter.Chain chain = mock(Filter.Chain.class);
+
+		new RequestMetricsFilter(metrics).doFilter(exchange, chain);
+
+		verify(exchange, never()).setAttribute(anyString(), any());
+		verify(metrics).record(eq("/api/groups"), eq("GET"), eq(200), anyLong());
+	}
+}
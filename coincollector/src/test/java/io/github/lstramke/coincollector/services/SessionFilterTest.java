@@ -38,7 +38,8 @@ class SessionFilterTest {
             new SessionFilterTestcase("foo=bar; sessionId=abc123", true, false, 200, null, "Valid session: sessionId after another cookie"),
             new SessionFilterTestcase("sessionId=abc123; foo=bar", true, false, 200, null, "Valid session: sessionId before another cookie"),
             new SessionFilterTestcase("foo=bar", false, false, 401, null, "No sessionId in cookies: redirect"),
-            new SessionFilterTestcase("sessionId=; foo=bar", false, false, 401, null, "Empty sessionId: redirect")
+            new SessionFilterTestcase("sessionId=; foo=bar", false, false, 401, null, "Empty sessionId: redirect"),
+            new SessionFilterTestcase("xsessionId=abc123", false, false, 401, null, "Cookie name only ends with sessionId: redirect")
         );
     }
 
@@ -82,4 +83,31 @@ class SessionFilterTest {
             }
         }
     }
+
+    private record CookieValueTestcase(String cookieHeader, String expectedValue, String description) {
+        @Override
+        public String toString() { return description; }
+    }
+
+    private static Stream<CookieValueTestcase> cookieValueTestcases() {
+        return Stream.of(
+            new CookieValueTestcase(null, null, "No header"),
+            new CookieValueTestcase("", null, "Empty header"),
+            new CookieValueTestcase("sessionId=abc123", "abc123", "Single cookie"),
+            new CookieValueTestcase("foo=bar;sessionId=abc123", "abc123", "Last cookie without whitespace"),
+            new CookieValueTestcase("  sessionId =  abc123  ; foo=bar", "abc123", "Whitespace around name and value"),
+            new CookieValueTestcase("sessionId=; sessionId=abc123", "abc123", "Empty value is skipped"),
+            new CookieValueTestcase("sessionIdx=abc123", null, "Longer name does not match"),
+            new CookieValueTestcase("xsessionId=abc123", null, "Name suffix does not match"),
+            new CookieValueTestcase("sessionId; foo=sessionId=abc123", null, "Cookie without value and name inside a value"),
+            new CookieValueTestcase(";;sessionId=abc123;", "abc123", "Empty cookies are ignored"),
+            new CookieValueTestcase("sessionId=a=b", "a=b", "Value may contain '='")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("cookieValueTestcases")
+    void testGetCookieValue(CookieValueTestcase tc) {
+        assertEquals(tc.expectedValue, SessionFilter.getCookieValue(tc.cookieHeader, "sessionId"), "Cookie value mismatch for: " + tc.description);
+    }
 }
@@ -0,0 +1,64 @@
+package io.github.lstramke.coincollector.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class SqlMetricsTest {
+
+	private record PrometheusCase(String caller, String sql, int executions, long rows, String expectedLine, String description) {
+		@Override public String toString() { return description; }
+	}
+
+	private static Stream<PrometheusCase> prometheusCases() {
+		return Stream.of(
+			new PrometheusCase("EuroCoinSqliteRepository.getAll", "SELECT * FROM euroCoins", 3, 2, "coincollector_sql_statement_duration_seconds_count{caller=\"EuroCoinSqliteRepository.getAll\",sql=\"SELECT * FROM euroCoins\"} 3", "Count per series"),
+			new PrometheusCase("UserSqliteRepository.create", "INSERT INTO users VALUES (?)", 1, 1, "coincollector_sql_statement_duration_seconds{caller=\"UserSqliteRepository.create\",sql=\"INSERT INTO users VALUES (?)\",quantile=\"0.5\"} 0.002", "Quantile line per series"),
+			new PrometheusCase("UserSqliteRepository.read", "SELECT * FROM users WHERE name = \"x\"", 1, 1, "sql=\"SELECT * FROM users WHERE name = \\\"x\\\"\"", "Quotes in SQL are escaped"),
+			new PrometheusCase("EuroCoinSqliteRepository.delete", "DELETE FROM euroCoins WHERE id = ?", 2, 1, "coincollector_sql_statement_rows_total{caller=\"EuroCoinSqliteRepository.delete\",sql=\"DELETE FROM euroCoins WHERE id = ?\"} 2", "Rows summed per series"),
+			new PrometheusCase("EuroCoinSqliteRepository.update", "UPDATE euroCoins SET x = ?", 1, -1, "coincollector_sql_statement_rows_total{caller=\"EuroCoinSqliteRepository.update\",sql=\"UPDATE euroCoins SET x = ?\"} 0", "Negative row counts are ignored")
+		);
+	}
+
+	@ParameterizedTest(name = "{index} - {0}")
+	@MethodSource("prometheusCases")
+	void testToPrometheusText(PrometheusCase tc) {
+		SqlMetricsImpl metrics = new SqlMetricsImpl();
+		for (int i = 0; i < tc.executions; i++) {
+			metrics.record(tc.caller, tc.sql, 2_000_000, tc.rows);
+		}
+		String text = metrics.toPrometheusText();
+		assertTrue(text.contains("# TYPE coincollector_sql_statement_duration_seconds summary"));
+		assertTrue(text.contains(tc.expectedLine), "Missing line: " + tc.expectedLine + "\n" + text);
+	}
+
+	private record LimitCase(int maxSeries, int statements, int expectedSeries, boolean expectedOverflow, String description) {
+		@Override public String toString() { return description; }
+	}
+
+	private static Stream<LimitCase> limitCases() {
+		return Stream.of(
+			new LimitCase(3, 3, 3, false, "Statements within the limit get their own series"),
+			new LimitCase(3, 10, 3, true, "Statements beyond the limit are recorded as OTHER"),
+			new LimitCase(0, 2, 0, true, "Zero limit records everything as OTHER")
+		);
+	}
+
+	@ParameterizedTest(name = "{index} - {0}")
+	@MethodSource("limitCases")
+	void testSeriesLimit(LimitCase tc) {
+		SqlMetricsImpl metrics = new SqlMetricsImpl(tc.maxSeries);
+		for (int i = 0; i < tc.statements; i++) {
+			metrics.record("EuroCoinSqliteRepository.filter", "SELECT * FROM euroCoins WHERE year = " + i, 1_000_000, 1);
+			metrics.record("EuroCoinSqliteRepository.filter", "SELECT * FROM euroCoins WHERE year = " + i, 1_000_000, 1);
+		}
+		String text = metrics.toPrometheusText();
+		long series = text.lines().filter(line -> line.startsWith("coincollector_sql_statement_rows_total{") && !line.contains("caller=\"OTHER\"")).count();
+		assertEquals(tc.expectedSeries, series);
+		String overflowLine = "coincollector_sql_statement_rows_total{caller=\"OTHER\",sql=\"OTHER\"} " + 2 * (tc.statements - tc.expectedSeries);
+		assertEquals(tc.expectedOverflow, text.contains(overflowLine), "Overflow line: " + overflowLine + "\n" + text);
+	}
+}
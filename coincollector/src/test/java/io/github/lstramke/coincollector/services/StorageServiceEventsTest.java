@@ -0,0 +1,91 @@
+package io.github.lstramke.coincollector.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.lstramke.coincollector.exceptions.userExceptions.UserNotFoundException;
+import io.github.lstramke.coincollector.model.User;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class StorageServiceEventsTest {
+
+	private record EntityIdCase(Object[] args, String expected, String description) {
+		@Override public String toString() { return description; }
+	}
+
+	private static Stream<EntityIdCase> entityIdCases() {
+		User user = new User("Bob");
+		return Stream.of(
+			new EntityIdCase(new Object[] {"coin-1"}, "coin-1", "String argument is the id"),
+			new EntityIdCase(new Object[] {user}, user.getId(), "Entity argument resolves its id"),
+			new EntityIdCase(new Object[] {42}, null, "Unknown argument type resolves null"),
+			new EntityIdCase(null, null, "No arguments resolves null")
+		);
+	}
+
+	@ParameterizedTest(name = "{index} - {0}")
+	@MethodSource("entityIdCases")
+	void testEntityId(EntityIdCase tc) {
+		assertEquals(tc.expected, StorageServiceEvents.entityId(tc.args));
+	}
+
+	private record CallCase(boolean shouldThrow, String expectedException, String description) {
+		@Override public String toString() { return description; }
+	}
+
+	private static Stream<CallCase> callCases() {
+		return Stream.of(
+			new CallCase(false, null, "Successful call is delegated and emitted"),
+			new CallCase(true, "UserNotFoundException", "Failing call rethrows the original exception and is emitted")
+		);
+	}
+
+	@ParameterizedTest(name = "{index} - {0}")
+	@MethodSource("callCases")
+	void testInstrument(CallCase tc) throws Exception {
+		UserStorageService delegate = mock(UserStorageService.class);
+		User user = new User("Bob");
+		if (tc.shouldThrow) {
+			when(delegate.getById("user-1")).thenThrow(new UserNotFoundException("user-1"));
+		} else {
+			when(delegate.getById("user-1")).thenReturn(user);
+		}
+		UserStorageService service = StorageServiceEvents.instrument(UserStorageService.class, delegate);
+
+		Path dump = Files.createTempFile("storage-service-events", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(StorageServiceCallEvent.class);
+			recording.start();
+			if (tc.shouldThrow) {
+				assertThrows(UserNotFoundException.class, () -> service.getById("user-1"));
+			} else {
+				assertSame(user, service.getById("user-1"));
+			}
+			recording.stop();
+			recording.dump(dump);
+		}
+
+		List<RecordedEvent> events = RecordingFile.readAllEvents(dump).stream()
+			.filter(event -> event.getEventType().getName().equals("io.github.lstramke.coincollector.StorageServiceCall"))
+			.toList();
+		Files.deleteIfExists(dump);
+
+		assertEquals(1, events.size());
+		RecordedEvent event = events.get(0);
+		assertEquals("UserStorageService", event.getString("service"));
+		assertEquals("getById", event.getString("operation"));
+		assertEquals("user-1", event.getString("entityId"));
+		assertEquals(tc.expectedException, event.getString("exception"));
+		verify(delegate).getById("user-1");
+	}
+}
@@ -0,0 +1,122 @@
+package io.github.lstramke.coincollector.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.lstramke.coincollector.exceptions.syncExceptions.SyncChangesException;
+import io.github.lstramke.coincollector.model.ChangeEvent.Entity;
+import io.github.lstramke.coincollector.model.ChangeLogEntry;
+import io.github.lstramke.coincollector.model.CoinCountry;
+import io.github.lstramke.coincollector.model.CoinValue;
+import io.github.lstramke.coincollector.model.EuroCoin;
+import io.github.lstramke.coincollector.model.EuroCoinBuilder;
+import io.github.lstramke.coincollector.model.EuroCoinCollection;
+import io.github.lstramke.coincollector.model.EuroCoinCollectionGroup;
+import io.github.lstramke.coincollector.model.Mint;
+import io.github.lstramke.coincollector.model.SyncChanges;
+import io.github.lstramke.coincollector.repositories.ChangeLogStorageRepository;
+import io.github.lstramke.coincollector.repositories.EuroCoinCollectionGroupStorageRepository;
+import io.github.lstramke.coincollector.repositories.EuroCoinCollectionStorageRepository;
+import io.github.lstramke.coincollector.repositories.EuroCoinStorageRepository;
+
+public class SyncServiceImplTest {
+
+    private static final String USER_ID = "user-1";
+    private static final int PAGE_SIZE = 3;
+    private static final EuroCoinCollectionGroup GROUP = new EuroCoinCollectionGroup("Euro", USER_ID);
+    private static final EuroCoinCollection COLLECTION = new EuroCoinCollection("Germany", GROUP.getId());
+    private static final EuroCoin COIN = new EuroCoinBuilder()
+        .setYear(2002)
+        .setValue(CoinValue.TWO_EUROS)
+        .setMintCountry(CoinCountry.GERMANY)
+        .setMint(Mint.BERLIN)
+        .setCollectionId(COLLECTION.getId())
+        .build();
+
+    private static final ChangeLogEntry GROUP_CHANGE = new ChangeLogEntry(11, Entity.GROUP, GROUP.getId(), null, false);
+    private static final ChangeLogEntry COLLECTION_CHANGE = new ChangeLogEntry(12, Entity.COLLECTION, COLLECTION.getId(), GROUP.getId(), false);
+    private static final ChangeLogEntry COIN_CHANGE = new ChangeLogEntry(13, Entity.COIN, COIN.getId(), COLLECTION.getId(), false);
+    private static final ChangeLogEntry COIN_DELETE = new ChangeLogEntry(14, Entity.COIN, "coin-2", COLLECTION.getId(), true);
+
+    private record SyncTestcase(
+        List<ChangeLogEntry> logEntries,
+        boolean getConnectionThrows,
+        boolean repositoryThrows,
+        SyncChanges expectedChanges,
+        Class<? extends Exception> expectedException,
+        String description
+    ) {
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static Stream<SyncTestcase> syncTestcases() {
+        return Stream.of(
+            new SyncTestcase(List.of(GROUP_CHANGE, COLLECTION_CHANGE, COIN_DELETE), false, false,
+                new SyncChanges(14, false, List.of(GROUP), List.of(COLLECTION), List.of(), List.of(COIN_DELETE)), null,
+                "Changes are loaded, deletes returned as tombstones"),
+            new SyncTestcase(List.of(GROUP_CHANGE, COLLECTION_CHANGE, COIN_CHANGE, COIN_DELETE), false, false,
+                new SyncChanges(13, true, List.of(GROUP), List.of(COLLECTION), List.of(COIN), List.of()), null,
+                "A full page ends at its last version"),
+            new SyncTestcase(List.of(), false, false,
+                new SyncChanges(10, false, List.of(), List.of(), List.of(), List.of()), null,
+                "No changes keep the version"),
+            new SyncTestcase(List.of(), true, false, null, SyncChangesException.class, "getConnection throws"),
+            new SyncTestcase(List.of(), false, true, null, SyncChangesException.class, "Repository throws")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} - {0}")
+    @MethodSource("syncTestcases")
+    void testGetChangesSince(SyncTestcase testcase) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        ChangeLogStorageRepository changeLogRepository = mock(ChangeLogStorageRepository.class);
+        EuroCoinCollectionGroupStorageRepository groupRepository = mock(EuroCoinCollectionGroupStorageRepository.class);
+        EuroCoinCollectionStorageRepository collectionRepository = mock(EuroCoinCollectionStorageRepository.class);
+        EuroCoinStorageRepository coinRepository = mock(EuroCoinStorageRepository.class);
+        SyncService service = new SyncServiceImpl(dataSource, changeLogRepository, groupRepository, collectionRepository, coinRepository, PAGE_SIZE);
+
+        if (testcase.getConnectionThrows) {
+            when(dataSource.getConnection()).thenThrow(new SQLException("No connection"));
+        } else {
+            when(dataSource.getConnection()).thenReturn(connection);
+        }
+        if (testcase.repositoryThrows) {
+            when(changeLogRepository.getChangesSince(connection, USER_ID, 10, PAGE_SIZE + 1)).thenThrow(new SQLException("Read failed"));
+        } else {
+            lenient().when(changeLogRepository.getChangesSince(connection, USER_ID, 10, PAGE_SIZE + 1)).thenReturn(testcase.logEntries);
+        }
+        lenient().when(groupRepository.read(connection, GROUP.getId())).thenReturn(Optional.of(GROUP));
+        lenient().when(collectionRepository.read(connection, COLLECTION.getId())).thenReturn(Optional.of(COLLECTION));
+        lenient().when(coinRepository.read(connection, COIN.getId())).thenReturn(Optional.of(COIN));
+
+        if (testcase.expectedException != null) {
+            assertThrows(testcase.expectedException, () -> service.getChangesSince(USER_ID, 10),
+                "Expected exception was not thrown for: " + testcase.description);
+            if (testcase.repositoryThrows) {
+                verify(connection).rollback();
+            }
+        } else {
+            assertEquals(testcase.expectedChanges, service.getChangesSince(USER_ID, 10), "Changes mismatch for: " + testcase.description);
+            verify(connection).commit();
+        }
+    }
+}